@@ -5,11 +5,13 @@ import java.util.List;
 
 /**
  * 공개 플랫폼 정보
+ * @param version 스냅샷 버전 (프롬프트와 공개 정보 스냅샷을 대조할 때 사용)
  */
 public record PublicContext(
         String availableExpos,
         String platformInfo,
-        String pricingInfo
+        String pricingInfo,
+        String version
 ) {
     private static final String SUCCESS_PLATFORM_INFO_MESSAGE = """
             MYCE는 박람회 관리 플랫폼입니다.
@@ -21,13 +23,14 @@ public record PublicContext(
     private static final String SUCCESS_PRICE_INFO_MESSAGE = "요금제 정보는 개별 박람회마다 상이합니다.";
     private static final String FAIL_PLATFORM_INFO_MESSAGE = "플랫폼 정보 로딩 실패";
     private static final String FAIL_PRICE_INFO_MESSAGE = "요금 정보 조회 불가";
+    private static final String FAIL_VERSION = "unavailable";
 
-    public static PublicContext getSuccessPublicContext(String availableExpos) {
-        return new PublicContext(availableExpos, SUCCESS_PLATFORM_INFO_MESSAGE, SUCCESS_PRICE_INFO_MESSAGE);
+    public static PublicContext getSuccessPublicContext(String availableExpos, String version) {
+        return new PublicContext(availableExpos, SUCCESS_PLATFORM_INFO_MESSAGE, SUCCESS_PRICE_INFO_MESSAGE, version);
     }
 
     public static PublicContext getFailPublicContext() {
-        return new PublicContext("", FAIL_PLATFORM_INFO_MESSAGE, FAIL_PRICE_INFO_MESSAGE);
+        return new PublicContext("", FAIL_PLATFORM_INFO_MESSAGE, FAIL_PRICE_INFO_MESSAGE, FAIL_VERSION);
     }
 
 
@@ -25,11 +25,14 @@ public class SecurityConfig {
     @Value("${internal.auth.value}")
     private String INTERNAL_AUTH_VALUE;
 
+    @Value("${internal.api.value}")
+    private String INTERNAL_API_AUTH_VALUE;
+
     private final CorsConfigurationSource corsConfigurationSource;
 
     @Bean
     public SecurityFilterChain configure(HttpSecurity http) throws Exception {
-        JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(INTERNAL_AUTH_VALUE);
+        JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(INTERNAL_AUTH_VALUE, INTERNAL_API_AUTH_VALUE);
         http.cors(cors ->
                 cors.configurationSource(corsConfigurationSource))
                 .csrf(AbstractHttpConfigurer::disable) // CSRF 공격 방지 기능 비활성화
@@ -45,7 +48,9 @@ public class SecurityConfig {
         http.addFilterAfter(jwtFilter, LogoutFilter.class);
 
         http.authorizeHttpRequests(auth ->
-                auth.requestMatchers("/ws/**", "/actuator/**").permitAll()
+                // /internal/** 은 사용자 정보 없이 CORE/운영 도구가 호출하며, 서비스 간 인증 값으로만 내부 권한을 받는다
+                auth.requestMatchers("/internal/**").hasAuthority(JwtAuthenticationFilter.INTERNAL_AUTHORITY)
+                        .requestMatchers("/ws/**", "/actuator/**").permitAll()
                         .anyRequest().authenticated());
 
         return http.build();
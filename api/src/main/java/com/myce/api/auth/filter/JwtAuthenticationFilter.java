@@ -7,9 +7,11 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -18,7 +20,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // /internal/** 호출자에게 부여하는 권한 (게이트웨이를 거친 사용자 요청에는 부여하지 않는다)
+    public static final String INTERNAL_AUTHORITY = "ROLE_INTERNAL";
+    private static final String INTERNAL_PATH_PREFIX = "/internal/";
+    private static final String INTERNAL_PRINCIPAL = "internal";
+
     private final String INTERNAL_AUTH_VALUE;
+    private final String INTERNAL_API_AUTH_VALUE;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -34,6 +42,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         log.debug("[JwtAuthenticationFilter] Input uri={}, method={}", uri, method);
 
         String authValue = request.getHeader(InternalHeaderKey.INTERNAL_AUTH);
+        if (uri.startsWith(INTERNAL_PATH_PREFIX)) {
+            authenticateInternal(request, response, filterChain, authValue);
+            return;
+        }
+
         if (authValue == null || !authValue.equals(INTERNAL_AUTH_VALUE)) {
             log.info("Not exist auth value. authValue={}", authValue);
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -78,4 +91,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 다음 필터로
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * 내부 API 인증
+     * 게이트웨이 인증 값과 다른 서비스 간 인증 값으로만 통과하므로 게이트웨이를 거친 요청은 내부 API 를 호출할 수 없다.
+     */
+    private void authenticateInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain, String authValue) throws ServletException, IOException {
+        if (authValue == null || !authValue.equals(INTERNAL_API_AUTH_VALUE)) {
+            log.warn("[AuthenticationFilter] Reject internal request. uri={}", request.getRequestURI());
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                INTERNAL_PRINCIPAL, null, List.of(new SimpleGrantedAuthority(INTERNAL_AUTHORITY)));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        filterChain.doFilter(request, response);
+    }
 }
@@ -2,6 +2,8 @@ package com.myce.api.controller;
 
 import com.myce.api.auth.dto.CustomUserDetails;
 import com.myce.api.dto.request.ChatReadRequest;
+import com.myce.api.dto.response.ChatMessageCursorResponse;
+import com.myce.api.dto.response.ChatMessagePageResponse;
 import com.myce.api.dto.response.ChatMessageResponse;
 import com.myce.api.service.ChatMessageService;
 import com.myce.api.service.ChatReadStatusService;
@@ -30,9 +32,10 @@ public class ChatMessageController {
 
     /**
      * 채팅방 메시지 히스토리 조회 (페이징)
+     * 첫 페이지는 미리 렌더링한 응답 조각이 있으면 그대로 이어 붙여 응답
      */
     @GetMapping("/messages")
-    public ResponseEntity<PageResponse<ChatMessageResponse>> getMessages(
+    public ResponseEntity<ChatMessagePageResponse> getMessages(
             @PathVariable("room-code") String roomCode,
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "50") int size,
@@ -40,9 +43,35 @@ public class ChatMessageController {
 
         Long memberId = customUserDetails.getMemberId();
         Role role = Role.fromName(customUserDetails.getRole());
+        if (page == 0) {
+            byte[] recentView = chatMessageService.getRecentMessagesView(roomCode, size, memberId, role);
+            if (recentView != null) {
+                return ResponseEntity.ok(ChatMessagePageResponse.rendered(recentView));
+            }
+        }
+
         PageResponse<ChatMessageResponse> response = chatMessageService.getMessages(
                 roomCode, page, size, memberId, role);
 
+        return ResponseEntity.ok(ChatMessagePageResponse.of(response));
+    }
+
+    /**
+     * 채팅방 메시지 히스토리 조회 (seq 커서)
+     * limit 파라미터가 있으면 page/size 대신 커서로 조회한다. 다음 조회는 응답의 nextBefore 를 before 로 넘긴다.
+     */
+    @GetMapping(value = "/messages", params = "limit")
+    public ResponseEntity<ChatMessageCursorResponse> getMessagesBySeqCursor(
+            @PathVariable("room-code") String roomCode,
+            @RequestParam(value = "before", required = false) Long before,
+            @RequestParam(value = "limit") int limit,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+
+        Long memberId = customUserDetails.getMemberId();
+        Role role = Role.fromName(customUserDetails.getRole());
+        ChatMessageCursorResponse response = chatMessageService.getMessagesBySeqCursor(
+                roomCode, before, limit, memberId, role);
+
         return ResponseEntity.ok(response);
     }
 
@@ -1,15 +1,24 @@
 package com.myce.api.controller;
 
 import com.myce.api.auth.dto.CustomUserDetails;
+import com.myce.api.dto.request.ChatCatchUpRequest;
+import com.myce.api.dto.request.ChatRoomListFilter;
+import com.myce.api.dto.response.ChatCatchUpResponse;
+import com.myce.api.dto.response.ChatRoomCursorResponse;
 import com.myce.api.dto.response.ChatRoomInfoListResponse;
+import com.myce.api.service.ChatCatchUpService;
 import com.myce.api.service.ChatRoomService;
+import com.myce.common.type.Role;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -22,6 +31,29 @@ import org.springframework.web.bind.annotation.RestController;
 public class ChatRoomController {
 
     private final ChatRoomService chatRoomService;
+    private final ChatCatchUpService chatCatchUpService;
+
+    /**
+     * 재연결 후 따라잡기
+     * 채팅방별 마지막으로 받은 seq 이후 메시지와 현재 상태, 읽음 상태, 미읽음 수를 한 번에 조회
+     */
+    @PostMapping("/catch-up")
+    public ResponseEntity<ChatCatchUpResponse> catchUp(
+            @RequestBody ChatCatchUpRequest request,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        Long memberId = customUserDetails.getMemberId();
+        log.info("[Request] Catch up rooms. memberId={}, roomCount={}",
+                memberId, request.getRooms() != null ? request.getRooms().size() : 0);
+
+        ChatCatchUpResponse response = chatCatchUpService.catchUp(
+                request.getRooms(),
+                memberId,
+                Role.fromName(customUserDetails.getRole()),
+                customUserDetails.getLoginType()
+        );
+
+        return ResponseEntity.ok(response);
+    }
 
     /**
      * 사용자별 채팅방 목록 조회 (USER: 본인 참여, ADMIN: 관리 박람회 전체)
@@ -45,6 +77,33 @@ public class ChatRoomController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 사용자별 채팅방 목록 커서 조회
+     * limit 파라미터가 있으면 전체 목록 대신 한 페이지씩 조회한다. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘긴다.
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<ChatRoomCursorResponse> getChatRoomsByCursor(
+            @RequestParam(value = "filter", defaultValue = "ALL") ChatRoomListFilter filter,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit") int limit,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        Long memberId = customUserDetails.getMemberId();
+        String role = customUserDetails.getRole();
+        log.info("[Request] Get chat room page. memberId={}, role={}, filter={}", memberId, role, filter);
+
+        ChatRoomCursorResponse response = chatRoomService.getChatRooms(
+                memberId,
+                customUserDetails.getUsername(),
+                role,
+                customUserDetails.getLoginType(),
+                filter,
+                cursor,
+                limit
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
     // TODO 프론트 연결해야됨
     @GetMapping("/platform")
     public ResponseEntity<ChatRoomInfoListResponse> getPlatformChatRooms(
@@ -59,6 +118,46 @@ public class ChatRoomController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 플랫폼 채팅방 목록 커서 조회 (플랫폼 관리자 전용)
+     */
+    @GetMapping(value = "/platform", params = "limit")
+    public ResponseEntity<ChatRoomCursorResponse> getPlatformChatRoomsByCursor(
+            @RequestParam(value = "filter", defaultValue = "ALL") ChatRoomListFilter filter,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit") int limit,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        ChatRoomCursorResponse response = chatRoomService.getPlatformChatRooms(
+                customUserDetails.getMemberId(),
+                customUserDetails.getRole(),
+                customUserDetails.getLoginType(),
+                filter,
+                cursor,
+                limit
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 박람회별 채팅방 목록 커서 조회 (관리자 전용, 권한 검증 포함)
+     */
+    @GetMapping(value = "/expo/{expo-id}", params = "limit")
+    public ResponseEntity<ChatRoomCursorResponse> getChatRoomsByExpoByCursor(
+            @PathVariable("expo-id") Long expoId,
+            @RequestParam(value = "filter", defaultValue = "ALL") ChatRoomListFilter filter,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit") int limit,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        Long memberId = customUserDetails.getMemberId();
+        log.info("[Request] Get chat room page by expo. expoId={}, memberId={}, filter={}", expoId, memberId, filter);
+
+        ChatRoomCursorResponse response = chatRoomService.getChatRoomsByExpo(
+                expoId, memberId, customUserDetails.getLoginType(), filter, cursor, limit);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 박람회별 채팅방 목록 조회 (관리자 전용, 권한 검증 포함)
      */
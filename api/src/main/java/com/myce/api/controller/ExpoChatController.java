@@ -2,6 +2,7 @@ package com.myce.api.controller;
 
 import com.myce.api.auth.dto.CustomUserDetails;
 import com.myce.api.dto.request.ChatReadRequest;
+import com.myce.api.dto.response.ChatMessageCursorResponse;
 import com.myce.api.dto.response.ChatMessageResponse;
 import com.myce.api.dto.response.ChatRoomInfoListResponse;
 import com.myce.api.service.ChatReadStatusService;
@@ -61,6 +62,22 @@ public class ExpoChatController {
         return ResponseEntity.ok(messages);
     }
 
+    /**
+     * 채팅방 메시지 조회 (seq 커서)
+     * limit 파라미터가 있으면 page/size 대신 커서로 조회한다.
+     */
+    @GetMapping(value = "/rooms/{roomCode}/messages", params = "limit")
+    public ResponseEntity<ChatMessageCursorResponse> getMessagesBySeqCursor(
+            @PathVariable Long expoId,
+            @PathVariable String roomCode,
+            @RequestParam(required = false) Long before,
+            @RequestParam int limit,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long memberId = userDetails.getMemberId();
+        ChatMessageCursorResponse messages = chatService.getMessagesBySeqCursor(expoId, roomCode, before, limit, memberId);
+        return ResponseEntity.ok(messages);
+    }
+
     /**
      * 메시지 읽음 처리
      */
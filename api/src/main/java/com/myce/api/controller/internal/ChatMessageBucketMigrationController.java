@@ -0,0 +1,36 @@
+package com.myce.api.controller.internal;
+
+import com.myce.api.dto.response.ChatMessageMigrationResponse;
+import com.myce.domain.repository.ChatMessageBucketMigrator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 메시지 버킷 마이그레이션 API (운영 내부 호출용)
+ * - 메시지가 많은 채팅방부터 채팅방 단위로 옮길 때 사용 (전체 이전은 migrate-on-startup 설정으로 실행)
+ * - 서비스 간 인증 값을 가진 호출만 통과 (JwtAuthenticationFilter, 게이트웨이 인증 값으로는 호출 불가)
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/chats/message-buckets")
+public class ChatMessageBucketMigrationController {
+
+    private final ChatMessageBucketMigrator chatMessageBucketMigrator;
+
+    /**
+     * 채팅방 메시지를 버킷으로 마이그레이션 (여러 번 호출해도 중복되지 않음)
+     */
+    @PostMapping("/rooms/{roomCode}/migrate")
+    public ResponseEntity<ChatMessageMigrationResponse> migrateRoom(@PathVariable String roomCode) {
+        log.info("[Request] Migrate messages to buckets. roomCode={}", roomCode);
+
+        long migratedCount = chatMessageBucketMigrator.migrateRoom(roomCode);
+        return ResponseEntity.ok(new ChatMessageMigrationResponse(roomCode, migratedCount));
+    }
+}
@@ -0,0 +1,41 @@
+package com.myce.api.controller.internal;
+
+import com.myce.api.service.component.ExpoAccessDecisionCache;
+import com.myce.common.type.LoginType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 박람회 접근 권한 판정 캐시 삭제 API (CORE 내부 호출용)
+ * - 관리자 코드/박람회 소유자 권한이 바뀌면 CORE 에서 호출
+ * - 서비스 간 인증 값을 가진 호출만 통과 (JwtAuthenticationFilter, 게이트웨이 인증 값으로는 호출 불가)
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/chats/access-cache")
+public class ExpoAccessCacheController {
+
+    private final ExpoAccessDecisionCache expoAccessDecisionCache;
+
+    /**
+     * 접근 권한 판정 캐시 삭제
+     * memberId 가 없으면 박람회 전체, loginType 이 없으면 모든 로그인 타입의 판정을 삭제한다.
+     */
+    @DeleteMapping("/expos/{expoId}")
+    public ResponseEntity<Void> evictAccessDecision(
+            @PathVariable Long expoId,
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(required = false) String loginType) {
+        log.info("[Request] Evict access decision. expoId={}, memberId={}, loginType={}", expoId, memberId, loginType);
+
+        expoAccessDecisionCache.evict(expoId, memberId, loginType != null ? LoginType.fromString(loginType) : null);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,14 +1,15 @@
 package com.myce.api.controller.supporter;
 
+import com.myce.api.dto.response.ChatRoomCursorResponse;
 import com.myce.api.dto.response.ChatRoomInfoListResponse;
 import com.myce.api.dto.response.ChatRoomInfoResponse;
 import com.myce.api.mapper.ChatRoomMapper;
 import com.myce.api.service.ChatUnreadService;
+import com.myce.api.util.ChatRoomCursorSupporter;
 import com.myce.common.type.LoginType;
 import com.myce.common.type.Role;
 import com.myce.domain.document.ChatRoom;
-import java.util.ArrayList;
-import java.util.HashMap;
+import com.myce.domain.dto.ChatRoomCursor;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -23,24 +24,24 @@ public class ChatRoomResponseMakeService {
     public ChatRoomInfoListResponse convertToResponse
             (List<ChatRoom> chatRooms, Long viewerId, Role viewerRole, LoginType loginType) {
 
+        // 채팅방 수만큼 count 쿼리를 보내지 않고 한 번의 집계로 계산
         Map<String, Long> chatRoomUnreadCounts =
-                getUnreadCounts(chatRooms, viewerId, viewerRole, loginType);
+                chatUnreadService.getUnreadCounts(chatRooms, viewerId, viewerRole, loginType);
 
         return ChatRoomMapper.convertToResponse(chatRooms, chatRoomUnreadCounts);
     }
 
-    private Map<String, Long> getUnreadCounts
-            (List<ChatRoom> chatRooms, Long viewerId, Role viewerRole, LoginType loginType) {
-        Map<String, Long> chatRoomUnreadCounts = new HashMap<>();
-        for (ChatRoom chatRoom : chatRooms) {
-            String roomCode = chatRoom.getRoomCode();
-
-            long unreadCount = chatUnreadService.getUnreadCount
-                    (roomCode, chatRoom.getReadStatus(), viewerId, viewerRole, loginType);
-            chatRoomUnreadCounts.put(roomCode, unreadCount);
-        }
-
-        return chatRoomUnreadCounts;
+    /**
+     * 채팅방 목록 한 페이지를 커서 응답으로 변환 (미읽음 수는 이 페이지 채팅방만 계산)
+     */
+    public ChatRoomCursorResponse convertToCursorResponse(List<ChatRoom> chatRooms, boolean hasMore,
+            Long viewerId, Role viewerRole, LoginType loginType) {
+
+        ChatRoomInfoListResponse response = convertToResponse(chatRooms, viewerId, viewerRole, loginType);
+        String nextCursor = hasMore && !chatRooms.isEmpty()
+                ? ChatRoomCursorSupporter.encode(ChatRoomCursor.of(chatRooms.get(chatRooms.size() - 1)))
+                : null;
+        return new ChatRoomCursorResponse(response.getChatRooms(), hasMore, nextCursor);
     }
 
 }
@@ -2,11 +2,16 @@ package com.myce.api.controller.websocket;
 
 import com.myce.api.controller.supporter.SessionUserInfoSupporter;
 import com.myce.api.dto.WebSocketUserInfo;
+import com.myce.api.dto.request.ChatCatchUpRequest;
+import com.myce.api.dto.response.ChatCatchUpResponse;
+import com.myce.api.service.ChatCatchUpService;
+import com.myce.api.service.ChatWebSocketBroadcaster;
 import com.myce.api.service.JoinRoomService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -17,6 +22,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 public class ConnectChatRoomController {
 
     private final JoinRoomService joinRoomService;
+    private final ChatCatchUpService chatCatchUpService;
+    private final ChatWebSocketBroadcaster broadcaster;
 
     /**
      * 채팅방 입장
@@ -34,4 +41,22 @@ public class ConnectChatRoomController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 재연결 후 따라잡기
+     * /app/catch-up -> 마지막으로 받은 seq 이후 변경분 조회 -> 요청한 세션의 /user/queue/catch-up 으로 전송
+     */
+    @MessageMapping("/catch-up")
+    public ResponseEntity<Object> catchUp(
+            @Payload ChatCatchUpRequest request,
+            SimpMessageHeaderAccessor headerAccessor) {
+
+        WebSocketUserInfo userInfo = SessionUserInfoSupporter.getUserInfo(headerAccessor);
+        String sessionId = headerAccessor.getSessionId();
+        ChatCatchUpResponse response = chatCatchUpService.catchUp(
+                request.getRooms(), userInfo.getMemberId(), userInfo.getRole(), userInfo.getLoginType());
+        broadcaster.sendCatchUp(sessionId, userInfo.getMemberId(), response);
+
+        return ResponseEntity.noContent().build();
+    }
+
 }
@@ -10,6 +10,7 @@ public final class SystemMessage {
     public static final String NOT_EXIST_SUMMARY_MESSAGE = "찍찍! 대화 내용이 없어 요약할 내용이 없습니다.";
     public static final String SUCCESS_ADMIN_HANDOFF = "관리자가 상담에 참여했습니다.찍찍\n더 자세하고 전문적인 도움을 드리겠습니다.";
     public static final String PERMISSION_DENIED_ADMIN_CHAT = "상담 권한이 없습니다. 현재 담당자: %s";
+    public static final String AI_BUSY_MESSAGE = "찍찍! 지금 문의가 많아 답변이 늦어지고 있어요. 잠시 후 다시 말씀해주시거나 상담원 연결을 요청해주세요.";
     public static final String USE_HAND_OFF_MESSAGE = "AI 상담 중에는 직접 메시지를 보낼 수 없습니다. '개입하기' 버튼을 사용해주세요.";
 
     public static final String ERROR_REQUEST_ADMIN_HANDOFF = "관리자 연결 요청에 실패했습니다.";
@@ -10,6 +10,7 @@ public final class WebSocketDestination {
     public static final String CHAT_ROOM_STATE = "/topic/chat-room-updates";
 
     public static final String ERROR = "/queue/errors";
+    public static final String CATCH_UP = "/queue/catch-up";
 
     public static String getSendChatMessageDestination(String roomCode) {
         return String.format(SEND_CHAT_MESSAGE_FORMAT, roomCode);
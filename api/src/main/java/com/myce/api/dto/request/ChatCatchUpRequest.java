@@ -0,0 +1,17 @@
+package com.myce.api.dto.request;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재연결 후 따라잡기 요청
+ * rooms: 채팅방 코드 -> 클라이언트가 마지막으로 받은 메시지 seq (없으면 null, 최신 메시지부터 받는다)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatCatchUpRequest {
+    private Map<String, Long> rooms;
+}
@@ -0,0 +1,15 @@
+package com.myce.api.dto.request;
+
+/**
+ * 관리자 채팅방 목록 필터
+ */
+public enum ChatRoomListFilter {
+    // 전체
+    ALL,
+    // 상담원 연결 대기 중 (WAITING_FOR_ADMIN)
+    WAITING,
+    // 담당자 미배정
+    UNASSIGNED,
+    // 내가 담당자인 채팅방
+    MINE
+}
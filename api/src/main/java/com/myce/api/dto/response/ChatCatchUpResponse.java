@@ -0,0 +1,38 @@
+package com.myce.api.dto.response;
+
+import com.myce.api.dto.message.ChatRoomStateInfo;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 재연결 후 따라잡기 응답
+ * 채팅방마다 마지막으로 받은 seq 이후 메시지와 현재 상태, 읽음 상태, 미읽음 수를 담는다.
+ * 접근 권한이 없거나 없는 채팅방은 포함되지 않는다.
+ */
+@Getter
+public class ChatCatchUpResponse {
+    private final List<RoomCatchUp> rooms = new ArrayList<>();
+
+    public void addRoom(RoomCatchUp room) {
+        rooms.add(room);
+    }
+
+    /**
+     * @param messages 마지막으로 받은 seq 이후 메시지 (seq 오름차순)
+     * @param hasMore 더 받을 메시지가 남아 있는지 여부 (마지막 메시지 seq 로 다시 요청한다)
+     * @param readStatus 읽음 상태 (읽은 주체 -> 마지막으로 읽은 seq)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RoomCatchUp {
+        private final String roomCode;
+        private final List<ChatMessageResponse> messages;
+        private final boolean hasMore;
+        private final ChatRoomStateInfo roomState;
+        private final Map<String, Long> readStatus;
+        private final Long unreadCount;
+    }
+}
@@ -0,0 +1,17 @@
+package com.myce.api.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 메시지 히스토리 seq 커서 조회 응답
+ * messages 는 최신 메시지부터 정렬되며, 다음 조회는 nextBefore 를 before 로 넘긴다.
+ */
+@Getter
+@AllArgsConstructor
+public class ChatMessageCursorResponse {
+    private final List<ChatMessageResponse> messages;
+    private final boolean hasMore;
+    private final Long nextBefore;
+}
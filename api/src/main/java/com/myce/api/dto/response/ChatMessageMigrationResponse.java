@@ -0,0 +1,14 @@
+package com.myce.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 메시지 버킷 마이그레이션 결과
+ */
+@Getter
+@AllArgsConstructor
+public class ChatMessageMigrationResponse {
+    private final String roomCode;
+    private final long migratedCount;
+}
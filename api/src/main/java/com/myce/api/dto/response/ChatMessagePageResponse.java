@@ -0,0 +1,49 @@
+package com.myce.api.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.myce.common.dto.PageResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메시지 히스토리 페이지 응답
+ * JSON 은 항상 PageResponse&lt;ChatMessageResponse&gt; 와 같다.
+ * 미리 렌더링한 응답 조각으로 만든 페이지는 다시 직렬화하지 않고 그대로 쓴다.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChatMessagePageResponse extends JsonSerializable.Base {
+
+    private final PageResponse<ChatMessageResponse> page;
+    private final byte[] renderedJson;
+
+    public static ChatMessagePageResponse of(PageResponse<ChatMessageResponse> page) {
+        return new ChatMessagePageResponse(page, null);
+    }
+
+    /**
+     * 미리 렌더링한 PageResponse JSON 으로 응답
+     */
+    public static ChatMessagePageResponse rendered(byte[] renderedJson) {
+        return new ChatMessagePageResponse(null, renderedJson);
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (renderedJson != null) {
+            gen.writeRawValue(new String(renderedJson, StandardCharsets.UTF_8));
+            return;
+        }
+        serializers.defaultSerializeValue(page, gen);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(gen, serializers);
+    }
+}
@@ -1,5 +1,6 @@
 package com.myce.api.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.myce.domain.document.type.MessageSenderType;
 import java.time.LocalDateTime;
 import lombok.Builder;
@@ -8,8 +9,11 @@ import lombok.NoArgsConstructor;
 
 /**
  * 메시지 응답 DTO
+ * 최근 메시지 응답 조각(ChatMessageViewComponent)은 unreadCount 직전까지 렌더링해 두므로 unreadCount 는 항상 마지막 필드다.
  */
 @Getter
+@JsonPropertyOrder({"roomCode", "messageId", "seq", "senderId", "senderType", "senderName", "adminCode",
+        "adminDisplayName", "content", "sentAt", "unreadCount"})
 @NoArgsConstructor
 public class ChatMessageResponse {
     
@@ -0,0 +1,17 @@
+package com.myce.api.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 채팅방 목록 커서 조회 응답
+ * 다음 목록은 nextCursor 를 cursor 로 넘겨 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ChatRoomCursorResponse {
+    private final List<ChatRoomInfoResponse> chatRooms;
+    private final boolean hasMore;
+    private final String nextCursor;
+}
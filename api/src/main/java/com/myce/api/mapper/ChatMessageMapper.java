@@ -11,6 +11,30 @@ public class ChatMessageMapper {
      * unreadCount를 포함한 DTO 변환
      */
     public static ChatMessageResponse toResponse(ChatMessage chatMessage) {
+        return toResponse(chatMessage, chatMessage.getUnreadCount());
+    }
+
+    /**
+     * 읽음 상태로 계산한 unreadCount 를 포함한 DTO 변환
+     */
+    public static ChatMessageResponse toResponse(ChatMessage chatMessage, int unreadCount) {
+        return ChatMessageResponse.builder()
+                .roomCode(chatMessage.getRoomCode())
+                .messageId(chatMessage.getId())
+                .seq(chatMessage.getSeq())
+                .senderId(chatMessage.getSenderId())
+                .senderType(chatMessage.getSenderType())
+                .senderName(chatMessage.getSenderName())
+                .content(chatMessage.getContent())
+                .sentAt(chatMessage.getSentAt())
+                .unreadCount(unreadCount)
+                .build();
+    }
+
+    /**
+     * unreadCount 없이 DTO 변환 (조회자마다 unreadCount 를 붙이는 응답 조각 렌더링용)
+     */
+    public static ChatMessageResponse toViewResponse(ChatMessage chatMessage) {
         return ChatMessageResponse.builder()
                 .roomCode(chatMessage.getRoomCode())
                 .messageId(chatMessage.getId())
@@ -20,7 +44,6 @@ public class ChatMessageMapper {
                 .senderName(chatMessage.getSenderName())
                 .content(chatMessage.getContent())
                 .sentAt(chatMessage.getSentAt())
-                .unreadCount(chatMessage.getUnreadCount())
                 .build();
     }
 
@@ -28,6 +51,14 @@ public class ChatMessageMapper {
      * 관리자 정보와 unreadCount를 포함한 DTO 변환
      */
     public static ChatMessageResponse toResponse(ChatMessage chatMessage, String adminCode, String adminDisplayName) {
+        return toResponse(chatMessage, adminCode, adminDisplayName, chatMessage.getUnreadCount());
+    }
+
+    /**
+     * 관리자 정보와 읽음 상태로 계산한 unreadCount 를 포함한 DTO 변환
+     */
+    public static ChatMessageResponse toResponse(ChatMessage chatMessage, String adminCode, String adminDisplayName,
+                                                 int unreadCount) {
         return ChatMessageResponse.builder()
                 .roomCode(chatMessage.getRoomCode())
                 .messageId(chatMessage.getId())
@@ -39,7 +70,7 @@ public class ChatMessageMapper {
                 .adminDisplayName(adminDisplayName)
                 .content(chatMessage.getContent())
                 .sentAt(chatMessage.getSentAt())
-                .unreadCount(chatMessage.getUnreadCount())
+                .unreadCount(unreadCount)
                 .build();
     }
 }
@@ -0,0 +1,92 @@
+package com.myce.api.schedule;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스케줄 작업 클러스터 조정
+ * 스케줄러는 모든 노드에서 같은 cron 으로 실행되므로, Redis 잠금을 잡은 한 노드만 작업을 처리한다.
+ * 변경분만 처리하는 작업의 기준 시각(watermark)도 노드 메모리가 아닌 Redis 에 두어 재시작/노드 교체 후에도 이어서 처리한다.
+ */
+@Slf4j
+@Component
+public class ScheduledJobCoordinator {
+
+    private static final String LOCK_KEY_FORMAT = "chat:scheduler:%s:lock";
+    private static final String WATERMARK_KEY_FORMAT = "chat:scheduler:%s:watermark";
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/release-lease.lua"), Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration leaseTime;
+
+    public ScheduledJobCoordinator(
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${scheduler.lock.lease-seconds:600}") long leaseSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.leaseTime = Duration.ofSeconds(Math.max(leaseSeconds, 1));
+    }
+
+    /**
+     * 잠금을 잡은 경우에만 작업 실행
+     * 잠금은 작업이 끝나면 해제하고, 노드가 중간에 죽어도 임대 시간이 지나면 풀린다.
+     * Redis 장애로 잠금을 확인할 수 없으면 여러 노드가 동시에 처리하지 않도록 이번 실행을 건너뛴다.
+     * @return 작업 실행 여부
+     */
+    public boolean runExclusively(String jobName, Runnable job) {
+        String lockKey = String.format(LOCK_KEY_FORMAT, jobName);
+        String token = UUID.randomUUID().toString();
+
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, leaseTime))) {
+                log.debug("[ScheduledJob] Job is running on another node. job={}", jobName);
+                return false;
+            }
+        } catch (Exception e) {
+            log.warn("[ScheduledJob] Fail to acquire job lock. job={}, error={}", jobName, e.getMessage());
+            return false;
+        }
+
+        try {
+            job.run();
+            return true;
+        } finally {
+            release(jobName, lockKey, token);
+        }
+    }
+
+    /**
+     * 마지막으로 처리 완료한 기준 시각 조회
+     * @return 기준 시각 (한 번도 완료하지 않았으면 null)
+     */
+    public LocalDateTime getWatermark(String jobName) {
+        Object value = redisTemplate.opsForValue().get(String.format(WATERMARK_KEY_FORMAT, jobName));
+        return value != null ? LocalDateTime.parse(value.toString()) : null;
+    }
+
+    /**
+     * 처리 완료한 기준 시각 저장 (다음 실행은 이 시각 이후 변경분부터 처리한다)
+     */
+    public void saveWatermark(String jobName, LocalDateTime watermark) {
+        redisTemplate.opsForValue().set(String.format(WATERMARK_KEY_FORMAT, jobName), watermark.toString());
+        log.debug("[ScheduledJob] Success to save watermark. job={}, watermark={}", jobName, watermark);
+    }
+
+    private void release(String jobName, String lockKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            // 해제하지 못해도 임대 시간이 지나면 풀린다
+            log.debug("[ScheduledJob] Fail to release job lock. job={}, error={}", jobName, e.getMessage());
+        }
+    }
+}
@@ -4,13 +4,13 @@ import com.myce.api.dto.message.ChatRoomStateInfo;
 import com.myce.api.dto.message.WebSocketBaseMessage;
 import com.myce.api.dto.message.type.BroadcastType;
 import com.myce.api.dto.message.type.TransitionReason;
+import com.myce.api.schedule.ScheduledJobCoordinator;
 import com.myce.api.schedule.TaskScheduler;
+import com.myce.api.service.ChatMessageService;
 import com.myce.domain.document.ChatMessage;
 import com.myce.domain.document.ChatRoom;
 import com.myce.domain.document.type.ChatRoomState;
-import com.myce.domain.document.type.MessageSenderType;
-import com.myce.domain.repository.ChatMessageRepository;
-import com.myce.domain.repository.ChatRoomCacheRepository;
+import com.myce.domain.repository.CachedChatRoomRepository;
 import com.myce.domain.repository.ChatRoomRepository;
 import jakarta.annotation.PostConstruct;
 import java.time.LocalDateTime;
@@ -30,6 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
  * 채팅 관리자 타임아웃 스케줄러 (하이브리드 시스템 백업)
  * - Platform: 10분 비활성시 AI로 자동 전환 (고급 AI 인계 로직)
  * - Expo: 10분 비활성시 단순 해제 (향후 수동 제어 시스템의 백업용)
+ * 모든 노드에서 실행되므로 잠금을 잡은 한 노드만 처리한다 (중복 AI 전환 메시지/해제 알림 방지).
  */
 @Slf4j
 @Component
@@ -37,9 +38,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminTimeoutScheduler implements TaskScheduler {
 
     private final ChatRoomRepository chatRoomRepository;
-    private final ChatMessageRepository chatMessageRepository;
+    private final CachedChatRoomRepository cachedChatRoomRepository;
+    private final ChatMessageService chatMessageService;
     private final SimpMessagingTemplate messagingTemplate;
-    private final ChatRoomCacheRepository chatCacheRepository;
+    private final ScheduledJobCoordinator jobCoordinator;
+
+    private static final String JOB_NAME = "admin-timeout";
     
     // 하이브리드 백업 시스템: 10분간 비활성시 자동 처리
     private static final int TIMEOUT_MINUTES = 10;
@@ -53,7 +57,7 @@ public class AdminTimeoutScheduler implements TaskScheduler {
     @Scheduled(cron = "${scheduler.admin-timeout}")
     public void run() {
         try {
-            this.process();
+            jobCoordinator.runExclusively(JOB_NAME, this::process);
         } catch (Exception e) {
             log.error("Error occurred during admin timeout scheduler execution", e);
         }
@@ -94,11 +98,8 @@ public class AdminTimeoutScheduler implements TaskScheduler {
         
         // Expo rooms: 기존 로직 (단순 해제) + 배치 알림 + Redis 캐시 동기화
         if (!expoRoomsToUpdate.isEmpty()) {
-            List<ChatRoom> savedRooms = chatRoomRepository.saveAll(expoRoomsToUpdate);
-            // Redis 캐시 동기화 (Super/AdminCode 구분 로직 보존)
-            for (ChatRoom savedRoom : savedRooms) {
-                chatCacheRepository.cacheChatRoom(savedRoom.getRoomCode(), savedRoom);
-            }
+            // 저장과 함께 캐시(L1/L2)도 동기화된다
+            cachedChatRoomRepository.saveAll(expoRoomsToUpdate);
             sendBatchReleaseNotifications(expoRoomsToUpdate); // 추가: 배치 알림 전송
             log.info("Expo 담당자 타임아웃 처리: {}건 해제됨 (배치 알림 + 캐시 동기화 포함)", expoRoomsToUpdate.size());
         }
@@ -125,21 +126,14 @@ public class AdminTimeoutScheduler implements TaskScheduler {
             log.info("Platform 관리자 타임아웃 처리: [{}] {} ({}분간 비활성) → AI 전환", 
                 roomCode, adminDisplayName, TIMEOUT_MINUTES);
             
-            // 1. AI 전환 알림 메시지 생성 및 저장
-            ChatMessage timeoutMessage = ChatMessage.builder()
-                .roomCode(roomCode)
-                .senderType(MessageSenderType.AI)
-                .senderId(-1L)  // AI system uses ID -1L
-                .senderName("AI 상담사")
-                .content(String.format("🔄 %s님이 자리를 비워 AI가 상담을 이어받았습니다. 계속 도움을 드리겠습니다!", 
-                    adminDisplayName != null ? adminDisplayName : "상담원"))
-                .build();
-            
-            ChatMessage savedMessage = chatMessageRepository.save(timeoutMessage);
+            // 1. AI 전환 알림 메시지 생성 및 저장 (다른 AI 메시지와 같이 캐시/미읽음 카운터도 함께 갱신)
+            ChatMessage savedMessage = chatMessageService.saveAIChatMessage(roomCode,
+                String.format("🔄 %s님이 자리를 비워 AI가 상담을 이어받았습니다. 계속 도움을 드리겠습니다!",
+                    adminDisplayName != null ? adminDisplayName : "상담원"));
             
             // 2. 관리자 해제 (AI_ACTIVE 상태로 전환)
             room.releaseAdmin();
-            ChatRoom savedRoom = chatRoomRepository.save(room);
+            ChatRoom savedRoom = cachedChatRoomRepository.save(room);
             
             // 3. 상태 정보 생성
             ChatRoomState currentState = savedRoom.getCurrentState();
@@ -0,0 +1,35 @@
+package com.myce.api.schedule.jobs;
+
+import com.myce.api.schedule.TaskScheduler;
+import com.myce.api.service.component.PublicContextSnapshotComponent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 프롬프트용 공개 플랫폼 정보 스냅샷 갱신 스케줄러
+ * AI 응답 경로에서는 CORE 를 호출하지 않고, 이 스케줄러가 주기적으로 스냅샷을 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublicContextRefreshScheduler implements TaskScheduler {
+
+    private final PublicContextSnapshotComponent publicContextSnapshotComponent;
+
+    @Override
+    @Scheduled(cron = "${scheduler.public-context-refresh}")
+    public void run() {
+        try {
+            this.process();
+        } catch (Exception e) {
+            log.error("[PublicContextRefresh] Error occurred during public context refresh", e);
+        }
+    }
+
+    @Override
+    public void process() {
+        publicContextSnapshotComponent.refresh();
+    }
+}
@@ -0,0 +1,119 @@
+package com.myce.api.schedule.jobs;
+
+import com.myce.api.dto.message.type.MessageReaderType;
+import com.myce.api.schedule.ScheduledJobCoordinator;
+import com.myce.api.schedule.TaskScheduler;
+import com.myce.api.service.ChatUnreadService;
+import com.myce.api.util.ChatMessageTypeUtil;
+import com.myce.api.util.RoomCodeSupporter;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.repository.ChatMessageStore;
+import com.myce.domain.repository.ChatRoomRepository;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메시지 unreadCount 정리 스케줄러 (chat.unread.mode=derived 전용)
+ * derived 모드에서는 읽음 처리 시 메시지를 갱신하지 않고 readStatus 로 계산하므로,
+ * 저장된 unreadCount 는 백그라운드에서 readStatus 기준으로 천천히 맞춘다.
+ * (Redis 최근 메시지 캐시 재적재, stored 모드 복귀 시 값이 어긋나지 않도록)
+ * 첫 실행은 전체 채팅방을 대상으로 하는 백필이고, 이후에는 마지막 실행 이후 변경된 채팅방만 처리한다.
+ * 잠금을 잡은 한 노드만 처리하고, 마지막 실행 시각은 Redis 에 두어 재시작 후에도 백필을 반복하지 않는다.
+ * 채팅방은 (updatedAt, _id) keyset 으로 조회해, 처리 중 변경된 채팅방 때문에 페이지가 밀려 건너뛰는 일이 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCountCleanupScheduler implements TaskScheduler {
+
+    // 실행 중 변경된 채팅방을 놓치지 않도록 이전 실행 시작 시각에서 여유를 둔다
+    private static final long OVERLAP_MINUTES = 1;
+    private static final String JOB_NAME = "unread-cleanup";
+    private static final LocalDateTime BACKFILL_FROM = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ChatUnreadService chatUnreadService;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageStore chatMessageStore;
+    private final ScheduledJobCoordinator jobCoordinator;
+
+    @Value("${chat.unread.cleanup.batch-size:200}")
+    private int batchSize;
+
+    @Override
+    @Scheduled(cron = "${scheduler.unread-cleanup}")
+    public void run() {
+        if (chatUnreadService.isStoredUnreadMode()) {
+            return;
+        }
+
+        try {
+            jobCoordinator.runExclusively(JOB_NAME, this::process);
+        } catch (Exception e) {
+            log.error("[UnreadCountCleanup] Error occurred during unread count cleanup", e);
+        }
+    }
+
+    @Override
+    public void process() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime lastRunAt = jobCoordinator.getWatermark(JOB_NAME);
+        LocalDateTime from = lastRunAt != null ? lastRunAt.minusMinutes(OVERLAP_MINUTES) : BACKFILL_FROM;
+
+        int roomCount = 0;
+        long messageCount = 0;
+        LocalDateTime cursorUpdatedAt = from;
+        String cursorId = null;
+        List<ChatRoom> rooms;
+        do {
+            rooms = chatRoomRepository.findUpdatedRoomsAfter(cursorUpdatedAt, cursorId, batchSize);
+            for (ChatRoom room : rooms) {
+                messageCount += cleanupRoom(room);
+                roomCount++;
+            }
+            if (!rooms.isEmpty()) {
+                ChatRoom last = rooms.get(rooms.size() - 1);
+                cursorUpdatedAt = last.getUpdatedAt();
+                cursorId = last.getId();
+            }
+        } while (rooms.size() == batchSize);
+
+        jobCoordinator.saveWatermark(JOB_NAME, startedAt);
+        log.info("[UnreadCountCleanup] Success to cleanup unread count. from={}, roomCount={}, messageCount={}",
+                from, roomCount, messageCount);
+    }
+
+    /**
+     * 채팅방 readStatus 기준으로 이미 읽은 메시지의 unreadCount 정리
+     * ChatUnreadService.isReadMessage 와 같은 기준을 사용
+     */
+    private long cleanupRoom(ChatRoom room) {
+        Map<String, Long> readStatus = room.getReadStatus();
+        if (readStatus == null || readStatus.isEmpty()) {
+            return 0;
+        }
+
+        String roomCode = room.getRoomCode();
+        long cleared = 0;
+        for (MessageReaderType readerType : List.of(MessageReaderType.USER, MessageReaderType.ADMIN)) {
+            Long lastReadSeq = readStatus.get(readerType.name());
+            cleared += chatMessageStore.clearUnreadCountBeforeSeq(
+                    roomCode, ChatMessageTypeUtil.getReadableSenderTypes(readerType), lastReadSeq);
+        }
+
+        // 플랫폼 채팅방은 AI 가 읽은 메시지도 읽음으로 본다
+        if (RoomCodeSupporter.isPlatformRoom(roomCode)) {
+            Long aiLastReadSeq = readStatus.get(MessageReaderType.AI.name());
+            cleared += chatMessageStore.clearUnreadCountBeforeSeq(
+                    roomCode, EnumSet.allOf(MessageSenderType.class), aiLastReadSeq);
+        }
+        return cleared;
+    }
+}
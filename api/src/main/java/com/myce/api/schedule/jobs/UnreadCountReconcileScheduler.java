@@ -0,0 +1,81 @@
+package com.myce.api.schedule.jobs;
+
+import com.myce.api.schedule.ScheduledJobCoordinator;
+import com.myce.api.schedule.TaskScheduler;
+import com.myce.api.service.ChatUnreadService;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.repository.ChatRoomRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 미읽음 카운터 점검 스케줄러 (chat.unread.source=redis 전용)
+ * 카운터는 메시지 저장/읽음 처리 시 Redis 에서 바로 갱신되므로,
+ * 스크립트 실패나 TTL 만료로 어긋나거나 사라진 카운터를 MongoDB 기준으로 주기적으로 복구한다.
+ * 첫 실행은 전체 채팅방, 이후에는 마지막 실행 이후 변경된 채팅방만 점검한다.
+ * 잠금을 잡은 한 노드만 점검하고, 마지막 실행 시각은 Redis 에 두며, 채팅방은 (updatedAt, _id) keyset 으로 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCountReconcileScheduler implements TaskScheduler {
+
+    // 실행 중 변경된 채팅방을 놓치지 않도록 이전 실행 시작 시각에서 여유를 둔다
+    private static final long OVERLAP_MINUTES = 1;
+    private static final String JOB_NAME = "unread-reconcile";
+    private static final LocalDateTime BACKFILL_FROM = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ChatUnreadService chatUnreadService;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ScheduledJobCoordinator jobCoordinator;
+
+    @Value("${chat.unread.reconcile.batch-size:200}")
+    private int batchSize;
+
+    @Override
+    @Scheduled(cron = "${scheduler.unread-reconcile}")
+    public void run() {
+        if (!chatUnreadService.isRedisUnreadSource()) {
+            return;
+        }
+
+        try {
+            jobCoordinator.runExclusively(JOB_NAME, this::process);
+        } catch (Exception e) {
+            log.error("[UnreadCountReconcile] Error occurred during unread counter reconciliation", e);
+        }
+    }
+
+    @Override
+    public void process() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime lastRunAt = jobCoordinator.getWatermark(JOB_NAME);
+        LocalDateTime from = lastRunAt != null ? lastRunAt.minusMinutes(OVERLAP_MINUTES) : BACKFILL_FROM;
+
+        int roomCount = 0;
+        int repairedCount = 0;
+        LocalDateTime cursorUpdatedAt = from;
+        String cursorId = null;
+        List<ChatRoom> rooms;
+        do {
+            rooms = chatRoomRepository.findUpdatedRoomsAfter(cursorUpdatedAt, cursorId, batchSize);
+            if (!rooms.isEmpty()) {
+                repairedCount += chatUnreadService.reconcileUnreadCounters(rooms);
+                roomCount += rooms.size();
+
+                ChatRoom last = rooms.get(rooms.size() - 1);
+                cursorUpdatedAt = last.getUpdatedAt();
+                cursorId = last.getId();
+            }
+        } while (rooms.size() == batchSize);
+
+        jobCoordinator.saveWatermark(JOB_NAME, startedAt);
+        log.info("[UnreadCountReconcile] Success to reconcile unread counters. from={}, roomCount={}, "
+                + "repairedCount={}", from, roomCount, repairedCount);
+    }
+}
@@ -0,0 +1,18 @@
+package com.myce.api.service;
+
+import com.myce.api.dto.response.ChatCatchUpResponse;
+import com.myce.common.type.LoginType;
+import com.myce.common.type.Role;
+import java.util.Map;
+
+/**
+ * 재연결 후 따라잡기 서비스
+ */
+public interface ChatCatchUpService {
+
+    /**
+     * 채팅방별 마지막으로 받은 seq 이후 메시지와 현재 상태 조회
+     * @param lastSeqs 채팅방 코드 -> 마지막으로 받은 메시지 seq (null 이면 최신 메시지부터)
+     */
+    ChatCatchUpResponse catchUp(Map<String, Long> lastSeqs, Long memberId, Role role, LoginType loginType);
+}
@@ -24,7 +24,7 @@ public interface ChatMessageHandlerService {
     /**
      * 미읽음 카운트 업데이트 처리
      */
-    void handleUnreadCountUpdate(String roomId);
+    void handleUnreadCountUpdate(ChatRoom chatRoom);
 
     /**
      * 관리자 메시지 상태별 처리
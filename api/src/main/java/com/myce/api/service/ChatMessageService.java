@@ -1,11 +1,13 @@
 package com.myce.api.service;
 
+import com.myce.api.dto.response.ChatMessageCursorResponse;
 import com.myce.api.dto.response.ChatMessageResponse;
 import com.myce.common.dto.PageResponse;
 import com.myce.common.type.LoginType;
 import com.myce.common.type.Role;
 import com.myce.domain.document.ChatMessage;
 import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.dto.MessageCursorPage;
 import java.util.List;
 
 /**
@@ -30,8 +32,39 @@ public interface ChatMessageService {
 
     ChatMessage getRecentMessage(String roomCode);
 
+    /**
+     * seq 이전 메시지 구간 조회 (seq 내림차순, 히스토리 캐시 → MongoDB)
+     * @param beforeSeq 기준 seq (null 이면 최신 메시지부터)
+     */
+    List<ChatMessage> getMessagesBefore(String roomCode, Long beforeSeq, int limit);
+
+    /**
+     * seq 이후 메시지 구간 조회 (seq 오름차순, 히스토리 캐시 → MongoDB)
+     */
+    List<ChatMessage> getMessagesAfter(String roomCode, Long afterSeq, int limit);
+
     /**
      * 채팅방의 메시지 히스토리 조회 (페이징)
      */
     PageResponse<ChatMessageResponse> getMessages(String roomCode, int page, int size, Long memberId, Role role);
+
+    /**
+     * 채팅방의 메시지 히스토리 조회 (seq 커서)
+     * @param before 이 seq 보다 오래된 메시지부터 조회 (null 이면 최신 메시지부터)
+     * @param limit 최대 개수
+     */
+    ChatMessageCursorResponse getMessagesBySeqCursor(String roomCode, Long before, int limit, Long memberId, Role role);
+
+    /**
+     * seq 커서 기반 메시지 조회 (권한 검증 없음)
+     * @param before 이 seq 보다 오래된 메시지부터 조회 (null 이면 최신 메시지부터)
+     * @param limit 최대 개수
+     */
+    MessageCursorPage getMessagePageBySeq(String roomCode, Long before, int limit);
+
+    /**
+     * 첫 페이지 메시지를 미리 렌더링한 응답 조각으로 조회 (PageResponse JSON)
+     * 조각 캐시로 응답할 수 없으면 null (getMessages 로 조회)
+     */
+    byte[] getRecentMessagesView(String roomCode, int size, Long memberId, Role role);
 }
@@ -1,6 +1,8 @@
 package com.myce.api.service;
 
 
+import com.myce.api.dto.request.ChatRoomListFilter;
+import com.myce.api.dto.response.ChatRoomCursorResponse;
 import com.myce.api.dto.response.ChatRoomInfoListResponse;
 import com.myce.common.type.LoginType;
 
@@ -24,5 +26,24 @@ public interface ChatRoomService {
      * 박람회별 채팅방 목록 조회 (관리자 전용, 권한 검증)
      */
     ChatRoomInfoListResponse getChatRoomsByExpo(Long expoId, Long adminId, LoginType loginType);
+
+    /**
+     * 사용자별 채팅방 목록 커서 조회 (PLATFORM_ADMIN 은 플랫폼 채팅방, 그 외는 본인 참여 채팅방)
+     * @param cursor 이전 응답의 nextCursor (null 이면 처음부터)
+     */
+    ChatRoomCursorResponse getChatRooms(Long memberId, String memberName, String role, LoginType loginType,
+            ChatRoomListFilter filter, String cursor, int limit);
+
+    /**
+     * 플랫폼 관리자 채팅방 목록 커서 조회
+     */
+    ChatRoomCursorResponse getPlatformChatRooms(Long memberId, String role, LoginType loginType,
+            ChatRoomListFilter filter, String cursor, int limit);
+
+    /**
+     * 박람회별 채팅방 목록 커서 조회 (관리자 전용, 권한 검증)
+     */
+    ChatRoomCursorResponse getChatRoomsByExpo(Long expoId, Long adminId, LoginType loginType,
+            ChatRoomListFilter filter, String cursor, int limit);
     
 }
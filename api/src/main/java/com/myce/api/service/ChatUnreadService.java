@@ -4,6 +4,9 @@ package com.myce.api.service;
 import com.myce.common.type.LoginType;
 import com.myce.common.type.Role;
 import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.document.type.MessageSenderType;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -29,6 +32,50 @@ public interface ChatUnreadService {
             LoginType loginType
     );
 
+    /**
+     * 여러 채팅방의 읽지 않은 메시지 수를 한 번에 계산 (채팅방 목록용)
+     * 채팅방마다 getUnreadCount 와 같은 기준을 적용한다.
+     *
+     * @return roomCode -> 읽지 않은 메시지 수 (모든 채팅방 포함)
+     */
+    Map<String, Long> getUnreadCounts(
+            List<ChatRoom> chatRooms,
+            Long viewerId,
+            Role viewerRole,
+            LoginType loginType
+    );
+
+    /**
+     * Redis 미읽음 카운터를 MongoDB 기준으로 점검하고, 없거나 어긋난 카운터를 복구
+     *
+     * @return 복구한 카운터 수
+     */
+    int reconcileUnreadCounters(List<ChatRoom> chatRooms);
+
+    /**
+     * 미읽음 카운트를 Redis 카운터에서 제공하는지 여부 (chat.unread.source=redis)
+     */
+    boolean isRedisUnreadSource();
+
     boolean isReadMessage(ChatMessage message, Map<String, Long> readStatus);
+
+    /**
+     * 읽음 상태(readStatus)를 기준으로 메시지의 unreadCount 계산
+     * 저장된 값이 차감되지 않았더라도 이미 읽은 메시지면 차감된 값을 반환
+     */
+    int resolveUnreadCount(ChatMessage message, Map<String, Long> readStatus);
+
+    /**
+     * 메시지 객체 없이 seq, 발신자 타입, 저장된 unreadCount 만으로 unreadCount 계산
+     * (미리 렌더링한 메시지 응답 캐시에서 사용)
+     */
+    int resolveUnreadCount(String roomCode, Long messageSeq, MessageSenderType senderType, int unreadCount,
+                           Map<String, Long> readStatus);
+
+    /**
+     * 메시지 unreadCount 를 저장 값으로 관리하는지 여부
+     * (chat.unread.mode=stored 이면 true, derived 이면 조회 시점에 계산)
+     */
+    boolean isStoredUnreadMode();
     
 }
@@ -5,6 +5,7 @@ import com.myce.api.dto.message.ChatPayload;
 import com.myce.api.dto.message.ChatRoomStateInfo;
 import com.myce.api.dto.message.WebSocketBaseMessage;
 import com.myce.api.dto.message.type.MessageReaderType;
+import com.myce.api.dto.response.ChatCatchUpResponse;
 import com.myce.domain.document.ChatRoom;
 
 /**
@@ -46,6 +47,11 @@ public interface ChatWebSocketBroadcaster {
      */
     void broadcastError(String sessionId, Long memberId, String errorMessage);
 
+    /**
+     * 재연결 따라잡기 결과를 요청한 세션에만 전송
+     */
+    void sendCatchUp(String sessionId, Long memberId, ChatCatchUpResponse response);
+
     void broadcastNotifyAdminHandoff(WebSocketBaseMessage broadcastMessage);
 
     void sendMessage(String roomId, WebSocketBaseMessage broadcastMessage);
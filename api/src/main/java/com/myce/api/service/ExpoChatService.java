@@ -1,5 +1,6 @@
 package com.myce.api.service;
 
+import com.myce.api.dto.response.ChatMessageCursorResponse;
 import com.myce.api.dto.response.ChatMessageResponse;
 import com.myce.api.dto.response.ChatRoomInfoListResponse;
 import com.myce.api.dto.response.ChatRoomInfoResponse;
@@ -22,6 +23,11 @@ public interface ExpoChatService {
      */
     PageResponse<ChatMessageResponse> getMessages(Long expoId, String roomCode, int page, int size, Long memberId);
 
+    /**
+     * 채팅방 메시지 조회 (seq 커서)
+     */
+    ChatMessageCursorResponse getMessagesBySeqCursor(Long expoId, String roomCode, Long before, int limit, Long memberId);
+
     /**
      * 안읽은 메시지 수 조회
      */
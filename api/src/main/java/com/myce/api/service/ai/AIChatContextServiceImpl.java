@@ -2,13 +2,10 @@ package com.myce.api.service.ai;
 
 import com.myce.api.ai.context.PublicContext;
 import com.myce.api.ai.context.UserContext;
-import com.myce.api.dto.ExpoInfo;
-import com.myce.api.dto.ExpoInfos;
 import com.myce.api.dto.MemberInfo;
-import com.myce.api.dto.TicketInfo;
 import com.myce.api.service.AIChatContextService;
-import com.myce.api.service.client.ExpoClient;
-import com.myce.api.service.client.MemberClient;
+import com.myce.api.service.component.IdentityInfoCache;
+import com.myce.api.service.component.PublicContextSnapshotComponent;
 import com.myce.api.util.RoomCodeSupporter;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -20,15 +17,8 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class AIChatContextServiceImpl implements AIChatContextService {
 
-    private final MemberClient memberClient;
-    private final ExpoClient expoClient;
-
-    private static final int RECENT_EXPO_COUNT = 5;
-    private static final String LOCATION_INFO_FORMAT = " • 위치: %s %s";
-    private static final String TICKET_INFO_FORMAT = "  - %s: %,d원 (판매: %s~%s) %s";
-    private static final String PREPARE_TICKET_INFO_MESSAGE = "• %s: 티켓 정보 준비 중";
-    private static final String SOLD_OUT_MESSAGE = "(매진)";
-    private static final String REMAINING_QUANTITY = "(예약가능 - 잔여: %d매)";
+    private final IdentityInfoCache identityInfoCache;
+    private final PublicContextSnapshotComponent publicContextSnapshotComponent;
 
     /**
      * 사용자별 컨텍스트 구성 (격리된 정보만 제공)
@@ -37,7 +27,7 @@ public class AIChatContextServiceImpl implements AIChatContextService {
         Long memberId = RoomCodeSupporter.extractMemberIdFromPlatformRoomCode(roomCode);
 
         // 사용자 기본 정보 조회
-        MemberInfo memberInfo = memberClient.getMemberInfo(memberId);
+        MemberInfo memberInfo = identityInfoCache.getMemberInfo(memberId);
 
         // 프론트에서 처리?
         // return new UserContext("사용자", "일반", List.of(), "정보 없음", userId);
@@ -56,57 +46,9 @@ public class AIChatContextServiceImpl implements AIChatContextService {
     }
 
     /**
-     * 공개 플랫폼 정보 구성
+     * 공개 플랫폼 정보 구성 (주기적으로 갱신되는 스냅샷)
      */
     public PublicContext buildPublicContext() {
-        ExpoInfos expoInfos = expoClient.getRecentExpoInfos(RECENT_EXPO_COUNT);
-        if (expoInfos == null || expoInfos.getExpoInfos() == null) {
-            return PublicContext.getFailPublicContext();
-        }
-
-        // 박람회 기본 정보
-        StringBuilder totalExpoInfo = new StringBuilder();
-
-        for (ExpoInfo expoInfo : expoInfos.getExpoInfos()) {
-            String title = expoInfo.getTitle();
-            totalExpoInfo.append(title).append("\n");
-
-            String location = getLocationInfoStr(expoInfo.getLocation(), expoInfo.getLocationDetail());
-            totalExpoInfo.append(location).append("\n");
-
-            List<TicketInfo> ticketInfos = expoInfo.getTicketInfos();
-            if (ticketInfos.isEmpty()) {
-                totalExpoInfo.append(PREPARE_TICKET_INFO_MESSAGE).append("\n");
-            } else {
-                for (TicketInfo ticketInfo : ticketInfos) {
-                    totalExpoInfo.append(getTicketInfoStr(ticketInfo)).append("\n");
-                }
-            }
-
-            totalExpoInfo.append("\n");
-        }
-
-        return PublicContext.getSuccessPublicContext(totalExpoInfo.toString());
-    }
-
-    private String getTicketInfoStr(TicketInfo ticketInfo) {
-        return String.format(
-                TICKET_INFO_FORMAT,
-                ticketInfo.getName(),
-                ticketInfo.getPrice(),
-                ticketInfo.getStartDate(),
-                ticketInfo.getEndDate(),
-                getRemainingStatus(ticketInfo.getRemainingQuantity())
-        );
-    }
-
-    private String getRemainingStatus(int quantity) {
-        if (quantity <= 0) return SOLD_OUT_MESSAGE;
-
-        return String.format(REMAINING_QUANTITY, quantity);
-    }
-
-    private String getLocationInfoStr(String location, String locationDetail) {
-        return String.format(LOCATION_INFO_FORMAT, location, locationDetail);
+        return publicContextSnapshotComponent.current();
     }
 }
@@ -10,8 +10,8 @@ import com.myce.common.exception.CustomException;
 import com.myce.domain.document.ChatMessage;
 import com.myce.domain.document.ChatRoom;
 import com.myce.domain.document.type.MessageSenderType;
-import com.myce.domain.repository.ChatMessageRepository;
-import com.myce.domain.repository.ChatRoomRepository;
+import com.myce.domain.repository.CachedChatRoomRepository;
+import com.myce.domain.repository.ChatMessageStore;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,10 +37,10 @@ public class AIChatGenerateService {
     };
 
     private final ChatClient chatClient;
-    private final ChatRoomRepository chatRoomRepository;
+    private final CachedChatRoomRepository chatRoomRepository;
     private final AIChatPromptService aiChatPromptService;
     private final AIChatContextService aiChatContextService;
-    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageStore chatMessageStore;
 
     public String generateAIResponse(String userMessage, String roomCode) {
         // 1. 채팅방 상태 확인
@@ -49,8 +49,8 @@ public class AIChatGenerateService {
         boolean isWaitingForAdmin = chatRoom.isWaitingForAdmin();
 
         // 2. 대화 이력 조회
-        List<ChatMessage> recentMessages = chatMessageRepository
-                .findTop50ByRoomCodeOrderBySentAtDesc(roomCode);
+        List<ChatMessage> recentMessages = chatMessageStore
+                .findRecentMessages(roomCode);
 
         // 3. 컨텍스트 수집
         UserContext userContext = aiChatContextService.buildUserContext(roomCode);
@@ -78,14 +78,16 @@ public class AIChatGenerateService {
                 userContext, publicContext, isWaitingForAdmin, shouldSuggestHuman);
         String aiPrompt = aiChatPromptService.createAIPromptWithHistoryAndUserMessage(
                 systemPrompt, conversationHistory, userMessage);
+        log.debug("Create AI prompt. userId={}, publicContextVersion={}",
+                userContext.userId(), publicContext.version());
 
         return chatClient.prompt(aiPrompt).call().content();
     }
 
     public String generateConversationSummary(String roomCode) {
         // 전체 대화 이력 조회 (최근 50개)
-        List<ChatMessage> messages = chatMessageRepository
-                .findTop50ByRoomCodeOrderBySentAtDesc(roomCode);
+        List<ChatMessage> messages = chatMessageStore
+                .findRecentMessages(roomCode);
         if (messages.isEmpty()) return SystemMessage.NOT_EXIST_SUMMARY_MESSAGE;
 
         UserContext userContext = aiChatContextService.buildUserContext(roomCode);
@@ -20,8 +20,7 @@ import com.myce.common.type.Role;
 import com.myce.domain.document.ChatMessage;
 import com.myce.domain.document.ChatRoom;
 import com.myce.domain.document.type.ChatRoomState;
-import com.myce.domain.repository.ChatRoomCacheRepository;
-import com.myce.domain.repository.ChatRoomRepository;
+import com.myce.domain.repository.CachedChatRoomRepository;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,8 +40,7 @@ public class AIChatServiceImpl implements AIChatService {
     private final ChatMessageService chatMessageService;
     private final ButtonUpdateService buttonUpdateService;
     private final AIChatGenerateService chatGenerateService;
-    private final ChatRoomCacheRepository chatCacheRepository;
-    private final ChatRoomRepository chatRoomRepository;
+    private final CachedChatRoomRepository chatRoomRepository;
 
     @Override
     public ChatStatusResponse getAiChatStatus(String roomCode) {
@@ -65,7 +63,7 @@ public class AIChatServiceImpl implements AIChatService {
         chatRoom.stopWaitingForAdmin();
         chatRoom.transitionToState(ChatRoomState.ADMIN_ACTIVE);
 
-        chatCacheRepository.invalidateRoomCache(roomCode);
+        chatRoomRepository.invalidate(roomCode);
 
         log.info("Admin assigned and AI blocked - roomCode: {}, adminCode: {}, hasAdmin: {}, finalState: {}",
             roomCode, adminCode, chatRoom.hasAssignedAdmin(), chatRoom.getCurrentState());
@@ -113,8 +111,9 @@ public class AIChatServiceImpl implements AIChatService {
         ChatMessage savedMessage = chatMessageService
                 .saveAIChatMessage(roomCode, SystemMessage.AI_INVITE_MESSAGE);
 
+        // 저장 전 상태가 캐시로 읽히지 않도록 캐시만 비운다 (저장은 호출자가 한다)
         chatRoom.startWaitingForAdmin();
-        chatCacheRepository.cacheChatRoom(roomCode, chatRoom);
+        chatRoomRepository.evict(roomCode);
 
         return savedMessage;
     }
@@ -124,7 +123,7 @@ public class AIChatServiceImpl implements AIChatService {
         String roomCode = chatRoom.getRoomCode();
         chatRoom.stopWaitingForAdmin(); // waitingForAdmin = false
         chatRoom.transitionToState(ChatRoomState.AI_ACTIVE); // currentState = AI_ACTIVE
-        chatCacheRepository.invalidateRoomCache(roomCode);
+        chatRoomRepository.invalidate(roomCode);
 
         ChatMessage savedMessage = chatMessageService.saveAIChatMessage(roomCode, SystemMessage.CANCEL_HANDOFF);
 
@@ -139,7 +138,7 @@ public class AIChatServiceImpl implements AIChatService {
         chatRoom.stopWaitingForAdmin(); // waitingForAdmin = false로 변경됨
 
         String roomCode = chatRoom.getRoomCode();
-        chatCacheRepository.invalidateRoomCache(roomCode);
+        chatRoomRepository.invalidate(roomCode);
         log.debug("Reset redis cache for ai handoff. roomCode={}", roomCode);
 
         ChatMessage chatMessage = chatMessageService
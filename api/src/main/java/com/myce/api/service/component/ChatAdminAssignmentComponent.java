@@ -3,8 +3,7 @@ package com.myce.api.service.component;
 import com.myce.common.exception.CustomErrorCode;
 import com.myce.common.exception.CustomException;
 import com.myce.domain.document.ChatRoom;
-import com.myce.domain.repository.ChatRoomCacheRepository;
-import com.myce.domain.repository.ChatRoomRepository;
+import com.myce.domain.repository.CachedChatRoomRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -14,8 +13,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ChatAdminAssignmentComponent {
 
-    private final ChatRoomRepository chatRoomRepository;
-    private final ChatRoomCacheRepository chatRoomCacheRepository;
+    private final CachedChatRoomRepository chatRoomRepository;
 
     public void assignAdminIfNeeded(ChatRoom chatRoom, String adminCode) {
         log.info("Start assign admin. roomCode={}, adminCode={}", chatRoom.getRoomCode(), adminCode);
@@ -23,8 +21,7 @@ public class ChatAdminAssignmentComponent {
         validateNeedAssignAdmin(chatRoom, adminCode);
         // Save to MongoDB and update Redis cache when changes occur
         log.info("🔧 needsUpdate check - room: {}, adminCode: {}", chatRoom.getRoomCode(), adminCode);
-        ChatRoom savedRoom = chatRoomRepository.save(chatRoom);
-        chatRoomCacheRepository.cacheChatRoom(chatRoom.getRoomCode(), savedRoom);
+        chatRoomRepository.save(chatRoom);
         log.info("🔧 ChatRoom saved and cached - room: {}, adminCode: {}",
                 chatRoom.getRoomCode(), adminCode);
     }
@@ -0,0 +1,79 @@
+package com.myce.api.service.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 응답 생성(LLM 호출) 전용 실행기
+ * LLM 호출은 수 초씩 걸리므로 채팅방 단위 실행기(ChatFanoutExecutor)의 스트라이프에서 실행하면
+ * 같은 스트라이프의 다른 채팅방 전송이 모두 밀린다. 생성은 여기서 하고 저장/전송만 채팅방 실행기로 넘긴다.
+ * 큐가 가득 차면 거부하고 AI 응답을 생략한다.
+ */
+@Slf4j
+@Component
+public class ChatAiResponseExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Counter rejectedCounter;
+
+    public ChatAiResponseExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${chat.ai.response.threads:4}") int threads,
+            @Value("${chat.ai.response.queue-capacity:200}") int queueCapacity
+    ) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        int poolSize = Math.max(threads, 1);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "chat-ai-response-" + threadIndex.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.rejectedCounter = Counter.builder("chat.ai.response.rejected")
+                .description("큐 포화로 생략된 AI 응답 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.ai.response.queue.depth", executor.getQueue(), BlockingQueue::size)
+                .description("대기 중인 AI 응답 생성 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * AI 응답 생성 작업 등록
+     * @return 등록 여부 (큐가 가득 차면 false)
+     */
+    public boolean execute(String roomCode, Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("[ChatAiResponseExecutor] Fail to generate ai response. roomCode={}", roomCode, e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("[ChatAiResponseExecutor] Reject ai response task. roomCode={}, queueSize={}",
+                    roomCode, executor.getQueue().size());
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,246 @@
+package com.myce.api.service.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메시지 저장 이후 부가 작업(브로드캐스트, 미읽음 갱신, AI 응답 전송)을 처리하는 채팅방 단위 실행기
+ * roomCode 로 스트라이프를 고르고 스트라이프마다 단일 스레드가 처리하므로
+ * 같은 채팅방 작업은 순서대로, 다른 채팅방 작업은 병렬로 처리된다.
+ * 오래 걸리는 작업(LLM 호출 등)은 스트라이프의 다른 채팅방까지 막으므로 여기서 실행하지 않는다.
+ * <p>
+ * 큐 자리는 reserve 로 먼저 확보한다. 자리가 없으면 offerTimeout 동안 호출 스레드를 대기시키고, 그래도 없으면 거부한다.
+ * 메시지 저장 전에 확보하면 저장된 메시지의 부가 작업이 거부되는 일이 없다.
+ */
+@Slf4j
+@Component
+public class ChatFanoutExecutor {
+
+    private final boolean enabled;
+    private final long offerTimeoutMillis;
+    private final List<Stripe> stripes = new ArrayList<>();
+    private volatile boolean accepting = true;
+
+    private final Counter rejectedCounter;
+    private final Timer taskTimer;
+
+    public ChatFanoutExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${chat.fanout.enabled:true}") boolean enabled,
+            @Value("${chat.fanout.stripes:8}") int stripeCount,
+            @Value("${chat.fanout.queue-capacity:1000}") int queueCapacity,
+            @Value("${chat.fanout.offer-timeout-ms:100}") long offerTimeoutMillis
+    ) {
+        this.enabled = enabled;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+
+        this.rejectedCounter = Counter.builder("chat.fanout.rejected")
+                .description("큐 포화로 거부된 작업 수")
+                .register(meterRegistry);
+        this.taskTimer = Timer.builder("chat.fanout.task")
+                .description("부가 작업 처리 시간")
+                .register(meterRegistry);
+
+        if (!enabled) {
+            return;
+        }
+
+        for (int i = 0; i < Math.max(stripeCount, 1); i++) {
+            Stripe stripe = new Stripe(i, Math.max(queueCapacity, 1));
+            stripes.add(stripe);
+            Gauge.builder("chat.fanout.queue.depth", stripe.queue, BlockingQueue::size)
+                    .description("스트라이프별 대기 작업 수")
+                    .tag("stripe", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 채팅방 작업 등록
+     * 트랜잭션 안에서 호출되면 자리는 바로 확보하고 작업은 커밋 이후에 등록한다. (롤백되면 자리를 반납한다)
+     * 커밋 이후에는 거부되지 않으므로 커밋된 변경의 부가 작업이 조용히 빠지는 일이 없다.
+     * @throws RejectedExecutionException 큐가 가득 차 등록하지 못한 경우
+     */
+    public void execute(String roomCode, Runnable task) {
+        if (!enabled) {
+            runTask(roomCode, task);
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Reservation reservation = reserve(roomCode);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        reservation.execute(task);
+                    } else {
+                        reservation.cancel();
+                    }
+                }
+            });
+            return;
+        }
+
+        reserve(roomCode).execute(task);
+    }
+
+    /**
+     * 채팅방 작업 자리 확보
+     * 확보한 자리는 execute 로 작업을 등록하거나 cancel 로 반납해야 한다.
+     * @throws RejectedExecutionException 큐가 가득 차 자리를 확보하지 못한 경우
+     */
+    public Reservation reserve(String roomCode) {
+        if (!enabled) {
+            return new Reservation(roomCode, null);
+        }
+
+        Stripe stripe = stripes.get(Math.floorMod(roomCode.hashCode(), stripes.size()));
+        boolean acquired;
+        try {
+            acquired = accepting && stripe.permits.tryAcquire(offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejectedCounter.increment();
+            log.warn("[ChatFanoutExecutor] Reject fanout task. roomCode={}, stripe={}, queueSize={}",
+                    roomCode, stripe.index, stripe.queue.size());
+            throw new RejectedExecutionException("Fanout queue is full. roomCode=" + roomCode);
+        }
+        return new Reservation(roomCode, stripe);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        accepting = false;
+        for (Stripe stripe : stripes) {
+            stripe.worker.interrupt();
+        }
+        for (Stripe stripe : stripes) {
+            try {
+                stripe.worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void runTask(String roomCode, Runnable task) {
+        Timer.Sample sample = Timer.start();
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("[ChatFanoutExecutor] Fail to run fanout task. roomCode={}", roomCode, e);
+        } finally {
+            sample.stop(taskTimer);
+        }
+    }
+
+    /**
+     * 확보한 큐 자리 (한 번만 사용)
+     */
+    public final class Reservation {
+
+        private final String roomCode;
+        private final Stripe stripe;
+        private boolean used;
+
+        private Reservation(String roomCode, Stripe stripe) {
+            this.roomCode = roomCode;
+            this.stripe = stripe;
+        }
+
+        /**
+         * 확보한 자리에 작업 등록 (자리를 확보했으므로 거부되지 않는다)
+         * 종료 중이면 작업 스레드가 먼저 끝날 수 있으므로 아직 꺼내지 않은 작업은 호출 스레드에서 바로 실행한다.
+         */
+        public void execute(Runnable task) {
+            if (markUsed()) {
+                return;
+            }
+            if (stripe == null) {
+                runTask(roomCode, task);
+                return;
+            }
+
+            Runnable queued = () -> {
+                stripe.permits.release();
+                runTask(roomCode, task);
+            };
+            stripe.queue.add(queued);
+            if (!accepting && stripe.queue.remove(queued)) {
+                queued.run();
+            }
+        }
+
+        /**
+         * 작업을 등록하지 않고 자리 반납 (메시지 저장 실패 등)
+         */
+        public void cancel() {
+            if (markUsed() || stripe == null) {
+                return;
+            }
+            stripe.permits.release();
+        }
+
+        private synchronized boolean markUsed() {
+            boolean wasUsed = used;
+            used = true;
+            return wasUsed;
+        }
+    }
+
+    private final class Stripe {
+
+        private final int index;
+        private final BlockingQueue<Runnable> queue;
+        private final Semaphore permits;
+        private final Thread worker;
+
+        private Stripe(int index, int queueCapacity) {
+            this.index = index;
+            // 큐 크기는 permits 로 제한한다 (자리를 확보한 작업은 항상 들어갈 수 있어야 한다)
+            this.queue = new LinkedBlockingQueue<>();
+            this.permits = new Semaphore(queueCapacity);
+            this.worker = new Thread(this::work, "chat-fanout-" + index);
+            this.worker.setDaemon(true);
+            this.worker.start();
+        }
+
+        private void work() {
+            while (accepting || !queue.isEmpty()) {
+                try {
+                    Runnable task = accepting ? queue.take() : queue.poll();
+                    if (task != null) {
+                        task.run();
+                    }
+                } catch (InterruptedException e) {
+                    // 종료 시 남은 작업을 비운 뒤 종료
+                    if (accepting) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -6,6 +6,12 @@ import com.myce.domain.repository.SequenceGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+/**
+ * 채팅 메시지 생성
+ * 메시지 저장 방식(document/bucket)과 관계없이 모든 메시지에 채팅방 seq 를 발급한다.
+ * 읽음 상태(readStatus)와 미읽음 수 계산이 seq 를 비교하고, bucket 저장은 seq 로 버킷을 정하기 때문이다.
+ * (AI/시스템 메시지도 관리자 타임아웃 전환 메시지를 포함해 이 컴포넌트를 거친다)
+ */
 @Component
 @RequiredArgsConstructor
 public class ChatMessageCreateComponent {
@@ -23,7 +29,7 @@ public class ChatMessageCreateComponent {
 
         return  ChatMessage.builder()
                 .roomCode(roomCode)
-                .seq(sequenceGenerator.generateSequence(ChatMessage.SEQUENCE_NAME))
+                .seq(sequenceGenerator.generateMessageSequence(roomCode))
                 .senderType(senderType)
                 .senderId(senderId)
                 .senderName(senderName)
@@ -37,7 +43,7 @@ public class ChatMessageCreateComponent {
     public ChatMessage createSystemMessage(String roomCode, String content) {
         return ChatMessage.builder()
                 .roomCode(roomCode)
-                .seq(sequenceGenerator.generateSequence(ChatMessage.SEQUENCE_NAME))
+                .seq(sequenceGenerator.generateMessageSequence(roomCode))
                 .senderType(MessageSenderType.SYSTEM)
                 .senderId(SYSTEM_SENDER_ID)
                 .senderName(MessageSenderType.SYSTEM.getDescription())
@@ -52,7 +58,7 @@ public class ChatMessageCreateComponent {
     public ChatMessage createAIMessage(String roomCode, String content) {
         return ChatMessage.builder()
                 .roomCode(roomCode)
-                .seq(sequenceGenerator.generateSequence(ChatMessage.SEQUENCE_NAME))
+                .seq(sequenceGenerator.generateMessageSequence(roomCode))
                 .senderType(MessageSenderType.AI)
                 .senderId(AI_SENDER_ID)
                 .senderName(MessageSenderType.AI.getDescription())
@@ -0,0 +1,161 @@
+package com.myce.api.service.component;
+
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.dto.RecentMessageFill;
+import com.myce.domain.repository.ChatMessageCacheRepository;
+import com.myce.domain.repository.ChatMessageStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 첫 페이지 메시지 조회 및 최근 메시지 캐시 채우기 (single-flight)
+ * 인기 채팅방의 캐시가 만료되면 동시에 들어온 요청이 모두 MongoDB 를 조회하는 것을 막는다.
+ * <p>
+ * 노드 안: 같은 채팅방/페이지 크기 요청은 먼저 들어온 요청의 조회 결과를 함께 기다린다.
+ * 노드 간: Redis 임대를 잡은 요청만 MongoDB 를 조회해 캐시를 채우고, 임대를 잡지 못한 요청은
+ * 잠시 캐시가 채워지기를 기다렸다가 캐시로 응답한다. 기다려도 채워지지 않으면 MongoDB 를 조회한다.
+ */
+@Slf4j
+@Component
+public class ChatMessageRecentFillComponent {
+
+    private static final long WAIT_INTERVAL_MILLIS = 20L;
+
+    private final ChatMessageStore chatMessageStore;
+    private final ChatMessageCacheRepository chatMessageCacheRepository;
+    private final Duration leaseTime;
+    private final long waitMillis;
+    private final Map<String, CompletableFuture<Page<ChatMessage>>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaderCounter;
+    private final Counter coalescedCounter;
+    private final Counter waitHitCounter;
+    private final Counter waitMissCounter;
+
+    public ChatMessageRecentFillComponent(
+            ChatMessageStore chatMessageStore,
+            ChatMessageCacheRepository chatMessageCacheRepository,
+            MeterRegistry meterRegistry,
+            @Value("${chat.message.recent-fill.lease-ms:3000}") long leaseMillis,
+            @Value("${chat.message.recent-fill.wait-ms:200}") long waitMillis
+    ) {
+        this.chatMessageStore = chatMessageStore;
+        this.chatMessageCacheRepository = chatMessageCacheRepository;
+        this.leaseTime = Duration.ofMillis(Math.max(leaseMillis, 1));
+        this.waitMillis = Math.max(waitMillis, 0);
+
+        this.leaderCounter = fillCounter(meterRegistry, "leader");
+        this.coalescedCounter = fillCounter(meterRegistry, "coalesced");
+        this.waitHitCounter = fillCounter(meterRegistry, "wait_hit");
+        this.waitMissCounter = fillCounter(meterRegistry, "wait_miss");
+    }
+
+    /**
+     * 첫 페이지 메시지 조회
+     * @param cacheServable 최근 메시지 캐시만으로 이 페이지 크기를 채울 수 있는지 여부 (아니면 다른 노드를 기다리지 않는다)
+     */
+    public Page<ChatMessage> loadFirstPage(String roomCode, Pageable pageable, boolean cacheServable) {
+        String flightKey = roomCode + ":" + pageable.getPageSize();
+        CompletableFuture<Page<ChatMessage>> flight = new CompletableFuture<>();
+        CompletableFuture<Page<ChatMessage>> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            coalescedCounter.increment();
+            log.debug("[ChatMessageRecentFill] Join in-flight first page load. roomCode={}", roomCode);
+            return join(existing);
+        }
+
+        try {
+            Page<ChatMessage> messagePage = load(roomCode, pageable, cacheServable);
+            flight.complete(messagePage);
+            return messagePage;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private Page<ChatMessage> load(String roomCode, Pageable pageable, boolean cacheServable) {
+        RecentMessageFill fill = chatMessageCacheRepository.tryBeginRecentFill(roomCode, leaseTime);
+        if (fill == null) {
+            List<ChatMessage> cachedMessages = cacheServable ? awaitOtherFill(roomCode, pageable.getPageSize()) : null;
+            if (cachedMessages != null) {
+                waitHitCounter.increment();
+                return new PageImpl<>(cachedMessages, pageable, cachedMessages.size());
+            }
+            waitMissCounter.increment();
+            return chatMessageStore.findPage(roomCode, pageable);
+        }
+
+        leaderCounter.increment();
+        Page<ChatMessage> messagePage;
+        try {
+            messagePage = chatMessageStore.findPage(roomCode, pageable);
+        } catch (RuntimeException e) {
+            chatMessageCacheRepository.cancelRecentFill(fill);
+            throw e;
+        }
+
+        if (messagePage.getContent().isEmpty()) {
+            chatMessageCacheRepository.cancelRecentFill(fill);
+        } else {
+            chatMessageCacheRepository.completeRecentFill(fill, messagePage.getContent());
+        }
+        return messagePage;
+    }
+
+    /**
+     * 다른 노드가 캐시를 채울 때까지 대기
+     * @return 캐시된 메시지 (대기 시간 안에 채워지지 않으면 null)
+     */
+    private List<ChatMessage> awaitOtherFill(String roomCode, int size) {
+        long deadline = System.currentTimeMillis() + waitMillis;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(WAIT_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            List<ChatMessage> cachedMessages = chatMessageCacheRepository.getCachedRecentMessages(roomCode, size);
+            if (cachedMessages != null && cachedMessages.size() >= size) {
+                log.debug("[ChatMessageRecentFill] Success to wait for recent message fill. roomCode={}", roomCode);
+                return cachedMessages;
+            }
+        }
+        log.debug("[ChatMessageRecentFill] Recent message fill is not finished in time. roomCode={}", roomCode);
+        return null;
+    }
+
+    private Page<ChatMessage> join(CompletableFuture<Page<ChatMessage>> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter fillCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("chat.message.recent.fill")
+                .description("첫 페이지 조회 시 최근 메시지 캐시 채우기 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
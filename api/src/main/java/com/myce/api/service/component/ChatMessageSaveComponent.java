@@ -2,7 +2,6 @@ package com.myce.api.service.component;
 
 import com.myce.api.dto.SenderInfo;
 import com.myce.api.service.ChatMessageService;
-import com.myce.api.service.client.ExpoClient;
 import com.myce.api.util.ChatCacheKeySupporter;
 import com.myce.api.util.RoomCodeSupporter;
 import com.myce.common.exception.CustomErrorCode;
@@ -12,10 +11,9 @@ import com.myce.common.type.Role;
 import com.myce.domain.document.ChatMessage;
 import com.myce.domain.document.ChatRoom;
 import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.dto.MessageCacheCommitResult;
 import com.myce.domain.repository.ChatMessageCacheRepository;
-import com.myce.domain.repository.ChatRoomCacheRepository;
-import com.myce.domain.repository.ChatRoomRepository;
-import java.util.Optional;
+import com.myce.domain.repository.CachedChatRoomRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -25,10 +23,9 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ChatMessageSaveComponent {
 
-    private final ExpoClient expoClient;
-    private final ChatRoomRepository chatRoomRepository;
+    private final ExpoAccessDecisionCache expoAccessDecisionCache;
+    private final CachedChatRoomRepository chatRoomRepository;
     private final ChatMessageService chatMessageService;
-    private final ChatRoomCacheRepository chatRoomCacheRepository;
     private final ChatMessageCacheRepository chatMessageCacheRepository;
 
     public ChatMessage saveMessage(Long memberId, Role role, LoginType loginType, ChatRoom chatRoom, String content) {
@@ -41,23 +38,15 @@ public class ChatMessageSaveComponent {
                 roomCode, senderInfo.getSenderType(), memberId, senderInfo.getSenderName(), content
         );
 
-        // 1. Redis에 즉시 메시지 추가 (비동기)
-        chatMessageCacheRepository.addMessageToCache(roomCode, chatMessage);
-
-        // 2. 미읽음 카운트 증가 (수신자 찾기)
+        // 1. Redis 부가 작업 일괄 처리 (최근 메시지 캐시, 수신자 미읽음/배지, 활성 채팅방)
         Long receiverId = getReceiverId(chatRoom, memberId, senderInfo.getSenderRole());
-        if (receiverId != null) {
-            chatMessageCacheRepository.incrementUnreadCount(roomCode, receiverId, 1);
-            chatMessageCacheRepository.incrementBadgeCount(receiverId);
-            log.debug("Updated unread count for receiver: {} in room: {}", receiverId, roomCode);
-        }
-
-        // 3. 사용자 활성 채팅방에 추가
-        chatRoomCacheRepository.addUserActiveRoom(memberId, roomCode);
-        if (receiverId != null) chatRoomCacheRepository.addUserActiveRoom(receiverId, roomCode);
+        MessageCacheCommitResult commitResult =
+                chatMessageCacheRepository.commitMessage(roomCode, chatMessage, memberId, receiverId);
+        log.debug("Committed message cache. roomCode: {}, receiverId: {}, unreadCount: {}, scripted: {}",
+                roomCode, receiverId, commitResult.unreadCount(), commitResult.scripted());
 
-        // 4. MongoDB 저장 및 채팅방 업데이트 (동기 - 임시)
-        updateChatRoomLastMessage(roomCode, chatMessage.getId(), content);
+        // 2. MongoDB 저장 및 채팅방 업데이트 (동기 - 임시)
+        updateChatRoomLastMessage(chatRoom, chatMessage);
         log.trace("Success to save chat message. messageId: {}, roomCode: {}", chatMessage.getId(), roomCode);
 
         return chatMessage;
@@ -97,14 +86,11 @@ public class ChatMessageSaveComponent {
     /**
      * 채팅방 마지막 메시지 업데이트
      */
-    private void updateChatRoomLastMessage(String roomId, String messageId, String content) {
-        Optional<ChatRoom> chatRoomOpt = chatRoomRepository.findByRoomCode(roomId);
-
-        if (chatRoomOpt.isPresent()) {
-            ChatRoom chatRoom = chatRoomOpt.get();
-            chatRoom.updateLastMessageInfo(messageId, content);
-            chatRoomRepository.save(chatRoom);
-        }
+    private void updateChatRoomLastMessage(ChatRoom chatRoom, ChatMessage chatMessage) {
+        chatRoomRepository.updateLastMessage(chatRoom.getRoomCode(), chatMessage.getId(),
+                chatMessage.getContent(), chatMessage.getSentAt());
+        // 이후 플로우에서 같은 채팅방 객체를 사용하므로 메모리 상태도 맞춰둔다
+        chatRoom.updateLastMessageInfo(chatMessage.getId(), chatMessage.getContent(), chatMessage.getSentAt());
     }
 
     public SenderInfo getSenderInfo(String roomCode, long memberId, Role role, LoginType loginType) {
@@ -136,13 +122,13 @@ public class ChatMessageSaveComponent {
             return new SenderInfo(Role.USER, MessageSenderType.USER, "사용자명 넣기");
         }
 
-        if (LoginType.ADMIN_CODE.equals(loginType) && expoClient.checkAdminExpoAccessible(expoId, memberId)) {
+        if (LoginType.ADMIN_CODE.equals(loginType) && expoAccessDecisionCache.isAdminExpoAccessible(expoId, memberId)) {
             Role adminRole = role != null && !Role.USER.equals(role) ? role : Role.EXPO_ADMIN;
             return new SenderInfo(adminRole, MessageSenderType.ADMIN, adminRole.getDisplayName());
         }
 
         if ((Role.EXPO_ADMIN.equals(role) || Role.EXPO_SUPER_ADMIN.equals(role))
-                && expoClient.checkMemberExpoOwner(expoId, memberId)) {
+                && expoAccessDecisionCache.isMemberExpoOwner(expoId, memberId)) {
             return new SenderInfo(role, MessageSenderType.ADMIN, role.getDisplayName());
         }
 
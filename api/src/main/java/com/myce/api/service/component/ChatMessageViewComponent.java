@@ -0,0 +1,142 @@
+package com.myce.api.service.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myce.api.dto.response.ChatMessageResponse;
+import com.myce.api.mapper.ChatMessageMapper;
+import com.myce.api.service.ChatUnreadService;
+import com.myce.common.dto.PageResponse;
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.type.MessageSenderType;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 메시지 응답 조각 렌더링
+ * 메시지마다 응답 JSON 을 unreadCount 값 직전까지 미리 렌더링해 두고({"roomCode":...,"unreadCount":),
+ * 조회 시에는 조회자의 읽음 상태로 계산한 unreadCount 와 닫는 괄호만 붙여 페이지를 이어 붙인다.
+ * <p>
+ * 조각 형식: [버전 1바이트][seq 8바이트][저장된 unreadCount 4바이트][발신자 타입 길이 1바이트][발신자 타입][JSON 조각]
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageViewComponent {
+
+    private static final byte VIEW_V1 = 0x01;
+    private static final long NO_SEQ = -1L;
+    private static final int HEADER_SIZE = 1 + Long.BYTES + Integer.BYTES + 1;
+    private static final String UNREAD_COUNT_TAIL = "null}";
+    private static final byte OBJECT_END = '}';
+    private static final byte SEPARATOR = ',';
+    private static final String EMPTY_CONTENT = "[]";
+
+    private final ObjectMapper objectMapper;
+    private final ChatUnreadService unreadService;
+
+    /**
+     * 메시지 목록을 응답 조각으로 렌더링
+     * 응답 형식이 예상과 다르면(unreadCount 가 마지막 필드가 아니면) 빈 목록을 반환해 캐시하지 않는다.
+     */
+    public List<byte[]> render(List<ChatMessage> chatMessages) {
+        List<byte[]> views = new ArrayList<>(chatMessages.size());
+        try {
+            for (ChatMessage chatMessage : chatMessages) {
+                byte[] view = render(chatMessage);
+                if (view == null) {
+                    return List.of();
+                }
+                views.add(view);
+            }
+            return views;
+        } catch (JsonProcessingException e) {
+            log.warn("[ChatMessageView] Fail to render message views. error={}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 응답 조각을 이어 붙여 PageResponse JSON 을 만든다
+     * unreadCount 는 채팅방 읽음 상태 기준으로 조각마다 보정한다.
+     */
+    public byte[] writePage(String roomCode, List<byte[]> views, Map<String, Long> readStatus,
+                            int page, int size, long totalElements, int totalPages) throws JsonProcessingException {
+        // 페이지 정보 부분은 ObjectMapper 로 렌더링해 필드 이름/순서를 PageResponse 와 맞춘다
+        String envelope = objectMapper.writeValueAsString(
+                new PageResponse<>(List.of(), page, size, totalElements, totalPages));
+        int contentIndex = envelope.indexOf(EMPTY_CONTENT);
+        byte[] head = envelope.substring(0, contentIndex + 1).getBytes(StandardCharsets.UTF_8);
+        byte[] tail = envelope.substring(contentIndex + 1).getBytes(StandardCharsets.UTF_8);
+
+        int estimatedSize = head.length + tail.length;
+        for (byte[] view : views) {
+            estimatedSize += view.length + 8;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(estimatedSize);
+        out.write(head, 0, head.length);
+        for (int i = 0; i < views.size(); i++) {
+            if (i > 0) {
+                out.write(SEPARATOR);
+            }
+            writeView(out, roomCode, views.get(i), readStatus);
+        }
+        out.write(tail, 0, tail.length);
+        return out.toByteArray();
+    }
+
+    private byte[] render(ChatMessage chatMessage) throws JsonProcessingException {
+        ChatMessageResponse response = ChatMessageMapper.toViewResponse(chatMessage);
+        byte[] json = objectMapper.writeValueAsBytes(response);
+        String tail = UNREAD_COUNT_TAIL;
+        int fragmentLength = json.length - tail.length();
+        if (fragmentLength <= 0 || !tail.equals(new String(json, fragmentLength, tail.length(),
+                StandardCharsets.UTF_8))) {
+            log.warn("[ChatMessageView] Unexpected message response layout. messageId={}", chatMessage.getId());
+            return null;
+        }
+
+        byte[] senderType = chatMessage.getSenderType() != null
+                ? chatMessage.getSenderType().name().getBytes(StandardCharsets.US_ASCII)
+                : new byte[0];
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + senderType.length + fragmentLength);
+        buffer.put(VIEW_V1);
+        buffer.putLong(chatMessage.getSeq() != null ? chatMessage.getSeq() : NO_SEQ);
+        buffer.putInt(chatMessage.getUnreadCount());
+        buffer.put((byte) senderType.length);
+        buffer.put(senderType);
+        buffer.put(json, 0, fragmentLength);
+        return buffer.array();
+    }
+
+    private void writeView(ByteArrayOutputStream out, String roomCode, byte[] view, Map<String, Long> readStatus) {
+        ByteBuffer buffer = ByteBuffer.wrap(view);
+        if (buffer.get() != VIEW_V1) {
+            throw new IllegalStateException("Unknown message view version. head=" + Arrays.toString(
+                    Arrays.copyOf(view, Math.min(view.length, 4))));
+        }
+        long seq = buffer.getLong();
+        int storedUnreadCount = buffer.getInt();
+        int senderTypeLength = buffer.get();
+        MessageSenderType senderType = senderTypeLength > 0
+                ? MessageSenderType.valueOf(new String(view, buffer.position(), senderTypeLength,
+                        StandardCharsets.US_ASCII))
+                : null;
+        int fragmentOffset = buffer.position() + senderTypeLength;
+
+        int unreadCount = unreadService.resolveUnreadCount(roomCode, seq != NO_SEQ ? seq : null, senderType,
+                storedUnreadCount, readStatus);
+        out.write(view, fragmentOffset, view.length - fragmentOffset);
+        byte[] unread = Integer.toString(unreadCount).getBytes(StandardCharsets.US_ASCII);
+        out.write(unread, 0, unread.length);
+        out.write(OBJECT_END);
+    }
+}
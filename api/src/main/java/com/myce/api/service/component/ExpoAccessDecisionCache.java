@@ -0,0 +1,294 @@
+package com.myce.api.service.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.myce.api.service.client.ExpoClient;
+import com.myce.common.type.LoginType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 박람회 접근 권한 판정 캐시
+ * 관리자 메시지 전송, 히스토리/읽음 요청마다 CORE-INTERNAL 로 보내던 권한 확인 요청을 (expoId, memberId, loginType) 단위로 캐시한다.
+ * loginType 이 ADMIN_CODE 면 관리자 코드 접근 가능 여부, MEMBER 면 박람회 소유자 여부를 판정한다.
+ * <p>
+ * 조회: L1(노드 로컬 Caffeine) → L2(Redis) → CORE-INTERNAL 순으로 찾는다.
+ * 허용은 allow-ttl, 거부는 더 짧은 deny-ttl 동안 캐시하고, 권한이 바뀌면 evict 로 L1/L2 를 지우고 다른 노드 L1 은 pub/sub 으로 지운다.
+ */
+@Slf4j
+@Component
+public class ExpoAccessDecisionCache implements MessageListener {
+
+    private static final String L1_CACHE_NAME = "chat.access.l1";
+    private static final String ACCESS_KEY_FORMAT = "chat:access:%d:%s:%d";
+    // 박람회별 판정 키 목록. 박람회 단위 삭제 시 키 공간을 훑지 않고 이 목록만 지운다
+    private static final String ACCESS_REGISTRY_KEY_FORMAT = "chat:access:%d:keys";
+    private static final String INVALIDATE_CHANNEL = "chat:access:invalidate";
+    private static final String INVALIDATE_DELIMITER = "|";
+
+    private final ExpoClient expoClient;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final boolean enabled;
+    private final Duration allowTtl;
+    private final Duration denyTtl;
+    private final Cache<AccessKey, Boolean> localCache;
+    private final String nodeId = UUID.randomUUID().toString();
+    // 삭제가 일어날 때마다 증가. 원격 확인 도중 삭제가 끼어들면 그 결과는 캐시하지 않는다
+    private final AtomicLong evictGeneration = new AtomicLong();
+
+    private final Counter l2HitCounter;
+    private final Counter l2MissCounter;
+    private final Timer remoteAllowTimer;
+    private final Timer remoteDenyTimer;
+    private final Counter evictCounter;
+
+    public ExpoAccessDecisionCache(
+            ExpoClient expoClient,
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${chat.access.cache.enabled:true}") boolean enabled,
+            @Value("${chat.access.cache.allow-ttl-seconds:60}") long allowTtlSeconds,
+            @Value("${chat.access.cache.deny-ttl-seconds:10}") long denyTtlSeconds,
+            @Value("${chat.access.cache.l1.max-size:10000}") long localCacheMaxSize
+    ) {
+        this.expoClient = expoClient;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.allowTtl = Duration.ofSeconds(Math.max(allowTtlSeconds, 1));
+        this.denyTtl = Duration.ofSeconds(Math.max(denyTtlSeconds, 1));
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(Math.max(localCacheMaxSize, 1))
+                .expireAfter(new DecisionExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, L1_CACHE_NAME);
+        this.l2HitCounter = Counter.builder("chat.access.cache.l2")
+                .description("접근 권한 판정 L2(Redis) 캐시 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.l2MissCounter = Counter.builder("chat.access.cache.l2")
+                .description("접근 권한 판정 L2(Redis) 캐시 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.remoteAllowTimer = Timer.builder("chat.access.remote")
+                .description("CORE-INTERNAL 접근 권한 확인 소요 시간")
+                .tag("decision", "allow")
+                .register(meterRegistry);
+        this.remoteDenyTimer = Timer.builder("chat.access.remote")
+                .description("CORE-INTERNAL 접근 권한 확인 소요 시간")
+                .tag("decision", "deny")
+                .register(meterRegistry);
+        this.evictCounter = Counter.builder("chat.access.cache.evict")
+                .description("접근 권한 판정 캐시 삭제 요청 수")
+                .register(meterRegistry);
+
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+        }
+    }
+
+    /**
+     * 관리자 코드 계정의 박람회 접근 가능 여부
+     */
+    public boolean isAdminExpoAccessible(Long expoId, Long adminId) {
+        return decide(new AccessKey(expoId, adminId, LoginType.ADMIN_CODE),
+                () -> expoClient.checkAdminExpoAccessible(expoId, adminId));
+    }
+
+    /**
+     * 회원의 박람회 소유자 여부
+     */
+    public boolean isMemberExpoOwner(Long expoId, Long memberId) {
+        return decide(new AccessKey(expoId, memberId, LoginType.MEMBER),
+                () -> expoClient.checkMemberExpoOwner(expoId, memberId));
+    }
+
+    /**
+     * 판정 캐시 삭제 (권한 변경 시)
+     * @param expoId 박람회 ID
+     * @param memberId 사용자 ID (null 이면 박람회 전체)
+     * @param loginType 로그인 타입 (null 이면 모든 로그인 타입)
+     */
+    public void evict(Long expoId, Long memberId, LoginType loginType) {
+        log.debug("[ExpoAccessCache] Evict access decision. expoId={}, memberId={}, loginType={}",
+                expoId, memberId, loginType);
+        evictCounter.increment();
+        evictGeneration.incrementAndGet();
+        evictLocal(expoId, memberId, loginType);
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            String registryKey = String.format(ACCESS_REGISTRY_KEY_FORMAT, expoId);
+            List<String> keys = new ArrayList<>();
+            if (memberId == null) {
+                Set<Object> registeredKeys = redisTemplate.opsForSet().members(registryKey);
+                if (registeredKeys != null) {
+                    registeredKeys.forEach(key -> keys.add(key.toString()));
+                }
+                keys.add(registryKey);
+            } else {
+                for (LoginType type : loginType != null ? List.of(loginType) : List.of(LoginType.values())) {
+                    keys.add(accessKey(new AccessKey(expoId, memberId, type)));
+                }
+            }
+            redisTemplate.unlink(keys);
+
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.join(INVALIDATE_DELIMITER, nodeId,
+                    String.valueOf(expoId), memberId != null ? String.valueOf(memberId) : "",
+                    loginType != null ? loginType.name() : ""));
+            log.debug("[ExpoAccessCache] Success to evict access decision. expoId={}, keyCount={}",
+                    expoId, keys.size());
+
+        } catch (Exception e) {
+            log.warn("[ExpoAccessCache] Fail to evict access decision. expoId={}, memberId={}",
+                    expoId, memberId, e);
+        }
+    }
+
+    /**
+     * 다른 노드에서 보낸 L1 삭제 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (body == null) {
+                return;
+            }
+            String[] parts = body.toString().split("\\" + INVALIDATE_DELIMITER, -1);
+            if (parts.length < 4 || parts[0].equals(nodeId)) {
+                return;
+            }
+            evictGeneration.incrementAndGet();
+
+            evictLocal(Long.valueOf(parts[1]),
+                    parts[2].isEmpty() ? null : Long.valueOf(parts[2]),
+                    parts[3].isEmpty() ? null : LoginType.valueOf(parts[3]));
+            log.trace("[ExpoAccessCache] Receive local cache eviction. payload={}", body);
+
+        } catch (Exception e) {
+            log.warn("[ExpoAccessCache] Fail to handle local cache eviction. error={}", e.getMessage());
+        }
+    }
+
+    private boolean decide(AccessKey key, BooleanSupplier remoteCheck) {
+        if (!enabled) {
+            return remoteCheck.getAsBoolean();
+        }
+
+        Boolean cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        cached = getShared(key);
+        if (cached != null) {
+            l2HitCounter.increment();
+            localCache.put(key, cached);
+            return cached;
+        }
+        l2MissCounter.increment();
+
+        long generation = evictGeneration.get();
+        long startedAt = System.nanoTime();
+        boolean allowed = remoteCheck.getAsBoolean();
+        (allowed ? remoteAllowTimer : remoteDenyTimer).record(Duration.ofNanos(System.nanoTime() - startedAt));
+
+        if (evictGeneration.get() == generation) {
+            localCache.put(key, allowed);
+            putShared(key, allowed);
+        }
+        log.debug("[ExpoAccessCache] Success to check access remotely. expoId={}, memberId={}, loginType={}, "
+                + "allowed={}", key.expoId(), key.memberId(), key.loginType(), allowed);
+        return allowed;
+    }
+
+    private Boolean getShared(AccessKey key) {
+        try {
+            Object value = redisTemplate.opsForValue().get(accessKey(key));
+            return value != null ? Boolean.valueOf(value.toString()) : null;
+        } catch (Exception e) {
+            log.debug("[ExpoAccessCache] Fail to get shared access decision. key={}", key, e);
+            return null;
+        }
+    }
+
+    private void putShared(AccessKey key, boolean allowed) {
+        String accessKey = accessKey(key);
+        String registryKey = String.format(ACCESS_REGISTRY_KEY_FORMAT, key.expoId());
+        Duration ttl = allowed ? allowTtl : denyTtl;
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    ops.opsForValue().set(accessKey, allowed, ttl);
+                    ops.opsForSet().add(registryKey, accessKey);
+                    ops.expire(registryKey, allowTtl);
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.debug("[ExpoAccessCache] Fail to cache shared access decision. key={}", key, e);
+        }
+    }
+
+    private void evictLocal(Long expoId, Long memberId, LoginType loginType) {
+        localCache.asMap().keySet().removeIf(key -> key.expoId().equals(expoId)
+                && (memberId == null || key.memberId().equals(memberId))
+                && (loginType == null || key.loginType() == loginType));
+    }
+
+    private static String accessKey(AccessKey key) {
+        return String.format(ACCESS_KEY_FORMAT, key.expoId(), key.loginType().name(), key.memberId());
+    }
+
+    private record AccessKey(Long expoId, Long memberId, LoginType loginType) {
+    }
+
+    /**
+     * 허용/거부 판정별 TTL (조회 시에는 만료 시각을 늘리지 않는다)
+     */
+    private class DecisionExpiry implements Expiry<AccessKey, Boolean> {
+
+        @Override
+        public long expireAfterCreate(AccessKey key, Boolean allowed, long currentTime) {
+            return (allowed ? allowTtl : denyTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(AccessKey key, Boolean allowed, long currentTime, long currentDuration) {
+            return (allowed ? allowTtl : denyTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(AccessKey key, Boolean allowed, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
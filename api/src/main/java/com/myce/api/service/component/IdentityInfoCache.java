@@ -0,0 +1,132 @@
+package com.myce.api.service.component;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.myce.api.dto.AdminCodeInfo;
+import com.myce.api.dto.MemberInfo;
+import com.myce.api.service.client.ExpoClient;
+import com.myce.api.service.client.MemberClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자 코드/회원 정보 캐시 (refresh-ahead)
+ * 관리자 메시지 전송, AI 응답, 채팅방 생성마다 CORE-INTERNAL 로 보내던 신원 조회 요청을 노드 로컬에 캐시한다.
+ * <p>
+ * refresh-after-write 가 지난 항목은 다음 조회 때 기존 값을 바로 돌려주고 백그라운드에서 다시 불러온다.
+ * 같은 키를 동시에 처음 조회하면 한 요청만 CORE 를 호출하고 나머지는 그 결과를 기다린다.
+ * 조회 결과가 없으면(null) 캐시하지 않으며, 다시 불러오기에 실패하면 기존 값을 expire-after-write 까지 유지한다.
+ */
+@Slf4j
+@Component
+public class IdentityInfoCache {
+
+    private static final String ADMIN_CODE_CACHE_NAME = "chat.identity.admin-code";
+    private static final String MEMBER_CACHE_NAME = "chat.identity.member";
+
+    private final ExpoClient expoClient;
+    private final MemberClient memberClient;
+    private final boolean enabled;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final LoadingCache<Long, AdminCodeInfo> adminCodeCache;
+    private final LoadingCache<Long, MemberInfo> memberCache;
+
+    public IdentityInfoCache(
+            ExpoClient expoClient,
+            MemberClient memberClient,
+            MeterRegistry meterRegistry,
+            @Value("${chat.identity.cache.enabled:true}") boolean enabled,
+            @Value("${chat.identity.cache.refresh-after-write-seconds:300}") long refreshAfterWriteSeconds,
+            @Value("${chat.identity.cache.expire-after-write-seconds:1800}") long expireAfterWriteSeconds,
+            @Value("${chat.identity.cache.max-size:10000}") long maxSize,
+            @Value("${chat.identity.cache.refresh-threads:2}") int refreshThreads
+    ) {
+        this.expoClient = expoClient;
+        this.memberClient = memberClient;
+        this.enabled = enabled;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        int threads = Math.max(refreshThreads, 1);
+        // 다시 불러오기가 밀리면 버린다 (기존 값으로 계속 응답하고 다음 조회 때 다시 시도)
+        this.refreshExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1000),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "identity-refresh-" + threadIndex.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+
+        Duration refreshAfterWrite = Duration.ofSeconds(Math.max(refreshAfterWriteSeconds, 1));
+        Duration expireAfterWrite = Duration.ofSeconds(
+                Math.max(expireAfterWriteSeconds, refreshAfterWrite.getSeconds() + 1));
+        long maximumSize = Math.max(maxSize, 1);
+
+        this.adminCodeCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(refreshAfterWrite)
+                .expireAfterWrite(expireAfterWrite)
+                .executor(refreshExecutor)
+                .recordStats()
+                .build(this::loadAdminCodeInfo);
+        this.memberCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(refreshAfterWrite)
+                .expireAfterWrite(expireAfterWrite)
+                .executor(refreshExecutor)
+                .recordStats()
+                .build(this::loadMemberInfo);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, adminCodeCache, ADMIN_CODE_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, memberCache, MEMBER_CACHE_NAME);
+    }
+
+    /**
+     * 관리자 코드 정보 조회
+     * @throws com.myce.common.exception.CustomException 관리자 정보가 없는 경우 (캐시하지 않음)
+     */
+    public AdminCodeInfo getAdminCodeInfo(Long adminId) {
+        if (!enabled) {
+            return expoClient.getAdminCodeInto(adminId);
+        }
+        return adminCodeCache.get(adminId);
+    }
+
+    /**
+     * 회원 정보 조회
+     * @return 회원 정보 (회원이 없으면 null, 캐시하지 않음)
+     */
+    public MemberInfo getMemberInfo(Long memberId) {
+        if (!enabled) {
+            return memberClient.getMemberInfo(memberId);
+        }
+        return memberCache.get(memberId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private AdminCodeInfo loadAdminCodeInfo(Long adminId) {
+        AdminCodeInfo adminCodeInfo = expoClient.getAdminCodeInto(adminId);
+        log.debug("[IdentityInfoCache] Success to load admin code info. adminId={}", adminId);
+        return adminCodeInfo;
+    }
+
+    private MemberInfo loadMemberInfo(Long memberId) {
+        MemberInfo memberInfo = memberClient.getMemberInfo(memberId);
+        log.debug("[IdentityInfoCache] Success to load member info. memberId={}, found={}",
+                memberId, memberInfo != null);
+        return memberInfo;
+    }
+}
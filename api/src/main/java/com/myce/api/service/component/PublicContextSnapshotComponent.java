@@ -0,0 +1,288 @@
+package com.myce.api.service.component;
+
+import com.myce.api.ai.context.PublicContext;
+import com.myce.api.dto.ExpoInfo;
+import com.myce.api.dto.ExpoInfos;
+import com.myce.api.dto.TicketInfo;
+import com.myce.api.service.client.ExpoClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 프롬프트용 공개 플랫폼 정보 스냅샷
+ * 공개 정보는 모든 사용자에게 같으므로 AI 응답마다 CORE 를 호출해 다시 만들지 않고, 주기적으로 만든 스냅샷을 노드 메모리에 둔다.
+ * <p>
+ * 갱신: 스케줄러가 Redis 에 공유된 스냅샷이 fresh 기간 안이면 그대로 가져오고, 지났으면 임대를 잡은 한 노드만 CORE 를 호출해
+ * 새 스냅샷을 만들어 Redis 에 올린다. CORE 호출이 실패하거나 느려도 기존 스냅샷으로 계속 응답한다 (stale-while-revalidate).
+ * 버전은 렌더링 결과의 CRC32 로, 같은 내용이면 어느 노드에서 만들어도 같은 버전이 된다.
+ */
+@Slf4j
+@Component
+public class PublicContextSnapshotComponent {
+
+    private static final String SNAPSHOT_KEY = "chat:ai:publicContext";
+    private static final String REFRESH_LEASE_KEY = "chat:ai:publicContext:refreshLease";
+    private static final String FIELD_VERSION = "version";
+    private static final String FIELD_AVAILABLE_EXPOS = "availableExpos";
+    private static final String FIELD_REFRESHED_AT = "refreshedAt";
+
+    private static final int RECENT_EXPO_COUNT = 5;
+    private static final String LOCATION_INFO_FORMAT = " • 위치: %s %s";
+    private static final String TICKET_INFO_FORMAT = "  - %s: %,d원 (판매: %s~%s) %s";
+    private static final String PREPARE_TICKET_INFO_MESSAGE = "• %s: 티켓 정보 준비 중";
+    private static final String SOLD_OUT_MESSAGE = "(매진)";
+    private static final String REMAINING_QUANTITY = "(예약가능 - 잔여: %d매)";
+
+    private final ExpoClient expoClient;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final boolean enabled;
+    private final Duration freshTime;
+    private final Duration sharedTtl;
+    private final Duration leaseTime;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Object coldLoadLock = new Object();
+
+    private volatile Snapshot snapshot;
+
+    private final Counter coreCounter;
+    private final Counter sharedCounter;
+    private final Counter failCounter;
+
+    public PublicContextSnapshotComponent(
+            ExpoClient expoClient,
+            RedisTemplate<String, Object> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${chat.ai.public-context.enabled:true}") boolean enabled,
+            @Value("${chat.ai.public-context.fresh-seconds:30}") long freshSeconds,
+            @Value("${chat.ai.public-context.shared-ttl-seconds:600}") long sharedTtlSeconds,
+            @Value("${chat.ai.public-context.lease-ms:5000}") long leaseMillis
+    ) {
+        this.expoClient = expoClient;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.freshTime = Duration.ofSeconds(Math.max(freshSeconds, 1));
+        this.sharedTtl = Duration.ofSeconds(Math.max(sharedTtlSeconds, freshSeconds));
+        this.leaseTime = Duration.ofMillis(Math.max(leaseMillis, 1));
+
+        this.coreCounter = refreshCounter(meterRegistry, "core");
+        this.sharedCounter = refreshCounter(meterRegistry, "shared");
+        this.failCounter = refreshCounter(meterRegistry, "fail");
+        Gauge.builder("chat.ai.public-context.age", this,
+                        component -> component.snapshot != null
+                                ? (System.currentTimeMillis() - component.snapshot.refreshedAt()) / 1000.0 : -1)
+                .description("공개 플랫폼 정보 스냅샷 경과 시간(초)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 공개 플랫폼 정보
+     * 스냅샷이 있으면 오래됐더라도 바로 돌려준다. 노드 기동 직후 한 번만 Redis/CORE 에서 직접 채운다.
+     */
+    public PublicContext current() {
+        if (!enabled) {
+            return build(expoClient.getRecentExpoInfos(RECENT_EXPO_COUNT), System.currentTimeMillis()).context();
+        }
+
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current.context();
+        }
+
+        synchronized (coldLoadLock) {
+            if (snapshot == null) {
+                Snapshot shared = getShared();
+                if (shared != null) {
+                    snapshot = shared;
+                } else {
+                    refreshFromCore();
+                }
+            }
+        }
+        current = snapshot;
+        return current != null ? current.context() : PublicContext.getFailPublicContext();
+    }
+
+    /**
+     * 스냅샷 갱신 (스케줄러에서 호출)
+     * Redis 스냅샷이 fresh 기간 안이면 가져오고, 아니면 임대를 잡은 노드만 CORE 에서 새로 만든다.
+     */
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        Snapshot shared = getShared();
+        if (shared != null && System.currentTimeMillis() - shared.refreshedAt() < freshTime.toMillis()) {
+            adopt(shared);
+            return;
+        }
+
+        if (!tryAcquireLease()) {
+            // 다른 노드가 갱신 중. 이번에는 가져올 수 있는 스냅샷만 반영하고 다음 주기에 다시 가져온다
+            if (shared != null) {
+                adopt(shared);
+            }
+            return;
+        }
+        refreshFromCore();
+    }
+
+    private void refreshFromCore() {
+        ExpoInfos expoInfos;
+        try {
+            expoInfos = expoClient.getRecentExpoInfos(RECENT_EXPO_COUNT);
+        } catch (Exception e) {
+            failCounter.increment();
+            log.warn("[PublicContextSnapshot] Fail to get recent expos. Keep current snapshot. version={}",
+                    snapshot != null ? snapshot.context().version() : null, e);
+            return;
+        }
+        if (expoInfos == null || expoInfos.getExpoInfos() == null) {
+            failCounter.increment();
+            log.warn("[PublicContextSnapshot] Recent expos are empty. Keep current snapshot. version={}",
+                    snapshot != null ? snapshot.context().version() : null);
+            return;
+        }
+
+        Snapshot built = build(expoInfos, System.currentTimeMillis());
+        snapshot = built;
+        putShared(built);
+        coreCounter.increment();
+        log.debug("[PublicContextSnapshot] Success to refresh public context from core. version={}",
+                built.context().version());
+    }
+
+    private void adopt(Snapshot shared) {
+        Snapshot current = snapshot;
+        if (current != null && current.refreshedAt() >= shared.refreshedAt()) {
+            return;
+        }
+        snapshot = shared;
+        sharedCounter.increment();
+        if (current == null || !current.context().version().equals(shared.context().version())) {
+            log.debug("[PublicContextSnapshot] Success to adopt shared public context. version={}",
+                    shared.context().version());
+        }
+    }
+
+    private boolean tryAcquireLease() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REFRESH_LEASE_KEY, nodeId, leaseTime));
+        } catch (Exception e) {
+            // Redis 장애 시에는 노드별로 갱신한다
+            log.debug("[PublicContextSnapshot] Fail to acquire refresh lease. error={}", e.getMessage());
+            return true;
+        }
+    }
+
+    private Snapshot getShared() {
+        try {
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(SNAPSHOT_KEY);
+            Object version = fields.get(FIELD_VERSION);
+            Object availableExpos = fields.get(FIELD_AVAILABLE_EXPOS);
+            Object refreshedAt = fields.get(FIELD_REFRESHED_AT);
+            if (version == null || availableExpos == null || !(refreshedAt instanceof Number refreshedAtMillis)) {
+                return null;
+            }
+            return new Snapshot(PublicContext.getSuccessPublicContext(availableExpos.toString(), version.toString()),
+                    refreshedAtMillis.longValue());
+        } catch (Exception e) {
+            log.debug("[PublicContextSnapshot] Fail to get shared public context. error={}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putShared(Snapshot built) {
+        try {
+            Map<String, Object> fields = Map.of(
+                    FIELD_VERSION, built.context().version(),
+                    FIELD_AVAILABLE_EXPOS, built.context().availableExpos(),
+                    FIELD_REFRESHED_AT, built.refreshedAt());
+            redisTemplate.opsForHash().putAll(SNAPSHOT_KEY, fields);
+            redisTemplate.expire(SNAPSHOT_KEY, sharedTtl);
+        } catch (Exception e) {
+            log.warn("[PublicContextSnapshot] Fail to share public context. version={}",
+                    built.context().version(), e);
+        }
+    }
+
+    private Snapshot build(ExpoInfos expoInfos, long refreshedAt) {
+        if (expoInfos == null || expoInfos.getExpoInfos() == null) {
+            return new Snapshot(PublicContext.getFailPublicContext(), refreshedAt);
+        }
+
+        // 박람회 기본 정보
+        StringBuilder totalExpoInfo = new StringBuilder();
+
+        for (ExpoInfo expoInfo : expoInfos.getExpoInfos()) {
+            String title = expoInfo.getTitle();
+            totalExpoInfo.append(title).append("\n");
+
+            String location = getLocationInfoStr(expoInfo.getLocation(), expoInfo.getLocationDetail());
+            totalExpoInfo.append(location).append("\n");
+
+            List<TicketInfo> ticketInfos = expoInfo.getTicketInfos();
+            if (ticketInfos.isEmpty()) {
+                totalExpoInfo.append(PREPARE_TICKET_INFO_MESSAGE).append("\n");
+            } else {
+                for (TicketInfo ticketInfo : ticketInfos) {
+                    totalExpoInfo.append(getTicketInfoStr(ticketInfo)).append("\n");
+                }
+            }
+
+            totalExpoInfo.append("\n");
+        }
+
+        String availableExpos = totalExpoInfo.toString();
+        return new Snapshot(PublicContext.getSuccessPublicContext(availableExpos, version(availableExpos)),
+                refreshedAt);
+    }
+
+    private String getTicketInfoStr(TicketInfo ticketInfo) {
+        return String.format(
+                TICKET_INFO_FORMAT,
+                ticketInfo.getName(),
+                ticketInfo.getPrice(),
+                ticketInfo.getStartDate(),
+                ticketInfo.getEndDate(),
+                getRemainingStatus(ticketInfo.getRemainingQuantity())
+        );
+    }
+
+    private String getRemainingStatus(int quantity) {
+        if (quantity <= 0) return SOLD_OUT_MESSAGE;
+
+        return String.format(REMAINING_QUANTITY, quantity);
+    }
+
+    private String getLocationInfoStr(String location, String locationDetail) {
+        return String.format(LOCATION_INFO_FORMAT, location, locationDetail);
+    }
+
+    private static String version(String availableExpos) {
+        CRC32 crc = new CRC32();
+        crc.update(availableExpos.getBytes(StandardCharsets.UTF_8));
+        return String.format("%08x", crc.getValue());
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("chat.ai.public-context.refresh")
+                .description("공개 플랫폼 정보 스냅샷 갱신 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Snapshot(PublicContext context, long refreshedAt) {
+    }
+}
@@ -14,7 +14,7 @@ import com.myce.common.exception.CustomException;
 import com.myce.domain.document.ChatMessage;
 import com.myce.domain.document.ChatRoom;
 import com.myce.domain.document.type.ChatRoomState;
-import com.myce.domain.repository.ChatRoomRepository;
+import com.myce.domain.repository.CachedChatRoomRepository;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,7 +26,7 @@ import org.springframework.stereotype.Service;
 public class ButtonUpdateServiceImpl implements ButtonUpdateService {
 
     private final ChatWebSocketBroadcaster broadcaster;
-    private final ChatRoomRepository chatRoomRepository;
+    private final CachedChatRoomRepository chatRoomRepository;
 
     /**
      * 버튼 상태 업데이트 브로드캐스트 (상태 기반)
@@ -0,0 +1,151 @@
+package com.myce.api.service.impl;
+
+import com.myce.api.dto.message.type.TransitionReason;
+import com.myce.api.dto.response.ChatCatchUpResponse;
+import com.myce.api.dto.response.ChatCatchUpResponse.RoomCatchUp;
+import com.myce.api.dto.response.ChatMessageResponse;
+import com.myce.api.mapper.ChatMessageMapper;
+import com.myce.api.service.ChatCatchUpService;
+import com.myce.api.service.ChatMessageService;
+import com.myce.api.service.ChatUnreadService;
+import com.myce.api.util.ChatRoomStateSupporter;
+import com.myce.api.util.RoomCodeSupporter;
+import com.myce.common.exception.CustomException;
+import com.myce.common.type.LoginType;
+import com.myce.common.type.Role;
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.dto.MessageCursorPage;
+import com.myce.domain.repository.CachedChatRoomRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 재연결 후 따라잡기 서비스 구현체
+ * 재연결할 때마다 첫 페이지와 채팅방 목록을 다시 불러오는 대신, 마지막으로 받은 seq 이후 변경분만 한 번에 돌려준다.
+ * 메시지는 히스토리 캐시(Redis)에서 먼저 찾고, 캐시 하한보다 오래된 구간만 MongoDB 에서 조회한다.
+ */
+@Slf4j
+@Service
+public class ChatCatchUpServiceImpl implements ChatCatchUpService {
+
+    private final ChatMessageService chatMessageService;
+    private final ChatUnreadService unreadService;
+    private final CachedChatRoomRepository chatRoomRepository;
+    private final ChatRoomAccessCheckService accessCheckService;
+
+    // 다음 구간 확인용 1개를 더 읽으므로 한 번에 읽는 최대 개수(1000)보다 작게 제한
+    private static final int MAX_MESSAGES_PER_ROOM = 500;
+
+    private final int maxRooms;
+    private final int maxMessagesPerRoom;
+
+    public ChatCatchUpServiceImpl(
+            ChatMessageService chatMessageService,
+            ChatUnreadService unreadService,
+            CachedChatRoomRepository chatRoomRepository,
+            ChatRoomAccessCheckService accessCheckService,
+            @Value("${chat.catch-up.max-rooms:50}") int maxRooms,
+            @Value("${chat.catch-up.max-messages-per-room:200}") int maxMessagesPerRoom
+    ) {
+        this.chatMessageService = chatMessageService;
+        this.unreadService = unreadService;
+        this.chatRoomRepository = chatRoomRepository;
+        this.accessCheckService = accessCheckService;
+        this.maxRooms = Math.max(maxRooms, 1);
+        this.maxMessagesPerRoom = Math.max(1, Math.min(maxMessagesPerRoom, MAX_MESSAGES_PER_ROOM));
+    }
+
+    @Override
+    public ChatCatchUpResponse catchUp(Map<String, Long> lastSeqs, Long memberId, Role role, LoginType loginType) {
+        ChatCatchUpResponse response = new ChatCatchUpResponse();
+        if (lastSeqs == null || lastSeqs.isEmpty()) {
+            return response;
+        }
+
+        // 1. 접근 가능한 채팅방만 추림 (요청 채팅방 수 제한)
+        List<ChatRoom> chatRooms = new ArrayList<>();
+        for (String roomCode : lastSeqs.keySet()) {
+            if (chatRooms.size() >= maxRooms) {
+                log.debug("[ChatCatchUp] Too many rooms requested. memberId={}, requested={}, max={}",
+                        memberId, lastSeqs.size(), maxRooms);
+                break;
+            }
+            ChatRoom chatRoom = findAccessibleRoom(roomCode, memberId, role);
+            if (chatRoom != null) {
+                chatRooms.add(chatRoom);
+            }
+        }
+
+        // 2. 미읽음 수는 채팅방 목록과 같은 기준으로 한 번에 계산
+        Map<String, Long> unreadCounts = unreadService.getUnreadCounts(chatRooms, memberId, role, loginType);
+
+        // 3. 채팅방별 이후 메시지와 상태
+        int messageCount = 0;
+        for (ChatRoom chatRoom : chatRooms) {
+            String roomCode = chatRoom.getRoomCode();
+            RoomCatchUp roomCatchUp = catchUpRoom(chatRoom, lastSeqs.get(roomCode),
+                    unreadCounts.getOrDefault(roomCode, 0L));
+            messageCount += roomCatchUp.getMessages().size();
+            response.addRoom(roomCatchUp);
+        }
+
+        log.debug("[ChatCatchUp] Success to catch up rooms. memberId={}, roomCount={}, messageCount={}",
+                memberId, response.getRooms().size(), messageCount);
+        return response;
+    }
+
+    private ChatRoom findAccessibleRoom(String roomCode, Long memberId, Role role) {
+        ChatRoom chatRoom = chatRoomRepository.findByRoomCode(roomCode).orElse(null);
+        if (chatRoom == null) {
+            log.debug("[ChatCatchUp] Skip not existing room. roomCode={}", roomCode);
+            return null;
+        }
+
+        try {
+            accessCheckService.validateAccess(RoomCodeSupporter.isPlatformRoom(roomCode),
+                    chatRoom.getMemberId(), chatRoom.getExpoId(), memberId, role);
+            return chatRoom;
+        } catch (CustomException e) {
+            log.debug("[ChatCatchUp] Skip not accessible room. roomCode={}, memberId={}", roomCode, memberId);
+            return null;
+        }
+    }
+
+    private RoomCatchUp catchUpRoom(ChatRoom chatRoom, Long lastSeq, Long unreadCount) {
+        String roomCode = chatRoom.getRoomCode();
+        List<ChatMessage> messages;
+        boolean hasMore;
+        if (lastSeq == null) {
+            // 받은 메시지가 없으면 최신 메시지부터 (오름차순으로 뒤집어 응답)
+            MessageCursorPage messagePage = chatMessageService.getMessagePageBySeq(roomCode, null, maxMessagesPerRoom);
+            messages = new ArrayList<>(messagePage.messages());
+            Collections.reverse(messages);
+            hasMore = messagePage.hasMore();
+        } else {
+            List<ChatMessage> window = chatMessageService.getMessagesAfter(roomCode, lastSeq, maxMessagesPerRoom + 1);
+            hasMore = window.size() > maxMessagesPerRoom;
+            messages = hasMore ? window.subList(0, maxMessagesPerRoom) : window;
+        }
+
+        Map<String, Long> readStatus = chatRoom.getReadStatus();
+        List<ChatMessageResponse> messageResponses = messages.stream()
+                .map(chatMessage -> ChatMessageMapper.toResponse(
+                        chatMessage, unreadService.resolveUnreadCount(chatMessage, readStatus)))
+                .toList();
+
+        return new RoomCatchUp(
+                roomCode,
+                messageResponses,
+                hasMore,
+                ChatRoomStateSupporter.createRoomStateInfo(chatRoom, TransitionReason.MESSAGE_FLOW),
+                readStatus,
+                unreadCount
+        );
+    }
+}
@@ -12,6 +12,8 @@ import com.myce.api.service.ChatMessageService;
 import com.myce.api.service.ChatUnreadService;
 import com.myce.api.service.ChatWebSocketBroadcaster;
 import com.myce.api.service.ai.AIChatGenerateService;
+import com.myce.api.service.component.ChatAiResponseExecutor;
+import com.myce.api.service.component.ChatFanoutExecutor;
 import com.myce.api.util.RoomCodeSupporter;
 import com.myce.common.exception.CustomErrorCode;
 import com.myce.common.exception.CustomException;
@@ -20,10 +22,9 @@ import com.myce.domain.document.ChatMessage;
 import com.myce.domain.document.ChatRoom;
 import com.myce.domain.document.type.ChatRoomState;
 import com.myce.domain.document.type.MessageSenderType;
-import com.myce.domain.repository.ChatMessageCacheRepository;
-import com.myce.domain.repository.ChatMessageRepository;
-import com.myce.domain.repository.ChatRoomCacheRepository;
-import com.myce.domain.repository.ChatRoomRepository;
+import com.myce.domain.repository.CachedChatRoomRepository;
+import com.myce.domain.repository.ChatMessageStore;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -41,11 +42,11 @@ public class ChatMessageHandlerServiceImpl implements ChatMessageHandlerService
     private final AIChatGenerateService chatGenerateService;
     private final ChatUnreadService chatUnreadService;
     private final ChatWebSocketBroadcaster broadcaster;
-    private final ChatRoomRepository chatRoomRepository;
-    private final ChatRoomCacheRepository chatCacheRepository;
+    private final CachedChatRoomRepository chatRoomRepository;
     private final ChatMessageService chatMessageService;
-    private final ChatMessageRepository chatMessageRepository;
-    private final ChatMessageCacheRepository chatMessageCacheRepository;
+    private final ChatMessageStore chatMessageStore;
+    private final ChatAiResponseExecutor aiResponseExecutor;
+    private final ChatFanoutExecutor fanoutExecutor;
     /**
      * 사용자 메시지 플로우 처리
      * 메시지 수신 후 자동 읽음, AI 응답, 미읽음 카운트 업데이트 등을 처리합니다.
@@ -62,7 +63,7 @@ public class ChatMessageHandlerServiceImpl implements ChatMessageHandlerService
             handleAutoReadLogic(chatRoom, memberId, chatMessage); // 자동 읽음 처리
             handleAIResponse(chatRoom, chatMessage.getContent()); // AI 응답 처리
         } else {
-            handleUnreadCountUpdate(roomCode); // 미읽음 카운트 업데이트
+            handleUnreadCountUpdate(chatRoom); // 미읽음 카운트 업데이트
         }
     }
 
@@ -76,8 +77,10 @@ public class ChatMessageHandlerServiceImpl implements ChatMessageHandlerService
         chatMessage.decreaseUnreadCount();
         MessageReaderType reader = MessageReaderType.AI;
         chatRoom.updateReadStatus(reader.name(), messageSeq);
-        chatRoomRepository.save(chatRoom);
-        chatMessageRepository.updateUnreadCountEqualSeq(roomCode, chatMessage.getId());
+        chatRoomRepository.updateReadStatus(roomCode, reader.name(), messageSeq);
+        if (chatUnreadService.isStoredUnreadMode()) {
+            chatMessageStore.decreaseUnreadCount(roomCode, chatMessage.getId());
+        }
         broadcaster.broadcastReadStatusUpdate(roomCode, messageSeq, memberId, reader);
 
         log.info("[ChatMessageHandler] Success to auto read logic. memberId={}, messageSeq={}, roomCode={}",
@@ -89,13 +92,9 @@ public class ChatMessageHandlerServiceImpl implements ChatMessageHandlerService
      * 박람회 채팅에서 관리자의 미읽음 메시지 수를 업데이트하고 브로드캐스트합니다.
      */
     @Override
-    public void handleUnreadCountUpdate(String roomCode) {
+    public void handleUnreadCountUpdate(ChatRoom chatRoom) {
+        String roomCode = chatRoom.getRoomCode();
         if (RoomCodeSupporter.isPlatformRoom(roomCode)) {
-            ChatRoom chatRoom = chatRoomRepository.findByRoomCode(roomCode).orElse(null);
-            if (chatRoom == null) {
-                return;
-            }
-
             Long unreadCount = chatUnreadService
                     .getUnreadCount(roomCode, chatRoom.getReadStatus(), 0L, Role.PLATFORM_ADMIN, null);
             broadcaster.broadcastUnreadCountUpdate(roomCode, MessageReaderType.ADMIN, unreadCount);
@@ -103,7 +102,6 @@ public class ChatMessageHandlerServiceImpl implements ChatMessageHandlerService
                     roomCode, unreadCount);
         } else {
             Long expoId = RoomCodeSupporter.extractExpoIdFromAdminRoomCode(roomCode);
-            ChatRoom chatRoom = chatRoomRepository.findByRoomCode(roomCode).orElse(null);
 
             // 관리자가 마지막으로 읽은 메시지 이후의 USER 메시지만 계산
             Long unreadCount = chatUnreadService
@@ -151,8 +149,7 @@ public class ChatMessageHandlerServiceImpl implements ChatMessageHandlerService
             case ADMIN_ACTIVE -> {
                 // 관리자 이미 활성 - 활동 시간만 업데이트
                 chatRoom.updateAdminActivity();
-                ChatRoom savedRoom = chatRoomRepository.save(chatRoom);
-                chatCacheRepository.cacheChatRoom(roomCode, savedRoom);
+                chatRoomRepository.save(chatRoom);
                 log.debug("관리자 활동 시간 업데이트 - roomCode: {}, state: {}", roomCode, currentState);
             }
 
@@ -180,22 +177,46 @@ public class ChatMessageHandlerServiceImpl implements ChatMessageHandlerService
 
     /**
      * AI 응답 처리 (내부용)
+     * LLM 호출은 AI 응답 실행기에서 하고, 저장/전송은 채팅방 실행기로 다시 넘겨 채팅방 순서대로 처리한다.
+     * AI 응답 실행기가 가득 차 생성하지 못하면 사용자가 답을 기다리지 않도록 안내 메시지를 대신 보낸다.
      */
     private void handleAIResponse(ChatRoom chatRoom, String content) {
         String roomCode = chatRoom.getRoomCode();
         ChatRoomState currentState = chatRoom.getCurrentState();
 
         log.debug("[ChatMessageHandler] Handle ai response. roomCode={}, state={}", roomCode, currentState);
-        ChatMessage chatMessage = getNewAiMessageForMember(roomCode, content);
-        chatMessageCacheRepository.addMessageToCache(roomCode, chatMessage);
+        boolean accepted = aiResponseExecutor.execute(roomCode, () -> {
+            String aiResponse = chatGenerateService.generateAIResponse(content, roomCode);
+            executePublishAIResponse(chatRoom, aiResponse);
+        });
+        if (!accepted) {
+            log.warn("[ChatMessageHandler] Ai response executor is full, send busy message. roomCode={}", roomCode);
+            executePublishAIResponse(chatRoom, SystemMessage.AI_BUSY_MESSAGE);
+        }
+    }
+
+    private void executePublishAIResponse(ChatRoom chatRoom, String aiResponse) {
+        String roomCode = chatRoom.getRoomCode();
+        try {
+            fanoutExecutor.execute(roomCode, () -> publishAIResponse(chatRoom, aiResponse));
+        } catch (RejectedExecutionException e) {
+            log.warn("[ChatMessageHandler] Fail to publish ai response, fanout queue is full. roomCode={}",
+                    roomCode, e);
+        }
+    }
+
+    private void publishAIResponse(ChatRoom chatRoom, String aiResponse) {
+        String roomCode = chatRoom.getRoomCode();
+        ChatMessage chatMessage = chatMessageService.saveAIChatMessage(roomCode, aiResponse);
 
         String messageId = chatMessage.getId();
         Long messageSeq = chatMessage.getSeq();
-        chatRoom.updateLastMessageInfo(messageId, chatMessage.getContent());
+        chatRoomRepository.updateLastMessage(roomCode, messageId, chatMessage.getContent(), chatMessage.getSentAt());
+        chatRoom.updateLastMessageInfo(messageId, chatMessage.getContent(), chatMessage.getSentAt());
 
         // AI가 사용자 메시지를 "읽음" 처리
         chatRoom.updateReadStatus(MessageReaderType.AI.name(), messageSeq);
-        chatRoomRepository.save(chatRoom);
+        chatRoomRepository.updateReadStatus(roomCode, MessageReaderType.AI.name(), messageSeq);
         log.debug("[ChatMessageHandler] Update read state to AI. roomCode={}, messageSeq={}", roomCode, messageSeq);
 
         // 읽음 상태 업데이트 브로드캐스트
@@ -226,9 +247,4 @@ public class ChatMessageHandlerServiceImpl implements ChatMessageHandlerService
                 (currentRoomStatus.equals(ChatRoomState.AI_ACTIVE) || currentRoomStatus.equals(ChatRoomState.WAITING_FOR_ADMIN));
     }
 
-    private ChatMessage getNewAiMessageForMember(String roomCode, String userMessage) {
-        String aiResponse = chatGenerateService.generateAIResponse(userMessage, roomCode);
-        return chatMessageService.saveAIChatMessage(roomCode, aiResponse);
-    }
-
 }
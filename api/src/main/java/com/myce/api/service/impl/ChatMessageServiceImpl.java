@@ -1,10 +1,14 @@
 package com.myce.api.service.impl;
 
+import com.myce.api.dto.response.ChatMessageCursorResponse;
 import com.myce.api.dto.response.ChatMessageResponse;
 import com.myce.api.mapper.ChatMessageMapper;
 import com.myce.api.service.ChatMessageService;
 import com.myce.api.service.ChatUnreadService;
 import com.myce.api.service.component.ChatMessageCreateComponent;
+import com.myce.api.service.component.ChatMessageRecentFillComponent;
+import com.myce.api.service.component.ChatMessageViewComponent;
+import com.myce.api.util.ChatCacheKeySupporter;
 import com.myce.api.util.RoomCodeSupporter;
 import com.myce.common.dto.PageResponse;
 import com.myce.common.exception.CustomErrorCode;
@@ -14,13 +18,18 @@ import com.myce.common.type.Role;
 import com.myce.domain.document.ChatMessage;
 import com.myce.domain.document.ChatRoom;
 import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.dto.MessageCacheCommitResult;
+import com.myce.domain.dto.MessageCursorPage;
+import com.myce.domain.dto.MessageHistoryWindow;
 import com.myce.domain.repository.ChatMessageCacheRepository;
-import com.myce.domain.repository.ChatMessageRepository;
-import com.myce.domain.repository.ChatRoomRepository;
+import com.myce.domain.repository.ChatMessageStore;
+import com.myce.domain.repository.ChatMessageWriteBuffer;
+import com.myce.domain.repository.CachedChatRoomRepository;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -37,26 +46,36 @@ import org.springframework.stereotype.Service;
 public class ChatMessageServiceImpl implements ChatMessageService {
 
     private final ChatUnreadService unreadService;
-    private final ChatRoomRepository chatRoomRepository;
-    private final ChatMessageRepository chatMessageRepository;
+    private final CachedChatRoomRepository chatRoomRepository;
+    private final ChatMessageStore chatMessageStore;
     private final ChatRoomAccessCheckService accessCheckService;
     private final ChatMessageCacheRepository chatMessageCacheRepository;
     private final ChatMessageCreateComponent chatMessageCreateComponent;
+    private final ChatMessageWriteBuffer chatMessageWriteBuffer;
+    private final ChatMessageViewComponent chatMessageViewComponent;
+    private final ChatMessageRecentFillComponent chatMessageRecentFillComponent;
 
     private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_CACHED_PAGE_SIZE = 50;
+
+    /**
+     * 첫 페이지를 미리 렌더링한 응답 조각 캐시로 응답할지 여부
+     */
+    @Value("${chat.message.recent-view.enabled:false}")
+    private boolean recentViewEnabled;
 
     @Override
     public ChatMessage saveAIChatMessage(String roomCode, String content) {
         ChatMessage chatMessage = chatMessageCreateComponent
                 .createAIMessage(roomCode, content);
-        return chatMessageRepository.save(chatMessage);
+        return commitWithoutSender(insertMessage(chatMessage));
     }
 
     @Override
     public ChatMessage saveSystemChatMessage(String roomCode, String content) {
         ChatMessage chatMessage = chatMessageCreateComponent
                 .createSystemMessage(roomCode, content);
-        return chatMessageRepository.save(chatMessage);
+        return commitWithoutSender(insertMessage(chatMessage));
     }
 
     @Override
@@ -66,19 +85,62 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 
         ChatMessage chatMessage = chatMessageCreateComponent
                 .createMessage(roomCode, senderType, senderId, senderName, content);
-        return chatMessageRepository.save(chatMessage);
+        return insertMessage(chatMessage);
     }
 
     @Override
     public List<ChatMessage> getRecentMessages(String roomCode) {
-        return chatMessageRepository
-                .findTop50ByRoomCodeOrderBySentAtDesc(roomCode);
+        return chatMessageStore
+                .findRecentMessages(roomCode);
     }
 
     @Override
     public ChatMessage getRecentMessage(String roomCode) {
-        return chatMessageRepository
-                .findTop1ByRoomCodeOrderBySentAtDesc(roomCode).orElse(null);
+        return chatMessageStore
+                .findLatestMessage(roomCode).orElse(null);
+    }
+
+    /**
+     * seq 이전 메시지 구간 조회
+     * 히스토리 캐시로 채우지 못하면 MongoDB 에서 조회하고, 캐시 하한 바로 아래까지 이어진 구간이면 캐시를 확장한다.
+     */
+    @Override
+    public List<ChatMessage> getMessagesBefore(String roomCode, Long beforeSeq, int limit) {
+        int windowSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        MessageHistoryWindow window = chatMessageCacheRepository.getHistoryBefore(roomCode, beforeSeq, windowSize);
+        if (window != null && window.complete()) {
+            return window.messages();
+        }
+
+        log.debug("[ChatMessage] History cache miss for messages before seq. roomCode={}, beforeSeq={}",
+                roomCode, beforeSeq);
+        List<ChatMessage> chatMessages = chatMessageStore.findBefore(roomCode, beforeSeq, windowSize);
+
+        // 캐시가 없으면 최신 구간일 때만 새로 채우고, 있으면 하한 이상에서 시작한 구간일 때만 이어 붙인다
+        Long floorSeq = window != null ? window.floorSeq() : null;
+        boolean contiguous = floorSeq == null ? beforeSeq == null : beforeSeq == null || beforeSeq >= floorSeq;
+        if (window != null && contiguous) {
+            chatMessageCacheRepository.extendHistory(roomCode, floorSeq, chatMessages,
+                    chatMessages.size() < windowSize);
+        }
+        return chatMessages;
+    }
+
+    /**
+     * seq 이후 메시지 구간 조회
+     * 히스토리 캐시 하한보다 오래된 seq 부터 조회하면 MongoDB 에서 조회한다.
+     */
+    @Override
+    public List<ChatMessage> getMessagesAfter(String roomCode, Long afterSeq, int limit) {
+        int windowSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        MessageHistoryWindow window = chatMessageCacheRepository.getHistoryAfter(roomCode, afterSeq, windowSize);
+        if (window != null && window.complete()) {
+            return window.messages();
+        }
+
+        log.debug("[ChatMessage] History cache miss for messages after seq. roomCode={}, afterSeq={}",
+                roomCode, afterSeq);
+        return chatMessageStore.findAfter(roomCode, afterSeq, windowSize);
     }
 
     @Override
@@ -98,19 +160,12 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         long totalElements = size;
         int totalPage = 1;
         // Redis 캐시 확인
-        if (page == 0 && size <= 50) {
+        if (page == 0 && size <= MAX_CACHED_PAGE_SIZE) {
             chatMessages = chatMessageCacheRepository.getCachedRecentMessages(roomCode, size);
             if (chatMessages != null && !chatMessages.isEmpty()) {
                 if (chatMessages.size() < size) {
                     // 캐시가 부족하면 DB에서 다시 조회 (스크롤/hasMore 오류 방지)
                     chatMessages = null;
-                } else {
-                    Map<String, Long> readStatus = chatRoom.getReadStatus();
-                    for (ChatMessage chatMessage : chatMessages) {
-                        if (chatMessage.getUnreadCount() > 0 && unreadService.isReadMessage(chatMessage, readStatus)) {
-                            chatMessage.decreaseUnreadCount();
-                        }
-                    }
                 }
             }
         }
@@ -119,14 +174,12 @@ public class ChatMessageServiceImpl implements ChatMessageService {
             // 캐시 미스 또는 첫 페이지가 아닌 경우 - MongoDB 조회
             log.debug("[ChatMessage] Cache miss or not first page for get message. roomCode={}", roomCode);
             Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE));
-            Page<ChatMessage> messagePage = chatMessageRepository.findByRoomCodeOrderBySentAtDesc(roomCode, pageable);
+            // 첫 페이지는 동시 요청을 한 번의 MongoDB 조회로 묶고, 조회한 요청이 최근 메시지 캐시를 채운다
+            Page<ChatMessage> messagePage = pageable.getPageNumber() == 0
+                    ? chatMessageRecentFillComponent.loadFirstPage(roomCode, pageable, size <= MAX_CACHED_PAGE_SIZE)
+                    : chatMessageStore.findPage(roomCode, pageable);
 
             chatMessages = messagePage.getContent();
-            if (pageable.getPageNumber() == 0 && !messagePage.getContent().isEmpty()) {
-                chatMessageCacheRepository.cacheRecentMessages(roomCode, messagePage.getContent());
-                log.debug("[ChatMessage] Cached messages. roomCode={}, size={}",
-                        roomCode, messagePage.getContent().size());
-            }
 
             pageNumber = messagePage.getNumber();
             pageSize = messagePage.getSize();
@@ -134,8 +187,17 @@ public class ChatMessageServiceImpl implements ChatMessageService {
             totalPage = messagePage.getTotalPages();
         }
 
+        if (recentViewEnabled && page == 0 && size <= MAX_CACHED_PAGE_SIZE && chatMessages.size() == size) {
+            // 다음 첫 페이지 조회부터는 응답 조각으로 바로 응답
+            chatMessageCacheRepository.cacheRecentMessageViews(
+                    roomCode, chatMessages.get(0), chatMessageViewComponent.render(chatMessages));
+        }
+
+        // unreadCount 는 읽음 상태 기준으로 계산 (캐시/미차감 메시지 보정)
+        Map<String, Long> readStatus = chatRoom.getReadStatus();
         List<ChatMessageResponse> chatMessageResponse = chatMessages.stream()
-            .map(ChatMessageMapper::toResponse)
+            .map(chatMessage -> ChatMessageMapper.toResponse(
+                    chatMessage, unreadService.resolveUnreadCount(chatMessage, readStatus)))
             .toList();
 
         log.debug("[ChatMessage] Success to get message. roomCode: {}, messageCount: {}, totalMessageCount: {}",
@@ -151,6 +213,79 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         );
     }
 
+    /**
+     * seq 커서 기반 메시지 히스토리 조회
+     * skip 없이 {roomCode: 1, seq: -1} 인덱스 구간만 읽고, 전체 개수 대신 다음 구간 존재 여부만 돌려준다.
+     */
+    @Override
+    public ChatMessageCursorResponse getMessagesBySeqCursor(
+            String roomCode, Long before, int limit, Long memberId, Role role) {
+        log.debug("[ChatMessage] get message by seq cursor. roomCode={}, before={}, limit={}, memberId={}, role={}",
+                roomCode, before, limit, memberId, role);
+        boolean isPlatformRoom = RoomCodeSupporter.isPlatformRoom(roomCode);
+
+        ChatRoom chatRoom = chatRoomRepository.findByRoomCode(roomCode)
+                .orElseThrow(() -> new CustomException(CustomErrorCode.EXPO_NOT_EXIST));
+        accessCheckService.validateAccess(isPlatformRoom, chatRoom.getMemberId(), chatRoom.getExpoId(), memberId, role);
+
+        MessageCursorPage messagePage = getMessagePageBySeq(roomCode, before, limit);
+
+        Map<String, Long> readStatus = chatRoom.getReadStatus();
+        List<ChatMessageResponse> chatMessageResponse = messagePage.messages().stream()
+                .map(chatMessage -> ChatMessageMapper.toResponse(
+                        chatMessage, unreadService.resolveUnreadCount(chatMessage, readStatus)))
+                .toList();
+
+        log.debug("[ChatMessage] Success to get message by seq cursor. roomCode={}, messageCount={}, hasMore={}",
+                roomCode, chatMessageResponse.size(), messagePage.hasMore());
+        return new ChatMessageCursorResponse(chatMessageResponse, messagePage.hasMore(), messagePage.nextBefore());
+    }
+
+    /**
+     * seq 커서 기반 메시지 조회
+     * limit 보다 1개 더 읽어 다음 구간이 남아 있는지 확인한다.
+     */
+    @Override
+    public MessageCursorPage getMessagePageBySeq(String roomCode, Long before, int limit) {
+        // 다음 구간 확인용 1개를 더 읽어도 한 번에 읽는 최대 개수를 넘지 않도록 제한
+        int cursorLimit = Math.max(1, Math.min(limit, MAX_PAGE_SIZE - 1));
+        List<ChatMessage> window = getMessagesBefore(roomCode, before, cursorLimit + 1);
+        boolean hasMore = window.size() > cursorLimit;
+        return new MessageCursorPage(hasMore ? window.subList(0, cursorLimit) : window, hasMore);
+    }
+
+    /**
+     * 첫 페이지 메시지를 응답 조각으로 조회
+     * 조각에는 메시지 응답 JSON 이 unreadCount 직전까지 렌더링되어 있어, 역직렬화/매핑/직렬화 없이
+     * 읽음 상태로 보정한 unreadCount 만 붙여 이어 붙인다. 페이지 정보는 캐시 경로의 getMessages 와 같다.
+     */
+    @Override
+    public byte[] getRecentMessagesView(String roomCode, int size, Long memberId, Role role) {
+        if (!recentViewEnabled || size <= 0 || size > MAX_CACHED_PAGE_SIZE) {
+            return null;
+        }
+
+        boolean isPlatformRoom = RoomCodeSupporter.isPlatformRoom(roomCode);
+        ChatRoom chatRoom = chatRoomRepository.findByRoomCode(roomCode)
+                .orElseThrow(() -> new CustomException(CustomErrorCode.EXPO_NOT_EXIST));
+        accessCheckService.validateAccess(isPlatformRoom, chatRoom.getMemberId(), chatRoom.getExpoId(), memberId, role);
+
+        List<byte[]> views = chatMessageCacheRepository.getRecentMessageViews(roomCode, size);
+        if (views.size() < size) {
+            return null;
+        }
+
+        try {
+            byte[] body = chatMessageViewComponent.writePage(roomCode, views, chatRoom.getReadStatus(),
+                    1, size, size, 1);
+            log.debug("[ChatMessage] Success to get message views. roomCode={}, size={}", roomCode, size);
+            return body;
+        } catch (Exception e) {
+            log.warn("[ChatMessage] Fail to write message views, fallback to messages. roomCode={}", roomCode, e);
+            return null;
+        }
+    }
+
     /**
      * 읽지 않은 메시지 수 조회
      */
@@ -165,4 +300,26 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 
         return unreadService.getUnreadCount(roomCode, chatRoom.getReadStatus(), memberId, role, loginType);
     }
+
+    /**
+     * 회원 발신자가 없는 메시지(AI/시스템)의 Redis 부가 작업 처리
+     * 사용자 메시지와 같이 최근 메시지 캐시에 넣고 수신자 미읽음/배지 카운터를 올려,
+     * Redis 카운터가 MongoDB 미읽음 계산(ChatMessageTypeUtil.getReadableSenderTypes)과 어긋나지 않게 한다.
+     */
+    private ChatMessage commitWithoutSender(ChatMessage chatMessage) {
+        String roomCode = chatMessage.getRoomCode();
+        Long receiverId = ChatCacheKeySupporter.resolveReceiverCacheMemberId(roomCode, chatMessage.getSenderType());
+        MessageCacheCommitResult commitResult =
+                chatMessageCacheRepository.commitMessage(roomCode, chatMessage, null, receiverId);
+        log.debug("[ChatMessage] Committed message cache. roomCode={}, senderType={}, receiverId={}, unreadCount={}",
+                roomCode, chatMessage.getSenderType(), receiverId, commitResult.unreadCount());
+        return chatMessage;
+    }
+
+    /**
+     * 쓰기 버퍼를 통해 저장하고 저장 완료까지 대기 (대기 시간은 chat.message.write-behind.await-timeout-ms 로 제한)
+     */
+    private ChatMessage insertMessage(ChatMessage chatMessage) {
+        return chatMessageWriteBuffer.insertAndAwait(chatMessage);
+    }
 }
@@ -5,6 +5,7 @@ import com.myce.api.dto.message.WebSocketBaseMessage;
 import com.myce.api.dto.message.type.BroadcastType;
 import com.myce.api.dto.message.type.MessageReaderType;
 import com.myce.api.service.ChatReadStatusService;
+import com.myce.api.service.ChatUnreadService;
 import com.myce.api.service.ChatWebSocketBroadcaster;
 import com.myce.api.util.ChatCacheKeySupporter;
 import com.myce.api.util.ChatMessageTypeUtil;
@@ -16,10 +17,8 @@ import com.myce.common.type.Role;
 import com.myce.domain.document.ChatRoom;
 import com.myce.domain.document.type.MessageSenderType;
 import com.myce.domain.repository.ChatMessageCacheRepository;
-import com.myce.domain.repository.ChatMessageRepository;
-import com.myce.domain.repository.ChatRoomCacheRepository;
-import com.myce.domain.repository.ChatRoomRepository;
-import java.util.List;
+import com.myce.domain.repository.CachedChatRoomRepository;
+import com.myce.domain.repository.ChatMessageStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,12 +29,12 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ChatReadStatusServiceImpl implements ChatReadStatusService {
 
-    private final ChatRoomRepository chatRoomRepository;
+    private final CachedChatRoomRepository chatRoomRepository;
     private final ChatRoomAccessCheckService accessCheckService;
     private final ChatWebSocketBroadcaster webSocketBroadcaster;
-    private final ChatRoomCacheRepository chatRoomCacheRepository;
     private final ChatMessageCacheRepository chatMessageCacheRepository;
-    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageStore chatMessageStore;
+    private final ChatUnreadService chatUnreadService;
 
     @Override
     public void updateChatReadStatus(String roomCode, MessageReaderType readerType) {
@@ -130,15 +129,15 @@ public class ChatReadStatusServiceImpl implements ChatReadStatusService {
     }
 
     private void resetAndRecalculateBadgeCount(String roomCode, Long memberId) {
-        chatMessageCacheRepository.resetUnreadCount(roomCode, memberId);
-        List<String> activeRooms = chatRoomCacheRepository.getUserActiveRooms(memberId);
-        chatMessageCacheRepository.recalculateBadgeCount(activeRooms, memberId);
+        chatMessageCacheRepository.resetUnreadCountAndRecalculateBadge(roomCode, memberId);
     }
 
     private void decreaseUnreadCount(String roomCode, MessageSenderType readerSenderType, Long lastReadSeq) {
         if (readerSenderType == null) return;
+        // derived 모드에서는 조회 시점에 readStatus 로 계산하므로 메시지를 갱신하지 않음
+        if (!chatUnreadService.isStoredUnreadMode()) return;
 
-        chatMessageRepository.decreaseUnreadCountBeforeSeq(roomCode, readerSenderType, lastReadSeq);
+        chatMessageStore.decreaseUnreadCountBeforeSeq(roomCode, readerSenderType, lastReadSeq);
     }
 
 }
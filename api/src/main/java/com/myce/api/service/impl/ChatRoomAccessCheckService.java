@@ -1,6 +1,6 @@
 package com.myce.api.service.impl;
 
-import com.myce.api.service.client.ExpoClient;
+import com.myce.api.service.component.ExpoAccessDecisionCache;
 import com.myce.common.exception.CustomErrorCode;
 import com.myce.common.exception.CustomException;
 import com.myce.common.type.LoginType;
@@ -14,7 +14,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ChatRoomAccessCheckService {
 
-    private final ExpoClient expoClient;
+    private final ExpoAccessDecisionCache expoAccessDecisionCache;
 
     public boolean isValidAccess(LoginType loginType, Long expoId, Long memberId, Long participantId, Role role) {
         if (LoginType.ADMIN_CODE.equals(loginType)) {
@@ -27,7 +27,7 @@ public class ChatRoomAccessCheckService {
     private boolean isValidAccessForAdminCode(Long expoId, Long memberId) {
         log.debug("[AccessCheck] validate access for adminCode. expoId={}, memberId={}",
                 expoId, memberId);
-        return expoClient.checkAdminExpoAccessible(expoId, memberId);
+        return expoAccessDecisionCache.isAdminExpoAccessible(expoId, memberId);
     }
 
     private boolean isValidAccessForMember(Long expoId, Long memberId, Long participantId, Role role) {
@@ -35,7 +35,7 @@ public class ChatRoomAccessCheckService {
                 expoId, memberId, role);
 
         if (Role.EXPO_ADMIN.equals(role)) {
-            return memberId.equals(participantId) || expoClient.checkMemberExpoOwner(expoId, memberId);
+            return memberId.equals(participantId) || expoAccessDecisionCache.isMemberExpoOwner(expoId, memberId);
         } else if (Role.USER.equals(role)) {
             return memberId.equals(participantId);
         } else return false;
@@ -74,12 +74,13 @@ public class ChatRoomAccessCheckService {
         }
 
         if (Role.EXPO_ADMIN.equals(role)) {
-            // EXPO_ADMIN: AdminCode 권한 확인
-            boolean isOwner = expoClient.checkMemberExpoOwner(expoId, memberId);
-            boolean isAdmin = expoClient.checkAdminExpoAccessible(expoId, memberId);
+            // EXPO_ADMIN: 본인 채팅방이면 원격 권한 확인 생략, 아니면 소유자 -> AdminCode 권한 순으로 확인
+            boolean isValid = chatRoomMemberId.equals(memberId)
+                    || expoAccessDecisionCache.isMemberExpoOwner(expoId, memberId)
+                    || expoAccessDecisionCache.isAdminExpoAccessible(expoId, memberId);
             log.debug("[AccessCheck] Validate expo chat permission. expoId={}, memberId={}, isValid={}",
-                    expoId, memberId, isAdmin || isOwner);
-            return isAdmin || isOwner || chatRoomMemberId.equals(memberId);
+                    expoId, memberId, isValid);
+            return isValid;
         }
 
         return false;
@@ -92,12 +93,12 @@ public class ChatRoomAccessCheckService {
         log.debug("[AccessCheck] validate admin permission. expoId={}, memberId={}, loginType={}",
                 expoId, memberId, loginType);
         if (LoginType.ADMIN_CODE.equals(loginType)) {
-            boolean isAdmin = expoClient.checkAdminExpoAccessible(expoId, memberId);
+            boolean isAdmin = expoAccessDecisionCache.isAdminExpoAccessible(expoId, memberId);
             if (!isAdmin) {
                 throw new CustomException(CustomErrorCode.CHAT_ROOM_ACCESS_DENIED);
             }
         } else {
-            boolean isOwner = expoClient.checkMemberExpoOwner(expoId, memberId);
+            boolean isOwner = expoAccessDecisionCache.isMemberExpoOwner(expoId, memberId);
             if (!isOwner) {
                 throw new CustomException(CustomErrorCode.CHAT_ROOM_ACCESS_DENIED);
             }
@@ -1,14 +1,21 @@
 package com.myce.api.service.impl;
 
 import com.myce.api.controller.supporter.ChatRoomResponseMakeService;
+import com.myce.api.dto.request.ChatRoomListFilter;
+import com.myce.api.dto.response.ChatRoomCursorResponse;
 import com.myce.api.dto.response.ChatRoomInfoListResponse;
 import com.myce.api.service.ChatRoomService;
+import com.myce.api.service.component.IdentityInfoCache;
+import com.myce.api.util.ChatRoomCursorSupporter;
 import com.myce.api.util.RoomCodeSupporter;
 import com.myce.common.exception.CustomErrorCode;
 import com.myce.common.exception.CustomException;
 import com.myce.common.type.LoginType;
 import com.myce.common.type.Role;
 import com.myce.domain.document.ChatRoom;
+import com.myce.domain.document.type.ChatRoomState;
+import com.myce.domain.dto.ChatRoomListCondition;
+import com.myce.domain.repository.CachedChatRoomRepository;
 import com.myce.domain.repository.ChatRoomRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +31,11 @@ public class ChatRoomServiceImpl implements ChatRoomService {
     private final PlatformRoomService platformRoomService;
 
     private final ChatRoomRepository chatRoomRepository;
+    private final CachedChatRoomRepository cachedChatRoomRepository;
+    private final ChatRoomAccessCheckService accessCheckService;
+    private final IdentityInfoCache identityInfoCache;
+
+    private static final int MAX_ROOM_PAGE_SIZE = 100;
 
     /**
      * 현재 로그인한 사용자의 채팅방 목록 조회
@@ -38,7 +50,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         log.debug("[ChatRoomService] Get chat rooms for member. memberId={}, role={}", memberId, role);
         Role memberRole = Role.fromName(role);
         String roomCode = RoomCodeSupporter.getPlatformRoomCode(memberId);
-        boolean roomExists = chatRoomRepository.findByRoomCode(roomCode).isPresent();
+        boolean roomExists = cachedChatRoomRepository.findByRoomCode(roomCode).isPresent();
 
         if (!roomExists) platformRoomService.createPlatformChatRoom(roomCode, memberId, memberName);
 
@@ -83,4 +95,90 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         List<ChatRoom> chatRooms = chatRoomRepository.findByExpoIdAndIsActiveTrueOrderByLastMessageAtDesc(expoId);
         return responseMakeService.convertToResponse(chatRooms, adminId, Role.EXPO_ADMIN, loginType);
     }
+
+    /**
+     * 현재 로그인한 사용자의 채팅방 목록 커서 조회
+     */
+    @Override
+    public ChatRoomCursorResponse getChatRooms(Long memberId, String memberName, String role, LoginType loginType,
+            ChatRoomListFilter filter, String cursor, int limit) {
+        Role memberRole = Role.fromName(role);
+        if (Role.PLATFORM_ADMIN.equals(memberRole)) {
+            return getPlatformChatRooms(memberId, role, loginType, filter, cursor, limit);
+        }
+
+        if (cursor == null) {
+            String roomCode = RoomCodeSupporter.getPlatformRoomCode(memberId);
+            if (cachedChatRoomRepository.findByRoomCode(roomCode).isEmpty()) {
+                platformRoomService.createPlatformChatRoom(roomCode, memberId, memberName);
+            }
+        }
+
+        // 일반 사용자, EXPO_ADMIN: 본인이 참여한 채팅방만 (관리자 필터는 적용하지 않음)
+        return findPage(ChatRoomListCondition.ofMember(memberId), cursor, limit, memberId, memberRole, loginType);
+    }
+
+    /**
+     * 플랫폼 관리자 채팅방 목록 커서 조회
+     */
+    @Override
+    public ChatRoomCursorResponse getPlatformChatRooms(Long memberId, String role, LoginType loginType,
+            ChatRoomListFilter filter, String cursor, int limit) {
+        Role memberRole = Role.fromName(role);
+        if (!Role.PLATFORM_ADMIN.equals(memberRole)) {
+            throw new CustomException(CustomErrorCode.CHAT_ROOM_ACCESS_DENIED);
+        }
+
+        ChatRoomListCondition condition = toCondition(null, filter, Role.PLATFORM_ADMIN.name());
+        return findPage(condition, cursor, limit, memberId, memberRole, loginType);
+    }
+
+    /**
+     * 특정 박람회의 채팅방 목록 커서 조회 (관리자 전용)
+     */
+    @Override
+    public ChatRoomCursorResponse getChatRoomsByExpo(Long expoId, Long adminId, LoginType loginType,
+            ChatRoomListFilter filter, String cursor, int limit) {
+        accessCheckService.validateAdminPermission(expoId, adminId, loginType);
+
+        // 내 채팅방 필터일 때만 담당자 코드 조회
+        String adminCode = ChatRoomListFilter.MINE.equals(filter) ? resolveExpoAdminCode(adminId, loginType) : null;
+        ChatRoomListCondition condition = toCondition(expoId, filter, adminCode);
+        return findPage(condition, cursor, limit, adminId, Role.EXPO_ADMIN, loginType);
+    }
+
+    private ChatRoomCursorResponse findPage(ChatRoomListCondition condition, String cursor, int limit,
+            Long viewerId, Role viewerRole, LoginType loginType) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_ROOM_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부 확인용으로 1개 더 조회
+        List<ChatRoom> chatRooms = chatRoomRepository.findActiveRoomsByCursor(
+                condition, ChatRoomCursorSupporter.decode(cursor), pageSize + 1);
+        boolean hasMore = chatRooms.size() > pageSize;
+        List<ChatRoom> page = hasMore ? chatRooms.subList(0, pageSize) : chatRooms;
+
+        log.debug("[ChatRoomService] Get chat room page. condition={}, count={}, hasMore={}",
+                condition, page.size(), hasMore);
+        return responseMakeService.convertToCursorResponse(page, hasMore, viewerId, viewerRole, loginType);
+    }
+
+    private static ChatRoomListCondition toCondition(Long expoId, ChatRoomListFilter filter, String adminCode) {
+        ChatRoomListFilter listFilter = filter != null ? filter : ChatRoomListFilter.ALL;
+        return switch (listFilter) {
+            case WAITING -> ChatRoomListCondition.ofExpo(expoId, ChatRoomState.WAITING_FOR_ADMIN, false, null);
+            case UNASSIGNED -> ChatRoomListCondition.ofExpo(expoId, null, true, null);
+            case MINE -> ChatRoomListCondition.ofExpo(expoId, null, false, adminCode);
+            case ALL -> ChatRoomListCondition.ofExpo(expoId, null, false, null);
+        };
+    }
+
+    /**
+     * 박람회 관리자의 담당자 코드 (메시지 전송 시 배정되는 코드와 같은 기준)
+     */
+    private String resolveExpoAdminCode(Long adminId, LoginType loginType) {
+        if (LoginType.ADMIN_CODE.equals(loginType)) {
+            return identityInfoCache.getAdminCodeInfo(adminId).getCode();
+        }
+        return Role.EXPO_SUPER_ADMIN.name();
+    }
 }
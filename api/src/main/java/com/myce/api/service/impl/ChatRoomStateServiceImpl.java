@@ -20,7 +20,7 @@ import com.myce.api.dto.message.type.BroadcastType;
 import com.myce.api.dto.message.type.SystemMessage;
 import com.myce.api.dto.message.type.TransitionReason;
 import com.myce.api.dto.response.ChatMessageResponse;
-import com.myce.domain.repository.ChatRoomRepository;
+import com.myce.domain.repository.CachedChatRoomRepository;
 import com.myce.api.service.ButtonUpdateService;
 import com.myce.api.service.ChatMessageService;
 import com.myce.api.service.ChatRoomStateService;
@@ -39,7 +39,7 @@ public class ChatRoomStateServiceImpl implements ChatRoomStateService {
 
     private final AIChatService aiChatService;
     private final ChatMessageService chatMessageService;
-    private final ChatRoomRepository chatRoomRepository;
+    private final CachedChatRoomRepository chatRoomRepository;
     private final ButtonUpdateService buttonUpdateService;
     private final ChatWebSocketBroadcaster webSocketBroadcaster;
 
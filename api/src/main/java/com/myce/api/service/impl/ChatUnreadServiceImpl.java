@@ -2,16 +2,27 @@ package com.myce.api.service.impl;
 
 import com.myce.api.dto.message.type.MessageReaderType;
 import com.myce.api.service.ChatUnreadService;
+import com.myce.api.util.ChatCacheKeySupporter;
 import com.myce.api.util.ChatMessageTypeUtil;
 import com.myce.api.util.RoomCodeSupporter;
 import com.myce.common.type.LoginType;
 import com.myce.common.type.Role;
 import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.ChatRoom;
 import com.myce.domain.document.type.MessageSenderType;
-import com.myce.domain.repository.ChatMessageRepository;
+import com.myce.domain.dto.UnreadCountCondition;
+import com.myce.domain.dto.UnreadCounterKey;
+import com.myce.domain.repository.ChatMessageCacheRepository;
+import com.myce.domain.repository.ChatMessageStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -25,7 +36,18 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ChatUnreadServiceImpl implements ChatUnreadService {
     
-    private final ChatMessageRepository chatMessageRepository;
+    private static final String DERIVED_UNREAD_MODE = "derived";
+    private static final String REDIS_UNREAD_SOURCE = "redis";
+
+    private final MeterRegistry meterRegistry;
+    private final ChatMessageStore chatMessageStore;
+    private final ChatMessageCacheRepository chatMessageCacheRepository;
+
+    @Value("${chat.unread.mode:stored}")
+    private String unreadMode;
+
+    @Value("${chat.unread.source:mongo}")
+    private String unreadSource;
     
     @Override
     public long getUnreadCount(
@@ -38,32 +60,150 @@ public class ChatUnreadServiceImpl implements ChatUnreadService {
         log.debug("[UnreadService] Start to calculate unread count. roomCode={}, readStatus={} memberId={}, "
                         + "role={}", roomCode, readStatus, memberId, role);
 
-        MessageReaderType readerType = ChatMessageTypeUtil.getReaderType(roomCode, memberId, role, loginType);
+        UnreadTarget target = resolveTarget(roomCode, readStatus, memberId, role, loginType);
+        if (!isRedisUnreadSource()) {
+            return countFromMongo(target.condition());
+        }
+
+        Long cachedCount = chatMessageCacheRepository.getUnreadCounts(List.of(target.counterKey()))
+                .get(target.counterKey());
+        if (cachedCount != null) {
+            return cachedCount;
+        }
+
+        // 캐시 미스: MongoDB 에서 계산 후 카운터 복구
+        long unreadCount = countFromMongo(target.condition());
+        chatMessageCacheRepository.setUnreadCount(roomCode, target.counterKey().memberId(), unreadCount);
+        log.debug("[UnreadService] Unread counter miss, repopulated. roomCode={}, count={}", roomCode, unreadCount);
+        return unreadCount;
+    }
+
+    @Override
+    public Map<String, Long> getUnreadCounts(
+            List<ChatRoom> chatRooms,
+            Long memberId,
+            Role role,
+            LoginType loginType
+    ) {
+        List<UnreadTarget> targets = new ArrayList<>(chatRooms.size());
+        for (ChatRoom chatRoom : chatRooms) {
+            targets.add(resolveTarget(chatRoom.getRoomCode(), chatRoom.getReadStatus(), memberId, role, loginType));
+        }
+
+        Map<String, Long> unreadCounts = new HashMap<>();
+        List<UnreadTarget> missedTargets = targets;
+        if (isRedisUnreadSource()) {
+            Map<UnreadCounterKey, Long> cachedCounts = chatMessageCacheRepository.getUnreadCounts(
+                    targets.stream().map(UnreadTarget::counterKey).toList());
+            missedTargets = new ArrayList<>();
+            for (UnreadTarget target : targets) {
+                Long cachedCount = cachedCounts.get(target.counterKey());
+                if (cachedCount != null) {
+                    unreadCounts.put(target.condition().roomCode(), cachedCount);
+                } else {
+                    missedTargets.add(target);
+                }
+            }
+        }
+
+        if (!missedTargets.isEmpty()) {
+            Map<String, Long> counted = chatMessageStore.countUnreadByRooms(
+                    missedTargets.stream().map(UnreadTarget::condition).toList());
+            for (UnreadTarget target : missedTargets) {
+                String roomCode = target.condition().roomCode();
+                long unreadCount = counted.getOrDefault(roomCode, 0L);
+                unreadCounts.put(roomCode, unreadCount);
+                if (isRedisUnreadSource()) {
+                    chatMessageCacheRepository.setUnreadCount(roomCode, target.counterKey().memberId(), unreadCount);
+                }
+            }
+        }
+
+        log.debug("[UnreadService] Success to calculate unread counts. memberId={}, role={}, roomCount={}, "
+                + "mongoCount={}", memberId, role, chatRooms.size(), missedTargets.size());
+        return unreadCounts;
+    }
+
+    @Override
+    public int reconcileUnreadCounters(List<ChatRoom> chatRooms) {
+        // 채팅방마다 사용자/관리자 카운터를 모두 점검
+        List<UnreadTarget> targets = new ArrayList<>();
+        for (ChatRoom chatRoom : chatRooms) {
+            String roomCode = chatRoom.getRoomCode();
+            Map<String, Long> readStatus = chatRoom.getReadStatus();
+            if (chatRoom.getMemberId() != null) {
+                targets.add(resolveTarget(roomCode, readStatus, chatRoom.getMemberId(), Role.USER, LoginType.MEMBER));
+            }
+            Role adminRole = RoomCodeSupporter.isPlatformRoom(roomCode) ? Role.PLATFORM_ADMIN : Role.EXPO_ADMIN;
+            targets.add(resolveTarget(roomCode, readStatus, 0L, adminRole, null));
+        }
+        if (targets.isEmpty()) {
+            return 0;
+        }
 
-        String targetSenderType = ChatMessageTypeUtil
-                .getCounterpartSenderType(roomCode, memberId, role, loginType)
-                .name();
-        if (readStatus == null || !readStatus.containsKey(readerType.name())) {
-            return chatMessageRepository.countByRoomCodeAndSenderType(roomCode, targetSenderType);
+        List<UnreadCounterKey> counterKeys = targets.stream().map(UnreadTarget::counterKey).toList();
+        Map<UnreadCounterKey, Long> before = chatMessageCacheRepository.getUnreadCounts(counterKeys);
+
+        // 같은 채팅방의 두 카운터는 조건이 달라 따로 집계
+        Map<UnreadCounterKey, Long> expected = new HashMap<>();
+        for (boolean adminTarget : new boolean[]{false, true}) {
+            List<UnreadTarget> group = targets.stream()
+                    .filter(target -> ChatCacheKeySupporter.ADMIN_GROUP_MEMBER_ID
+                            .equals(target.counterKey().memberId()) == adminTarget)
+                    .toList();
+            if (group.isEmpty()) {
+                continue;
+            }
+            Map<String, Long> counted = chatMessageStore.countUnreadByRooms(
+                    group.stream().map(UnreadTarget::condition).toList());
+            for (UnreadTarget target : group) {
+                expected.put(target.counterKey(), counted.getOrDefault(target.condition().roomCode(), 0L));
+            }
         }
 
-        Long lastReadSeq = readStatus.get(readerType.name());
-        if (lastReadSeq == null) {
-            return chatMessageRepository.countByRoomCodeAndSenderType(roomCode, targetSenderType);
+        Map<UnreadCounterKey, Long> after = chatMessageCacheRepository.getUnreadCounts(counterKeys);
+
+        int repaired = 0;
+        for (UnreadCounterKey counterKey : counterKeys) {
+            Long cachedCount = after.get(counterKey);
+            if (!Objects.equals(before.get(counterKey), cachedCount)) {
+                // 점검 중 메시지 송신/읽음으로 바뀐 카운터는 다음 주기에 다시 점검
+                continue;
+            }
+
+            long expectedCount = expected.get(counterKey);
+            if (cachedCount != null && cachedCount == expectedCount) {
+                continue;
+            }
+
+            String reason = cachedCount == null ? "missing" : "drift";
+            meterRegistry.counter("chat.unread.reconcile.repaired", "reason", reason).increment();
+            if (cachedCount != null) {
+                meterRegistry.summary("chat.unread.reconcile.drift").record(Math.abs(cachedCount - expectedCount));
+            }
+            chatMessageCacheRepository.setUnreadCount(counterKey.roomCode(), counterKey.memberId(), expectedCount);
+            log.debug("[UnreadService] Repaired unread counter. roomCode={}, memberId={}, cached={}, expected={}",
+                    counterKey.roomCode(), counterKey.memberId(), cachedCount, expectedCount);
+            repaired++;
         }
+        return repaired;
+    }
 
-        return chatMessageRepository.countByRoomCodeAndSenderTypeAndSeqGreaterThan(
-                roomCode, targetSenderType, lastReadSeq);
+    @Override
+    public boolean isRedisUnreadSource() {
+        return REDIS_UNREAD_SOURCE.equalsIgnoreCase(unreadSource);
     }
 
     public boolean isReadMessage(ChatMessage message, Map<String, Long> readStatus) {
-        Long messageSeq = message.getSeq();
+        return isReadMessage(message.getRoomCode(), message.getSeq(), message.getSenderType(), readStatus);
+    }
+
+    private boolean isReadMessage(String roomCode, Long messageSeq, MessageSenderType senderType,
+                                  Map<String, Long> readStatus) {
         log.debug("[ChatRead] Check read message. messageSeq={}, readStatus{}", messageSeq, readStatus);
 
         if (readStatus == null) return false;
 
-        String roomCode = message.getRoomCode();
-        MessageSenderType senderType = message.getSenderType();
         boolean isRead = isReadBySenderType(messageSeq, readStatus, senderType);
 
         if (!isRead && RoomCodeSupporter.isPlatformRoom(roomCode)) {
@@ -75,6 +215,26 @@ public class ChatUnreadServiceImpl implements ChatUnreadService {
         return isRead;
     }
 
+    @Override
+    public int resolveUnreadCount(ChatMessage message, Map<String, Long> readStatus) {
+        return resolveUnreadCount(message.getRoomCode(), message.getSeq(), message.getSenderType(),
+                message.getUnreadCount(), readStatus);
+    }
+
+    @Override
+    public int resolveUnreadCount(String roomCode, Long messageSeq, MessageSenderType senderType, int unreadCount,
+                                  Map<String, Long> readStatus) {
+        if (unreadCount > 0 && isReadMessage(roomCode, messageSeq, senderType, readStatus)) {
+            return unreadCount - 1;
+        }
+        return unreadCount;
+    }
+
+    @Override
+    public boolean isStoredUnreadMode() {
+        return !DERIVED_UNREAD_MODE.equalsIgnoreCase(unreadMode);
+    }
+
     private boolean isReadBySenderType(Long messageSeq, Map<String, Long> readStatus, MessageSenderType senderType) {
         String readerType = ChatMessageTypeUtil.getReaderTypeBySender(senderType).name();
         Long lastReadSeq = readStatus.get(readerType);
@@ -86,4 +246,27 @@ public class ChatUnreadServiceImpl implements ChatUnreadService {
     private boolean isBeforeMessage(Long currentMessageSeq, Long lastReadSeq) {
         return currentMessageSeq != null && lastReadSeq != null && currentMessageSeq <= lastReadSeq;
     }
+
+    /**
+     * 조회자 관점의 미읽음 계산 대상 (Redis 카운터 키 + MongoDB 조건)
+     */
+    private UnreadTarget resolveTarget(String roomCode, Map<String, Long> readStatus, Long memberId, Role role,
+                                       LoginType loginType) {
+        MessageReaderType readerType = ChatMessageTypeUtil.getReaderType(roomCode, memberId, role, loginType);
+        Long lastReadSeq = readStatus != null ? readStatus.get(readerType.name()) : null;
+
+        Long cacheMemberId = ChatCacheKeySupporter.resolveCacheMemberId(readerType, memberId);
+        return new UnreadTarget(
+                new UnreadCounterKey(roomCode, cacheMemberId),
+                new UnreadCountCondition(roomCode, ChatMessageTypeUtil.getReadableSenderTypes(readerType),
+                        lastReadSeq)
+        );
+    }
+
+    private long countFromMongo(UnreadCountCondition condition) {
+        return chatMessageStore.countUnreadByRooms(List.of(condition)).getOrDefault(condition.roomCode(), 0L);
+    }
+
+    private record UnreadTarget(UnreadCounterKey counterKey, UnreadCountCondition condition) {
+    }
 }
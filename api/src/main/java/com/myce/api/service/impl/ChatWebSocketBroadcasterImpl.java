@@ -13,6 +13,7 @@ import com.myce.api.dto.message.type.BroadcastType;
 import com.myce.api.dto.message.type.MessageReaderType;
 import com.myce.api.dto.message.type.TransitionReason;
 import com.myce.api.dto.message.type.WebSocketDestination;
+import com.myce.api.dto.response.ChatCatchUpResponse;
 import com.myce.api.service.ChatWebSocketBroadcaster;
 import com.myce.api.util.ChatRoomStateSupporter;
 import com.myce.domain.document.ChatMessage;
@@ -21,6 +22,8 @@ import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
@@ -178,6 +181,25 @@ public class ChatWebSocketBroadcasterImpl implements ChatWebSocketBroadcaster {
         }
     }
 
+    @Override
+    public void sendCatchUp(String sessionId, Long memberId, ChatCatchUpResponse response) {
+        WebSocketBaseMessage message = new WebSocketBaseMessage(BroadcastType.CATCH_UP, response);
+
+        // 세션 ID 를 사용자 이름 대신 쓰므로 헤더에 세션 ID 를 넣어 해당 세션으로만 보낸다
+        SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headerAccessor.setSessionId(sessionId);
+        headerAccessor.setLeaveMutable(true);
+        try {
+            messagingTemplate.convertAndSendToUser(sessionId, WebSocketDestination.CATCH_UP, message,
+                    headerAccessor.getMessageHeaders());
+            log.debug("[WebSocketBroadcaster] Success to send catch up. sessionId={}, memberId={}, roomCount={}",
+                    sessionId, memberId, response.getRooms().size());
+        } catch (MessagingException e) {
+            log.debug("[WebSocketBroadcaster] Fail to send catch up. sessionId={}, memberId={}",
+                    sessionId, memberId, e);
+        }
+    }
+
     public void broadcastNotifyAdminHandoff(WebSocketBaseMessage broadcastMessage) {
         String destination = WebSocketDestination.ADMIN_HANDOFF_NOTIFICATION;
         messagingTemplate.convertAndSend(destination, broadcastMessage);
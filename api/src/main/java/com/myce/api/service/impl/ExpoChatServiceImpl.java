@@ -3,17 +3,18 @@ package com.myce.api.service.impl;
 import com.myce.api.controller.supporter.ChatRoomResponseMakeService;
 import com.myce.api.dto.ExpoInfo;
 import com.myce.api.dto.MemberInfo;
+import com.myce.api.dto.response.ChatMessageCursorResponse;
 import com.myce.api.dto.response.ChatMessageResponse;
 import com.myce.api.dto.response.ChatRoomInfoListResponse;
 import com.myce.api.dto.response.ChatRoomInfoResponse;
 import com.myce.api.dto.response.ChatUnreadCountResponse;
 import com.myce.api.mapper.ChatMessageMapper;
 import com.myce.api.mapper.ChatRoomMapper;
+import com.myce.api.service.ChatMessageService;
 import com.myce.api.service.ChatUnreadService;
 import com.myce.api.service.ExpoChatService;
 import com.myce.api.service.client.ExpoClient;
-import com.myce.api.service.client.MemberClient;
-import com.myce.api.util.ChatCacheKeySupporter;
+import com.myce.api.service.component.IdentityInfoCache;
 import com.myce.api.util.RoomCodeSupporter;
 import com.myce.common.dto.PageResponse;
 import com.myce.common.exception.CustomErrorCode;
@@ -23,11 +24,13 @@ import com.myce.common.type.Role;
 import com.myce.domain.document.ChatMessage;
 import com.myce.domain.document.ChatRoom;
 import com.myce.domain.document.type.MessageSenderType;
-import com.myce.domain.repository.ChatMessageCacheRepository;
-import com.myce.domain.repository.ChatMessageRepository;
+import com.myce.domain.dto.MessageCursorPage;
+import com.myce.domain.repository.CachedChatRoomRepository;
+import com.myce.domain.repository.ChatMessageStore;
 import com.myce.domain.repository.ChatRoomRepository;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -48,14 +51,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class ExpoChatServiceImpl implements ExpoChatService {
 
     private final ExpoClient expoClient;
-    private final MemberClient memberClient;
+    private final IdentityInfoCache identityInfoCache;
 
     private final ChatUnreadService chatUnreadService;
     private final ChatRoomRepository chatRoomRepository;
-    private final ChatMessageRepository chatMessageRepository;
+    private final CachedChatRoomRepository cachedChatRoomRepository;
+    private final ChatMessageStore chatMessageStore;
+    private final ChatMessageService chatMessageService;
     private final ChatRoomAccessCheckService accessCheckService;
     private final ChatRoomResponseMakeService responseMakeService;
-    private final ChatMessageCacheRepository chatMessageCacheRepository;
 
     @Override
     public ChatRoomInfoListResponse getChatRoomsForAdmin(Long expoId, Long memberId, LoginType loginType) {
@@ -70,7 +74,7 @@ public class ExpoChatServiceImpl implements ExpoChatService {
     @Override
     public PageResponse<ChatMessageResponse> getMessages(Long expoId, String roomCode, int page, int size, Long memberId) {
 
-        ChatRoom chatRoom = chatRoomRepository.findByRoomCode(roomCode)
+        ChatRoom chatRoom = cachedChatRoomRepository.findByRoomCode(roomCode)
                 .orElseThrow(() -> new CustomException(CustomErrorCode.CHAT_ROOM_NOT_EXIST));
 
         if (!chatRoom.getExpoId().equals(expoId)) {
@@ -78,11 +82,11 @@ public class ExpoChatServiceImpl implements ExpoChatService {
         }
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("sentAt").descending());
-        Page<ChatMessage> messages = chatMessageRepository.findByRoomCodeOrderBySentAtDesc(roomCode, pageable);
+        Page<ChatMessage> messages = chatMessageStore.findPage(roomCode, pageable);
 
         List<ChatMessageResponse> chatMessageResponse = new ArrayList<>();
         for (ChatMessage chatMessage: messages) {
-            chatMessageResponse.add(mapToMessageResponse(chatMessage));
+            chatMessageResponse.add(mapToMessageResponse(chatMessage, chatRoom.getReadStatus()));
         }
 
         return new PageResponse<>(
@@ -94,6 +98,27 @@ public class ExpoChatServiceImpl implements ExpoChatService {
         );
     }
     
+    @Override
+    public ChatMessageCursorResponse getMessagesBySeqCursor(
+            Long expoId, String roomCode, Long before, int limit, Long memberId) {
+
+        ChatRoom chatRoom = cachedChatRoomRepository.findByRoomCode(roomCode)
+                .orElseThrow(() -> new CustomException(CustomErrorCode.CHAT_ROOM_NOT_EXIST));
+
+        if (!chatRoom.getExpoId().equals(expoId)) {
+            throw new CustomException(CustomErrorCode.CHAT_ROOM_ACCESS_DENIED);
+        }
+
+        MessageCursorPage messagePage = chatMessageService.getMessagePageBySeq(roomCode, before, limit);
+
+        List<ChatMessageResponse> chatMessageResponse = new ArrayList<>();
+        for (ChatMessage chatMessage: messagePage.messages()) {
+            chatMessageResponse.add(mapToMessageResponse(chatMessage, chatRoom.getReadStatus()));
+        }
+
+        return new ChatMessageCursorResponse(chatMessageResponse, messagePage.hasMore(), messagePage.nextBefore());
+    }
+
     /**
      * 관리자 읽음 상태 업데이트
      */
@@ -102,7 +127,7 @@ public class ExpoChatServiceImpl implements ExpoChatService {
     @Override
     public Long getUnreadCount(Long expoId, String roomCode, Long memberId, LoginType loginType) {
         // 채팅방 존재 확인
-        ChatRoom chatRoom = chatRoomRepository.findByRoomCode(roomCode)
+        ChatRoom chatRoom = cachedChatRoomRepository.findByRoomCode(roomCode)
                 .orElseThrow(() -> new CustomException(CustomErrorCode.CHAT_ROOM_NOT_EXIST));
         
         // 박람회 일치 확인
@@ -113,34 +138,15 @@ public class ExpoChatServiceImpl implements ExpoChatService {
         // 성능 최적화: 미읽음 카운트 조회 시 권한 검증 생략 (채팅방 접근 시에만 검증)
         
         try {
-            Long cacheMemberId = ChatCacheKeySupporter.ADMIN_GROUP_MEMBER_ID;
-            // Redis에서 관리자의 미읽음 카운트 조회 (10ms 미만)
-            Long cachedUnreadCount = chatMessageCacheRepository.getUnreadCount(roomCode, cacheMemberId);
-            
-            if (cachedUnreadCount != null) {
-                log.debug("Cache hit: unread count {} for admin {} in room {}", cachedUnreadCount, memberId, roomCode);
-                return cachedUnreadCount;
-            }
-            
-            // 캐시 미스 시 MongoDB에서 계산하고 캐싱
-            long unreadCount = chatUnreadService.getUnreadCount(
+            // chat.unread.source=redis 이면 Redis 카운터 우선, 미스 시 MongoDB 계산 후 복구
+            return chatUnreadService.getUnreadCount(
                     roomCode,
                     chatRoom.getReadStatus(),
                     memberId,
                     Role.EXPO_ADMIN,
                     loginType
             );
-            
-            // 결과를 Redis에 캐싱 (다음 조회 시 빠른 응답)
-            if (unreadCount > 0) {
-                // 정확한 값으로 설정하기 위해 리셋 후 증가
-                chatMessageCacheRepository.resetUnreadCount(roomCode, cacheMemberId);
-                chatMessageCacheRepository.incrementUnreadCount(roomCode, cacheMemberId, unreadCount);
-            }
-            
-            log.debug("Cache miss: calculated unread count {} for admin {} in room {}", unreadCount, memberId, roomCode);
-            return unreadCount;
-            
+
         } catch (Exception e) {
             log.error("안읽은 메시지 수 조회 실패 - roomCode: {}", roomCode, e);
             return 0L; // 에러 시 0 반환
@@ -158,11 +164,13 @@ public class ExpoChatServiceImpl implements ExpoChatService {
                 return response;
             }
 
+            Map<String, Long> unreadCounts = chatUnreadService.getUnreadCounts(
+                    userChatRooms, memberId, Role.USER, LoginType.MEMBER);
+
             long totalUnread = 0L;
             for (ChatRoom chatRoom : userChatRooms) {
                 String roomCode = chatRoom.getRoomCode();
-                long count = chatUnreadService.getUnreadCount(
-                        roomCode, chatRoom.getReadStatus(), memberId, Role.USER, LoginType.MEMBER);
+                long count = unreadCounts.get(roomCode);
                 response.addRoomUnreadCount(roomCode, count);
                 totalUnread += count;
             }
@@ -183,7 +191,7 @@ public class ExpoChatServiceImpl implements ExpoChatService {
         log.info("[ExpoChatService] Get or create expo chat room. expoId={}, userId={}", expoId, memberId);
 
         ExpoInfo expo = expoClient.getExpoInfo(expoId);
-        MemberInfo member = memberClient.getMemberInfo(memberId);
+        MemberInfo member = identityInfoCache.getMemberInfo(memberId);
 
         if (expo.getOwnerMemberId().equals(memberId)) {
             throw new CustomException(CustomErrorCode.CHAT_ROOM_NOT_CREATE);
@@ -193,7 +201,7 @@ public class ExpoChatServiceImpl implements ExpoChatService {
         String roomCode = RoomCodeSupporter.getAdminRoomCode(expoId, memberId);
 
         // 4. 기존 채팅방 조회
-        ChatRoom chatRoom = chatRoomRepository.findByRoomCode(roomCode).orElse(null);
+        ChatRoom chatRoom = cachedChatRoomRepository.findByRoomCode(roomCode).orElse(null);
 
         if (chatRoom != null) {
             log.info(" 기존 채팅방 조회 성공 - roomCode: {}", roomCode);
@@ -201,7 +209,7 @@ public class ExpoChatServiceImpl implements ExpoChatService {
             // 기존 채팅방 재활성화 (필요한 경우)
             if (!chatRoom.getIsActive()) {
                 chatRoom.reactivate();
-                chatRoomRepository.save(chatRoom);
+                cachedChatRoomRepository.save(chatRoom);
                 log.info("🔄 비활성 채팅방 재활성화 - roomCode: {}", roomCode);
             }
 
@@ -217,7 +225,7 @@ public class ExpoChatServiceImpl implements ExpoChatService {
                 .roomTitle(expo.getTitle())
                 .build();
 
-        ChatRoom savedRoom = chatRoomRepository.save(newRoom);
+        ChatRoom savedRoom = cachedChatRoomRepository.save(newRoom);
         log.info(" 새 박람회 채팅방 생성 완료 - roomCode: {}, roomTitle: {}", roomCode, newRoom.getRoomTitle());
 
         // 6. AI 환영 메시지 생성 (선택사항 - 필요시 구현)
@@ -229,7 +237,7 @@ public class ExpoChatServiceImpl implements ExpoChatService {
     /**
      * ChatMessage -> MessageResponse 매핑
      */
-    private ChatMessageResponse mapToMessageResponse(ChatMessage message) {
+    private ChatMessageResponse mapToMessageResponse(ChatMessage message, Map<String, Long> readStatus) {
         // 관리자 메시지인 경우 관리자 정보 추가
         String adminCode = null;
         String adminDisplayName = null;
@@ -239,7 +247,8 @@ public class ExpoChatServiceImpl implements ExpoChatService {
         }
 
         // ChatMessageMapper 사용
-        return ChatMessageMapper.toResponse(message, adminCode, adminDisplayName);
+        int unreadCount = chatUnreadService.resolveUnreadCount(message, readStatus);
+        return ChatMessageMapper.toResponse(message, adminCode, adminDisplayName, unreadCount);
     }
 
     /**
@@ -6,14 +6,14 @@ import com.myce.api.dto.message.type.WebSocketMessagePayload;
 import com.myce.api.exception.CustomWebSocketException;
 import com.myce.api.exception.CustomWebSocketError;
 import com.myce.api.service.JoinRoomService;
-import com.myce.api.service.client.MemberClient;
+import com.myce.api.service.component.IdentityInfoCache;
 import com.myce.api.util.RoomCodeSupporter;
 import com.myce.common.exception.CustomErrorCode;
 import com.myce.common.exception.CustomException;
 import com.myce.common.type.LoginType;
 import com.myce.common.type.Role;
 import com.myce.domain.document.ChatRoom;
-import com.myce.domain.repository.ChatRoomRepository;
+import com.myce.domain.repository.CachedChatRoomRepository;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,12 +25,12 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class JoinRoomServiceImpl implements JoinRoomService {
 
-    private final MemberClient memberClient;
+    private final IdentityInfoCache identityInfoCache;
 
     private final PlatformRoomService platformRoomService;
     private final ChatRoomAccessCheckService chatRoomAccessCheckService;
 
-    private final ChatRoomRepository chatRoomRepository;
+    private final CachedChatRoomRepository chatRoomRepository;
 
     @Override
     @Transactional
@@ -59,7 +59,7 @@ public class JoinRoomServiceImpl implements JoinRoomService {
         }
 
         if (chatRoomRepository.findByRoomCode(roomCode).isEmpty()) {
-            MemberInfo memberInfo = memberClient.getMemberInfo(memberId);
+            MemberInfo memberInfo = identityInfoCache.getMemberInfo(memberId);
             String memberName = memberInfo != null ? memberInfo.getName() : "플랫폼 사용자";
 
             platformRoomService.createPlatformChatRoom(roomCode, memberId, memberName);
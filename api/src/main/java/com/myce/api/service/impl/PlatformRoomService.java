@@ -2,8 +2,7 @@ package com.myce.api.service.impl;
 
 import com.myce.domain.document.ChatRoom;
 import com.myce.domain.document.type.ChatRoomState;
-import com.myce.domain.repository.ChatRoomCacheRepository;
-import com.myce.domain.repository.ChatRoomRepository;
+import com.myce.domain.repository.CachedChatRoomRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,8 +14,7 @@ public class PlatformRoomService {
 
     private static final String DEFAULT_PLATFORM_CHAT_ROOM_NAME = "플랫폼 상담";
 
-    private final ChatRoomRepository chatRoomRepository;
-    private final ChatRoomCacheRepository chatCacheRepository;
+    private final CachedChatRoomRepository chatRoomRepository;
 
     public void createPlatformChatRoom(String roomCode, Long memberId, String memberName) {
         ChatRoom newRoom = ChatRoom.builder()
@@ -30,8 +28,7 @@ public class PlatformRoomService {
         // (생성자에서 자동으로 설정되지만 명시적으로 보장)
         newRoom.transitionToState(ChatRoomState.AI_ACTIVE);
 
-        ChatRoom savedRoom = chatRoomRepository.save(newRoom);
-        chatCacheRepository.cacheChatRoom(roomCode, savedRoom);
+        chatRoomRepository.save(newRoom);
 
         log.info("Created Platform chat room. roomCode={}, memberId={}", roomCode, memberId);
     }
@@ -16,9 +16,10 @@ import com.myce.api.service.ChatMessageHandlerService;
 import com.myce.api.service.ChatUnreadService;
 import com.myce.api.service.ChatWebSocketBroadcaster;
 import com.myce.api.service.SendMessageService;
-import com.myce.api.service.client.ExpoClient;
 import com.myce.api.service.component.ChatAdminAssignmentComponent;
+import com.myce.api.service.component.ChatFanoutExecutor;
 import com.myce.api.service.component.ChatMessageSaveComponent;
+import com.myce.api.service.component.IdentityInfoCache;
 import com.myce.api.util.ChatRoomStateSupporter;
 import com.myce.api.util.RoomCodeSupporter;
 import com.myce.common.exception.CustomErrorCode;
@@ -27,27 +28,27 @@ import com.myce.common.type.LoginType;
 import com.myce.common.type.Role;
 import com.myce.domain.document.ChatMessage;
 import com.myce.domain.document.ChatRoom;
-import com.myce.domain.repository.ChatRoomRepository;
+import com.myce.domain.repository.CachedChatRoomRepository;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @AllArgsConstructor
 public class SendMessageServiceImpl implements SendMessageService {
 
-    private final ExpoClient expoClient;
+    private final IdentityInfoCache identityInfoCache;
     private final ChatWebSocketBroadcaster broadcaster;
-    private final ChatRoomRepository chatRoomRepository;
+    private final CachedChatRoomRepository chatRoomRepository;
     private final ChatMessageHandlerService messageHandler;
     private final ChatUnreadService chatUnreadService;
     private final ChatMessageSaveComponent messageSaveComponent;
     private final ChatAdminAssignmentComponent adminAssignmentComponent;
+    private final ChatFanoutExecutor fanoutExecutor;
 
     @Override
-    @Transactional
     public void sendChatMessage(Long memberId, Role role, LoginType loginType, String sessionId, SendMessageRequest request) {
         String roomCode = request.getRoomCode();
         String content = request.getContent();
@@ -56,20 +57,32 @@ public class SendMessageServiceImpl implements SendMessageService {
         ChatRoom chatRoom = chatRoomRepository.findByRoomCode(roomCode)
                 .orElseThrow(() -> new CustomException(CustomErrorCode.CHAT_ROOM_NOT_EXIST));
 
-        // 1. 메시지 저장
-        ChatMessage chatMessage = messageSaveComponent.saveMessage(memberId, role, loginType, chatRoom, content);
+        // 1. 부가 작업 자리 확보 (큐가 가득 차면 저장 전에 거부하므로 재전송해도 메시지가 중복되지 않는다)
+        ChatFanoutExecutor.Reservation reservation = reserveFanout(memberId, sessionId, roomCode);
 
+        // 2. 메시지 저장
+        ChatMessage chatMessage;
         try {
-            // 2. 메시지 전송
-            broadcastMessage(chatRoom, chatMessage);
-            broadcaster.broadcastRoomPreviewUpdate(roomCode, chatMessage);
-            // 3. 사용자 메시지 플로우 처리 (AI 응답, 자동 읽음, 미읽음 업데이트)
-            messageHandler.handleUserMessageFlow(memberId, role, chatRoom, chatMessage);
-        } catch (Exception e) {
-            log.error("[SendMessageService] Failed to send message. memberId={}, roomCode={}", memberId, roomCode, e);
-            throw new CustomWebSocketException(new CustomWebSocketError(sessionId,
-                    WebSocketMessagePayload.SEND_MESSAGE_FAIL.getMessage()));
+            chatMessage = messageSaveComponent.saveMessage(memberId, role, loginType, chatRoom, content);
+        } catch (RuntimeException e) {
+            reservation.cancel();
+            throw e;
         }
+
+        // 3. 저장 이후 작업은 채팅방 단위 실행기에서 순서대로 처리 (수신 스레드는 바로 반환)
+        reservation.execute(() -> {
+            try {
+                // 메시지 전송
+                broadcastMessage(chatRoom, chatMessage);
+                broadcaster.broadcastRoomPreviewUpdate(roomCode, chatMessage);
+                // 사용자 메시지 플로우 처리 (AI 응답 요청, 자동 읽음, 미읽음 업데이트)
+                messageHandler.handleUserMessageFlow(memberId, role, chatRoom, chatMessage);
+            } catch (Exception e) {
+                log.error("[SendMessageService] Failed to send message. memberId={}, roomCode={}",
+                        memberId, roomCode, e);
+                broadcaster.broadcastError(sessionId, memberId, WebSocketMessagePayload.SEND_MESSAGE_FAIL.getMessage());
+            }
+        });
     }
 
     @Override
@@ -115,7 +128,7 @@ public class SendMessageServiceImpl implements SendMessageService {
             adminCode = Role.PLATFORM_ADMIN.name();
         }
         else if (LoginType.ADMIN_CODE.equals(loginType)) {
-            AdminCodeInfo adminCodeInfo = expoClient.getAdminCodeInto(memberId);
+            AdminCodeInfo adminCodeInfo = identityInfoCache.getAdminCodeInfo(memberId);
             String code = adminCodeInfo.getCode();
             log.debug("Success to determine admin code. id={}, code={}", memberId, code);
             adminCode = code;
@@ -136,21 +149,48 @@ public class SendMessageServiceImpl implements SendMessageService {
             messageHandler.handleAdminStateTransition(chatRoom, adminCode, memberId, sessionId);
         }
 
-        // 새로운 chatRoom 데이터 재조회 (상태 변경 가능성)
-        chatRoom = chatRoomRepository.findByRoomCode(roomCode)
-                .orElseThrow(() -> new IllegalStateException("채팅방을 찾을 수 없습니다"));
+        // 5. 부가 작업 자리 확보 후 메시지 저장 (담당자 배정/상태 전환은 같은 chatRoom 객체에 반영되어 있으므로 재조회하지 않음)
+        ChatFanoutExecutor.Reservation reservation = reserveFanout(memberId, sessionId, roomCode);
+        ChatMessage chatMessage;
+        try {
+            chatMessage = messageSaveComponent.saveMessage(memberId, role, loginType, chatRoom, content);
+        } catch (RuntimeException e) {
+            reservation.cancel();
+            throw e;
+        }
+        ChatPayload payload = getPayload(roomCode, chatMessage);
+
+        // 6. 담당자 배정 및 관리자 메시지 브로드캐스트 (채팅방 단위 실행기에서 순서대로 처리)
+        String assignedAdminCode = adminCode;
+        reservation.execute(() -> {
+            try {
+                publishAdminMessage(chatRoom, chatMessage, payload, assignedAdminCode);
+            } catch (Exception e) {
+                log.error("[SendMessageService] Failed to broadcast admin message. memberId={}, roomCode={}",
+                        memberId, roomCode, e);
+                broadcaster.broadcastError(sessionId, memberId, WebSocketMessagePayload.SEND_MESSAGE_FAIL.getMessage());
+            }
+        });
+    }
+
+    private ChatFanoutExecutor.Reservation reserveFanout(Long memberId, String sessionId, String roomCode) {
+        try {
+            return fanoutExecutor.reserve(roomCode);
+        } catch (RejectedExecutionException e) {
+            log.error("[SendMessageService] Failed to send message. memberId={}, roomCode={}", memberId, roomCode, e);
+            throw new CustomWebSocketException(new CustomWebSocketError(sessionId,
+                    WebSocketMessagePayload.SEND_MESSAGE_FAIL.getMessage()));
+        }
+    }
 
-        // 5. 담당자 배정 브로드캐스트
+    private void publishAdminMessage(ChatRoom chatRoom, ChatMessage chatMessage, ChatPayload payload,
+                                     String adminCode) {
+        String roomCode = chatRoom.getRoomCode();
         if (chatRoom.hasAssignedAdmin()) {
             broadcaster.broadcastAdminAssignment(roomCode, chatRoom.getExpoId(),
                     chatRoom.getCurrentAdminCode(), chatRoom.getAdminDisplayName());
         }
 
-        // 6. 메시지 저장
-        ChatMessage chatMessage = messageSaveComponent.saveMessage(memberId, role, loginType, chatRoom, content);
-        ChatPayload payload = getPayload(roomCode, chatMessage);
-
-        // 7. 관리자 메시지 브로드캐스트
         broadcaster.broadcastAdminMessage(roomCode, payload, chatRoom, adminCode);
         broadcaster.broadcastRoomPreviewUpdate(roomCode, chatMessage);
 
@@ -3,11 +3,13 @@ package com.myce.api.util;
 import com.myce.api.dto.message.type.MessageReaderType;
 import com.myce.common.type.LoginType;
 import com.myce.common.type.Role;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.document.type.MessageSenderType;
 
 public final class ChatCacheKeySupporter {
 
     // Shared cache bucket for all admins
-    public static final Long ADMIN_GROUP_MEMBER_ID = -1L;
+    public static final Long ADMIN_GROUP_MEMBER_ID = ChatRoom.ADMIN_GROUP_MEMBER_ID;
 
     private ChatCacheKeySupporter() {
     }
@@ -19,6 +21,24 @@ public final class ChatCacheKeySupporter {
         return memberId;
     }
 
+    /**
+     * 회원 발신자가 없는 메시지(AI/시스템)의 미읽음 카운터 수신자
+     * AI 메시지는 채팅방 참가자, 시스템 메시지는 관리자 그룹 카운터를 올린다.
+     */
+    public static Long resolveReceiverCacheMemberId(String roomCode, MessageSenderType senderType) {
+        MessageReaderType readerType = ChatMessageTypeUtil.getReaderTypeBySender(senderType);
+        if (MessageReaderType.ADMIN.equals(readerType)) {
+            return ADMIN_GROUP_MEMBER_ID;
+        }
+        if (RoomCodeSupporter.isPlatformRoom(roomCode)) {
+            return RoomCodeSupporter.extractMemberIdFromPlatformRoomCode(roomCode);
+        }
+        if (RoomCodeSupporter.isAdminRoom(roomCode)) {
+            return RoomCodeSupporter.extractMemberIdFromRoomCode(roomCode);
+        }
+        return null;
+    }
+
     public static Long resolveCacheMemberId(String roomCode, Long memberId, Role role, LoginType loginType) {
         MessageReaderType readerType = ChatMessageTypeUtil.getReaderType(roomCode, memberId, role, loginType);
         return resolveCacheMemberId(readerType, memberId);
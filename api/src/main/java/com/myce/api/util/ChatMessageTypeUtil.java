@@ -5,6 +5,8 @@ import com.myce.common.type.LoginType;
 import com.myce.common.type.Role;
 import com.myce.domain.document.type.MessageSenderType;
 import com.myce.api.util.RoomCodeSupporter;
+import java.util.EnumSet;
+import java.util.Set;
 
 public class ChatMessageTypeUtil {
 
@@ -83,20 +85,18 @@ public class ChatMessageTypeUtil {
         return MessageSenderType.ADMIN;
     }
 
-    public static MessageSenderType getCounterpartSenderType(
-            String roomCode,
-            Long memberId,
-            Role role,
-            LoginType loginType
-    ) {
-        MessageSenderType senderType = getSenderType(roomCode, memberId, role, loginType);
-        if (MessageSenderType.USER.equals(senderType)) {
-            return RoomCodeSupporter.isPlatformRoom(roomCode)
-                    ? MessageSenderType.PLATFORM_ADMIN
-                    : MessageSenderType.ADMIN;
+    /**
+     * 조회자가 읽어야 하는 발송자 타입 (미읽음 계산 기준)
+     * AI 메시지는 사용자가, 시스템 메시지는 관리자가 읽는다.
+     */
+    public static Set<MessageSenderType> getReadableSenderTypes(MessageReaderType readerType) {
+        Set<MessageSenderType> senderTypes = EnumSet.noneOf(MessageSenderType.class);
+        for (MessageSenderType senderType : MessageSenderType.values()) {
+            if (getReaderTypeBySender(senderType).equals(readerType)) {
+                senderTypes.add(senderType);
+            }
         }
-
-        return MessageSenderType.USER;
+        return senderTypes;
     }
 
     private static boolean isRoomParticipant(String roomCode, Long memberId) {
@@ -0,0 +1,49 @@
+package com.myce.api.util;
+
+import com.myce.common.exception.CustomErrorCode;
+import com.myce.common.exception.CustomException;
+import com.myce.domain.dto.ChatRoomCursor;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 채팅방 목록 커서 문자열 변환
+ * 커서는 "lastMessageAt|id" 를 URL-safe Base64 로 감싼 값으로, 클라이언트는 내용을 해석하지 않고 그대로 넘긴다.
+ */
+public class ChatRoomCursorSupporter {
+
+    private static final String DELIMITER = "|";
+    private static final String NO_MESSAGE = "-";
+
+    public static String encode(ChatRoomCursor cursor) {
+        String lastMessageAt = cursor.lastMessageAt() != null ? cursor.lastMessageAt().toString() : NO_MESSAGE;
+        String raw = lastMessageAt + DELIMITER + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서 (값이 없으면 null)
+     * @throws CustomException 커서 형식이 잘못된 경우
+     */
+    public static ChatRoomCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+            String lastMessageAt = raw.substring(0, delimiterIndex);
+            String id = raw.substring(delimiterIndex + 1);
+            if (id.isEmpty()) {
+                throw new CustomException(CustomErrorCode.CHAT_ROOM_CURSOR_INVALID);
+            }
+            return new ChatRoomCursor(NO_MESSAGE.equals(lastMessageAt) ? null : LocalDateTime.parse(lastMessageAt), id);
+        } catch (CustomException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new CustomException(CustomErrorCode.CHAT_ROOM_CURSOR_INVALID);
+        }
+    }
+}
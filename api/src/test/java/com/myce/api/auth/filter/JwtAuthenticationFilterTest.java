@@ -0,0 +1,76 @@
+package com.myce.api.auth.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String GATEWAY_AUTH_VALUE = "gateway-secret";
+    private static final String INTERNAL_API_AUTH_VALUE = "internal-secret";
+    private static final String INTERNAL_URI = "/internal/chats/message-buckets/rooms/admin-7-10/migrate";
+
+    private final JwtAuthenticationFilter filter =
+            new JwtAuthenticationFilter(GATEWAY_AUTH_VALUE, INTERNAL_API_AUTH_VALUE);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 게이트웨이_인증_값으로는_내부_API_를_호출할_수_없다() throws Exception {
+        MockHttpServletRequest request = request(INTERNAL_URI, GATEWAY_AUTH_VALUE);
+        request.addHeader(InternalHeaderKey.INTERNAL_ROLE, "PLATFORM_ADMIN");
+        request.addHeader(InternalHeaderKey.INTERNAL_LOGIN_TYPE, "ADMIN_CODE");
+        request.addHeader(InternalHeaderKey.INTERNAL_MEMBER_ID, "1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void 서비스_간_인증_값이면_내부_권한을_받는다() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request(INTERNAL_URI, INTERNAL_API_AUTH_VALUE), response, chain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(authentication.getAuthorities())
+                .extracting(Object::toString)
+                .containsExactly(JwtAuthenticationFilter.INTERNAL_AUTHORITY);
+    }
+
+    @Test
+    void 사용자_요청에는_내부_권한을_주지_않는다() throws Exception {
+        MockHttpServletRequest request = request("/api/chats/rooms", GATEWAY_AUTH_VALUE);
+        request.addHeader(InternalHeaderKey.INTERNAL_ROLE, "USER");
+        request.addHeader(InternalHeaderKey.INTERNAL_LOGIN_TYPE, "MEMBER");
+        request.addHeader(InternalHeaderKey.INTERNAL_MEMBER_ID, "10");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+                .extracting(Object::toString)
+                .doesNotContain(JwtAuthenticationFilter.INTERNAL_AUTHORITY);
+    }
+
+    private static MockHttpServletRequest request(String uri, String authValue) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.addHeader(InternalHeaderKey.INTERNAL_AUTH, authValue);
+        return request;
+    }
+}
@@ -0,0 +1,109 @@
+package com.myce.api.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.myce.domain.config.RedisConfig;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers(disabledWithoutDocker = true)
+class ScheduledJobCoordinatorTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    static LettuceConnectionFactory connectionFactory;
+    static RedisTemplate<String, Object> redisTemplate;
+
+    // 같은 Redis 를 보는 두 노드
+    ScheduledJobCoordinator nodeA = new ScheduledJobCoordinator(redisTemplate, 600);
+    ScheduledJobCoordinator nodeB = new ScheduledJobCoordinator(redisTemplate, 600);
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisConfig redisConfig = new RedisConfig();
+        redisTemplate = redisConfig.redisTemplate(connectionFactory, redisConfig.objectMapper());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flushRedis() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @Test
+    void 다른_노드가_실행_중이면_작업을_건너뛴다() {
+        AtomicInteger runs = new AtomicInteger();
+
+        boolean outer = nodeA.runExclusively("admin-timeout", () -> {
+            runs.incrementAndGet();
+            boolean inner = nodeB.runExclusively("admin-timeout", runs::incrementAndGet);
+            assertThat(inner).isFalse();
+        });
+
+        assertThat(outer).isTrue();
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void 작업이_끝나면_잠금을_해제해_다음_실행은_다른_노드가_잡을_수_있다() {
+        nodeA.runExclusively("admin-timeout", () -> { });
+
+        assertThat(nodeB.runExclusively("admin-timeout", () -> { })).isTrue();
+    }
+
+    @Test
+    void 작업이_실패해도_잠금을_해제한다() {
+        try {
+            nodeA.runExclusively("admin-timeout", () -> {
+                throw new IllegalStateException("fail");
+            });
+        } catch (IllegalStateException ignored) {
+        }
+
+        assertThat(nodeB.runExclusively("admin-timeout", () -> { })).isTrue();
+    }
+
+    @Test
+    void 다른_작업의_잠금과는_겹치지_않는다() {
+        AtomicInteger runs = new AtomicInteger();
+
+        nodeA.runExclusively("admin-timeout",
+                () -> nodeB.runExclusively("unread-cleanup", runs::incrementAndGet));
+
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void 기준_시각은_노드가_바뀌어도_이어진다() {
+        LocalDateTime watermark = LocalDateTime.of(2026, 1, 1, 12, 30, 15);
+
+        assertThat(nodeB.getWatermark("unread-cleanup")).isNull();
+        nodeA.saveWatermark("unread-cleanup", watermark);
+
+        assertThat(nodeB.getWatermark("unread-cleanup")).isEqualTo(watermark);
+    }
+}
@@ -0,0 +1,91 @@
+package com.myce.api.schedule.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.myce.api.schedule.ScheduledJobCoordinator;
+import com.myce.api.service.ChatMessageService;
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.repository.CachedChatRoomRepository;
+import com.myce.domain.repository.ChatRoomRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+class AdminTimeoutSchedulerTest {
+
+    private static final String JOB_NAME = "admin-timeout";
+
+    private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+    private final CachedChatRoomRepository cachedChatRoomRepository = mock(CachedChatRoomRepository.class);
+    private final ChatMessageService chatMessageService = mock(ChatMessageService.class);
+    private final ScheduledJobCoordinator jobCoordinator = mock(ScheduledJobCoordinator.class);
+
+    private AdminTimeoutScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new AdminTimeoutScheduler(chatRoomRepository, cachedChatRoomRepository,
+                chatMessageService, mock(SimpMessagingTemplate.class), jobCoordinator);
+    }
+
+    @Test
+    void 잠금을_잡은_노드만_비활성_담당자를_조회한다() {
+        when(jobCoordinator.runExclusively(eq(JOB_NAME), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        when(chatRoomRepository.findByCurrentAdminCodeIsNotNullAndLastAdminActivityBefore(any()))
+                .thenReturn(List.of());
+
+        scheduler.run();
+
+        verify(chatRoomRepository).findByCurrentAdminCodeIsNotNullAndLastAdminActivityBefore(any());
+    }
+
+    @Test
+    void 잠금을_잡지_못한_노드는_처리하지_않는다() {
+        when(jobCoordinator.runExclusively(eq(JOB_NAME), any())).thenReturn(false);
+
+        scheduler.run();
+
+        verify(chatRoomRepository, never()).findByCurrentAdminCodeIsNotNullAndLastAdminActivityBefore(any());
+    }
+
+    @Test
+    void 플랫폼_채팅방_AI_전환_메시지는_seq_를_발급하는_공통_저장_경로로_저장한다() {
+        ChatRoom room = ChatRoom.builder()
+                .roomCode("platform-10")
+                .memberId(10L)
+                .build();
+        room.assignAdmin("ADMIN-1");
+        ChatMessage aiMessage = ChatMessage.builder()
+                .roomCode("platform-10")
+                .seq(42L)
+                .senderType(MessageSenderType.AI)
+                .senderId(-1L)
+                .senderName("AI")
+                .content("전환")
+                .build();
+        when(chatRoomRepository.findByCurrentAdminCodeIsNotNullAndLastAdminActivityBefore(any()))
+                .thenReturn(List.of(room));
+        when(chatMessageService.saveAIChatMessage(eq("platform-10"), anyString())).thenReturn(aiMessage);
+        when(cachedChatRoomRepository.save(room)).thenReturn(room);
+
+        scheduler.process();
+
+        // seq 는 저장 방식(document/bucket)과 관계없이 ChatMessageService 의 AI 메시지 저장 경로에서 발급된다
+        verify(chatMessageService).saveAIChatMessage(eq("platform-10"), anyString());
+        verify(cachedChatRoomRepository).save(room);
+        assertThat(room.getCurrentAdminCode()).isNull();
+    }
+}
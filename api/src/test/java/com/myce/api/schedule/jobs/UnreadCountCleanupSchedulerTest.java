@@ -0,0 +1,104 @@
+package com.myce.api.schedule.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.myce.api.schedule.ScheduledJobCoordinator;
+import com.myce.api.service.ChatUnreadService;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.repository.ChatMessageStore;
+import com.myce.domain.repository.ChatRoomRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class UnreadCountCleanupSchedulerTest {
+
+    private static final String JOB_NAME = "unread-cleanup";
+    private static final LocalDateTime WATERMARK = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final ChatUnreadService chatUnreadService = mock(ChatUnreadService.class);
+    private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+    private final ChatMessageStore chatMessageStore = mock(ChatMessageStore.class);
+    private final ScheduledJobCoordinator jobCoordinator = mock(ScheduledJobCoordinator.class);
+
+    private UnreadCountCleanupScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new UnreadCountCleanupScheduler(chatUnreadService, chatRoomRepository, chatMessageStore,
+                jobCoordinator);
+        ReflectionTestUtils.setField(scheduler, "batchSize", 2);
+        when(jobCoordinator.runExclusively(eq(JOB_NAME), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+    }
+
+    @Test
+    void 저장된_기준_시각부터_keyset으로_이어서_조회하고_기준_시각을_저장한다() {
+        when(jobCoordinator.getWatermark(JOB_NAME)).thenReturn(WATERMARK);
+        ChatRoom first = room("room-1", WATERMARK.plusMinutes(1));
+        ChatRoom second = room("room-2", WATERMARK.plusMinutes(2));
+        ChatRoom third = room("room-3", WATERMARK.plusMinutes(3));
+        LocalDateTime from = WATERMARK.minusMinutes(1);
+        when(chatRoomRepository.findUpdatedRoomsAfter(from, null, 2)).thenReturn(List.of(first, second));
+        when(chatRoomRepository.findUpdatedRoomsAfter(second.getUpdatedAt(), "id-room-2", 2))
+                .thenReturn(List.of(third));
+
+        LocalDateTime before = LocalDateTime.now();
+        scheduler.run();
+
+        verify(chatRoomRepository).findUpdatedRoomsAfter(from, null, 2);
+        verify(chatRoomRepository).findUpdatedRoomsAfter(second.getUpdatedAt(), "id-room-2", 2);
+        ArgumentCaptor<LocalDateTime> saved = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jobCoordinator).saveWatermark(eq(JOB_NAME), saved.capture());
+        assertThat(saved.getValue()).isAfterOrEqualTo(before);
+    }
+
+    @Test
+    void 기준_시각이_없으면_전체_채팅방을_백필한다() {
+        when(chatRoomRepository.findUpdatedRoomsAfter(any(), any(), eq(2))).thenReturn(List.of());
+
+        scheduler.run();
+
+        verify(chatRoomRepository).findUpdatedRoomsAfter(LocalDateTime.of(1970, 1, 1, 0, 0), null, 2);
+    }
+
+    @Test
+    void 잠금을_잡지_못하면_처리하지_않는다() {
+        when(jobCoordinator.runExclusively(eq(JOB_NAME), any())).thenReturn(false);
+
+        scheduler.run();
+
+        verify(chatRoomRepository, never()).findUpdatedRoomsAfter(any(), any(), eq(2));
+        verify(jobCoordinator, never()).saveWatermark(anyString(), any());
+    }
+
+    @Test
+    void stored_모드에서는_실행하지_않는다() {
+        when(chatUnreadService.isStoredUnreadMode()).thenReturn(true);
+
+        scheduler.run();
+
+        verify(jobCoordinator, never()).runExclusively(anyString(), any());
+    }
+
+    private ChatRoom room(String roomCode, LocalDateTime updatedAt) {
+        ChatRoom room = mock(ChatRoom.class);
+        when(room.getRoomCode()).thenReturn(roomCode);
+        when(room.getId()).thenReturn("id-" + roomCode);
+        when(room.getUpdatedAt()).thenReturn(updatedAt);
+        return room;
+    }
+}
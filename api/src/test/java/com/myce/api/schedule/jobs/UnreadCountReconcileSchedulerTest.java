@@ -0,0 +1,75 @@
+package com.myce.api.schedule.jobs;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.myce.api.schedule.ScheduledJobCoordinator;
+import com.myce.api.service.ChatUnreadService;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.repository.ChatRoomRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class UnreadCountReconcileSchedulerTest {
+
+    private static final String JOB_NAME = "unread-reconcile";
+    private static final LocalDateTime WATERMARK = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final ChatUnreadService chatUnreadService = mock(ChatUnreadService.class);
+    private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+    private final ScheduledJobCoordinator jobCoordinator = mock(ScheduledJobCoordinator.class);
+
+    private UnreadCountReconcileScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new UnreadCountReconcileScheduler(chatUnreadService, chatRoomRepository, jobCoordinator);
+        ReflectionTestUtils.setField(scheduler, "batchSize", 2);
+        when(chatUnreadService.isRedisUnreadSource()).thenReturn(true);
+        when(jobCoordinator.runExclusively(eq(JOB_NAME), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+    }
+
+    @Test
+    void 저장된_기준_시각부터_keyset으로_점검하고_기준_시각을_저장한다() {
+        when(jobCoordinator.getWatermark(JOB_NAME)).thenReturn(WATERMARK);
+        ChatRoom first = room("room-1", WATERMARK.plusMinutes(1));
+        ChatRoom second = room("room-2", WATERMARK.plusMinutes(1));
+        LocalDateTime from = WATERMARK.minusMinutes(1);
+        when(chatRoomRepository.findUpdatedRoomsAfter(from, null, 2)).thenReturn(List.of(first, second));
+        when(chatRoomRepository.findUpdatedRoomsAfter(second.getUpdatedAt(), "id-room-2", 2)).thenReturn(List.of());
+
+        scheduler.run();
+
+        verify(chatUnreadService).reconcileUnreadCounters(List.of(first, second));
+        verify(chatRoomRepository).findUpdatedRoomsAfter(second.getUpdatedAt(), "id-room-2", 2);
+        verify(jobCoordinator).saveWatermark(eq(JOB_NAME), any());
+    }
+
+    @Test
+    void mongo_기준이면_점검하지_않는다() {
+        when(chatUnreadService.isRedisUnreadSource()).thenReturn(false);
+
+        scheduler.run();
+
+        verify(jobCoordinator, never()).runExclusively(anyString(), any());
+    }
+
+    private ChatRoom room(String roomCode, LocalDateTime updatedAt) {
+        ChatRoom room = mock(ChatRoom.class);
+        when(room.getRoomCode()).thenReturn(roomCode);
+        when(room.getId()).thenReturn("id-" + roomCode);
+        when(room.getUpdatedAt()).thenReturn(updatedAt);
+        return room;
+    }
+}
@@ -0,0 +1,150 @@
+package com.myce.api.service.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+class ChatFanoutExecutorTest {
+
+    private ChatFanoutExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void 같은_채팅방_작업은_등록한_순서대로_실행된다() throws Exception {
+        executor = new ChatFanoutExecutor(new SimpleMeterRegistry(), true, 4, 100, 100);
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(50);
+
+        for (int i = 0; i < 50; i++) {
+            int order = i;
+            executor.execute("platform-1", () -> {
+                executed.add(order);
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).isSorted().hasSize(50);
+    }
+
+    @Test
+    void 자리가_없으면_작업을_등록하기_전에_거부하고_반납한_자리는_다시_쓸_수_있다() throws Exception {
+        executor = new ChatFanoutExecutor(new SimpleMeterRegistry(), true, 1, 1, 10);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute("platform-1", () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        ChatFanoutExecutor.Reservation reservation = executor.reserve("platform-1");
+        assertThatThrownBy(() -> executor.reserve("platform-1")).isInstanceOf(RejectedExecutionException.class);
+
+        reservation.cancel();
+        ChatFanoutExecutor.Reservation retried = executor.reserve("platform-1");
+        CountDownLatch ran = new CountDownLatch(1);
+        retried.execute(ran::countDown);
+        release.countDown();
+
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void 트랜잭션_안에서는_자리를_먼저_확보하고_커밋된_뒤에_실행한다() throws Exception {
+        executor = new ChatFanoutExecutor(new SimpleMeterRegistry(), true, 1, 1, 10);
+        CountDownLatch release = blockWorker();
+        CountDownLatch ran = new CountDownLatch(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            executor.execute("platform-1", ran::countDown);
+            assertThatThrownBy(() -> executor.execute("platform-1", () -> { }))
+                    .isInstanceOf(RejectedExecutionException.class);
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        release.countDown();
+
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void 트랜잭션이_롤백되면_확보한_자리를_반납하고_작업은_실행하지_않는다() throws Exception {
+        executor = new ChatFanoutExecutor(new SimpleMeterRegistry(), true, 1, 1, 10);
+        CountDownLatch release = blockWorker();
+        List<String> executed = new CopyOnWriteArrayList<>();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            executor.execute("platform-1", () -> executed.add("rolled back"));
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        CountDownLatch ran = new CountDownLatch(1);
+        executor.reserve("platform-1").execute(ran::countDown);
+        release.countDown();
+
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).isEmpty();
+    }
+
+    @Test
+    void 종료_중에_등록한_작업도_실행된다() {
+        executor = new ChatFanoutExecutor(new SimpleMeterRegistry(), true, 1, 10, 10);
+        ChatFanoutExecutor.Reservation reservation = executor.reserve("platform-1");
+        executor.shutdown();
+
+        List<String> executed = new CopyOnWriteArrayList<>();
+        reservation.execute(() -> executed.add("late"));
+
+        assertThat(executed).containsExactly("late");
+    }
+
+    /**
+     * 작업 스레드를 막아 두고 (큐 자리는 비어 있다) 풀어 줄 래치를 돌려준다
+     */
+    private CountDownLatch blockWorker() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute("platform-1", () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        return release;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.myce.api.service.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.repository.SequenceGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ChatMessageCreateComponentTest {
+
+    private static final String ROOM_CODE = "platform-10";
+
+    private final SequenceGenerator sequenceGenerator = mock(SequenceGenerator.class);
+    private final ChatMessageCreateComponent createComponent = new ChatMessageCreateComponent(sequenceGenerator);
+
+    @BeforeEach
+    void setUp() {
+        when(sequenceGenerator.generateMessageSequence(ROOM_CODE)).thenReturn(41L, 42L, 43L);
+    }
+
+    @Test
+    void 모든_메시지_종류에_채팅방_seq_를_발급한다() {
+        ChatMessage userMessage = createComponent.createMessage(ROOM_CODE, MessageSenderType.USER, 10L, "사용자", "문의");
+        ChatMessage aiMessage = createComponent.createAIMessage(ROOM_CODE, "AI 가 상담을 이어받았습니다.");
+        ChatMessage systemMessage = createComponent.createSystemMessage(ROOM_CODE, "상담원 연결");
+
+        assertThat(userMessage.getSeq()).isEqualTo(41L);
+        assertThat(aiMessage.getSeq()).isEqualTo(42L);
+        assertThat(systemMessage.getSeq()).isEqualTo(43L);
+        assertThat(aiMessage.getSenderType()).isEqualTo(MessageSenderType.AI);
+        assertThat(aiMessage.getUnreadCount()).isZero();
+    }
+}
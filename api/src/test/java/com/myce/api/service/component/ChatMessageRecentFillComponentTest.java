@@ -0,0 +1,134 @@
+package com.myce.api.service.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.dto.RecentMessageFill;
+import com.myce.domain.repository.ChatMessageCacheRepository;
+import com.myce.domain.repository.ChatMessageStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+class ChatMessageRecentFillComponentTest {
+
+    private static final String ROOM_CODE = "admin-7-10";
+    private static final Pageable PAGEABLE = PageRequest.of(0, 2);
+
+    private final ChatMessageStore chatMessageStore = mock(ChatMessageStore.class);
+    private final ChatMessageCacheRepository cacheRepository = mock(ChatMessageCacheRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ChatMessageRecentFillComponent fillComponent = new ChatMessageRecentFillComponent(
+            chatMessageStore, cacheRepository, meterRegistry, 3000, 200);
+
+    @Test
+    void 같은_노드의_동시_요청은_한_번만_조회한다() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(cacheRepository.tryBeginRecentFill(eq(ROOM_CODE), any())).thenReturn(fill());
+        when(chatMessageStore.findPage(ROOM_CODE, PAGEABLE)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return page(message(2L), message(1L));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Page<ChatMessage>> leader = executor.submit(
+                    () -> fillComponent.loadFirstPage(ROOM_CODE, PAGEABLE, true));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Page<ChatMessage>> follower = executor.submit(
+                    () -> fillComponent.loadFirstPage(ROOM_CODE, PAGEABLE, true));
+            // 뒤 요청이 진행 중인 조회에 합류할 때까지 대기
+            while (meterRegistry.counter("chat.message.recent.fill", "result", "coalesced").count() < 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS).getContent()).hasSize(2);
+            assertThat(follower.get(5, TimeUnit.SECONDS).getContent()).hasSize(2);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(chatMessageStore, times(1)).findPage(ROOM_CODE, PAGEABLE);
+        verify(cacheRepository, times(1)).completeRecentFill(any(), anyList());
+    }
+
+    @Test
+    void 임대를_잡지_못하면_다른_노드가_채운_캐시로_응답한다() {
+        when(cacheRepository.tryBeginRecentFill(eq(ROOM_CODE), any())).thenReturn(null);
+        when(cacheRepository.getCachedRecentMessages(ROOM_CODE, 2))
+                .thenReturn(List.of())
+                .thenReturn(List.of(message(2L), message(1L)));
+
+        Page<ChatMessage> messagePage = fillComponent.loadFirstPage(ROOM_CODE, PAGEABLE, true);
+
+        assertThat(messagePage.getContent()).extracting(ChatMessage::getSeq).containsExactly(2L, 1L);
+        verify(chatMessageStore, never()).findPage(any(), any());
+        assertThat(meterRegistry.counter("chat.message.recent.fill", "result", "wait_hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 캐시로_채울_수_없는_페이지는_기다리지_않고_조회한다() {
+        when(cacheRepository.tryBeginRecentFill(eq(ROOM_CODE), any())).thenReturn(null);
+        when(chatMessageStore.findPage(ROOM_CODE, PAGEABLE)).thenReturn(page(message(1L)));
+
+        fillComponent.loadFirstPage(ROOM_CODE, PAGEABLE, false);
+
+        verify(cacheRepository, never()).getCachedRecentMessages(any(), anyInt());
+        verify(chatMessageStore).findPage(ROOM_CODE, PAGEABLE);
+        assertThat(meterRegistry.counter("chat.message.recent.fill", "result", "wait_miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 조회_결과가_없으면_캐시를_채우지_않고_임대를_푼다() {
+        RecentMessageFill fill = fill();
+        when(cacheRepository.tryBeginRecentFill(eq(ROOM_CODE), any())).thenReturn(fill);
+        when(chatMessageStore.findPage(ROOM_CODE, PAGEABLE)).thenReturn(page());
+
+        fillComponent.loadFirstPage(ROOM_CODE, PAGEABLE, true);
+
+        verify(cacheRepository).cancelRecentFill(fill);
+        verify(cacheRepository, never()).completeRecentFill(any(), anyList());
+    }
+
+    private static RecentMessageFill fill() {
+        return new RecentMessageFill(ROOM_CODE, "token", null);
+    }
+
+    private static Page<ChatMessage> page(ChatMessage... messages) {
+        return new PageImpl<>(List.of(messages), PAGEABLE, messages.length);
+    }
+
+    private static ChatMessage message(Long seq) {
+        return ChatMessage.builder()
+                .roomCode(ROOM_CODE)
+                .seq(seq)
+                .senderId(10L)
+                .senderType(MessageSenderType.USER)
+                .senderName("사용자")
+                .content("내용")
+                .messageType("TEXT")
+                .build();
+    }
+}
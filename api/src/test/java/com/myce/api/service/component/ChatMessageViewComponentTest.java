@@ -0,0 +1,98 @@
+package com.myce.api.service.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myce.api.dto.response.ChatMessagePageResponse;
+import com.myce.api.dto.response.ChatMessageResponse;
+import com.myce.api.mapper.ChatMessageMapper;
+import com.myce.api.service.ChatUnreadService;
+import com.myce.common.dto.PageResponse;
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.type.MessageSenderType;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class ChatMessageViewComponentTest {
+
+    private static final String ROOM_CODE = "admin-7-10";
+    private static final Map<String, Long> READ_STATUS = Map.of("ADMIN", 2L);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ChatUnreadService unreadService = mock(ChatUnreadService.class);
+    private final ChatMessageViewComponent viewComponent = new ChatMessageViewComponent(objectMapper, unreadService);
+
+    @BeforeEach
+    void setUp() {
+        // 읽음 상태 이하 seq 는 읽은 메시지
+        when(unreadService.resolveUnreadCount(anyString(), any(), any(), anyInt(), any()))
+                .thenAnswer(invocation -> {
+                    Long seq = invocation.getArgument(1);
+                    int unreadCount = invocation.getArgument(3);
+                    return seq != null && seq <= READ_STATUS.get("ADMIN") ? 0 : unreadCount;
+                });
+    }
+
+    @Test
+    void 응답_조각으로_만든_페이지와_DTO_페이지의_JSON_이_같다() throws Exception {
+        List<ChatMessage> messages = List.of(
+                message(3L, MessageSenderType.USER, "따옴표 \"와\" 줄바꿈\n, 이모지 😀", "사용자"),
+                message(2L, MessageSenderType.USER, "<script>alert('x')</script>", null),
+                message(1L, MessageSenderType.AI, "안녕하세요", "AI"));
+
+        byte[] rendered = viewComponent.writePage(ROOM_CODE, viewComponent.render(messages), READ_STATUS,
+                1, 3, 3, 1);
+        PageResponse<ChatMessageResponse> page = new PageResponse<>(messages.stream()
+                .map(message -> ChatMessageMapper.toResponse(message, unreadService.resolveUnreadCount(
+                        message.getRoomCode(), message.getSeq(), message.getSenderType(), message.getUnreadCount(),
+                        READ_STATUS)))
+                .toList(), 1, 3, 3, 1);
+
+        // HTTP 응답과 같이 UTF-8 바이트로 직렬화해 비교한다
+        String dtoJson = new String(objectMapper.writeValueAsBytes(ChatMessagePageResponse.of(page)),
+                StandardCharsets.UTF_8);
+        String renderedJson = new String(objectMapper.writeValueAsBytes(ChatMessagePageResponse.rendered(rendered)),
+                StandardCharsets.UTF_8);
+
+        assertThat(renderedJson).isEqualTo(dtoJson);
+        assertThat(dtoJson).isEqualTo(new String(objectMapper.writeValueAsBytes(page), StandardCharsets.UTF_8));
+        assertThat(objectMapper.readTree(renderedJson)).isEqualTo(objectMapper.readTree(
+                objectMapper.writeValueAsString(page)));
+        assertThat(objectMapper.readTree(renderedJson).path("content").get(0).path("unreadCount").asInt())
+                .isEqualTo(1);
+        assertThat(objectMapper.readTree(renderedJson).path("content").get(1).path("unreadCount").asInt())
+                .isZero();
+    }
+
+    @Test
+    void unreadCount_는_메시지_응답의_마지막_필드다() throws Exception {
+        String json = objectMapper.writeValueAsString(
+                ChatMessageMapper.toViewResponse(message(1L, MessageSenderType.USER, "내용", "사용자")));
+
+        assertThat(json).endsWith("\"unreadCount\":null}");
+        assertThat(viewComponent.render(List.of(message(1L, MessageSenderType.USER, "내용", "사용자"))))
+                .hasSize(1);
+    }
+
+    private static ChatMessage message(Long seq, MessageSenderType senderType, String content, String senderName) {
+        return ChatMessage.builder()
+                .roomCode(ROOM_CODE)
+                .seq(seq)
+                .senderId(10L)
+                .senderType(senderType)
+                .senderName(senderName)
+                .content(content)
+                .messageType("TEXT")
+                .unreadCount(1)
+                .build();
+    }
+}
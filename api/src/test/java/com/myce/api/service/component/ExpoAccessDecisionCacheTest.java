@@ -0,0 +1,184 @@
+package com.myce.api.service.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.myce.api.service.client.ExpoClient;
+import com.myce.common.type.LoginType;
+import com.myce.domain.config.RedisConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers(disabledWithoutDocker = true)
+class ExpoAccessDecisionCacheTest {
+
+    private static final Long EXPO_ID = 7L;
+    private static final Long OTHER_EXPO_ID = 8L;
+    private static final Long ADMIN_ID = 5L;
+    private static final Long MEMBER_ID = 10L;
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    static LettuceConnectionFactory connectionFactory;
+    static RedisTemplate<String, Object> redisTemplate;
+
+    private final ExpoClient expoClient = mock(ExpoClient.class);
+    // 같은 Redis 를 보는 두 노드
+    private ExpoAccessDecisionCache nodeA;
+    private ExpoAccessDecisionCache nodeB;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisConfig redisConfig = new RedisConfig();
+        redisTemplate = redisConfig.redisTemplate(connectionFactory, redisConfig.objectMapper());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        nodeA = newNode();
+        nodeB = newNode();
+        when(expoClient.checkAdminExpoAccessible(EXPO_ID, ADMIN_ID)).thenReturn(true);
+        when(expoClient.checkMemberExpoOwner(EXPO_ID, MEMBER_ID)).thenReturn(false);
+        when(expoClient.checkAdminExpoAccessible(OTHER_EXPO_ID, ADMIN_ID)).thenReturn(true);
+    }
+
+    @Test
+    void 같은_노드의_반복_확인은_원격_호출을_한_번만_한다() {
+        assertThat(nodeA.isAdminExpoAccessible(EXPO_ID, ADMIN_ID)).isTrue();
+        assertThat(nodeA.isAdminExpoAccessible(EXPO_ID, ADMIN_ID)).isTrue();
+        assertThat(nodeA.isMemberExpoOwner(EXPO_ID, MEMBER_ID)).isFalse();
+        assertThat(nodeA.isMemberExpoOwner(EXPO_ID, MEMBER_ID)).isFalse();
+
+        verify(expoClient, times(1)).checkAdminExpoAccessible(EXPO_ID, ADMIN_ID);
+        verify(expoClient, times(1)).checkMemberExpoOwner(EXPO_ID, MEMBER_ID);
+    }
+
+    @Test
+    void 다른_노드는_Redis_에_저장된_판정을_쓴다() {
+        nodeA.isAdminExpoAccessible(EXPO_ID, ADMIN_ID);
+        nodeA.isMemberExpoOwner(EXPO_ID, MEMBER_ID);
+
+        assertThat(nodeB.isAdminExpoAccessible(EXPO_ID, ADMIN_ID)).isTrue();
+        assertThat(nodeB.isMemberExpoOwner(EXPO_ID, MEMBER_ID)).isFalse();
+
+        verify(expoClient, times(1)).checkAdminExpoAccessible(EXPO_ID, ADMIN_ID);
+        verify(expoClient, times(1)).checkMemberExpoOwner(EXPO_ID, MEMBER_ID);
+    }
+
+    @Test
+    void 거부_판정은_허용보다_짧게_캐시한다() {
+        nodeA.isAdminExpoAccessible(EXPO_ID, ADMIN_ID);
+        nodeA.isMemberExpoOwner(EXPO_ID, MEMBER_ID);
+
+        Long allowTtl = redisTemplate.getExpire(accessKey(EXPO_ID, LoginType.ADMIN_CODE, ADMIN_ID));
+        Long denyTtl = redisTemplate.getExpire(accessKey(EXPO_ID, LoginType.MEMBER, MEMBER_ID));
+
+        assertThat(allowTtl).isBetween(11L, 60L);
+        assertThat(denyTtl).isBetween(1L, 10L);
+    }
+
+    @Test
+    void 박람회_단위로_삭제하면_그_박람회_판정만_다시_확인한다() {
+        nodeA.isAdminExpoAccessible(EXPO_ID, ADMIN_ID);
+        nodeA.isMemberExpoOwner(EXPO_ID, MEMBER_ID);
+        nodeA.isAdminExpoAccessible(OTHER_EXPO_ID, ADMIN_ID);
+
+        nodeA.evict(EXPO_ID, null, null);
+
+        assertThat(redisTemplate.hasKey(accessKey(EXPO_ID, LoginType.ADMIN_CODE, ADMIN_ID))).isFalse();
+        assertThat(redisTemplate.hasKey(accessKey(EXPO_ID, LoginType.MEMBER, MEMBER_ID))).isFalse();
+        assertThat(redisTemplate.hasKey(accessKey(OTHER_EXPO_ID, LoginType.ADMIN_CODE, ADMIN_ID))).isTrue();
+
+        nodeA.isAdminExpoAccessible(EXPO_ID, ADMIN_ID);
+        nodeA.isAdminExpoAccessible(OTHER_EXPO_ID, ADMIN_ID);
+        verify(expoClient, times(2)).checkAdminExpoAccessible(EXPO_ID, ADMIN_ID);
+        verify(expoClient, times(1)).checkAdminExpoAccessible(OTHER_EXPO_ID, ADMIN_ID);
+    }
+
+    @Test
+    void 사용자와_로그인_타입을_지정하면_그_판정만_삭제한다() {
+        nodeA.isAdminExpoAccessible(EXPO_ID, ADMIN_ID);
+        nodeA.isMemberExpoOwner(EXPO_ID, MEMBER_ID);
+
+        nodeA.evict(EXPO_ID, MEMBER_ID, LoginType.MEMBER);
+
+        assertThat(redisTemplate.hasKey(accessKey(EXPO_ID, LoginType.MEMBER, MEMBER_ID))).isFalse();
+        assertThat(redisTemplate.hasKey(accessKey(EXPO_ID, LoginType.ADMIN_CODE, ADMIN_ID))).isTrue();
+        nodeA.isAdminExpoAccessible(EXPO_ID, ADMIN_ID);
+        verify(expoClient, times(1)).checkAdminExpoAccessible(EXPO_ID, ADMIN_ID);
+    }
+
+    @Test
+    void 다른_노드의_삭제_알림을_받으면_L1_을_지운다() {
+        nodeB.isAdminExpoAccessible(EXPO_ID, ADMIN_ID);
+        nodeA.evict(EXPO_ID, ADMIN_ID, LoginType.ADMIN_CODE);
+
+        // nodeA 가 보낸 알림을 nodeB 가 수신
+        nodeB.onMessage(invalidateMessage("other-node|" + EXPO_ID + "|" + ADMIN_ID + "|ADMIN_CODE"), null);
+        nodeB.isAdminExpoAccessible(EXPO_ID, ADMIN_ID);
+
+        verify(expoClient, times(2)).checkAdminExpoAccessible(EXPO_ID, ADMIN_ID);
+    }
+
+    @Test
+    void 원격_확인_도중_삭제되면_결과를_캐시하지_않는다() {
+        when(expoClient.checkAdminExpoAccessible(EXPO_ID, ADMIN_ID)).thenAnswer(invocation -> {
+            nodeA.evict(EXPO_ID, null, null);
+            return true;
+        }).thenReturn(true);
+
+        nodeA.isAdminExpoAccessible(EXPO_ID, ADMIN_ID);
+
+        assertThat(redisTemplate.hasKey(accessKey(EXPO_ID, LoginType.ADMIN_CODE, ADMIN_ID))).isFalse();
+        nodeA.isAdminExpoAccessible(EXPO_ID, ADMIN_ID);
+        verify(expoClient, times(2)).checkAdminExpoAccessible(EXPO_ID, ADMIN_ID);
+    }
+
+    private ExpoAccessDecisionCache newNode() {
+        return new ExpoAccessDecisionCache(expoClient, redisTemplate, mock(RedisMessageListenerContainer.class),
+                new SimpleMeterRegistry(), true, 60, 10, 100);
+    }
+
+    private static String accessKey(Long expoId, LoginType loginType, Long memberId) {
+        return String.format("chat:access:%d:%s:%d", expoId, loginType.name(), memberId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DefaultMessage invalidateMessage(String payload) {
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        return new DefaultMessage("chat:access:invalidate".getBytes(StandardCharsets.UTF_8),
+                valueSerializer.serialize(payload));
+    }
+}
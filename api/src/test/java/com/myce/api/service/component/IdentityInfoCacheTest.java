@@ -0,0 +1,144 @@
+package com.myce.api.service.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.myce.api.dto.AdminCodeInfo;
+import com.myce.api.dto.MemberInfo;
+import com.myce.api.service.client.ExpoClient;
+import com.myce.api.service.client.MemberClient;
+import com.myce.common.exception.CustomErrorCode;
+import com.myce.common.exception.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class IdentityInfoCacheTest {
+
+    private static final Long ADMIN_ID = 5L;
+    private static final Long MEMBER_ID = 10L;
+
+    private final ExpoClient expoClient = mock(ExpoClient.class);
+    private final MemberClient memberClient = mock(MemberClient.class);
+
+    private IdentityInfoCache identityInfoCache;
+
+    @AfterEach
+    void tearDown() {
+        if (identityInfoCache != null) {
+            identityInfoCache.shutdown();
+        }
+    }
+
+    @Test
+    void 한_번_불러온_정보는_다시_호출하지_않는다() {
+        identityInfoCache = newCache(300, 1800);
+        when(expoClient.getAdminCodeInto(ADMIN_ID)).thenReturn(new AdminCodeInfo("CODE-1"));
+        when(memberClient.getMemberInfo(MEMBER_ID)).thenReturn(new MemberInfo("사용자", "USER", "BRONZE"));
+
+        identityInfoCache.getAdminCodeInfo(ADMIN_ID);
+        identityInfoCache.getMemberInfo(MEMBER_ID);
+
+        assertThat(identityInfoCache.getAdminCodeInfo(ADMIN_ID).getCode()).isEqualTo("CODE-1");
+        assertThat(identityInfoCache.getMemberInfo(MEMBER_ID).getName()).isEqualTo("사용자");
+        verify(expoClient, times(1)).getAdminCodeInto(ADMIN_ID);
+        verify(memberClient, times(1)).getMemberInfo(MEMBER_ID);
+    }
+
+    @Test
+    void 동시에_처음_조회하면_한_번만_호출한다() throws Exception {
+        identityInfoCache = newCache(300, 1800);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(memberClient.getMemberInfo(MEMBER_ID)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new MemberInfo("사용자", "USER", "BRONZE");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<MemberInfo> first = executor.submit(() -> identityInfoCache.getMemberInfo(MEMBER_ID));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<MemberInfo> second = executor.submit(() -> identityInfoCache.getMemberInfo(MEMBER_ID));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).getName()).isEqualTo("사용자");
+            assertThat(second.get(5, TimeUnit.SECONDS).getName()).isEqualTo("사용자");
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(memberClient, times(1)).getMemberInfo(MEMBER_ID);
+    }
+
+    @Test
+    void 새로고침_시점이_지나면_기존_값을_바로_주고_백그라운드에서_다시_불러온다() throws Exception {
+        identityInfoCache = newCache(1, 60);
+        // 다시 불러오기는 조회가 끝난 뒤에 완료되도록 막아 둔다
+        CountDownLatch release = new CountDownLatch(1);
+        when(memberClient.getMemberInfo(MEMBER_ID))
+                .thenReturn(new MemberInfo("이전 이름", "USER", "BRONZE"))
+                .thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return new MemberInfo("새 이름", "USER", "BRONZE");
+                });
+        identityInfoCache.getMemberInfo(MEMBER_ID);
+        Thread.sleep(1100);
+
+        assertThat(identityInfoCache.getMemberInfo(MEMBER_ID).getName()).isEqualTo("이전 이름");
+        release.countDown();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!"새 이름".equals(identityInfoCache.getMemberInfo(MEMBER_ID).getName())
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(identityInfoCache.getMemberInfo(MEMBER_ID).getName()).isEqualTo("새 이름");
+        verify(memberClient, times(2)).getMemberInfo(MEMBER_ID);
+    }
+
+    @Test
+    void 없는_회원과_조회_실패는_캐시하지_않는다() {
+        identityInfoCache = newCache(300, 1800);
+        when(memberClient.getMemberInfo(MEMBER_ID)).thenReturn(null);
+        when(expoClient.getAdminCodeInto(ADMIN_ID))
+                .thenThrow(new CustomException(CustomErrorCode.MEMBER_NOT_EXIST))
+                .thenReturn(new AdminCodeInfo("CODE-1"));
+
+        assertThat(identityInfoCache.getMemberInfo(MEMBER_ID)).isNull();
+        assertThat(identityInfoCache.getMemberInfo(MEMBER_ID)).isNull();
+        assertThatThrownBy(() -> identityInfoCache.getAdminCodeInfo(ADMIN_ID))
+                .isInstanceOf(CustomException.class);
+
+        assertThat(identityInfoCache.getAdminCodeInfo(ADMIN_ID).getCode()).isEqualTo("CODE-1");
+        verify(memberClient, times(2)).getMemberInfo(MEMBER_ID);
+        verify(expoClient, times(2)).getAdminCodeInto(ADMIN_ID);
+    }
+
+    @Test
+    void 캐시를_끄면_매번_호출한다() {
+        identityInfoCache = new IdentityInfoCache(expoClient, memberClient, new SimpleMeterRegistry(), false,
+                300, 1800, 100, 1);
+        when(expoClient.getAdminCodeInto(ADMIN_ID)).thenReturn(new AdminCodeInfo("CODE-1"));
+
+        identityInfoCache.getAdminCodeInfo(ADMIN_ID);
+        identityInfoCache.getAdminCodeInfo(ADMIN_ID);
+
+        verify(expoClient, times(2)).getAdminCodeInto(ADMIN_ID);
+    }
+
+    private IdentityInfoCache newCache(long refreshAfterWriteSeconds, long expireAfterWriteSeconds) {
+        return new IdentityInfoCache(expoClient, memberClient, new SimpleMeterRegistry(), true,
+                refreshAfterWriteSeconds, expireAfterWriteSeconds, 100, 1);
+    }
+}
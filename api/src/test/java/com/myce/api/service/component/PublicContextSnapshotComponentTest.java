@@ -0,0 +1,181 @@
+package com.myce.api.service.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.myce.api.ai.context.PublicContext;
+import com.myce.api.dto.ExpoInfo;
+import com.myce.api.dto.ExpoInfos;
+import com.myce.api.dto.TicketInfo;
+import com.myce.api.service.client.ExpoClient;
+import com.myce.domain.config.RedisConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers(disabledWithoutDocker = true)
+class PublicContextSnapshotComponentTest {
+
+    private static final String SNAPSHOT_KEY = "chat:ai:publicContext";
+    private static final String REFRESH_LEASE_KEY = "chat:ai:publicContext:refreshLease";
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    static LettuceConnectionFactory connectionFactory;
+    static RedisTemplate<String, Object> redisTemplate;
+
+    private final ExpoClient expoClient = mock(ExpoClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 같은 Redis 를 보는 두 노드
+    private PublicContextSnapshotComponent nodeA;
+    private PublicContextSnapshotComponent nodeB;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisConfig redisConfig = new RedisConfig();
+        redisTemplate = redisConfig.redisTemplate(connectionFactory, redisConfig.objectMapper());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        nodeA = newNode(meterRegistry);
+        nodeB = newNode(new SimpleMeterRegistry());
+        when(expoClient.getRecentExpoInfos(anyInt())).thenReturn(expoInfos("서울 박람회"));
+    }
+
+    @Test
+    void 공유_스냅샷이_신선하면_다른_노드는_CORE_를_호출하지_않는다() {
+        nodeA.refresh();
+        nodeB.refresh();
+
+        assertThat(nodeB.current().version()).isEqualTo(nodeA.current().version());
+        assertThat(nodeB.current().availableExpos()).contains("서울 박람회");
+        verify(expoClient, times(1)).getRecentExpoInfos(anyInt());
+    }
+
+    @Test
+    void 같은_내용이면_어느_노드에서_만들어도_버전이_같다() {
+        String versionA = nodeA.current().version();
+        redisTemplate.unlink(SNAPSHOT_KEY);
+        String versionB = nodeB.current().version();
+
+        assertThat(versionA).isEqualTo(versionB).hasSize(8);
+        verify(expoClient, times(2)).getRecentExpoInfos(anyInt());
+    }
+
+    @Test
+    void 처음_조회할_때만_채우고_이후에는_메모리_스냅샷으로_응답한다() {
+        nodeA.current();
+        nodeA.current();
+        nodeB.current();
+
+        // nodeB 는 nodeA 가 공유한 스냅샷으로 채운다
+        verify(expoClient, times(1)).getRecentExpoInfos(anyInt());
+    }
+
+    @Test
+    void CORE_호출이_실패하면_기존_스냅샷을_유지한다() {
+        PublicContext before = nodeA.current();
+        redisTemplate.unlink(SNAPSHOT_KEY);
+        when(expoClient.getRecentExpoInfos(anyInt())).thenThrow(new IllegalStateException("core down"));
+
+        nodeA.refresh();
+
+        assertThat(nodeA.current()).isEqualTo(before);
+        assertThat(meterRegistry.counter("chat.ai.public-context.refresh", "result", "fail").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 다른_노드가_갱신_중이면_오래된_공유_스냅샷을_가져오고_CORE_를_호출하지_않는다() {
+        nodeA.refresh();
+        redisTemplate.opsForHash().put(SNAPSHOT_KEY, "refreshedAt", System.currentTimeMillis() - 60_000L);
+        redisTemplate.opsForValue().set(REFRESH_LEASE_KEY, "other-node");
+
+        nodeB.refresh();
+
+        assertThat(nodeB.current().availableExpos()).contains("서울 박람회");
+        verify(expoClient, times(1)).getRecentExpoInfos(anyInt());
+    }
+
+    @Test
+    void 스냅샷이_오래되면_임대를_잡은_노드가_새로_만든다() {
+        nodeA.refresh();
+        redisTemplate.opsForHash().put(SNAPSHOT_KEY, "refreshedAt", System.currentTimeMillis() - 60_000L);
+        when(expoClient.getRecentExpoInfos(anyInt())).thenReturn(expoInfos("부산 박람회"));
+        // nodeA 의 임대가 만료된 상태
+        redisTemplate.unlink(REFRESH_LEASE_KEY);
+
+        nodeB.refresh();
+        nodeA.refresh();
+
+        assertThat(nodeB.current().availableExpos()).contains("부산 박람회");
+        assertThat(nodeA.current().version()).isEqualTo(nodeB.current().version());
+        verify(expoClient, times(2)).getRecentExpoInfos(anyInt());
+    }
+
+    @Test
+    void 처음_조회에서_CORE_응답이_없으면_실패_정보를_돌려준다() {
+        when(expoClient.getRecentExpoInfos(anyInt())).thenReturn(null);
+
+        PublicContext context = nodeA.current();
+
+        assertThat(context).isEqualTo(PublicContext.getFailPublicContext());
+        assertThat(redisTemplate.hasKey(SNAPSHOT_KEY)).isFalse();
+    }
+
+    @Test
+    void 꺼져_있으면_매번_CORE_에서_만든다() {
+        PublicContextSnapshotComponent disabled = new PublicContextSnapshotComponent(expoClient, redisTemplate,
+                new SimpleMeterRegistry(), false, 30, 600, 5000);
+
+        disabled.current();
+        disabled.current();
+        disabled.refresh();
+
+        verify(expoClient, times(2)).getRecentExpoInfos(anyInt());
+        assertThat(redisTemplate.hasKey(SNAPSHOT_KEY)).isFalse();
+    }
+
+    private PublicContextSnapshotComponent newNode(SimpleMeterRegistry registry) {
+        return new PublicContextSnapshotComponent(expoClient, redisTemplate, registry, true, 30, 600, 5000);
+    }
+
+    private static ExpoInfos expoInfos(String title) {
+        TicketInfo ticketInfo = new TicketInfo("일반", 10_000, LocalDate.of(2026, 1, 1),
+                LocalDate.of(2026, 1, 31), 100, 10);
+        return new ExpoInfos(List.of(
+                new ExpoInfo(title, "서울", "코엑스", 1L, List.of(ticketInfo)),
+                new ExpoInfo("티켓 없는 박람회", "부산", "벡스코", 2L, List.of())));
+    }
+}
@@ -0,0 +1,185 @@
+package com.myce.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.myce.api.dto.response.ChatCatchUpResponse;
+import com.myce.api.dto.response.ChatCatchUpResponse.RoomCatchUp;
+import com.myce.api.dto.response.ChatMessageResponse;
+import com.myce.api.service.ChatMessageService;
+import com.myce.api.service.ChatUnreadService;
+import com.myce.common.exception.CustomErrorCode;
+import com.myce.common.exception.CustomException;
+import com.myce.common.type.LoginType;
+import com.myce.common.type.Role;
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.document.type.ChatRoomState;
+import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.dto.MessageCursorPage;
+import com.myce.domain.repository.CachedChatRoomRepository;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ChatCatchUpServiceImplTest {
+
+    private static final String ROOM_CODE = "admin-7-10";
+    private static final String OTHER_ROOM_CODE = "admin-7-11";
+    private static final Long MEMBER_ID = 10L;
+
+    private final ChatMessageService chatMessageService = mock(ChatMessageService.class);
+    private final ChatUnreadService unreadService = mock(ChatUnreadService.class);
+    private final CachedChatRoomRepository chatRoomRepository = mock(CachedChatRoomRepository.class);
+    private final ChatRoomAccessCheckService accessCheckService = mock(ChatRoomAccessCheckService.class);
+
+    private ChatCatchUpServiceImpl catchUpService;
+
+    @BeforeEach
+    void setUp() {
+        catchUpService = new ChatCatchUpServiceImpl(chatMessageService, unreadService, chatRoomRepository,
+                accessCheckService, 50, 3);
+        when(chatRoomRepository.findByRoomCode(anyString())).thenReturn(Optional.empty());
+        when(unreadService.getUnreadCounts(anyList(), any(), any(), any())).thenReturn(Map.of());
+    }
+
+    @Test
+    void 마지막_seq_이후_메시지를_오름차순으로_돌려준다() {
+        ChatRoom chatRoom = room(ROOM_CODE);
+        chatRoom.updateReadStatus("ADMIN", 11L);
+        when(chatRoomRepository.findByRoomCode(ROOM_CODE)).thenReturn(Optional.of(chatRoom));
+        when(chatMessageService.getMessagesAfter(ROOM_CODE, 10L, 4)).thenReturn(messages(11L, 12L));
+        when(unreadService.getUnreadCounts(anyList(), eq(MEMBER_ID), eq(Role.USER), eq(LoginType.MEMBER)))
+                .thenReturn(Map.of(ROOM_CODE, 2L));
+
+        ChatCatchUpResponse response = catchUpService.catchUp(Map.of(ROOM_CODE, 10L), MEMBER_ID, Role.USER,
+                LoginType.MEMBER);
+
+        RoomCatchUp roomCatchUp = response.getRooms().get(0);
+        assertThat(roomCatchUp.getMessages()).extracting(ChatMessageResponse::getSeq).containsExactly(11L, 12L);
+        assertThat(roomCatchUp.isHasMore()).isFalse();
+        assertThat(roomCatchUp.getUnreadCount()).isEqualTo(2L);
+        assertThat(roomCatchUp.getReadStatus()).containsEntry("ADMIN", 11L);
+        assertThat(roomCatchUp.getRoomState().getState()).isEqualTo(ChatRoomState.AI_ACTIVE);
+    }
+
+    @Test
+    void 밀린_메시지가_많으면_최대_개수만_주고_더_있다고_알린다() {
+        when(chatRoomRepository.findByRoomCode(ROOM_CODE)).thenReturn(Optional.of(room(ROOM_CODE)));
+        when(chatMessageService.getMessagesAfter(ROOM_CODE, 10L, 4)).thenReturn(messages(11L, 14L));
+
+        RoomCatchUp roomCatchUp = catchUpService.catchUp(Map.of(ROOM_CODE, 10L), MEMBER_ID, Role.USER,
+                LoginType.MEMBER).getRooms().get(0);
+
+        assertThat(roomCatchUp.isHasMore()).isTrue();
+        assertThat(roomCatchUp.getMessages()).extracting(ChatMessageResponse::getSeq)
+                .containsExactly(11L, 12L, 13L);
+    }
+
+    @Test
+    void 받은_메시지가_없으면_최신_메시지부터_오름차순으로_돌려준다() {
+        when(chatRoomRepository.findByRoomCode(ROOM_CODE)).thenReturn(Optional.of(room(ROOM_CODE)));
+        when(chatMessageService.getMessagePageBySeq(ROOM_CODE, null, 3))
+                .thenReturn(new MessageCursorPage(messages(20L, 18L).reversed(), true));
+
+        RoomCatchUp roomCatchUp = catchUpService.catchUp(nullableSeqs(ROOM_CODE, null), MEMBER_ID, Role.USER,
+                LoginType.MEMBER).getRooms().get(0);
+
+        assertThat(roomCatchUp.getMessages()).extracting(ChatMessageResponse::getSeq)
+                .containsExactly(18L, 19L, 20L);
+        assertThat(roomCatchUp.isHasMore()).isTrue();
+        verify(chatMessageService, never()).getMessagesAfter(anyString(), any(), anyInt());
+    }
+
+    @Test
+    void 없거나_접근할_수_없는_채팅방은_건너뛴다() {
+        when(chatRoomRepository.findByRoomCode(ROOM_CODE)).thenReturn(Optional.of(room(ROOM_CODE)));
+        when(chatRoomRepository.findByRoomCode(OTHER_ROOM_CODE)).thenReturn(Optional.of(room(OTHER_ROOM_CODE)));
+        when(chatMessageService.getMessagesAfter(eq(ROOM_CODE), any(), anyInt()))
+                .thenReturn(List.of());
+        doThrow(new CustomException(CustomErrorCode.CHAT_ROOM_ACCESS_DENIED))
+                .when(accessCheckService).validateAccess(eq(false), eq(11L), any(), any(), any());
+
+        Map<String, Long> lastSeqs = new LinkedHashMap<>();
+        lastSeqs.put("admin-7-99", 1L);
+        lastSeqs.put(ROOM_CODE, 1L);
+        lastSeqs.put(OTHER_ROOM_CODE, 1L);
+        ChatCatchUpResponse response = catchUpService.catchUp(lastSeqs, MEMBER_ID, Role.USER, LoginType.MEMBER);
+
+        assertThat(response.getRooms()).extracting(RoomCatchUp::getRoomCode).containsExactly(ROOM_CODE);
+        verify(chatMessageService, never()).getMessagesAfter(eq(OTHER_ROOM_CODE), any(),
+                anyInt());
+    }
+
+    @Test
+    void 한_번에_처리하는_채팅방_수를_제한한다() {
+        catchUpService = new ChatCatchUpServiceImpl(chatMessageService, unreadService, chatRoomRepository,
+                accessCheckService, 2, 3);
+        Map<String, Long> lastSeqs = new LinkedHashMap<>();
+        for (int memberId = 10; memberId < 15; memberId++) {
+            String roomCode = "admin-7-" + memberId;
+            when(chatRoomRepository.findByRoomCode(roomCode)).thenReturn(Optional.of(room(roomCode)));
+            lastSeqs.put(roomCode, 1L);
+        }
+        when(chatMessageService.getMessagesAfter(anyString(), any(), anyInt()))
+                .thenReturn(List.of());
+
+        ChatCatchUpResponse response = catchUpService.catchUp(lastSeqs, MEMBER_ID, Role.USER, LoginType.MEMBER);
+
+        assertThat(response.getRooms()).extracting(RoomCatchUp::getRoomCode)
+                .containsExactly("admin-7-10", "admin-7-11");
+    }
+
+    @Test
+    void 요청이_비어_있으면_아무것도_조회하지_않는다() {
+        ChatCatchUpResponse response = catchUpService.catchUp(Map.of(), MEMBER_ID, Role.USER, LoginType.MEMBER);
+
+        assertThat(response.getRooms()).isEmpty();
+        verify(chatRoomRepository, never()).findByRoomCode(anyString());
+    }
+
+    private static ChatRoom room(String roomCode) {
+        ChatRoom chatRoom = ChatRoom.builder()
+                .roomCode(roomCode)
+                .memberId(Long.valueOf(roomCode.substring(roomCode.lastIndexOf('-') + 1)))
+                .expoId(7L)
+                .build();
+        ReflectionTestUtils.setField(chatRoom, "currentState", ChatRoomState.AI_ACTIVE);
+        return chatRoom;
+    }
+
+    private static Map<String, Long> nullableSeqs(String roomCode, Long lastSeq) {
+        Map<String, Long> lastSeqs = new LinkedHashMap<>();
+        lastSeqs.put(roomCode, lastSeq);
+        return lastSeqs;
+    }
+
+    private static List<ChatMessage> messages(long fromSeq, long toSeq) {
+        return LongStream.rangeClosed(Math.min(fromSeq, toSeq), Math.max(fromSeq, toSeq))
+                .mapToObj(seq -> ChatMessage.builder()
+                        .roomCode(ROOM_CODE)
+                        .seq(seq)
+                        .senderId(MEMBER_ID)
+                        .senderType(MessageSenderType.USER)
+                        .senderName("사용자")
+                        .content("메시지 " + seq)
+                        .messageType("TEXT")
+                        .unreadCount(1)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,120 @@
+package com.myce.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.myce.api.dto.message.type.SystemMessage;
+import com.myce.api.service.ChatMessageService;
+import com.myce.api.service.ChatUnreadService;
+import com.myce.api.service.ChatWebSocketBroadcaster;
+import com.myce.api.service.ai.AIChatGenerateService;
+import com.myce.api.service.component.ChatAiResponseExecutor;
+import com.myce.api.service.component.ChatFanoutExecutor;
+import com.myce.common.type.Role;
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.document.type.ChatRoomState;
+import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.repository.CachedChatRoomRepository;
+import com.myce.domain.repository.ChatMessageStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ChatMessageHandlerServiceImplTest {
+
+    private static final String ROOM_CODE = "platform-10";
+
+    private final AIChatGenerateService chatGenerateService = mock(AIChatGenerateService.class);
+    private final ChatMessageService chatMessageService = mock(ChatMessageService.class);
+    private final ChatUnreadService chatUnreadService = mock(ChatUnreadService.class);
+
+    private ChatFanoutExecutor fanoutExecutor;
+    private ChatAiResponseExecutor aiResponseExecutor;
+    private ChatMessageHandlerServiceImpl handlerService;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // 스트라이프 하나: LLM 호출이 스트라이프에서 돌면 다른 채팅방 작업이 모두 막힌다
+        fanoutExecutor = new ChatFanoutExecutor(meterRegistry, true, 1, 100, 100);
+        aiResponseExecutor = new ChatAiResponseExecutor(meterRegistry, 1, 10);
+        handlerService = new ChatMessageHandlerServiceImpl(chatGenerateService, chatUnreadService,
+                mock(ChatWebSocketBroadcaster.class), mock(CachedChatRoomRepository.class), chatMessageService,
+                mock(ChatMessageStore.class), aiResponseExecutor, fanoutExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanoutExecutor.shutdown();
+        aiResponseExecutor.shutdown();
+    }
+
+    @Test
+    void AI_응답_생성은_채팅방_실행기를_막지_않고_저장은_채팅방_실행기에서_한다() throws Exception {
+        CountDownLatch llmCalled = new CountDownLatch(1);
+        CountDownLatch llmRelease = new CountDownLatch(1);
+        when(chatGenerateService.generateAIResponse("hello", ROOM_CODE)).thenAnswer(invocation -> {
+            llmCalled.countDown();
+            llmRelease.await(5, TimeUnit.SECONDS);
+            return "answer";
+        });
+        ChatMessage aiMessage = message(MessageSenderType.AI, 2L);
+        when(chatMessageService.saveAIChatMessage(ROOM_CODE, "answer")).thenReturn(aiMessage);
+
+        fanoutExecutor.execute(ROOM_CODE, () -> handlerService.handleUserMessageFlow(10L, Role.USER, aiRoom(),
+                message(MessageSenderType.USER, 1L)));
+        assertThat(llmCalled.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // LLM 응답을 기다리는 동안에도 같은 스트라이프의 다른 채팅방 작업이 처리된다
+        CountDownLatch otherRoomDone = new CountDownLatch(1);
+        fanoutExecutor.execute("platform-11", otherRoomDone::countDown);
+        assertThat(otherRoomDone.await(5, TimeUnit.SECONDS)).isTrue();
+
+        llmRelease.countDown();
+        verify(chatMessageService, timeout(5000)).saveAIChatMessage(ROOM_CODE, "answer");
+    }
+
+    @Test
+    void AI_응답_실행기가_가득_차면_안내_메시지를_대신_보낸다() {
+        ChatAiResponseExecutor fullExecutor = mock(ChatAiResponseExecutor.class);
+        when(fullExecutor.execute(eq(ROOM_CODE), any())).thenReturn(false);
+        ChatMessage busyMessage = message(MessageSenderType.AI, 2L);
+        when(chatMessageService.saveAIChatMessage(ROOM_CODE, SystemMessage.AI_BUSY_MESSAGE)).thenReturn(busyMessage);
+        ChatMessageHandlerServiceImpl busyHandler = new ChatMessageHandlerServiceImpl(chatGenerateService,
+                chatUnreadService, mock(ChatWebSocketBroadcaster.class), mock(CachedChatRoomRepository.class),
+                chatMessageService, mock(ChatMessageStore.class), fullExecutor, fanoutExecutor);
+
+        busyHandler.handleUserMessageFlow(10L, Role.USER, aiRoom(), message(MessageSenderType.USER, 1L));
+
+        verify(chatMessageService, timeout(5000)).saveAIChatMessage(ROOM_CODE, SystemMessage.AI_BUSY_MESSAGE);
+        verifyNoInteractions(chatGenerateService);
+    }
+
+    private ChatRoom aiRoom() {
+        ChatRoom chatRoom = mock(ChatRoom.class);
+        when(chatRoom.getRoomCode()).thenReturn(ROOM_CODE);
+        when(chatRoom.getCurrentState()).thenReturn(ChatRoomState.AI_ACTIVE);
+        return chatRoom;
+    }
+
+    private ChatMessage message(MessageSenderType senderType, Long seq) {
+        ChatMessage chatMessage = mock(ChatMessage.class);
+        when(chatMessage.getId()).thenReturn("message-" + seq);
+        when(chatMessage.getSeq()).thenReturn(seq);
+        when(chatMessage.getSenderType()).thenReturn(senderType);
+        when(chatMessage.getContent()).thenReturn(senderType == MessageSenderType.USER ? "hello" : "answer");
+        when(chatMessage.getSentAt()).thenReturn(LocalDateTime.now());
+        return chatMessage;
+    }
+}
@@ -0,0 +1,144 @@
+package com.myce.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.myce.api.dto.response.ChatMessageCursorResponse;
+import com.myce.api.dto.response.ChatMessageResponse;
+import com.myce.api.service.ChatUnreadService;
+import com.myce.api.service.component.ChatMessageCreateComponent;
+import com.myce.api.service.component.ChatMessageRecentFillComponent;
+import com.myce.api.service.component.ChatMessageViewComponent;
+import com.myce.common.type.Role;
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.dto.MessageCursorPage;
+import com.myce.domain.dto.MessageHistoryWindow;
+import com.myce.domain.repository.CachedChatRoomRepository;
+import com.myce.domain.repository.ChatMessageCacheRepository;
+import com.myce.domain.repository.ChatMessageStore;
+import com.myce.domain.repository.ChatMessageWriteBuffer;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ChatMessageServiceImplTest {
+
+    private static final String ROOM_CODE = "admin-7-10";
+
+    private final ChatUnreadService unreadService = mock(ChatUnreadService.class);
+    private final CachedChatRoomRepository chatRoomRepository = mock(CachedChatRoomRepository.class);
+    private final ChatMessageStore chatMessageStore = mock(ChatMessageStore.class);
+    private final ChatRoomAccessCheckService accessCheckService = mock(ChatRoomAccessCheckService.class);
+    private final ChatMessageCacheRepository chatMessageCacheRepository = mock(ChatMessageCacheRepository.class);
+
+    private ChatMessageServiceImpl chatMessageService;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageService = new ChatMessageServiceImpl(unreadService, chatRoomRepository, chatMessageStore,
+                accessCheckService, chatMessageCacheRepository, mock(ChatMessageCreateComponent.class),
+                mock(ChatMessageWriteBuffer.class), mock(ChatMessageViewComponent.class),
+                mock(ChatMessageRecentFillComponent.class));
+        when(chatMessageCacheRepository.getHistoryBefore(anyString(), any(), anyInt()))
+                .thenReturn(MessageHistoryWindow.untracked());
+    }
+
+    @Test
+    void 한_개를_더_읽어_다음_구간이_있는지_확인한다() {
+        when(chatMessageStore.findBefore(ROOM_CODE, 20L, 4)).thenReturn(messages(19L, 16L));
+
+        MessageCursorPage messagePage = chatMessageService.getMessagePageBySeq(ROOM_CODE, 20L, 3);
+
+        assertThat(messagePage.hasMore()).isTrue();
+        assertThat(messagePage.messages()).extracting(ChatMessage::getSeq).containsExactly(19L, 18L, 17L);
+        assertThat(messagePage.nextBefore()).isEqualTo(17L);
+    }
+
+    @Test
+    void 마지막_구간이면_다음_구간이_없다() {
+        when(chatMessageStore.findBefore(ROOM_CODE, 3L, 4)).thenReturn(messages(2L, 1L));
+
+        MessageCursorPage messagePage = chatMessageService.getMessagePageBySeq(ROOM_CODE, 3L, 3);
+
+        assertThat(messagePage.hasMore()).isFalse();
+        assertThat(messagePage.messages()).extracting(ChatMessage::getSeq).containsExactly(2L, 1L);
+        assertThat(messagePage.nextBefore()).isEqualTo(1L);
+    }
+
+    @Test
+    void 메시지가_없으면_다음_커서가_없다() {
+        when(chatMessageStore.findBefore(ROOM_CODE, null, 4)).thenReturn(List.of());
+
+        MessageCursorPage messagePage = chatMessageService.getMessagePageBySeq(ROOM_CODE, null, 3);
+
+        assertThat(messagePage.hasMore()).isFalse();
+        assertThat(messagePage.nextBefore()).isNull();
+    }
+
+    @Test
+    void 히스토리_캐시로_채울_수_있으면_DB_를_조회하지_않는다() {
+        when(chatMessageCacheRepository.getHistoryBefore(ROOM_CODE, 20L, 4))
+                .thenReturn(new MessageHistoryWindow(messages(19L, 16L), 1L, true));
+
+        MessageCursorPage messagePage = chatMessageService.getMessagePageBySeq(ROOM_CODE, 20L, 3);
+
+        assertThat(messagePage.hasMore()).isTrue();
+        verify(chatMessageStore, never()).findBefore(anyString(), any(), anyInt());
+    }
+
+    @Test
+    void 한_번에_읽는_개수는_최대_페이지_크기를_넘지_않는다() {
+        when(chatMessageStore.findBefore(eq(ROOM_CODE), any(), anyInt())).thenReturn(List.of());
+
+        chatMessageService.getMessagePageBySeq(ROOM_CODE, null, 5000);
+        chatMessageService.getMessagePageBySeq(ROOM_CODE, null, 0);
+
+        verify(chatMessageStore).findBefore(ROOM_CODE, null, 1000);
+        verify(chatMessageStore).findBefore(ROOM_CODE, null, 2);
+    }
+
+    @Test
+    void 커서_응답은_접근을_확인하고_읽음_상태로_미읽음을_계산한다() {
+        ChatRoom chatRoom = ChatRoom.builder().roomCode(ROOM_CODE).memberId(10L).expoId(7L).build();
+        when(chatRoomRepository.findByRoomCode(ROOM_CODE)).thenReturn(Optional.of(chatRoom));
+        when(chatMessageStore.findBefore(ROOM_CODE, null, 3)).thenReturn(messages(5L, 3L));
+        when(unreadService.resolveUnreadCount(any(ChatMessage.class), any()))
+                .thenAnswer(invocation -> invocation.<ChatMessage>getArgument(0).getSeq() > 4L ? 1 : 0);
+
+        ChatMessageCursorResponse response = chatMessageService.getMessagesBySeqCursor(ROOM_CODE, null, 2,
+                10L, Role.USER);
+
+        verify(accessCheckService).validateAccess(eq(false), eq(10L), eq(7L), eq(10L), eq(Role.USER));
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(response.getNextBefore()).isEqualTo(4L);
+        assertThat(response.getMessages()).extracting(ChatMessageResponse::getSeq).containsExactly(5L, 4L);
+        assertThat(response.getMessages()).extracting(ChatMessageResponse::getUnreadCount).containsExactly(1, 0);
+    }
+
+    private static List<ChatMessage> messages(long fromSeq, long toSeq) {
+        return LongStream.rangeClosed(toSeq, fromSeq)
+                .map(seq -> fromSeq + toSeq - seq)
+                .mapToObj(seq -> ChatMessage.builder()
+                        .roomCode(ROOM_CODE)
+                        .seq(seq)
+                        .senderId(10L)
+                        .senderType(MessageSenderType.USER)
+                        .senderName("사용자")
+                        .content("메시지 " + seq)
+                        .messageType("TEXT")
+                        .unreadCount(1)
+                        .build())
+                .toList();
+    }
+}
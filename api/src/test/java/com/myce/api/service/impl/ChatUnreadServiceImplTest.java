@@ -0,0 +1,101 @@
+package com.myce.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.myce.common.type.LoginType;
+import com.myce.common.type.Role;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.dto.UnreadCountCondition;
+import com.myce.domain.repository.ChatMessageCacheRepository;
+import com.myce.domain.repository.ChatMessageStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ChatUnreadServiceImplTest {
+
+    private static final String ROOM_CODE = "platform-10";
+
+    private final ChatMessageStore chatMessageStore = mock(ChatMessageStore.class);
+    private final ChatMessageCacheRepository chatMessageCacheRepository = mock(ChatMessageCacheRepository.class);
+
+    private ChatUnreadServiceImpl chatUnreadService;
+
+    @BeforeEach
+    void setUp() {
+        chatUnreadService = new ChatUnreadServiceImpl(new SimpleMeterRegistry(), chatMessageStore,
+                chatMessageCacheRepository);
+        ReflectionTestUtils.setField(chatUnreadService, "unreadMode", "stored");
+        ReflectionTestUtils.setField(chatUnreadService, "unreadSource", "mongo");
+    }
+
+    @Test
+    void mongo_기준에서는_Redis_카운터를_읽지_않는다() {
+        when(chatMessageStore.countUnreadByRooms(anyList())).thenReturn(Map.of(ROOM_CODE, 3L));
+
+        long unreadCount = chatUnreadService.getUnreadCount(ROOM_CODE, Map.of("USER", 5L), 10L, Role.USER,
+                LoginType.MEMBER);
+
+        assertThat(unreadCount).isEqualTo(3L);
+        verifyNoInteractions(chatMessageCacheRepository);
+    }
+
+    @Test
+    void 사용자_미읽음은_AI_메시지도_센다() {
+        when(chatMessageStore.countUnreadByRooms(anyList())).thenReturn(Map.of());
+
+        chatUnreadService.getUnreadCount(ROOM_CODE, Map.of("USER", 5L), 10L, Role.USER, LoginType.MEMBER);
+
+        UnreadCountCondition condition = captureCondition();
+        assertThat(condition.senderTypes()).contains(MessageSenderType.PLATFORM_ADMIN, MessageSenderType.AI);
+        assertThat(condition.lastReadSeq()).isEqualTo(5L);
+    }
+
+    @Test
+    void 관리자_미읽음은_사용자와_시스템_메시지를_센다() {
+        when(chatMessageStore.countUnreadByRooms(anyList())).thenReturn(Map.of());
+
+        chatUnreadService.getUnreadCount(ROOM_CODE, Map.of("ADMIN", 7L), 1L, Role.PLATFORM_ADMIN, LoginType.MEMBER);
+
+        UnreadCountCondition condition = captureCondition();
+        assertThat(condition.senderTypes())
+                .containsExactlyInAnyOrder(MessageSenderType.USER, MessageSenderType.SYSTEM);
+        assertThat(condition.lastReadSeq()).isEqualTo(7L);
+    }
+
+    @Test
+    void 채팅방_목록_미읽음은_한_번의_집계로_세고_없는_채팅방은_0_으로_채운다() {
+        when(chatMessageStore.countUnreadByRooms(anyList())).thenReturn(Map.of("platform-10", 4L));
+
+        Map<String, Long> unreadCounts = chatUnreadService.getUnreadCounts(
+                List.of(room("platform-10"), room("platform-11")), 10L, Role.USER, LoginType.MEMBER);
+
+        assertThat(unreadCounts).containsEntry("platform-10", 4L).containsEntry("platform-11", 0L);
+        verify(chatMessageStore, times(1)).countUnreadByRooms(anyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private UnreadCountCondition captureCondition() {
+        ArgumentCaptor<List<UnreadCountCondition>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chatMessageStore).countUnreadByRooms(captor.capture());
+        return captor.getValue().get(0);
+    }
+
+    private static ChatRoom room(String roomCode) {
+        return ChatRoom.builder()
+                .roomCode(roomCode)
+                .memberId(10L)
+                .build();
+    }
+}
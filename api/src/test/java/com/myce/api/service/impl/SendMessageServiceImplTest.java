@@ -0,0 +1,77 @@
+package com.myce.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.myce.api.dto.request.SendMessageRequest;
+import com.myce.api.exception.CustomWebSocketException;
+import com.myce.api.service.ChatMessageHandlerService;
+import com.myce.api.service.ChatUnreadService;
+import com.myce.api.service.ChatWebSocketBroadcaster;
+import com.myce.api.service.component.ChatAdminAssignmentComponent;
+import com.myce.api.service.component.ChatFanoutExecutor;
+import com.myce.api.service.component.ChatMessageSaveComponent;
+import com.myce.api.service.component.IdentityInfoCache;
+import com.myce.common.type.LoginType;
+import com.myce.common.type.Role;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.repository.CachedChatRoomRepository;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SendMessageServiceImplTest {
+
+    private static final String ROOM_CODE = "platform-10";
+
+    private final CachedChatRoomRepository chatRoomRepository = mock(CachedChatRoomRepository.class);
+    private final ChatMessageSaveComponent messageSaveComponent = mock(ChatMessageSaveComponent.class);
+    private final ChatFanoutExecutor fanoutExecutor = mock(ChatFanoutExecutor.class);
+
+    private SendMessageServiceImpl sendMessageService;
+
+    @BeforeEach
+    void setUp() {
+        sendMessageService = new SendMessageServiceImpl(mock(IdentityInfoCache.class),
+                mock(ChatWebSocketBroadcaster.class), chatRoomRepository, mock(ChatMessageHandlerService.class),
+                mock(ChatUnreadService.class), messageSaveComponent, mock(ChatAdminAssignmentComponent.class),
+                fanoutExecutor);
+        when(chatRoomRepository.findByRoomCode(ROOM_CODE)).thenReturn(Optional.of(mock(ChatRoom.class)));
+    }
+
+    @Test
+    void 부가_작업_큐가_가득_차면_메시지를_저장하지_않고_실패를_알린다() {
+        when(fanoutExecutor.reserve(ROOM_CODE)).thenThrow(new RejectedExecutionException("full"));
+
+        assertThatThrownBy(() -> sendMessageService.sendChatMessage(10L, Role.USER, LoginType.MEMBER, "session",
+                request("hello")))
+                .isInstanceOf(CustomWebSocketException.class);
+
+        verify(messageSaveComponent, never()).saveMessage(any(), any(), any(), any(), anyString());
+    }
+
+    @Test
+    void 저장에_실패하면_확보한_자리를_반납한다() {
+        ChatFanoutExecutor.Reservation reservation = mock(ChatFanoutExecutor.Reservation.class);
+        when(fanoutExecutor.reserve(ROOM_CODE)).thenReturn(reservation);
+        when(messageSaveComponent.saveMessage(any(), any(), any(), any(), anyString()))
+                .thenThrow(new IllegalStateException("mongo down"));
+
+        assertThatThrownBy(() -> sendMessageService.sendChatMessage(10L, Role.USER, LoginType.MEMBER, "session",
+                request("hello")))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(reservation).cancel();
+        verify(reservation, never()).execute(any());
+    }
+
+    private SendMessageRequest request(String content) {
+        return new SendMessageRequest(ROOM_CODE, content, null);
+    }
+}
@@ -0,0 +1,46 @@
+package com.myce.api.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.myce.api.dto.message.type.MessageReaderType;
+import com.myce.domain.document.type.MessageSenderType;
+import org.junit.jupiter.api.Test;
+
+class ChatCacheKeySupporterTest {
+
+    @Test
+    void AI_메시지는_채팅방_참가자_카운터를_올린다() {
+        assertThat(ChatCacheKeySupporter.resolveReceiverCacheMemberId("platform-10", MessageSenderType.AI))
+                .isEqualTo(10L);
+    }
+
+    @Test
+    void 시스템_메시지는_관리자_그룹_카운터를_올린다() {
+        assertThat(ChatCacheKeySupporter.resolveReceiverCacheMemberId("platform-10", MessageSenderType.SYSTEM))
+                .isEqualTo(ChatCacheKeySupporter.ADMIN_GROUP_MEMBER_ID);
+        assertThat(ChatCacheKeySupporter.resolveReceiverCacheMemberId("admin-7-10", MessageSenderType.SYSTEM))
+                .isEqualTo(ChatCacheKeySupporter.ADMIN_GROUP_MEMBER_ID);
+    }
+
+    @Test
+    void 카운터_수신자와_MongoDB_미읽음_계산_기준이_같다() {
+        // 수신자 카운터를 올리는 발송자 타입은 그 수신자가 MongoDB 에서 세는 발송자 타입에 포함되어야 한다
+        for (MessageSenderType senderType : MessageSenderType.values()) {
+            Long receiverId = ChatCacheKeySupporter.resolveReceiverCacheMemberId("platform-10", senderType);
+            MessageReaderType readerType = ChatCacheKeySupporter.ADMIN_GROUP_MEMBER_ID.equals(receiverId)
+                    ? MessageReaderType.ADMIN
+                    : MessageReaderType.USER;
+
+            assertThat(ChatMessageTypeUtil.getReadableSenderTypes(readerType)).contains(senderType);
+        }
+    }
+
+    @Test
+    void 사용자는_관리자와_AI_메시지를_관리자는_사용자와_시스템_메시지를_읽는다() {
+        assertThat(ChatMessageTypeUtil.getReadableSenderTypes(MessageReaderType.USER))
+                .containsExactlyInAnyOrder(MessageSenderType.ADMIN, MessageSenderType.PLATFORM_ADMIN,
+                        MessageSenderType.AI);
+        assertThat(ChatMessageTypeUtil.getReadableSenderTypes(MessageReaderType.ADMIN))
+                .containsExactlyInAnyOrder(MessageSenderType.USER, MessageSenderType.SYSTEM);
+    }
+}
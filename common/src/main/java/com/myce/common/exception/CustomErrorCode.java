@@ -21,6 +21,7 @@ public enum CustomErrorCode implements CustomError{
     CHAT_MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "C005", "채팅 참여자 정보를 찾을 수 없습니다."),
     CHAT_SENDER_TYPE_INVALID(HttpStatus.BAD_REQUEST, "C006", "유효하지 않은 메시지 발송자 타입입니다."),
     CHAT_ROOM_NOT_CREATE(HttpStatus.BAD_REQUEST, "C007", "채팅방을 생성할 수 없습니다."),
+    CHAT_ROOM_CURSOR_INVALID(HttpStatus.BAD_REQUEST, "C008", "유효하지 않은 채팅방 목록 커서입니다."),
 
     // AI
     ONLY_PLATFORM_ADMIN(HttpStatus.UNAUTHORIZED, "A001", "플랫폼 관리자 권한이 필요합니다."),
@@ -3,10 +3,14 @@ package com.myce.domain.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.repository.impl.RedisValueCodec;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -34,6 +38,61 @@ public class RedisConfig {
 
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(jacksonSerializer);
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(jacksonSerializer);
+        return template;
+    }
+
+    @Bean
+    public RedisValueCodec<ChatMessage> chatMessageCodec() {
+        return new RedisValueCodec<>(ChatMessage.class);
+    }
+
+    @Bean
+    public RedisValueCodec<ChatRoom> chatRoomCodec() {
+        return new RedisValueCodec<>(ChatRoom.class);
+    }
+
+    /**
+     * 최근 메시지 캐시 전용 템플릿 (값은 ChatMessage 바이너리 코덱)
+     */
+    @Bean
+    public RedisTemplate<String, ChatMessage> chatMessageRedisTemplate(
+            RedisConnectionFactory redisConnectionFactory,
+            RedisValueCodec<ChatMessage> chatMessageCodec) {
+
+        return typedTemplate(redisConnectionFactory, chatMessageCodec);
+    }
+
+    /**
+     * 채팅방 캐시 전용 템플릿 (값은 ChatRoom 바이너리 코덱)
+     */
+    @Bean
+    public RedisTemplate<String, ChatRoom> chatRoomRedisTemplate(
+            RedisConnectionFactory redisConnectionFactory,
+            RedisValueCodec<ChatRoom> chatRoomCodec) {
+
+        return typedTemplate(redisConnectionFactory, chatRoomCodec);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    private static <T> RedisTemplate<String, T> typedTemplate(
+            RedisConnectionFactory redisConnectionFactory,
+            RedisValueCodec<T> codec) {
+
+        RedisTemplate<String, T> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(codec);
+        template.afterPropertiesSet();
         return template;
     }
 }
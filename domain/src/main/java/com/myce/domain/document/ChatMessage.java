@@ -20,6 +20,8 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @Document(collection = "chat_messages")
 @CompoundIndexes({
     @CompoundIndex(name = "room_time_idx", def = "{'roomCode': 1, 'sentAt': -1}"),
+    @CompoundIndex(name = "room_seq_idx", def = "{'roomCode': 1, 'seq': -1}"),
+    @CompoundIndex(name = "room_sender_seq_idx", def = "{'roomCode': 1, 'senderType': 1, 'seq': 1}"),
     @CompoundIndex(name = "sender_time_idx", def = "{'senderId': 1, 'sentAt': -1}")
 })
 public class ChatMessage {
@@ -27,6 +29,9 @@ public class ChatMessage {
     @Transient
     public static final String SEQUENCE_NAME = "message_sequence";
 
+    @Transient
+    private static final String ROOM_SEQUENCE_NAME_FORMAT = SEQUENCE_NAME + ":%s";
+
     @Id
     private String id;
 
@@ -99,6 +104,13 @@ public class ChatMessage {
         this.sentAt = LocalDateTime.now();
     }
 
+    /**
+     * 채팅방별 seq 카운터 이름
+     */
+    public static String getRoomSequenceName(String roomCode) {
+        return String.format(ROOM_SEQUENCE_NAME_FORMAT, roomCode);
+    }
+
     public void decreaseUnreadCount() {
         if (unreadCount > 0) {
             unreadCount--;
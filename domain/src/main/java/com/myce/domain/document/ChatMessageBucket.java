@@ -0,0 +1,58 @@
+package com.myce.domain.document;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * 채팅 메시지 버킷 (버킷 저장 모드)
+ * 한 채팅방의 seq 구간 [bucketSeq * size, (bucketSeq + 1) * size) 메시지를 한 문서에 seq 오름차순으로 담는다.
+ * 메시지마다 문서/인덱스 항목을 만들지 않으므로 인덱스 크기가 줄고, 히스토리 조회는 버킷 단위로 읽는다.
+ * (채팅방별 seq 모드에서 버킷이 꽉 차게 채워진다)
+ */
+@Getter
+@NoArgsConstructor
+@Document(collection = "chat_message_buckets")
+@CompoundIndexes({
+    @CompoundIndex(name = "room_bucket_idx", def = "{'roomCode': 1, 'bucketSeq': -1}", unique = true)
+})
+public class ChatMessageBucket {
+
+    @Id
+    private String id;
+
+    private String roomCode;
+
+    private Long bucketSeq;
+
+    /**
+     * 버킷에 담긴 메시지의 최소/최대 seq
+     */
+    private Long firstSeq;
+
+    private Long lastSeq;
+
+    private List<ChatMessage> messages;
+
+    public static long bucketSeqOf(long seq, int bucketSize) {
+        return Math.floorDiv(seq, bucketSize);
+    }
+
+    /**
+     * 버킷에 메시지를 추가하는 update (seq 오름차순 유지)
+     * @param messages 같은 버킷에 들어갈 메시지 문서
+     */
+    public static Update appendUpdate(List<org.bson.Document> messages, long firstSeq, long lastSeq) {
+        Update update = new Update()
+                .min("firstSeq", firstSeq)
+                .max("lastSeq", lastSeq);
+        update.push("messages").sort(Sort.by(Sort.Direction.ASC, "seq")).each(messages.toArray());
+        return update;
+    }
+}
@@ -1,5 +1,6 @@
 package com.myce.domain.document;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.myce.domain.document.type.ChatRoomState;
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -12,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
@@ -20,14 +22,38 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @Slf4j
 @Getter
 @NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
 @Document(collection = "chat_rooms")
 @CompoundIndexes({
-    @CompoundIndex(name = "member_active_idx", def = "{'memberId': 1, 'isActive': 1, 'lastMessageAt': -1}"),
-    @CompoundIndex(name = "expo_active_idx", def = "{'expoId': 1, 'isActive': 1, 'lastMessageAt': -1}"),
-    @CompoundIndex(name = "expo_member_idx", def = "{'expoId': 1, 'memberId': 1}", unique = true)
+    // _id 는 채팅방 목록 keyset 커서의 동순위 정렬 기준 (lastMessageAt 정렬만 쓰는 조회도 그대로 사용)
+    // 이전 member_active_idx / expo_active_idx ({..., 'lastMessageAt': -1}) 와 키가 달라 이름을 바꿨다.
+    // 같은 이름으로 다른 키를 만들면 MongoDB 가 IndexKeySpecsConflict 로 거절하므로, 배포 전 새 인덱스를 만들고
+    // 배포 후 이전 인덱스를 지운다. (새 인덱스가 이전 인덱스의 접두사 조회를 모두 처리)
+    @CompoundIndex(name = "member_active_cursor_idx",
+            def = "{'memberId': 1, 'isActive': 1, 'lastMessageAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "expo_active_cursor_idx",
+            def = "{'expoId': 1, 'isActive': 1, 'lastMessageAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "expo_member_idx", def = "{'expoId': 1, 'memberId': 1}", unique = true),
+    // 변경된 채팅방 배치 작업의 keyset 조회 (updatedAt, _id 오름차순)
+    @CompoundIndex(name = "updated_idx", def = "{'updatedAt': 1, '_id': 1}")
 })
 public class ChatRoom {
 
+    /**
+     * 관리자 그룹 공용 캐시 사용자 ID (사용자 → 관리자 메시지의 수신자)
+     */
+    @Transient
+    public static final Long ADMIN_GROUP_MEMBER_ID = -1L;
+
+    @Transient
+    private static final String PLATFORM_ROOM_PREFIX = "platform-";
+
+    @Transient
+    private static final String ADMIN_BADGE_SCOPE_PLATFORM = "platform";
+
+    @Transient
+    private static final String ADMIN_BADGE_SCOPE_EXPO_FORMAT = "expo:%d";
+
     @Id
     private String id;
 
@@ -163,10 +189,20 @@ public class ChatRoom {
      * 새 메시지 발송 시 채팅방 정보 업데이트
      */
     public void updateLastMessageInfo(String messageId, String messageContent) {
+        updateLastMessageInfo(messageId, messageContent, LocalDateTime.now());
+    }
+
+    /**
+     * 새 메시지 발송 시 채팅방 정보 업데이트 (메시지 발송 시각 기준)
+     */
+    public void updateLastMessageInfo(String messageId, String messageContent, LocalDateTime sentAt) {
+        if (this.lastMessageAt != null && !sentAt.isAfter(this.lastMessageAt)) {
+            return;
+        }
         this.lastMessageId = messageId;
         this.lastMessage = truncateMessage(messageContent);
-        this.lastMessageAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        this.lastMessageAt = sentAt;
+        this.updatedAt = sentAt;
     }
 
     /**
@@ -185,10 +221,30 @@ public class ChatRoom {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 관리자 그룹 배지 범위
+     * 박람회 채팅방은 박람회별(expo:{expoId}), 플랫폼 채팅방은 플랫폼 관리자 풀(platform) 단위
+     */
+    public static String getAdminBadgeScope(Long expoId) {
+        return expoId == null ? ADMIN_BADGE_SCOPE_PLATFORM : String.format(ADMIN_BADGE_SCOPE_EXPO_FORMAT, expoId);
+    }
+
+    /**
+     * 채팅방 코드로 관리자 그룹 배지 범위 결정 (admin-{expoId}-{memberId} / platform-{memberId})
+     */
+    public static String getAdminBadgeScope(String roomCode) {
+        if (roomCode.startsWith(PLATFORM_ROOM_PREFIX)) {
+            return getAdminBadgeScope((Long) null);
+        }
+
+        String[] parts = roomCode.split("-");
+        return getAdminBadgeScope(Long.parseLong(parts[1]));
+    }
+
     /**
      * 메시지 내용 자르기 (미리보기용)
      */
-    private String truncateMessage(String content) {
+    public static String truncateMessage(String content) {
         if (content == null) return null;
         if (content.length() <= 200) return content;
         return content.substring(0, 197) + "...";
@@ -267,6 +323,24 @@ public class ChatRoom {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 캐시에 따로 둔 마지막 메시지/읽음 상태 반영 (가지고 있는 값보다 최신인 값만)
+     */
+    public void mergeActivity(String messageId, String message, LocalDateTime sentAt, Map<String, Long> readStatus) {
+        if (sentAt != null && (this.lastMessageAt == null || sentAt.isAfter(this.lastMessageAt))) {
+            this.lastMessageId = messageId;
+            this.lastMessage = message;
+            this.lastMessageAt = sentAt;
+        }
+        if (readStatus.isEmpty()) {
+            return;
+        }
+        if (this.readStatus == null) {
+            this.readStatus = new HashMap<>();
+        }
+        readStatus.forEach((member, messageSeq) -> this.readStatus.merge(member, messageSeq, Math::max));
+    }
+
     public Long getCurrentReadStatus(String member) {
         return readStatus.get(member);
     }
@@ -0,0 +1,16 @@
+package com.myce.domain.dto;
+
+import com.myce.domain.document.ChatRoom;
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 목록 keyset 커서 (lastMessageAt 내림차순, 같으면 _id 내림차순)
+ * @param lastMessageAt 마지막으로 조회한 채팅방의 마지막 메시지 시각 (메시지가 없던 채팅방이면 null)
+ * @param id 마지막으로 조회한 채팅방 ID
+ */
+public record ChatRoomCursor(LocalDateTime lastMessageAt, String id) {
+
+    public static ChatRoomCursor of(ChatRoom chatRoom) {
+        return new ChatRoomCursor(chatRoom.getLastMessageAt(), chatRoom.getId());
+    }
+}
@@ -0,0 +1,25 @@
+package com.myce.domain.dto;
+
+import com.myce.domain.document.type.ChatRoomState;
+
+/**
+ * 활성 채팅방 목록 조회 조건
+ * memberId 가 있으면 그 회원이 참여한 채팅방, 없으면 expoId 박람회의 채팅방 (expoId 도 없으면 플랫폼 채팅방)
+ * @param memberId 참여 회원 ID
+ * @param expoId 박람회 ID
+ * @param state 상태 필터 (null 이면 전체)
+ * @param unassigned 담당자가 배정되지 않은 채팅방만 조회
+ * @param adminCode 이 담당자 코드가 배정된 채팅방만 조회 (null 이면 전체)
+ */
+public record ChatRoomListCondition(Long memberId, Long expoId, ChatRoomState state, boolean unassigned,
+                                    String adminCode) {
+
+    public static ChatRoomListCondition ofMember(Long memberId) {
+        return new ChatRoomListCondition(memberId, null, null, false, null);
+    }
+
+    public static ChatRoomListCondition ofExpo(Long expoId, ChatRoomState state, boolean unassigned,
+                                               String adminCode) {
+        return new ChatRoomListCondition(null, expoId, state, unassigned, adminCode);
+    }
+}
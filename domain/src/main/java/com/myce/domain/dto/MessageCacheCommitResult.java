@@ -0,0 +1,19 @@
+package com.myce.domain.dto;
+
+/**
+ * 메시지 저장 후 Redis 부가 작업 결과
+ * 발신자/수신자가 없거나 처리에 실패한 단계는 null
+ * @param recentSize 최근 메시지 캐시 크기
+ * @param unreadCount 수신자 미읽음 카운트
+ * @param badgeCount 수신자 배지 카운트
+ * @param senderRoomAdded 발신자 활성 채팅방 신규 추가 여부
+ * @param receiverRoomAdded 수신자 활성 채팅방 신규 추가 여부
+ * @param scripted 스크립트로 처리했는지 여부 (false 면 파이프라인 처리)
+ */
+public record MessageCacheCommitResult(Long recentSize, Long unreadCount, Long badgeCount,
+                                       Boolean senderRoomAdded, Boolean receiverRoomAdded, boolean scripted) {
+
+    public static MessageCacheCommitResult failed() {
+        return new MessageCacheCommitResult(null, null, null, null, null, false);
+    }
+}
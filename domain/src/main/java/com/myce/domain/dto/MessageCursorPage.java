@@ -0,0 +1,19 @@
+package com.myce.domain.dto;
+
+import com.myce.domain.document.ChatMessage;
+import java.util.List;
+
+/**
+ * seq 커서 기반 메시지 조회 결과
+ * @param messages 조회한 메시지 (seq 내림차순)
+ * @param hasMore 더 오래된 메시지가 남아 있는지 여부
+ */
+public record MessageCursorPage(List<ChatMessage> messages, boolean hasMore) {
+
+    /**
+     * 다음 조회에 넘길 커서 (마지막으로 조회한 가장 오래된 메시지 seq, 메시지가 없으면 null)
+     */
+    public Long nextBefore() {
+        return messages.isEmpty() ? null : messages.get(messages.size() - 1).getSeq();
+    }
+}
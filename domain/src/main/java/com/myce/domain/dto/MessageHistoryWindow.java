@@ -0,0 +1,17 @@
+package com.myce.domain.dto;
+
+import com.myce.domain.document.ChatMessage;
+import java.util.List;
+
+/**
+ * 히스토리 캐시 구간 조회 결과
+ * @param messages 캐시에서 읽은 메시지 (before 는 seq 내림차순, after 는 오름차순)
+ * @param floorSeq 캐시 하한 seq (이 seq 이상 메시지는 빠짐없이 캐시에 있다, 0 이면 채팅방 첫 메시지부터). 캐시가 없으면 null
+ * @param complete 요청한 구간을 캐시만으로 채웠는지 여부 (false 면 MongoDB 조회 필요)
+ */
+public record MessageHistoryWindow(List<ChatMessage> messages, Long floorSeq, boolean complete) {
+
+    public static MessageHistoryWindow untracked() {
+        return new MessageHistoryWindow(List.of(), null, false);
+    }
+}
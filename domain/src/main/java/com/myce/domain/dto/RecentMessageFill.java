@@ -0,0 +1,11 @@
+package com.myce.domain.dto;
+
+/**
+ * 최근 메시지 캐시 채우기 임대
+ * 임대를 잡은 요청만 MongoDB 를 조회해 캐시를 채운다.
+ * @param roomCode 채팅방 코드
+ * @param leaseToken 임대 토큰 (Redis 오류로 임대를 확인하지 못했으면 null, 이 경우 캐시를 채우지 않는다)
+ * @param expectedHead 임대 시점 최근 메시지 캐시의 첫 메시지 (캐시가 없었으면 null)
+ */
+public record RecentMessageFill(String roomCode, String leaseToken, byte[] expectedHead) {
+}
@@ -0,0 +1,13 @@
+package com.myce.domain.dto;
+
+import com.myce.domain.document.type.MessageSenderType;
+import java.util.Set;
+
+/**
+ * 채팅방별 미읽음 카운트 조건
+ * @param roomCode 채팅방 코드
+ * @param senderTypes 조회자가 읽어야 하는 발송자 타입 (이 타입들의 메시지만 센다)
+ * @param lastReadSeq 마지막으로 읽은 seq (없으면 전체 메시지)
+ */
+public record UnreadCountCondition(String roomCode, Set<MessageSenderType> senderTypes, Long lastReadSeq) {
+}
@@ -0,0 +1,10 @@
+package com.myce.domain.dto;
+
+/**
+ * 채팅방 미읽음 카운터 키
+ * (key 레이아웃: chat:room:{roomCode}:unread:{memberId}, hash 레이아웃: chat:user:{memberId}:unread 의 roomCode 필드)
+ * @param roomCode 채팅방 코드
+ * @param memberId 캐시 사용자 ID (관리자는 공용 ID)
+ */
+public record UnreadCounterKey(String roomCode, Long memberId) {
+}
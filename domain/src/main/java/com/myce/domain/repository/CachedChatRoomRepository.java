@@ -0,0 +1,293 @@
+package com.myce.domain.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.repository.impl.ChatRoomKey;
+import com.myce.domain.repository.impl.RedisValueCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 캐시를 거치는 채팅방 Repository
+ * 채팅방 단건 조회/저장은 이 Repository 를 통해서만 한다.
+ * <p>
+ * 조회: L1(노드 로컬 Caffeine) → L2(Redis, ChatRoomCacheRepository) → MongoDB 순으로 찾고, 찾은 값으로 앞 단계를 채운다.
+ * L1 은 크기 제한(W-TinyLFU 축출)과 짧은 TTL 을 두고, 호출자가 상태를 바꿔도 공유되지 않도록 직렬화한 스냅샷을 보관한다.
+ * 저장/부분 갱신: MongoDB 반영 후 L1/L2 를 갱신(또는 삭제)하고, 다른 노드의 L1 은 Redis pub/sub 으로 무효화한다.
+ * 저장은 채팅방 상태만 반영하고, 마지막 메시지/읽음 상태는 단일 업데이트로 바뀐 값을 덮어쓰지 않는다.
+ * <p>
+ * 마지막 메시지/읽음 상태는 메시지마다 바뀌므로 캐시 값과 따로 Redis 해시에 두고, L1/L2 에서 찾은 값에 합쳐서 돌려준다.
+ * 그래서 단일 업데이트는 해시만 갱신하고 L1/L2 삭제나 무효화 전파를 하지 않는다.
+ */
+@Slf4j
+@Repository
+public class CachedChatRoomRepository implements MessageListener {
+
+    private static final String L1_CACHE_NAME = "chat.room.l1";
+    private static final String INVALIDATE_DELIMITER = "|";
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomCacheRepository chatRoomCacheRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisValueCodec<ChatRoom> chatRoomCodec;
+    private final boolean localCacheEnabled;
+    private final Cache<String, byte[]> localCache;
+    private final String nodeId = UUID.randomUUID().toString();
+    // 채팅방 코드 해시로 나눈 칸별 무효화 세대. 조회 도중 같은 칸의 채팅방이 무효화되면 오래된 값으로 L1 을 채우지 않는다
+    // (다른 채팅방의 무효화는 다른 칸이라 채우기를 막지 않고, 칸이 겹치면 채우기를 건너뛸 뿐이다)
+    private final AtomicLongArray invalidationGenerations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final Counter l2HitCounter;
+    private final Counter l2MissCounter;
+    private final Counter invalidatePublishCounter;
+    private final Counter invalidateReceiveCounter;
+
+    public CachedChatRoomRepository(
+            ChatRoomRepository chatRoomRepository,
+            ChatRoomCacheRepository chatRoomCacheRepository,
+            RedisTemplate<String, Object> redisTemplate,
+            RedisValueCodec<ChatRoom> chatRoomCodec,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${chat.cache.room.l1.enabled:true}") boolean localCacheEnabled,
+            @Value("${chat.cache.room.l1.max-size:10000}") long localCacheMaxSize,
+            @Value("${chat.cache.room.l1.expire-after-write-seconds:60}") long localCacheTtlSeconds
+    ) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatRoomCacheRepository = chatRoomCacheRepository;
+        this.redisTemplate = redisTemplate;
+        this.chatRoomCodec = chatRoomCodec;
+        this.localCacheEnabled = localCacheEnabled;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(Math.max(localCacheMaxSize, 1))
+                .expireAfterWrite(Duration.ofSeconds(Math.max(localCacheTtlSeconds, 1)))
+                .recordStats()
+                .build();
+
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, L1_CACHE_NAME);
+        this.l2HitCounter = Counter.builder("chat.room.cache.l2")
+                .description("채팅방 L2(Redis) 캐시 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.l2MissCounter = Counter.builder("chat.room.cache.l2")
+                .description("채팅방 L2(Redis) 캐시 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.invalidatePublishCounter = Counter.builder("chat.room.cache.l1.invalidation")
+                .description("채팅방 L1 캐시 무효화 전파")
+                .tag("direction", "publish")
+                .register(meterRegistry);
+        this.invalidateReceiveCounter = Counter.builder("chat.room.cache.l1.invalidation")
+                .description("채팅방 L1 캐시 무효화 전파")
+                .tag("direction", "receive")
+                .register(meterRegistry);
+
+        if (localCacheEnabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(ChatRoomKey.ROOM_INVALIDATE_CHANNEL));
+        }
+    }
+
+    /**
+     * 채팅방 코드로 단일 채팅방 조회 (L1 → L2 → MongoDB)
+     * 호출마다 새 객체를 돌려주므로 호출자가 상태를 바꿔도 캐시에는 영향이 없다.
+     */
+    public Optional<ChatRoom> findByRoomCode(String roomCode) {
+        long generation = invalidationGenerations.get(generationSlot(roomCode));
+
+        if (localCacheEnabled) {
+            byte[] snapshot = localCache.getIfPresent(roomCode);
+            if (snapshot != null) {
+                ChatRoom chatRoom = fromSnapshot(roomCode, snapshot);
+                if (chatRoom != null && chatRoomCacheRepository.mergeCachedActivity(chatRoom)) {
+                    return Optional.of(chatRoom);
+                }
+                localCache.invalidate(roomCode);
+            }
+        }
+
+        ChatRoom cachedRoom = chatRoomCacheRepository.getCachedChatRoom(roomCode);
+        if (cachedRoom != null && chatRoomCacheRepository.mergeCachedActivity(cachedRoom)) {
+            l2HitCounter.increment();
+            putLocal(roomCode, cachedRoom, generation);
+            return Optional.of(cachedRoom);
+        }
+        l2MissCounter.increment();
+
+        // DB 조회 전 버전을 읽어 두어, 조회 도중 저장/삭제가 끼어들면 오래된 값으로 L2 를 채우지 않는다
+        long cacheVersion = chatRoomCacheRepository.getCacheVersion(roomCode);
+        Optional<ChatRoom> chatRoom = chatRoomRepository.findByRoomCode(roomCode);
+        chatRoom.ifPresent(room -> {
+            chatRoomCacheRepository.cacheChatRoomIfVersion(roomCode, room, cacheVersion);
+            putLocal(roomCode, room, generation);
+        });
+        return chatRoom;
+    }
+
+    /**
+     * 채팅방 저장 후 L1/L2 갱신
+     * 새 채팅방은 문서 전체를 저장하고, 기존 채팅방은 상태만 반영한다. (마지막 메시지/읽음 상태는 덮어쓰지 않음)
+     * 캐시에는 저장 후 DB 값을 담는다.
+     */
+    public ChatRoom save(ChatRoom chatRoom) {
+        if (chatRoom.getId() == null) {
+            ChatRoom savedRoom = chatRoomRepository.save(chatRoom);
+            refresh(savedRoom);
+            return savedRoom;
+        }
+
+        ChatRoom savedRoom = chatRoomRepository.updateRoomState(chatRoom);
+        if (savedRoom == null) {
+            log.debug("[ChatRoomCache] Chat room to save does not exist. roomCode={}", chatRoom.getRoomCode());
+            evict(chatRoom.getRoomCode());
+            return chatRoom;
+        }
+        refresh(savedRoom);
+        return savedRoom;
+    }
+
+    /**
+     * 채팅방 일괄 저장 후 L1/L2 갱신
+     */
+    public List<ChatRoom> saveAll(List<ChatRoom> chatRooms) {
+        return chatRooms.stream()
+                .map(this::save)
+                .toList();
+    }
+
+    /**
+     * 채팅방 마지막 메시지 정보 갱신 (조회 없이 단일 업데이트)
+     * 캐시 값은 그대로 두고 마지막 메시지 해시만 갱신한다.
+     */
+    public boolean updateLastMessage(String roomCode, String messageId, String content, LocalDateTime sentAt) {
+        boolean updated = chatRoomRepository.updateLastMessage(roomCode, messageId, content, sentAt);
+        if (updated) {
+            chatRoomCacheRepository.updateCachedLastMessage(roomCode, messageId, content, sentAt);
+        }
+        return updated;
+    }
+
+    /**
+     * 읽음 상태 갱신 (기존 값보다 큰 seq 일 때만 반영)
+     * 캐시 값은 그대로 두고 읽음 상태 해시만 갱신한다.
+     */
+    public void updateReadStatus(String roomCode, String reader, Long messageSeq) {
+        chatRoomRepository.updateReadStatus(roomCode, reader, messageSeq);
+        chatRoomCacheRepository.updateCachedReadStatus(roomCode, reader, messageSeq);
+    }
+
+    /**
+     * 채팅방 캐시(L1/L2) 삭제
+     */
+    public void evict(String roomCode) {
+        chatRoomCacheRepository.evictCachedChatRoom(roomCode);
+        evictLocal(roomCode);
+        publishInvalidation(roomCode);
+    }
+
+    /**
+     * 채팅방 캐시 전체 무효화 (L1/L2 와 미읽음 등 파생 키 포함)
+     */
+    public void invalidate(String roomCode) {
+        chatRoomCacheRepository.invalidateRoomCache(roomCode);
+        evictLocal(roomCode);
+        publishInvalidation(roomCode);
+    }
+
+    /**
+     * 다른 노드에서 보낸 L1 무효화 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (body == null) {
+                return;
+            }
+            String payload = body.toString();
+            int delimiterIndex = payload.indexOf(INVALIDATE_DELIMITER);
+            if (delimiterIndex < 0 || payload.substring(0, delimiterIndex).equals(nodeId)) {
+                return;
+            }
+
+            String roomCode = payload.substring(delimiterIndex + 1);
+            evictLocal(roomCode);
+            invalidateReceiveCounter.increment();
+            log.trace("[ChatRoomCache] Receive local cache invalidation. roomCode={}", roomCode);
+
+        } catch (Exception e) {
+            log.warn("[ChatRoomCache] Fail to handle local cache invalidation. error={}", e.getMessage());
+        }
+    }
+
+    private void refresh(ChatRoom chatRoom) {
+        String roomCode = chatRoom.getRoomCode();
+        chatRoomCacheRepository.cacheChatRoom(roomCode, chatRoom);
+        evictLocal(roomCode);
+        putLocal(roomCode, chatRoom, invalidationGenerations.get(generationSlot(roomCode)));
+        publishInvalidation(roomCode);
+    }
+
+    private void putLocal(String roomCode, ChatRoom chatRoom, long generation) {
+        if (!localCacheEnabled || invalidationGenerations.get(generationSlot(roomCode)) != generation) {
+            return;
+        }
+        try {
+            localCache.put(roomCode, chatRoomCodec.serialize(chatRoom));
+        } catch (Exception e) {
+            log.debug("[ChatRoomCache] Fail to cache chat room locally. roomCode={}", roomCode, e);
+        }
+    }
+
+    private void evictLocal(String roomCode) {
+        if (!localCacheEnabled) {
+            return;
+        }
+        invalidationGenerations.incrementAndGet(generationSlot(roomCode));
+        localCache.invalidate(roomCode);
+    }
+
+    private static int generationSlot(String roomCode) {
+        return Math.floorMod(roomCode.hashCode(), GENERATION_STRIPES);
+    }
+
+    private ChatRoom fromSnapshot(String roomCode, byte[] snapshot) {
+        try {
+            return chatRoomCodec.deserialize(snapshot);
+        } catch (Exception e) {
+            log.debug("[ChatRoomCache] Fail to read local chat room snapshot. roomCode={}", roomCode, e);
+            return null;
+        }
+    }
+
+    private void publishInvalidation(String roomCode) {
+        if (!localCacheEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(ChatRoomKey.ROOM_INVALIDATE_CHANNEL, nodeId + INVALIDATE_DELIMITER + roomCode);
+            invalidatePublishCounter.increment();
+        } catch (Exception e) {
+            log.warn("[ChatRoomCache] Fail to publish local cache invalidation. roomCode={}", roomCode, e);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.myce.domain.repository;
+
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.repository.impl.ChatRoomKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+/**
+ * 해시 태그 없는 이전 캐시 키 -> 해시 태그 키({roomCode}, {memberId}, {scope}) 이전
+ * 미읽음/마지막 읽은 seq/배지/활성 채팅방처럼 다시 만들 수 없는 키만 새 이름으로 합치고 이전 키를 지운다.
+ * 최근 메시지, 히스토리, 채팅방 정보 같은 캐시 키는 옮기지 않고 지운다. (다음 조회 때 MongoDB 에서 다시 채운다)
+ * 배포 후 새 이름으로 이미 쌓인 값이 있으면 카운터는 더하고, 집합은 합치고, 마지막 읽은 seq 는 새 값을 유지한다.
+ * 관리자 그룹(-1) 전역 키는 관리자 그룹 범위 이전(chat.cache.admin-badge.migrate-on-startup)이 처리하므로 건너뛴다.
+ * 관리자 그룹의 채팅방별 미읽음은 채팅방 키가 아니라 범위·샤드 미읽음 해시로 옮긴다.
+ * 이전 표시 키를 먼저 잡은 한 노드만 수행하고, 완료하면 표시를 남겨 이후 재시작에서는 건너뛴다.
+ */
+@Slf4j
+@Component
+public class ChatCacheKeyMigrator {
+
+    private static final String MIGRATION_RUNNING = "running";
+    private static final String MIGRATION_DONE = "done";
+    // 이전 중 노드가 죽어도 이 시간이 지나면 다시 시도할 수 있다
+    private static final Duration MIGRATION_LEASE = Duration.ofMinutes(10);
+
+    private static final Pattern LEGACY_ROOM_MEMBER_KEY = Pattern.compile(
+            "^" + Pattern.quote(ChatRoomKey.ROOM_KEY_PREFIX) + "([^{}]+):(unread|lastRead):(-?\\d+)$");
+    private static final Pattern LEGACY_USER_KEY = Pattern.compile(
+            "^" + Pattern.quote(ChatRoomKey.USER_KEY_PREFIX) + "(\\d+):(badge|activeRooms|unread)$");
+    private static final Pattern LEGACY_ADMIN_KEY = Pattern.compile(
+            "^" + Pattern.quote(ChatRoomKey.ADMIN_KEY_PREFIX) + "([^{}]+):(activeRoomIndex|unread)$");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final int scanCount;
+    private final boolean migrateOnStartup;
+    private final int adminBadgeShards;
+
+    public ChatCacheKeyMigrator(
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${chat.cache.key-hash-tag.migration.scan-count:500}") int scanCount,
+            @Value("${chat.cache.key-hash-tag.migration.migrate-on-startup:false}") boolean migrateOnStartup,
+            @Value("${chat.cache.admin-badge.shards:8}") int adminBadgeShards
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.scanCount = Math.max(scanCount, 1);
+        this.migrateOnStartup = migrateOnStartup;
+        this.adminBadgeShards = adminBadgeShards;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (!migrateOnStartup) {
+            return;
+        }
+
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(
+                    ChatRoomKey.KEY_HASH_TAG_MIGRATION_KEY, MIGRATION_RUNNING, MIGRATION_LEASE))) {
+                log.info("[ChatCacheKeyMigrator] Key hash tag migration is done or running on another node.");
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("[ChatCacheKeyMigrator] Fail to acquire key hash tag migration lock.", e);
+            return;
+        }
+
+        try {
+            long migrated = migrateAll();
+            redisTemplate.opsForValue().set(ChatRoomKey.KEY_HASH_TAG_MIGRATION_KEY, MIGRATION_DONE);
+            log.info("[ChatCacheKeyMigrator] Migrated legacy keys to hash tagged keys. keys={}", migrated);
+        } catch (Exception e) {
+            log.warn("[ChatCacheKeyMigrator] Fail to migrate legacy keys.", e);
+            redisTemplate.delete(ChatRoomKey.KEY_HASH_TAG_MIGRATION_KEY);
+        }
+    }
+
+    /**
+     * 채팅방/사용자/관리자 범위의 해시 태그 없는 키를 모두 옮긴다. (여러 번 실행해도 옮긴 키는 다시 옮기지 않는다)
+     * @return 옮기거나 지운 이전 키 수
+     */
+    public long migrateAll() {
+        long[] migrated = new long[1];
+        for (String prefix : new String[]{ChatRoomKey.ROOM_KEY_PREFIX, ChatRoomKey.USER_KEY_PREFIX,
+                ChatRoomKey.ADMIN_KEY_PREFIX}) {
+            scan(prefix + "*", key -> {
+                if (migrateKey(key)) {
+                    migrated[0]++;
+                }
+            });
+        }
+        return migrated[0];
+    }
+
+    /**
+     * 이전 키 하나를 새 이름으로 합친다
+     * @return 옮기거나 지웠으면 true (이미 해시 태그가 있거나 이름이 그대로인 키는 false)
+     */
+    boolean migrateKey(String legacyKey) {
+        if (legacyKey.indexOf('{') >= 0) {
+            return false;
+        }
+
+        if (legacyKey.startsWith(ChatRoomKey.ROOM_KEY_PREFIX)) {
+            migrateRoomKey(legacyKey);
+        } else if (legacyKey.startsWith(ChatRoomKey.USER_KEY_PREFIX)) {
+            if (!migrateUserKey(legacyKey)) {
+                return false;
+            }
+        } else if (!migrateAdminKey(legacyKey)) {
+            return false;
+        }
+        redisTemplate.delete(legacyKey);
+        log.debug("[ChatCacheKeyMigrator] Success to migrate legacy key. key={}", legacyKey);
+        return true;
+    }
+
+    private void migrateRoomKey(String legacyKey) {
+        Matcher matcher = LEGACY_ROOM_MEMBER_KEY.matcher(legacyKey);
+        if (!matcher.matches()) {
+            // 최근 메시지, 히스토리, 채팅방 정보 등 다시 채울 수 있는 캐시는 지우기만 한다
+            return;
+        }
+
+        String roomCode = matcher.group(1);
+        long memberId = Long.parseLong(matcher.group(3));
+        Object value = redisTemplate.opsForValue().get(legacyKey);
+        if (value == null) {
+            return;
+        }
+
+        boolean unread = "unread".equals(matcher.group(2));
+        if (unread && ChatRoom.ADMIN_GROUP_MEMBER_ID.equals(memberId)) {
+            addAdminUnread(legacyKey, roomCode, Long.parseLong(value.toString()));
+            return;
+        }
+
+        String key;
+        if (unread) {
+            key = String.format(ChatRoomKey.ROOM_UNREAD_KEY_FORMAT, roomCode, memberId);
+            redisTemplate.opsForValue().increment(key, Long.parseLong(value.toString()));
+        } else {
+            key = String.format(ChatRoomKey.ROOM_LAST_READ_KEY_FORMAT, roomCode, memberId);
+            redisTemplate.opsForValue().setIfAbsent(key, Long.parseLong(value.toString()));
+        }
+        copyExpire(legacyKey, key);
+
+        String registryKey = String.format(ChatRoomKey.ROOM_KEY_REGISTRY_FORMAT, roomCode);
+        redisTemplate.opsForSet().add(registryKey, key);
+        copyExpire(legacyKey, registryKey);
+    }
+
+    private boolean migrateUserKey(String legacyKey) {
+        Matcher matcher = LEGACY_USER_KEY.matcher(legacyKey);
+        if (!matcher.matches()) {
+            return false;
+        }
+
+        long memberId = Long.parseLong(matcher.group(1));
+        switch (matcher.group(2)) {
+            case "badge" -> {
+                String key = String.format(ChatRoomKey.USER_BADGE_KEY_FORMAT, memberId);
+                Object value = redisTemplate.opsForValue().get(legacyKey);
+                if (value != null) {
+                    redisTemplate.opsForValue().increment(key, Long.parseLong(value.toString()));
+                    copyExpire(legacyKey, key);
+                }
+            }
+            case "activeRooms" -> {
+                String key = String.format(ChatRoomKey.USER_ACTIVE_ROOMS_KEY_FORMAT, memberId);
+                Set<Object> rooms = redisTemplate.opsForSet().members(legacyKey);
+                if (rooms != null && !rooms.isEmpty()) {
+                    redisTemplate.opsForSet().add(key, rooms.toArray());
+                    copyExpire(legacyKey, key);
+                }
+            }
+            default -> mergeUnreadHash(legacyKey, String.format(ChatRoomKey.USER_UNREAD_HASH_KEY_FORMAT, memberId));
+        }
+        return true;
+    }
+
+    private boolean migrateAdminKey(String legacyKey) {
+        Matcher matcher = LEGACY_ADMIN_KEY.matcher(legacyKey);
+        if (!matcher.matches()) {
+            return false;
+        }
+
+        String scope = matcher.group(1);
+        if ("unread".equals(matcher.group(2))) {
+            // 범위 해시 하나에 있던 채팅방 필드를 채팅방이 속한 샤드 해시로 나눈다 (합계는 샤드마다 다시 더한다)
+            redisTemplate.opsForHash().entries(legacyKey).forEach((field, value) -> {
+                if (!ChatRoomKey.USER_UNREAD_TOTAL_FIELD.equals(field)) {
+                    addAdminUnread(legacyKey, field.toString(), Long.parseLong(value.toString()));
+                }
+            });
+            return true;
+        }
+
+        String key = String.format(ChatRoomKey.ADMIN_ACTIVE_ROOM_INDEX_KEY_FORMAT, scope);
+        Set<TypedTuple<Object>> rooms = redisTemplate.opsForZSet().rangeWithScores(legacyKey, 0, -1);
+        if (rooms != null && !rooms.isEmpty()) {
+            for (TypedTuple<Object> room : rooms) {
+                redisTemplate.opsForZSet().addIfAbsent(key, room.getValue(), room.getScore());
+            }
+            copyExpire(legacyKey, key);
+        }
+        return true;
+    }
+
+    /**
+     * 관리자 그룹 채팅방 미읽음을 샤드 해시의 채팅방 필드와 합계 필드에 더한다
+     */
+    private void addAdminUnread(String legacyKey, String roomCode, long count) {
+        String key = ChatRoomKey.adminUnreadHashKey(roomCode, adminBadgeShards);
+        redisTemplate.opsForHash().increment(key, roomCode, count);
+        redisTemplate.opsForHash().increment(key, ChatRoomKey.USER_UNREAD_TOTAL_FIELD, count);
+        copyExpire(legacyKey, key);
+    }
+
+    /**
+     * 미읽음 해시 필드(채팅방 카운트와 합계)를 새 해시에 더한다
+     */
+    private void mergeUnreadHash(String legacyKey, String key) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(legacyKey);
+        if (entries.isEmpty()) {
+            return;
+        }
+        entries.forEach((field, value) ->
+                redisTemplate.opsForHash().increment(key, field, Long.parseLong(value.toString())));
+        copyExpire(legacyKey, key);
+    }
+
+    /**
+     * 새 키 TTL 을 이전 키의 남은 TTL 이상으로 맞춘다
+     */
+    private void copyExpire(String legacyKey, String key) {
+        Long legacyTtl = redisTemplate.getExpire(legacyKey, TimeUnit.SECONDS);
+        if (legacyTtl == null || legacyTtl <= 0) {
+            return;
+        }
+        Long ttl = redisTemplate.getExpire(key, TimeUnit.SECONDS);
+        if (ttl == null || ttl < legacyTtl) {
+            redisTemplate.expire(key, Duration.ofSeconds(legacyTtl));
+        }
+    }
+
+    /**
+     * 키 공간 조회 (클러스터면 마스터 노드마다 SCAN)
+     */
+    private void scan(String pattern, Consumer<String> consumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(scanCount).build();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            if (connection instanceof RedisClusterConnection clusterConnection) {
+                for (RedisClusterNode node : clusterConnection.clusterGetNodes()) {
+                    if (node.isMaster()) {
+                        consume(clusterConnection.scan(node, options), consumer);
+                    }
+                }
+            } else {
+                consume(connection.keyCommands().scan(options), consumer);
+            }
+            return null;
+        });
+    }
+
+    private void consume(Cursor<byte[]> cursor, Consumer<String> consumer) {
+        try (cursor) {
+            while (cursor.hasNext()) {
+                consumer.accept(new String(cursor.next(), StandardCharsets.UTF_8));
+            }
+        }
+    }
+}
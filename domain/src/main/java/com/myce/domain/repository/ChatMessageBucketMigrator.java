@@ -0,0 +1,141 @@
+package com.myce.domain.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.ChatMessageBucket;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메시지 단위 문서(chat_messages) -> 버킷(chat_message_buckets) 마이그레이션
+ * 채팅방별로 seq 오름차순으로 읽어 버킷에 옮긴다. 버킷에서 같은 _id 메시지를 먼저 빼고 다시 넣으므로
+ * 여러 번 실행해도 메시지가 중복되지 않고, 그사이 바뀐 unreadCount 도 다시 반영된다.
+ * 저장 모드와 관계없이 실행할 수 있으므로 document 모드에서 먼저 옮긴 뒤 bucket 모드로 전환한다.
+ * seq 가 없는 메시지는 버킷 위치를 정할 수 없어 옮기지 않는다.
+ */
+@Slf4j
+@Component
+public class ChatMessageBucketMigrator {
+
+    private final MongoOperations mongoOperations;
+    private final ChatMessageRepository chatMessageRepository;
+    private final int bucketSize;
+    private final int batchSize;
+    private final boolean migrateOnStartup;
+
+    public ChatMessageBucketMigrator(
+            MongoOperations mongoOperations,
+            ChatMessageRepository chatMessageRepository,
+            @Value("${chat.message.store.bucket.size:200}") int bucketSize,
+            @Value("${chat.message.store.bucket.migration.batch-size:1000}") int batchSize,
+            @Value("${chat.message.store.bucket.migration.migrate-on-startup:false}") boolean migrateOnStartup
+    ) {
+        this.mongoOperations = mongoOperations;
+        this.chatMessageRepository = chatMessageRepository;
+        this.bucketSize = Math.max(bucketSize, 1);
+        this.batchSize = Math.max(batchSize, 1);
+        this.migrateOnStartup = migrateOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateAllOnStartup() {
+        if (!migrateOnStartup) {
+            return;
+        }
+        migrateAll();
+    }
+
+    /**
+     * 전체 채팅방 마이그레이션 (실패한 채팅방은 건너뛰고 계속 진행)
+     * @return 옮긴 메시지 수
+     */
+    public long migrateAll() {
+        List<String> roomCodes = mongoOperations.findDistinct(new Query(), "roomCode", ChatMessage.class, String.class);
+        long migrated = 0;
+        int failedRooms = 0;
+        for (String roomCode : roomCodes) {
+            try {
+                migrated += migrateRoom(roomCode);
+            } catch (Exception e) {
+                failedRooms++;
+                log.warn("[ChatMessageBucketMigrator] Fail to migrate room. roomCode={}", roomCode, e);
+            }
+        }
+
+        log.info("[ChatMessageBucketMigrator] Migrated messages to buckets. roomCount={}, failedRooms={}, messages={}",
+                roomCodes.size(), failedRooms, migrated);
+        return migrated;
+    }
+
+    /**
+     * 채팅방 마이그레이션
+     * @return 옮긴 메시지 수
+     */
+    public long migrateRoom(String roomCode) {
+        long migrated = 0;
+        Long afterSeq = Long.MIN_VALUE;
+        while (true) {
+            List<ChatMessage> messages = chatMessageRepository.findByRoomCodeAndSeqGreaterThanOrderBySeqAsc(
+                    roomCode, afterSeq, PageRequest.of(0, batchSize));
+            if (messages.isEmpty()) {
+                break;
+            }
+
+            writeBuckets(roomCode, messages);
+            migrated += messages.size();
+            afterSeq = messages.get(messages.size() - 1).getSeq();
+            if (messages.size() < batchSize) {
+                break;
+            }
+        }
+
+        log.debug("[ChatMessageBucketMigrator] Success to migrate room. roomCode={}, messages={}", roomCode, migrated);
+        return migrated;
+    }
+
+    private void writeBuckets(String roomCode, List<ChatMessage> messages) {
+        Map<Long, List<ChatMessage>> buckets = new LinkedHashMap<>();
+        for (ChatMessage message : messages) {
+            buckets.computeIfAbsent(ChatMessageBucket.bucketSeqOf(message.getSeq(), bucketSize),
+                    bucketSeq -> new ArrayList<>()).add(message);
+        }
+
+        // 버킷마다 기존 메시지 제거 -> 추가 순서로 실행
+        BulkOperations bulkOperations = mongoOperations.bulkOps(BulkMode.ORDERED, ChatMessageBucket.class);
+        for (Map.Entry<Long, List<ChatMessage>> bucket : buckets.entrySet()) {
+            Query bucketQuery = query(where("roomCode").is(roomCode).and("bucketSeq").is(bucket.getKey()));
+            List<ChatMessage> bucketMessages = bucket.getValue();
+
+            List<Document> documents = new ArrayList<>(bucketMessages.size());
+            List<Object> ids = new ArrayList<>(bucketMessages.size());
+            for (ChatMessage message : bucketMessages) {
+                Document document = new Document();
+                mongoOperations.getConverter().write(message, document);
+                documents.add(document);
+                ids.add(document.get("_id"));
+            }
+
+            bulkOperations.updateOne(bucketQuery,
+                    new Update().pull("messages", new Document("_id", new Document("$in", ids))));
+            bulkOperations.upsert(bucketQuery, ChatMessageBucket.appendUpdate(documents,
+                    bucketMessages.get(0).getSeq(), bucketMessages.get(bucketMessages.size() - 1).getSeq()));
+        }
+        bulkOperations.execute();
+    }
+}
@@ -0,0 +1,19 @@
+package com.myce.domain.repository;
+
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * 메시지 일괄 저장 중 일부(또는 전체) 실패
+ * failedIndexes 는 저장 요청 목록 기준 위치이며, 나머지 메시지는 저장된 상태다.
+ */
+@Getter
+public class ChatMessageBulkInsertException extends RuntimeException {
+
+    private final Set<Integer> failedIndexes;
+
+    public ChatMessageBulkInsertException(Set<Integer> failedIndexes, Throwable cause) {
+        super("Fail to insert chat messages. failed=" + failedIndexes.size(), cause);
+        this.failedIndexes = failedIndexes;
+    }
+}
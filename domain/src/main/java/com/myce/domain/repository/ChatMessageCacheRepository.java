@@ -1,8 +1,14 @@
 package com.myce.domain.repository;
 
 import com.myce.domain.document.ChatMessage;
+import com.myce.domain.dto.MessageCacheCommitResult;
+import com.myce.domain.dto.MessageHistoryWindow;
+import com.myce.domain.dto.RecentMessageFill;
+import com.myce.domain.dto.UnreadCounterKey;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.Map;
 
 public interface ChatMessageCacheRepository {
 
@@ -11,27 +17,92 @@ public interface ChatMessageCacheRepository {
     void cacheRecentMessages(String roomCode, List<ChatMessage> messages);
 
     /**
-     * 새 메시지 캐시에 추가
+     * 최근 메시지 캐시 채우기 임대 시도
+     * 여러 노드에서 같은 채팅방 캐시 미스가 동시에 나도 한 요청만 MongoDB 를 조회하도록 짧은 임대를 잡는다.
      * @param roomCode 채팅방 코드
-     * @param message 추가할 메시지
-     * @return 비동기 처리 결과
+     * @param leaseTime 임대 유지 시간
+     * @return 임대 (다른 요청이 채우는 중이면 null)
      */
-    CompletableFuture<Void> addMessageToCache(String roomCode, ChatMessage message);
+    RecentMessageFill tryBeginRecentFill(String roomCode, Duration leaseTime);
 
     /**
-     * 미읽음 카운트 증가
+     * 최근 메시지 캐시 채우기 완료 후 임대 해제
+     * 임대 시점 이후 새 메시지가 캐시에 추가됐다면 덮어쓰지 않는다.
+     * @param fill 임대
+     * @param messages MongoDB 에서 조회한 최근 메시지 (최신 메시지부터)
+     * @return 캐시 저장 여부
+     */
+    boolean completeRecentFill(RecentMessageFill fill, List<ChatMessage> messages);
+
+    /**
+     * 최근 메시지 캐시 채우기 취소 (임대 해제)
+     */
+    void cancelRecentFill(RecentMessageFill fill);
+
+    /**
+     * 최근 메시지 응답 조각 조회 (최신 메시지부터)
      * @param roomCode 채팅방 코드
-     * @param memberId 사용자 ID
-     * @return 증가 후 카운트
+     * @param limit 최대 개수
+     * @return 응답 조각 목록 (캐시 미스 시 빈 목록)
      */
-    Long incrementUnreadCount(String roomCode, Long memberId, long count);
+    List<byte[]> getRecentMessageViews(String roomCode, int limit);
 
     /**
-     * 미읽음 카운트 리셋
+     * 최근 메시지 응답 조각 캐싱
+     * 최근 메시지 캐시의 첫 메시지가 headMessage 와 같을 때만 저장한다.
      * @param roomCode 채팅방 코드
-     * @param memberId 사용자 ID
+     * @param headMessage 조각 목록의 첫(최신) 메시지
+     * @param views 응답 조각 목록 (최신 메시지부터)
+     * @return 저장 여부
+     */
+    boolean cacheRecentMessageViews(String roomCode, ChatMessage headMessage, List<byte[]> views);
+
+    /**
+     * 저장된 메시지를 히스토리 캐시(채팅방별 seq 정렬 집합)에 추가
+     * 메시지 저장 직후 호출해 캐시 하한 seq 이상 메시지가 빠지지 않게 한다.
+     * @param messages 저장된 메시지 (여러 채팅방 가능)
+     */
+    void appendHistory(List<ChatMessage> messages);
+
+    /**
+     * 히스토리 캐시에서 seq 이전 메시지 구간 조회 (seq 내림차순)
+     * @param roomCode 채팅방 코드
+     * @param beforeSeq 기준 seq (null 이면 최신 메시지부터)
+     * @param limit 최대 개수
+     * @return 조회 결과 (캐시를 쓸 수 없으면 null)
+     */
+    MessageHistoryWindow getHistoryBefore(String roomCode, Long beforeSeq, int limit);
+
+    /**
+     * 히스토리 캐시에서 seq 이후 메시지 구간 조회 (seq 오름차순)
+     * @param roomCode 채팅방 코드
+     * @param afterSeq 기준 seq
+     * @param limit 최대 개수
+     * @return 조회 결과 (캐시를 쓸 수 없으면 null)
      */
-    void resetUnreadCount(String roomCode, Long memberId);
+    MessageHistoryWindow getHistoryAfter(String roomCode, Long afterSeq, int limit);
+
+    /**
+     * 히스토리 캐시를 하한 seq 아래로 확장 (MongoDB 조회 결과로 채움)
+     * 조회 시점의 하한 seq 가 그대로일 때만 채운다.
+     * @param roomCode 채팅방 코드
+     * @param expectedFloorSeq 조회 시점의 하한 seq (null 이면 캐시가 없을 때만 새로 채운다)
+     * @param messages seq 내림차순 메시지 (기존 하한 또는 최신 메시지부터 빠짐없이 이어진 구간)
+     * @param reachedStart 채팅방 첫 메시지까지 포함했는지 여부
+     * @return 저장 여부
+     */
+    boolean extendHistory(String roomCode, Long expectedFloorSeq, List<ChatMessage> messages, boolean reachedStart);
+
+    /**
+     * 메시지 저장 후 Redis 부가 작업 일괄 처리
+     * 최근 메시지 캐시 추가, 수신자 미읽음/배지 카운트 증가, 발신자/수신자 활성 채팅방 추가
+     * @param roomCode 채팅방 코드
+     * @param message 저장된 메시지
+     * @param senderId 발신자 ID (AI/시스템 메시지처럼 회원 발신자가 없으면 null)
+     * @param receiverId 수신자 ID (없으면 null)
+     * @return 단계별 처리 결과
+     */
+    MessageCacheCommitResult commitMessage(String roomCode, ChatMessage message, Long senderId, Long receiverId);
 
     /**
      * 미읽음 카운트 조회
@@ -41,24 +112,31 @@ public interface ChatMessageCacheRepository {
      */
     Long getUnreadCount(String roomCode, Long memberId);
 
-    void setLastReadSeq(String roomCode, Long memberId, Long messageSeq);
-
-    Long getLastReadSeq(String roomCode, Long memberId);
+    /**
+     * 여러 미읽음 카운트 한 번에 조회 (MGET)
+     * @param keys 조회할 카운터 키
+     * @return 카운터 키 -> 미읽음 카운트 (캐시에 없는 키는 포함되지 않음)
+     */
+    Map<UnreadCounterKey, Long> getUnreadCounts(Collection<UnreadCounterKey> keys);
 
     /**
-     * 전체 배지 카운트 증가
+     * 미읽음 카운트 설정 (MongoDB 재계산 값으로 채울 때 사용)
+     * @param roomCode 채팅방 코드
      * @param memberId 사용자 ID
-     * @return 증가 후 전체 카운트
+     * @param count 미읽음 카운트
      */
-    Long incrementBadgeCount(Long memberId);
+    void setUnreadCount(String roomCode, Long memberId, long count);
 
     /**
-     * 전체 배지 카운트 재계산
+     * 미읽음 카운트 리셋 후 전체 배지 카운트 재계산 (채팅방 읽음 처리)
+     * @param roomCode 채팅방 코드
      * @param memberId 사용자 ID
      * @return 재계산된 전체 카운트
      */
-    Long recalculateBadgeCount(List<String> activeRooms, Long memberId);
+    Long resetUnreadCountAndRecalculateBadge(String roomCode, Long memberId);
+
+    void setLastReadSeq(String roomCode, Long memberId, Long messageSeq);
 
-    Long getBadgeCount(Long memberId);
+    Long getLastReadSeq(String roomCode, Long memberId);
 
 }
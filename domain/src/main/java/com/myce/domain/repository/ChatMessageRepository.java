@@ -27,7 +27,22 @@ public interface ChatMessageRepository extends MongoRepository<ChatMessage, Stri
     Optional<ChatMessage> findTop1ByRoomCodeOrderBySentAtDesc(String roomCode);
 
     Optional<ChatMessage> findTop1ByRoomCodeOrderBySeqDesc(String roomCode);
-    
+
+    /**
+     * 채팅방 최신 메시지부터 seq 내림차순 조회 (히스토리 구간 조회용)
+     */
+    List<ChatMessage> findByRoomCodeOrderBySeqDesc(String roomCode, Pageable pageable);
+
+    /**
+     * 채팅방에서 특정 seq 이전 메시지를 seq 내림차순 조회
+     */
+    List<ChatMessage> findByRoomCodeAndSeqLessThanOrderBySeqDesc(String roomCode, Long seq, Pageable pageable);
+
+    /**
+     * 채팅방에서 특정 seq 이후 메시지를 seq 오름차순 조회
+     */
+    List<ChatMessage> findByRoomCodeAndSeqGreaterThanOrderBySeqAsc(String roomCode, Long seq, Pageable pageable);
+
     /**
      * 채팅방에서 특정 발송자 타입의 메시지 개수 (안읽은 메시지 계산용)
      */
@@ -1,6 +1,10 @@
 package com.myce.domain.repository;
 
 import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.dto.UnreadCountCondition;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 public interface ChatMessageRepositoryCustom {
 
@@ -10,4 +14,17 @@ public interface ChatMessageRepositoryCustom {
     void decreaseUnreadCountBeforeSeq(String roomCode, MessageSenderType senderType, Long lastReadSeq);
 
     void updateUnreadCountEqualSeq(String roomCode, String messageId);
+
+    /**
+     * 기준 seq 이전(포함)의 지정한 발송자 메시지 unreadCount 를 0으로 정리
+     * @return 정리된 메시지 수
+     */
+    long clearUnreadCountBeforeSeq(String roomCode, Collection<MessageSenderType> senderTypes, Long lastReadSeq);
+
+    /**
+     * 여러 채팅방의 미읽음 카운트를 한 번에 계산
+     * 채팅방마다 상대방 발송자 타입과 마지막으로 읽은 seq 를 따로 적용한다.
+     * @return roomCode -> 미읽음 카운트 (미읽음이 없는 채팅방은 포함되지 않음)
+     */
+    Map<String, Long> countUnreadByRooms(List<UnreadCountCondition> conditions);
 }
@@ -3,8 +3,15 @@ package com.myce.domain.repository;
 import com.mongodb.client.result.UpdateResult;
 import com.myce.domain.document.ChatMessage;
 import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.dto.UnreadCountCondition;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
@@ -12,6 +19,9 @@ import org.springframework.data.mongodb.core.query.Update;
 @RequiredArgsConstructor
 public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
 
+    // $or 조건이 너무 커지지 않도록 나눠서 집계
+    private static final int UNREAD_COUNT_CHUNK_SIZE = 500;
+
     private final MongoOperations mongoOperations;
 
     @Override
@@ -40,4 +50,53 @@ public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
         Update update = new Update().inc("unreadCount", -1);
         mongoOperations.updateMulti(query, update, ChatMessage.class);
     }
+
+    @Override
+    public long clearUnreadCountBeforeSeq(String roomCode, Collection<MessageSenderType> senderTypes,
+                                          Long lastReadSeq) {
+        if (lastReadSeq == null || senderTypes.isEmpty()) {
+            return 0;
+        }
+
+        Criteria criteria = Criteria.where("roomCode").is(roomCode)
+                .and("senderType").in(senderTypes)
+                .and("unreadCount").gt(0)
+                .and("seq").lte(lastReadSeq);
+
+        Query query = new Query(criteria);
+        Update update = new Update().set("unreadCount", 0);
+        return mongoOperations.updateMulti(query, update, ChatMessage.class).getModifiedCount();
+    }
+
+    @Override
+    public Map<String, Long> countUnreadByRooms(List<UnreadCountCondition> conditions) {
+        Map<String, Long> unreadCounts = new HashMap<>();
+        for (int from = 0; from < conditions.size(); from += UNREAD_COUNT_CHUNK_SIZE) {
+            List<UnreadCountCondition> chunk =
+                    conditions.subList(from, Math.min(from + UNREAD_COUNT_CHUNK_SIZE, conditions.size()));
+
+            Criteria[] roomCriteria = chunk.stream()
+                    .map(this::toUnreadCriteria)
+                    .toArray(Criteria[]::new);
+
+            Aggregation aggregation = Aggregation.newAggregation(
+                    Aggregation.match(new Criteria().orOperator(roomCriteria)),
+                    Aggregation.group("roomCode").count().as("count")
+            );
+
+            for (Document result : mongoOperations.aggregate(aggregation, ChatMessage.class, Document.class)) {
+                unreadCounts.put(result.getString("_id"), ((Number) result.get("count")).longValue());
+            }
+        }
+        return unreadCounts;
+    }
+
+    private Criteria toUnreadCriteria(UnreadCountCondition condition) {
+        Criteria criteria = Criteria.where("roomCode").is(condition.roomCode())
+                .and("senderType").in(condition.senderTypes().stream().map(MessageSenderType::name).toList());
+        if (condition.lastReadSeq() != null) {
+            criteria.and("seq").gt(condition.lastReadSeq());
+        }
+        return criteria;
+    }
 }
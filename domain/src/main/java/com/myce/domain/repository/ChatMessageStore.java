@@ -0,0 +1,90 @@
+package com.myce.domain.repository;
+
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.dto.UnreadCountCondition;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 채팅 메시지 저장소
+ * chat.message.store.mode 에 따라 메시지 단위 문서(document) 또는 채팅방 seq 구간 버킷(bucket)에 저장한다.
+ * 서비스는 저장 방식과 관계없이 이 인터페이스로 메시지를 저장/조회한다.
+ */
+public interface ChatMessageStore {
+
+    /**
+     * 메시지 저장
+     * @return 저장된 메시지
+     */
+    ChatMessage insert(ChatMessage message);
+
+    /**
+     * 메시지 일괄 저장 (unordered)
+     * @throws ChatMessageBulkInsertException 일부 메시지 저장 실패 시 (실패하지 않은 메시지는 저장됨)
+     */
+    void insertAll(List<ChatMessage> messages);
+
+    /**
+     * 채팅방 최근 메시지 50개 (최신 메시지부터)
+     */
+    List<ChatMessage> findRecentMessages(String roomCode);
+
+    /**
+     * 채팅방 최신 메시지
+     */
+    Optional<ChatMessage> findLatestMessage(String roomCode);
+
+    /**
+     * 채팅방 메시지 페이지 조회 (최신 메시지부터)
+     */
+    Page<ChatMessage> findPage(String roomCode, Pageable pageable);
+
+    /**
+     * seq 이전 메시지를 seq 내림차순 조회
+     * @param beforeSeq 기준 seq (null 이면 최신 메시지부터)
+     */
+    List<ChatMessage> findBefore(String roomCode, Long beforeSeq, int limit);
+
+    /**
+     * seq 이후 메시지를 seq 오름차순 조회
+     */
+    List<ChatMessage> findAfter(String roomCode, Long afterSeq, int limit);
+
+    /**
+     * 채팅방에 저장된 최대 seq (메시지가 없으면 null)
+     */
+    Long findLastSeq(String roomCode);
+
+    /**
+     * 채팅방별 최대 seq (채팅방 seq 카운터 초기화용)
+     * @return roomCode -> 최대 seq
+     */
+    Map<String, Long> findLastSeqByRooms();
+
+    /**
+     * 여러 채팅방의 미읽음 카운트를 한 번에 계산
+     * @return roomCode -> 미읽음 카운트 (미읽음이 없는 채팅방은 포함되지 않음)
+     */
+    Map<String, Long> countUnreadByRooms(List<UnreadCountCondition> conditions);
+
+    /**
+     * 기준 seq 이전(포함)의 다른 발송자 메시지 unreadCount 감소
+     */
+    void decreaseUnreadCountBeforeSeq(String roomCode, MessageSenderType senderType, Long lastReadSeq);
+
+    /**
+     * 메시지 한 건의 unreadCount 감소
+     */
+    void decreaseUnreadCount(String roomCode, String messageId);
+
+    /**
+     * 기준 seq 이전(포함)의 지정한 발송자 메시지 unreadCount 를 0으로 정리
+     * @return 정리된 문서 수 (버킷 모드에서는 버킷 수)
+     */
+    long clearUnreadCountBeforeSeq(String roomCode, Collection<MessageSenderType> senderTypes, Long lastReadSeq);
+}
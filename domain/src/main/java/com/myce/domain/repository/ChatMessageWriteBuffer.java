@@ -0,0 +1,280 @@
+package com.myce.domain.repository;
+
+import com.myce.domain.document.ChatMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 쓰기 버퍼 (write-behind)
+ * 대기 중인 insert 를 모아 unordered bulk insert 로 저장한다.
+ * 첫 메시지가 들어온 뒤 flushInterval 이 지나거나 maxBatchSize 만큼 모이면 저장하고,
+ * 호출자는 저장이 끝나면 완료되는 future 를 받는다.
+ * 비활성화 상태이거나 버퍼가 가득 찬 경우에는 바로 insert 한다.
+ * 저장한 메시지는 future 를 완료하기 전에 히스토리 캐시에 추가해, 호출자가 이어서 조회해도 캐시에 빠지지 않게 한다.
+ * 종료 시에는 새 요청을 받지 않고 flusher 가 남은 요청을 저장할 때까지 shutdown-drain 동안 기다린 뒤에야 중단시킨다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBuffer {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final ChatMessageStore chatMessageStore;
+    private final ChatMessageCacheRepository chatMessageCacheRepository;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long flushIntervalNanos;
+    private final long shutdownDrainMillis;
+    private final long awaitTimeoutMillis;
+    private final BlockingQueue<PendingInsert> queue;
+    private final Thread flusher;
+    private volatile boolean running = true;
+    // 종료 확인과 등록을 같은 락으로 묶어, shutdown 이 남은 요청을 비운 뒤에 큐에 들어오는 요청이 없게 한다
+    private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
+    private final Counter overflowCounter;
+    private final Counter awaitTimeoutCounter;
+
+    public ChatMessageWriteBuffer(
+            ChatMessageStore chatMessageStore,
+            ChatMessageCacheRepository chatMessageCacheRepository,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${chat.message.write-behind.enabled:false}") boolean enabled,
+            @Value("${chat.message.write-behind.max-batch-size:200}") int maxBatchSize,
+            @Value("${chat.message.write-behind.flush-interval-ms:3}") long flushIntervalMillis,
+            @Value("${chat.message.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${chat.message.write-behind.shutdown-drain-ms:5000}") long shutdownDrainMillis,
+            @Value("${chat.message.write-behind.await-timeout-ms:5000}") long awaitTimeoutMillis
+    ) {
+        this.chatMessageStore = chatMessageStore;
+        this.chatMessageCacheRepository = chatMessageCacheRepository;
+        this.enabled = enabled;
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(flushIntervalMillis, 0));
+        this.queue = new LinkedBlockingQueue<>(Math.max(queueCapacity, 1));
+        this.shutdownDrainMillis = Math.max(shutdownDrainMillis, 0);
+        this.awaitTimeoutMillis = Math.max(awaitTimeoutMillis, 1);
+
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.batchSizeSummary = DistributionSummary.builder("chat.message.write.batch.size")
+                .description("bulk insert 한 번에 저장한 메시지 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.message.write.flush")
+                .description("bulk insert 소요 시간")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("chat.message.write.overflow")
+                .description("버퍼가 가득 차 바로 저장한 메시지 수")
+                .register(meterRegistry);
+        this.awaitTimeoutCounter = Counter.builder("chat.message.write.await.timeout")
+                .description("저장 완료를 기다리다 시간이 초과된 요청 수")
+                .register(meterRegistry);
+
+        this.flusher = new Thread(this::flushLoop, "chat-message-write-behind");
+        this.flusher.setDaemon(true);
+        if (enabled) {
+            this.flusher.start();
+        }
+    }
+
+    /**
+     * 메시지 저장 요청
+     * @return 저장이 끝나면 완료되는 future
+     */
+    public CompletableFuture<ChatMessage> insert(ChatMessage chatMessage) {
+        if (!enabled || !running) {
+            return insertDirectly(chatMessage);
+        }
+
+        PendingInsert pending = new PendingInsert(chatMessage, new CompletableFuture<>());
+        boolean accepted;
+        boolean offered = false;
+        shutdownLock.readLock().lock();
+        try {
+            accepted = running;
+            if (accepted) {
+                offered = queue.offer(pending);
+            }
+        } finally {
+            shutdownLock.readLock().unlock();
+        }
+
+        if (!accepted) {
+            return insertDirectly(chatMessage);
+        }
+        if (!offered) {
+            overflowCounter.increment();
+            log.debug("[ChatMessageWriteBuffer] Buffer is full, insert directly. roomCode={}",
+                    chatMessage.getRoomCode());
+            return insertDirectly(chatMessage);
+        }
+        return pending.future();
+    }
+
+    /**
+     * 메시지 저장 요청 후 저장이 끝날 때까지 최대 await-timeout 동안 대기
+     * 시간이 초과되면 IllegalStateException 을 던진다. (요청은 버퍼에 남아 있으므로 뒤늦게 저장될 수 있다)
+     * @return 저장한 메시지
+     */
+    public ChatMessage insertAndAwait(ChatMessage chatMessage) {
+        try {
+            return insert(chatMessage).get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Fail to insert chat message.", e.getCause());
+        } catch (TimeoutException e) {
+            awaitTimeoutCounter.increment();
+            log.warn("[ChatMessageWriteBuffer] Timeout to wait message insert. roomCode={}, timeoutMillis={}",
+                    chatMessage.getRoomCode(), awaitTimeoutMillis);
+            throw new IllegalStateException("Timeout to wait chat message insert. roomCode="
+                    + chatMessage.getRoomCode(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting chat message insert.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shutdownLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            shutdownLock.writeLock().unlock();
+        }
+        // flusher 가 남은 요청을 마저 저장하고 스스로 끝나기를 기다린 뒤, 그래도 남아 있으면 중단시킨다
+        try {
+            flusher.join(shutdownDrainMillis);
+            if (flusher.isAlive()) {
+                log.warn("[ChatMessageWriteBuffer] Flusher did not drain in time, interrupt. queueSize={}",
+                        queue.size());
+                flusher.interrupt();
+                flusher.join(TimeUnit.SECONDS.toMillis(1));
+            }
+        } catch (InterruptedException e) {
+            flusher.interrupt();
+            Thread.currentThread().interrupt();
+        }
+
+        // 남은 요청은 마저 저장
+        List<PendingInsert> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    private CompletableFuture<ChatMessage> insertDirectly(ChatMessage chatMessage) {
+        ChatMessage savedMessage;
+        try {
+            savedMessage = chatMessageStore.insert(chatMessage);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        chatMessageCacheRepository.appendHistory(List.of(savedMessage));
+        return CompletableFuture.completedFuture(savedMessage);
+    }
+
+    private void flushLoop() {
+        // 종료 요청 후에도 큐가 빌 때까지 계속 저장한다
+        while (running || !queue.isEmpty()) {
+            List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+            try {
+                // 종료 요청을 알아챌 수 있도록 무한정 기다리지 않는다
+                PendingInsert first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        queue.drainTo(batch, maxBatchSize - batch.size());
+                        break;
+                    }
+                    PendingInsert next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // drain 대기 시간 초과로 중단: 모은 요청만 저장하고 나머지는 shutdown 에서 처리
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+                return;
+            }
+
+            flush(batch);
+        }
+    }
+
+    private void flush(List<PendingInsert> batch) {
+        List<ChatMessage> messages = batch.stream().map(PendingInsert::message).toList();
+        batchSizeSummary.record(batch.size());
+
+        Timer.Sample sample = Timer.start();
+        try {
+            chatMessageStore.insertAll(messages);
+            chatMessageCacheRepository.appendHistory(messages);
+            batch.forEach(pending -> pending.future().complete(pending.message()));
+            log.debug("[ChatMessageWriteBuffer] Success to flush messages. size={}", batch.size());
+
+        } catch (ChatMessageBulkInsertException e) {
+            // unordered 이므로 실패한 메시지만 실패 처리
+            Set<Integer> failedIndexes = e.getFailedIndexes();
+            List<ChatMessage> savedMessages = new ArrayList<>(batch.size() - failedIndexes.size());
+            for (int i = 0; i < batch.size(); i++) {
+                if (!failedIndexes.contains(i)) {
+                    savedMessages.add(batch.get(i).message());
+                }
+            }
+            chatMessageCacheRepository.appendHistory(savedMessages);
+            for (int i = 0; i < batch.size(); i++) {
+                PendingInsert pending = batch.get(i);
+                if (failedIndexes.contains(i)) {
+                    pending.future().completeExceptionally(e);
+                } else {
+                    pending.future().complete(pending.message());
+                }
+            }
+            log.warn("[ChatMessageWriteBuffer] Partially fail to flush messages. size={}, failed={}",
+                    batch.size(), failedIndexes.size(), e);
+
+        } catch (Exception e) {
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+            log.error("[ChatMessageWriteBuffer] Fail to flush messages. size={}", batch.size(), e);
+
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    private record PendingInsert(ChatMessage message, CompletableFuture<ChatMessage> future) {
+    }
+}
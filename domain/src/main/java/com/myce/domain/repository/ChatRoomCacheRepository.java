@@ -1,6 +1,7 @@
 package com.myce.domain.repository;
 
 import com.myce.domain.document.ChatRoom;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ChatRoomCacheRepository {
@@ -39,4 +40,55 @@ public interface ChatRoomCacheRepository {
      */
     void cacheChatRoom(String roomCode, ChatRoom chatRoom);
 
+    /**
+     * ChatRoom 캐시 버전 조회
+     * DB 조회 결과로 캐시를 채우기 전에 읽어 두고 {@link #cacheChatRoomIfVersion} 에 넘긴다.
+     * @param roomCode 채팅방 코드
+     * @return 캐시 버전 (없으면 0, 조회 실패 시 -1)
+     */
+    long getCacheVersion(String roomCode);
+
+    /**
+     * ChatRoom 캐싱 (캐시가 비어 있고 버전이 그대로일 때만)
+     * DB 조회 결과로 캐시를 채울 때 사용해, 조회 도중 저장/삭제된 채팅방을 오래된 값으로 채우지 않는다.
+     * @param roomCode 채팅방 코드
+     * @param chatRoom 캐싱할 ChatRoom
+     * @param version DB 조회 전에 읽은 캐시 버전
+     * @return 채움 여부
+     */
+    boolean cacheChatRoomIfVersion(String roomCode, ChatRoom chatRoom, long version);
+
+    /**
+     * 캐시된 마지막 메시지/읽음 상태를 채팅방에 합친다 (가지고 있는 값보다 최신인 값만)
+     * 두 값은 메시지마다 바뀌므로 채팅방 캐시 값과 따로 두고 조회할 때 합친다.
+     * @param chatRoom 캐시(L1/L2)에서 읽은 채팅방
+     * @return 캐시에 있어 합쳤으면 true (없으면 DB 에서 다시 읽어야 한다)
+     */
+    boolean mergeCachedActivity(ChatRoom chatRoom);
+
+    /**
+     * 캐시된 마지막 메시지 갱신 (DB 단일 업데이트 후 호출)
+     * 캐시에 없으면 채우지 않고 버전만 올린다.
+     * @param roomCode 채팅방 코드
+     * @param messageId 메시지 ID
+     * @param content 메시지 내용
+     * @param sentAt 전송 시각
+     */
+    void updateCachedLastMessage(String roomCode, String messageId, String content, LocalDateTime sentAt);
+
+    /**
+     * 캐시된 읽음 상태 갱신 (DB 단일 업데이트 후 호출, 기존 값보다 큰 seq 일 때만)
+     * 캐시에 없으면 채우지 않고 버전만 올린다.
+     * @param roomCode 채팅방 코드
+     * @param reader 읽은 사람
+     * @param messageSeq 마지막으로 읽은 메시지 seq
+     */
+    void updateCachedReadStatus(String roomCode, String reader, Long messageSeq);
+
+    /**
+     * ChatRoom 캐시만 삭제 (미읽음 등 파생 키는 유지)
+     * @param roomCode 채팅방 코드
+     */
+    void evictCachedChatRoom(String roomCode);
+
 }
@@ -1,6 +1,7 @@
 package com.myce.domain.repository;
 
 import com.myce.domain.document.ChatRoom;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -15,7 +16,7 @@ import org.springframework.stereotype.Repository;
  * 3. roomCode 기반 채팅방 검색
  */
 @Repository
-public interface ChatRoomRepository extends MongoRepository<ChatRoom, String> {
+public interface ChatRoomRepository extends MongoRepository<ChatRoom, String>, ChatRoomRepositoryCustom {
 
     /**
      * 채팅방 코드로 단일 채팅방 조회
@@ -67,4 +68,4 @@ public interface ChatRoomRepository extends MongoRepository<ChatRoom, String> {
      */
     @Query(value = "{ 'expoId': null, 'isActive': true }", sort = "{ 'lastMessageAt': -1 }")
     List<ChatRoom> findByExpoIdIsNullAndIsActiveTrueOrderByLastMessageAtDesc();
-}
\ No newline at end of file
+}
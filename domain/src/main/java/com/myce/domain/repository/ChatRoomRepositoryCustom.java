@@ -0,0 +1,47 @@
+package com.myce.domain.repository;
+
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.dto.ChatRoomCursor;
+import com.myce.domain.dto.ChatRoomListCondition;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChatRoomRepositoryCustom {
+
+    /**
+     * 채팅방 마지막 메시지 정보 갱신 (조회 없이 단일 업데이트)
+     * 더 최근 메시지로 이미 갱신된 경우에는 덮어쓰지 않는다.
+     * @return 갱신 여부
+     */
+    boolean updateLastMessage(String roomCode, String messageId, String content, LocalDateTime sentAt);
+
+    /**
+     * 읽음 상태 갱신 (기존 값보다 큰 seq 일 때만 반영)
+     */
+    void updateReadStatus(String roomCode, String reader, Long messageSeq);
+
+    /**
+     * 채팅방 상태 저장 (마지막 메시지/읽음 상태는 덮어쓰지 않음)
+     * 마지막 메시지 정보는 updateLastMessage 로만 바꾸고, 읽음 상태는 기존 값보다 큰 seq 만 반영한다.
+     * 캐시에서 읽은 오래된 채팅방을 저장해도 그 사이 반영된 메시지/읽음 갱신을 되돌리지 않는다.
+     * @return 저장 후 채팅방 (채팅방이 없으면 null)
+     */
+    ChatRoom updateRoomState(ChatRoom chatRoom);
+
+    /**
+     * 활성 채팅방 목록 keyset 조회 (lastMessageAt, _id 내림차순)
+     * @param condition 조회 조건
+     * @param cursor 이 채팅방 다음부터 조회 (null 이면 처음부터)
+     * @param limit 최대 개수
+     */
+    List<ChatRoom> findActiveRoomsByCursor(ChatRoomListCondition condition, ChatRoomCursor cursor, int limit);
+
+    /**
+     * 변경된 채팅방 keyset 조회 (updatedAt, _id 오름차순, 배치 작업용)
+     * 조회 중 변경된 채팅방은 뒤로 밀려 다시 조회될 뿐 건너뛰지 않는다.
+     * @param updatedAt 이 시각 이후 변경된 채팅방부터 조회
+     * @param id updatedAt 이 같은 채팅방 중 이 ID 다음부터 조회 (null 이면 updatedAt 초과만 조회)
+     * @param limit 최대 개수
+     */
+    List<ChatRoom> findUpdatedRoomsAfter(LocalDateTime updatedAt, String id, int limit);
+}
@@ -0,0 +1,152 @@
+package com.myce.domain.repository;
+
+import com.mongodb.client.result.UpdateResult;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.dto.ChatRoomCursor;
+import com.myce.domain.dto.ChatRoomListCondition;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor
+public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
+
+    // 상태 저장에서 제외하는 필드 (식별자/생성 시각, 단일 업데이트로만 바꾸는 메시지/읽음 정보, 별도로 갱신하는 변경 시각)
+    private static final Set<String> ROOM_STATE_EXCLUDED_FIELDS = Set.of(
+            "_id", "createdAt", "updatedAt", "lastMessage", "lastMessageId", "lastMessageAt", "readStatus");
+
+    private final MongoOperations mongoOperations;
+
+    @Override
+    public boolean updateLastMessage(String roomCode, String messageId, String content, LocalDateTime sentAt) {
+        Criteria criteria = Criteria.where("roomCode").is(roomCode)
+                .orOperator(
+                        Criteria.where("lastMessageAt").is(null),
+                        Criteria.where("lastMessageAt").lt(sentAt)
+                );
+
+        Query query = new Query(criteria);
+        Update update = new Update()
+                .set("lastMessageId", messageId)
+                .set("lastMessage", ChatRoom.truncateMessage(content))
+                .set("lastMessageAt", sentAt)
+                .max("updatedAt", sentAt);
+        UpdateResult result = mongoOperations.updateFirst(query, update, ChatRoom.class);
+        return result.getModifiedCount() > 0;
+    }
+
+    @Override
+    public void updateReadStatus(String roomCode, String reader, Long messageSeq) {
+        if (messageSeq == null) {
+            return;
+        }
+
+        Query query = new Query(Criteria.where("roomCode").is(roomCode));
+        Update update = new Update()
+                .max("readStatus." + reader, messageSeq)
+                .max("updatedAt", LocalDateTime.now());
+        mongoOperations.updateFirst(query, update, ChatRoom.class);
+    }
+
+    @Override
+    public ChatRoom updateRoomState(ChatRoom chatRoom) {
+        Document document = new Document();
+        mongoOperations.getConverter().write(chatRoom, document);
+
+        Update update = new Update();
+        document.forEach((field, value) -> {
+            if (!ROOM_STATE_EXCLUDED_FIELDS.contains(field)) {
+                update.set(field, value);
+            }
+        });
+        // 변환기는 null 필드를 쓰지 않으므로, 담당 해제처럼 null 로 바뀐 상태 필드는 $unset 으로 지운다
+        MongoPersistentEntity<?> entity = mongoOperations.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(ChatRoom.class);
+        entity.doWithProperties((PropertyHandler<MongoPersistentProperty>) property -> {
+            String field = property.getFieldName();
+            if (!ROOM_STATE_EXCLUDED_FIELDS.contains(field) && !document.containsKey(field)) {
+                update.unset(field);
+            }
+        });
+        if (chatRoom.getReadStatus() != null) {
+            chatRoom.getReadStatus().forEach((reader, messageSeq) -> {
+                if (messageSeq != null) {
+                    update.max("readStatus." + reader, messageSeq);
+                }
+            });
+        }
+        update.max("updatedAt", LocalDateTime.now());
+
+        Query query = new Query(Criteria.where("id").is(chatRoom.getId()));
+        return mongoOperations.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true),
+                ChatRoom.class);
+    }
+
+    @Override
+    public List<ChatRoom> findActiveRoomsByCursor(ChatRoomListCondition condition, ChatRoomCursor cursor, int limit) {
+        Criteria criteria = condition.memberId() != null
+                ? Criteria.where("memberId").is(condition.memberId())
+                : Criteria.where("expoId").is(condition.expoId());
+        criteria.and("isActive").is(true);
+
+        if (condition.state() != null) {
+            criteria.and("currentState").is(condition.state());
+        }
+        if (condition.unassigned()) {
+            criteria.and("currentAdminCode").is(null);
+        } else if (condition.adminCode() != null) {
+            criteria.and("currentAdminCode").is(condition.adminCode());
+        }
+        if (cursor != null) {
+            criteria.orOperator(afterCursor(cursor));
+        }
+
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "lastMessageAt", "id"))
+                .limit(limit);
+        return mongoOperations.find(query, ChatRoom.class);
+    }
+
+    @Override
+    public List<ChatRoom> findUpdatedRoomsAfter(LocalDateTime updatedAt, String id, int limit) {
+        Criteria criteria = id == null
+                ? Criteria.where("updatedAt").gt(updatedAt)
+                : new Criteria().orOperator(
+                        Criteria.where("updatedAt").gt(updatedAt),
+                        Criteria.where("updatedAt").is(updatedAt).and("id").gt(id));
+
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "updatedAt", "id"))
+                .limit(limit);
+        return mongoOperations.find(query, ChatRoom.class);
+    }
+
+    /**
+     * 커서 다음 채팅방 조건
+     * 내림차순에서 lastMessageAt 이 null 인 채팅방(메시지 없음)은 맨 뒤에 온다.
+     */
+    private static Criteria[] afterCursor(ChatRoomCursor cursor) {
+        if (cursor.lastMessageAt() == null) {
+            return new Criteria[] {
+                    Criteria.where("lastMessageAt").is(null).and("id").lt(cursor.id())
+            };
+        }
+
+        return new Criteria[] {
+                Criteria.where("lastMessageAt").lt(cursor.lastMessageAt()),
+                Criteria.where("lastMessageAt").is(cursor.lastMessageAt()).and("id").lt(cursor.id()),
+                Criteria.where("lastMessageAt").is(null)
+        };
+    }
+}
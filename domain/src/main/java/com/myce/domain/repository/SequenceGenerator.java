@@ -4,24 +4,337 @@ import static org.springframework.data.mongodb.core.FindAndModifyOptions.options
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
 import com.myce.domain.document.AutoIncrementSequence;
+import com.myce.domain.document.ChatMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import lombok.RequiredArgsConstructor;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+/**
+ * 시퀀스 발급기
+ * 값마다 카운터 문서를 원자적으로 증가($inc)시켜 발급하므로 여러 노드에서 발급해도 카운터 기준으로 단조 증가한다.
+ * <p>
+ * chat.sequence.mode=room 이면 메시지 seq를 채팅방별 카운터(message_sequence:{roomCode})에서 발급한다.
+ * seq는 같은 채팅방 안에서만 비교(읽음 상태, 미읽음 계산)되므로 채팅방 안에서 단조 증가하면 충분하고,
+ * 서로 다른 채팅방은 같은 카운터 문서를 두고 경합하지 않는다.
+ * 기존 전역 seq와 섞이지 않도록 노드에서 채팅방 카운터를 처음 증가시키기 전에 해당 채팅방의 최대 seq로 $max 보정한다.
+ * ($max 는 멱등이므로 여러 노드/스레드가 동시에 보정해도 모든 발급값이 기존 최대 seq보다 크다)
+ * <p>
+ * 채팅방 구간 임대 (chat.sequence.room.lease.block-size &gt; 1)
+ * 노드는 채팅방 카운터에서 block-size 만큼의 구간을 임대(leaseOwner/leaseUntil)하고, 임대 기간 동안 구간 안의 값을
+ * DB 조회 없이 발급한다. 임대가 살아 있는 동안 다른 노드는 그 채팅방 카운터를 증가시킬 수 없고(임대 만료까지 대기),
+ * 임대 노드는 임대 시간에서 안전 여유를 뺀 시점까지만 구간을 쓰므로 노드가 바뀌어도 채팅방 seq는 발급 순서대로 증가한다.
+ * 임대 만료는 MongoDB 서버 시각($$NOW)으로 판단하고, 임대 노드는 요청 전 시점부터 잰 경과 시간으로 판단한다.
+ * 다른 노드가 기다린 채팅방은 contention-cooldown 동안 임대하지 않고 값마다 카운터를 증가시킨다.
+ * 임대 구간에서 쓰지 못한 값은 버리므로 seq 에 빈 번호가 생길 수 있다. (모든 노드에 같은 block-size 를 설정한다)
+ * (전역 카운터는 모든 채팅방이 공유하므로 임대하지 않는다. MongoDB 4.2 이상 필요)
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class SequenceGenerator {
 
+    public static final String MODE_ROOM = "room";
+    private static final String AUTO_SEQUENCE_COLLECTION = "auto_sequence";
+    private static final String SEED_MIGRATION_ID = "migration:room-sequence-seed";
+    private static final Date NO_LEASE = new Date(0);
+    private static final long LEASE_RETRY_MILLIS = 10;
+
     private final MongoOperations mongoOperations;
+    private final ChatMessageStore chatMessageStore;
+    private final boolean roomSequenceMode;
+    private final boolean seedOnStartup;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final int leaseBlockSize;
+    private final long leaseMillis;
+    private final long leaseSafetyNanos;
+    private final long contentionCooldownMillis;
+    private final long leaseMaxWaitNanos;
+
+    // 이 노드의 채팅방별 보정 여부와 임대 구간 (만료되어도 $max 재실행과 남은 구간 폐기일 뿐이므로 안전)
+    private final Cache<String, RoomSequence> roomSequences;
+    private final Timer issueTimer;
+    private final Timer leaseWaitTimer;
+    private final Counter exclusiveLeaseCounter;
+    private final Counter sharedLeaseCounter;
+
+    public SequenceGenerator(
+            MongoOperations mongoOperations,
+            ChatMessageStore chatMessageStore,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${chat.sequence.mode:global}") String mode,
+            @Value("${chat.sequence.room.seed-on-startup:false}") boolean seedOnStartup,
+            @Value("${chat.sequence.room.seeded-cache-size:100000}") long seededCacheSize,
+            @Value("${chat.sequence.room.lease.block-size:1}") int leaseBlockSize,
+            @Value("${chat.sequence.room.lease.lease-millis:500}") long leaseMillis,
+            @Value("${chat.sequence.room.lease.safety-millis:100}") long leaseSafetyMillis,
+            @Value("${chat.sequence.room.lease.contention-cooldown-millis:10000}") long contentionCooldownMillis,
+            @Value("${chat.sequence.room.lease.max-wait-millis:3000}") long leaseMaxWaitMillis
+    ) {
+        this.mongoOperations = mongoOperations;
+        this.chatMessageStore = chatMessageStore;
+        this.roomSequenceMode = MODE_ROOM.equalsIgnoreCase(mode);
+        this.seedOnStartup = seedOnStartup;
+        this.leaseBlockSize = Math.max(leaseBlockSize, 1);
+        this.leaseMillis = Math.max(leaseMillis, 1);
+        this.leaseSafetyNanos = TimeUnit.MILLISECONDS.toNanos(
+                Math.min(Math.max(leaseSafetyMillis, 0), this.leaseMillis));
+        this.contentionCooldownMillis = Math.max(contentionCooldownMillis, 0);
+        this.leaseMaxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(leaseMaxWaitMillis, this.leaseMillis));
+        this.roomSequences = Caffeine.newBuilder()
+                .maximumSize(Math.max(seededCacheSize, 1))
+                .build();
+
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.issueTimer = Timer.builder("chat.sequence.issue")
+                .description("시퀀스 발급(카운터 증가) 소요 시간")
+                .register(meterRegistry);
+        this.leaseWaitTimer = Timer.builder("chat.sequence.lease.wait")
+                .description("다른 노드의 채팅방 구간 임대 만료를 기다린 시간")
+                .register(meterRegistry);
+        this.exclusiveLeaseCounter = Counter.builder("chat.sequence.lease")
+                .description("채팅방 카운터 증가 횟수 (exclusive: 구간 임대, shared: 단건 발급)")
+                .tag("mode", "exclusive")
+                .register(meterRegistry);
+        this.sharedLeaseCounter = Counter.builder("chat.sequence.lease")
+                .description("채팅방 카운터 증가 횟수 (exclusive: 구간 임대, shared: 단건 발급)")
+                .tag("mode", "shared")
+                .register(meterRegistry);
+    }
 
     public Long generateSequence(String seqName) {
-        AutoIncrementSequence counter = mongoOperations.findAndModify(query(where("_id").is(seqName)),
-                new Update().inc("seq", 1), options().returnNew(true).upsert(true), AutoIncrementSequence.class);
+        return increment(seqName);
+    }
+
+    /**
+     * 메시지 seq 발급 (모드에 따라 전역 카운터 또는 채팅방 카운터 사용)
+     */
+    public Long generateMessageSequence(String roomCode) {
+        if (!roomSequenceMode) {
+            return generateSequence(ChatMessage.SEQUENCE_NAME);
+        }
+
+        String seqName = ChatMessage.getRoomSequenceName(roomCode);
+        RoomSequence roomSequence = roomSequences.get(roomCode, key -> new RoomSequence());
+        synchronized (roomSequence) {
+            if (!roomSequence.seeded) {
+                // 첫 증가 전에 보정: 전역 seq로 저장된 기존 메시지보다 뒤에서 발급되도록 한다
+                seedRoomSequence(roomCode, seqName);
+                roomSequence.seeded = true;
+            }
+            if (leaseBlockSize == 1) {
+                return increment(seqName);
+            }
+            if (roomSequence.hasLeasedValue(System.nanoTime())) {
+                return roomSequence.next++;
+            }
+            return leaseRoomSequence(roomCode, seqName, roomSequence);
+        }
+    }
+
+    /**
+     * 전역 seq -> 채팅방 seq 전환용 일회성 마이그레이션 (chat.sequence.room.seed-on-startup=true 일 때만)
+     * 채팅방별 최대 seq로 카운터를 미리 올려둔다. 발급 시 보정이 있으므로 필수는 아니며,
+     * 마커 문서를 먼저 삽입한 노드 한 곳에서만 한 번 실행된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedRoomSequences() {
+        if (!roomSequenceMode || !seedOnStartup) {
+            return;
+        }
+
+        try {
+            mongoOperations.insert(new Document("_id", SEED_MIGRATION_ID), AUTO_SEQUENCE_COLLECTION);
+        } catch (DuplicateKeyException e) {
+            log.info("[SequenceGenerator] Room sequence seeding already done or running. Skip.");
+            return;
+        }
+
+        try {
+            Map<String, Long> roomMaxSeqs = chatMessageStore.findLastSeqByRooms();
+            if (roomMaxSeqs.isEmpty()) {
+                return;
+            }
+
+            BulkOperations bulkOperations = mongoOperations.bulkOps(BulkMode.UNORDERED, AutoIncrementSequence.class);
+            for (Map.Entry<String, Long> roomMaxSeq : roomMaxSeqs.entrySet()) {
+                String seqName = ChatMessage.getRoomSequenceName(roomMaxSeq.getKey());
+                bulkOperations.upsert(query(where("_id").is(seqName)), new Update().max("seq", roomMaxSeq.getValue()));
+            }
+            bulkOperations.execute();
+            log.info("[SequenceGenerator] Seeded room sequences from existing messages. roomCount={}", roomMaxSeqs.size());
+        } catch (RuntimeException e) {
+            // 실패 시 마커를 지워 다음 기동에서 재시도할 수 있도록 한다
+            mongoOperations.remove(query(where("_id").is(SEED_MIGRATION_ID)), AUTO_SEQUENCE_COLLECTION);
+            log.error("[SequenceGenerator] Fail to seed room sequences.", e);
+        }
+    }
+
+    /**
+     * 카운터를 1 증가시키고 증가한 값을 반환
+     */
+    private long increment(String seqName) {
+        AutoIncrementSequence counter = issueTimer.record(() -> mongoOperations.findAndModify(
+                query(where("_id").is(seqName)), new Update().inc("seq", 1),
+                options().returnNew(true).upsert(true), AutoIncrementSequence.class));
 
         return !Objects.isNull(counter) ? counter.getSeq() : 1;
     }
 
+    /**
+     * 채팅방 카운터 증가 (다른 노드의 임대가 끝날 때까지 대기)
+     * 경합이 없으면 구간을 임대해 첫 값을 반환하고 나머지는 roomSequence 에 남기며, 경합 중이면 값 하나만 발급한다.
+     */
+    private long leaseRoomSequence(String roomCode, String seqName, RoomSequence roomSequence) {
+        roomSequence.clear();
+        long waitStartedAt = 0;
+        boolean contentionMarked = false;
+        while (true) {
+            long requestedAt = System.nanoTime();
+            Document counter = tryLease(seqName);
+            if (counter != null) {
+                if (waitStartedAt != 0) {
+                    leaseWaitTimer.record(System.nanoTime() - waitStartedAt, TimeUnit.NANOSECONDS);
+                }
+                long seq = ((Number) counter.get("seq")).longValue();
+                if (!nodeId.equals(counter.getString("leaseOwner"))) {
+                    sharedLeaseCounter.increment();
+                    return seq;
+                }
+
+                exclusiveLeaseCounter.increment();
+                long first = seq - leaseBlockSize + 1;
+                roomSequence.lease(first + 1, seq,
+                        requestedAt + TimeUnit.MILLISECONDS.toNanos(leaseMillis) - leaseSafetyNanos);
+                log.debug("[SequenceGenerator] Success to lease room sequence block. roomCode={}, from={}, to={}",
+                        roomCode, first, seq);
+                return first;
+            }
+
+            // 다른 노드가 임대 중: 처음 실패는 동시 생성일 수 있어 바로 다시 시도하고, 이후에는 경합을 기록하고 기다린다
+            long now = System.nanoTime();
+            if (waitStartedAt == 0) {
+                waitStartedAt = now;
+                continue;
+            }
+            if (!contentionMarked) {
+                markContention(seqName);
+                contentionMarked = true;
+            }
+            if (now - waitStartedAt > leaseMaxWaitNanos) {
+                leaseWaitTimer.record(now - waitStartedAt, TimeUnit.NANOSECONDS);
+                throw new IllegalStateException("Room sequence lease wait timed out. roomCode=" + roomCode);
+            }
+            try {
+                Thread.sleep(LEASE_RETRY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for room sequence lease. roomCode="
+                        + roomCode, e);
+            }
+        }
+    }
+
+    /**
+     * 임대가 없거나 만료되었거나 이 노드의 임대이면 카운터를 증가시킨다
+     * 경합 표시가 없으면 block-size 만큼 증가시키고 이 노드를 임대자로 기록하며, 있으면 1 만 증가시키고 임대를 비운다.
+     * @return 증가한 카운터 문서 (다른 노드가 임대 중이면 null)
+     */
+    private Document tryLease(String seqName) {
+        Document filter = new Document("_id", seqName)
+                .append("$expr", new Document("$or", List.of(
+                        new Document("$eq", List.of("$leaseOwner", nodeId)),
+                        new Document("$lte", List.of(new Document("$ifNull", List.of("$leaseUntil", NO_LEASE)),
+                                "$$NOW")))));
+        Document exclusive = new Document("$lte", List.of(
+                new Document("$ifNull", List.of("$contendedUntil", NO_LEASE)), "$$NOW"));
+        List<Document> pipeline = List.of(
+                new Document("$set", new Document("leaseExclusive", exclusive)),
+                new Document("$set", new Document()
+                        .append("seq", new Document("$add", List.of(new Document("$ifNull", List.of("$seq", 0L)),
+                                new Document("$cond", List.of("$leaseExclusive", (long) leaseBlockSize, 1L)))))
+                        .append("leaseOwner", new Document("$cond", Arrays.asList("$leaseExclusive", nodeId, null)))
+                        .append("leaseUntil", new Document("$cond", List.of("$leaseExclusive",
+                                new Document("$add", List.of("$$NOW", leaseMillis)), NO_LEASE)))),
+                new Document("$unset", "leaseExclusive"));
+
+        try {
+            return issueTimer.record(() -> mongoOperations.execute(AUTO_SEQUENCE_COLLECTION,
+                    collection -> collection.findOneAndUpdate(filter, pipeline,
+                            new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER))));
+        } catch (DuplicateKeyException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 다른 노드가 기다리고 있음을 기록 (임대 노드는 다음 증가부터 구간을 임대하지 않는다)
+     */
+    private void markContention(String seqName) {
+        mongoOperations.execute(AUTO_SEQUENCE_COLLECTION, collection -> collection.updateOne(
+                new Document("_id", seqName),
+                List.of(new Document("$set", new Document("contendedUntil",
+                        new Document("$add", List.of("$$NOW", contentionCooldownMillis)))))));
+        log.debug("[SequenceGenerator] Room sequence lease is contended. seqName={}", seqName);
+    }
+
+    private void seedRoomSequence(String roomCode, String seqName) {
+        Long lastSeq = chatMessageStore.findLastSeq(roomCode);
+        if (lastSeq == null) {
+            return;
+        }
+
+        mongoOperations.upsert(query(where("_id").is(seqName)),
+                new Update().max("seq", lastSeq), AutoIncrementSequence.class);
+        log.debug("[SequenceGenerator] Success to seed room sequence. roomCode={}, seq={}", roomCode, lastSeq);
+    }
+
+    /**
+     * 노드의 채팅방 seq 상태 (roomSequence 객체로 동기화)
+     */
+    private static class RoomSequence {
+
+        private boolean seeded;
+        private long next;
+        private long end;
+        private long validUntilNanos;
+
+        private boolean hasLeasedValue(long now) {
+            return next != 0 && next <= end && now - validUntilNanos < 0;
+        }
+
+        private void lease(long next, long end, long validUntilNanos) {
+            this.next = next;
+            this.end = end;
+            this.validUntilNanos = validUntilNanos;
+        }
+
+        private void clear() {
+            this.next = 0;
+            this.end = 0;
+        }
+    }
 }
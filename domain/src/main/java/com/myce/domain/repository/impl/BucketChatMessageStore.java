@@ -0,0 +1,443 @@
+package com.myce.domain.repository.impl;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.project;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.unwind;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.ChatMessageBucket;
+import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.dto.UnreadCountCondition;
+import com.myce.domain.repository.ChatMessageBulkInsertException;
+import com.myce.domain.repository.ChatMessageStore;
+import com.myce.domain.repository.SequenceGenerator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 채팅방 seq 구간 버킷 저장소 (chat_message_buckets)
+ * 메시지는 (roomCode, bucketSeq) 버킷에 $push 로 추가하고, 히스토리는 버킷 단위로 읽어 필요한 개수만큼 꺼낸다.
+ * 페이지 조회와 메시지 순서는 sentAt 대신 seq 기준이다.
+ * 기존 메시지는 ChatMessageBucketMigrator 로 옮긴 뒤 이 모드로 전환한다.
+ * 버킷은 채팅방별 seq 구간이므로 chat.sequence.mode=room 일 때만 사용할 수 있다.
+ * 메시지 추가는 같은 _id 가 버킷에 없을 때만 반영하므로 재시도해도 중복 저장되지 않는다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "chat.message.store.mode", havingValue = "bucket")
+public class BucketChatMessageStore implements ChatMessageStore {
+
+    private static final int RECENT_MESSAGE_SIZE = 50;
+    // $or 조건이 너무 커지지 않도록 나눠서 집계
+    private static final int UNREAD_COUNT_CHUNK_SIZE = 500;
+
+    private final MongoOperations mongoOperations;
+    private final int bucketSize;
+    private final String collectionName;
+
+    public BucketChatMessageStore(
+            MongoOperations mongoOperations,
+            @Value("${chat.message.store.bucket.size:200}") int bucketSize,
+            @Value("${chat.sequence.mode:global}") String sequenceMode
+    ) {
+        // 전역 seq 로는 채팅방 버킷이 거의 비어 메시지마다 버킷 문서가 생긴다
+        if (!SequenceGenerator.MODE_ROOM.equalsIgnoreCase(sequenceMode)) {
+            throw new IllegalStateException("Bucket message store requires chat.sequence.mode=room. sequenceMode="
+                    + sequenceMode);
+        }
+        this.mongoOperations = mongoOperations;
+        this.bucketSize = Math.max(bucketSize, 1);
+        this.collectionName = mongoOperations.getCollectionName(ChatMessageBucket.class);
+    }
+
+    @Override
+    public ChatMessage insert(ChatMessage message) {
+        long seq = requireSeq(message);
+        long bucketSeq = ChatMessageBucket.bucketSeqOf(seq, bucketSize);
+        Document document = toDocument(message);
+        try {
+            mongoOperations.upsert(appendQuery(message.getRoomCode(), bucketSeq, List.of(document.get("_id"))),
+                    ChatMessageBucket.appendUpdate(List.of(document), seq, seq), ChatMessageBucket.class);
+        } catch (DuplicateKeyException e) {
+            appendMissing(message.getRoomCode(), bucketSeq, List.of(message));
+        }
+        return message;
+    }
+
+    /**
+     * 같은 버킷에 들어갈 메시지를 묶어 버킷당 upsert 한 번으로 저장
+     * 버킷 upsert 가 실패하면 그 버킷에 묶인 메시지 전체가 실패한다.
+     * 재시도로 이미 들어간 메시지가 있으면 버킷 조건이 맞지 않아 upsert 가 중복 키로 실패하므로,
+     * 그 버킷은 메시지 단위로 없는 메시지만 추가한다. (동시 upsert 로 버킷이 먼저 생긴 경우도 같다)
+     */
+    @Override
+    public void insertAll(List<ChatMessage> messages) {
+        Map<BucketKey, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < messages.size(); i++) {
+            ChatMessage message = messages.get(i);
+            BucketKey key = new BucketKey(message.getRoomCode(),
+                    ChatMessageBucket.bucketSeqOf(requireSeq(message), bucketSize));
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+        }
+
+        BulkOperations bulkOperations = mongoOperations.bulkOps(BulkMode.UNORDERED, ChatMessageBucket.class);
+        List<BucketKey> operationKeys = new ArrayList<>(groups.size());
+        List<List<Integer>> operationIndexes = new ArrayList<>(groups.size());
+        for (Map.Entry<BucketKey, List<Integer>> group : groups.entrySet()) {
+            List<ChatMessage> bucketMessages = group.getValue().stream().map(messages::get).toList();
+            List<Document> documents = bucketMessages.stream().map(this::toDocument).toList();
+            bulkOperations.upsert(
+                    appendQuery(group.getKey().roomCode(), group.getKey().bucketSeq(),
+                            documents.stream().map(document -> document.get("_id")).toList()),
+                    appendUpdate(bucketMessages, documents));
+            operationKeys.add(group.getKey());
+            operationIndexes.add(group.getValue());
+        }
+
+        try {
+            bulkOperations.execute();
+        } catch (BulkOperationException e) {
+            Set<Integer> failedIndexes = new HashSet<>();
+            for (BulkWriteError error : e.getErrors()) {
+                List<Integer> indexes = operationIndexes.get(error.getIndex());
+                List<ChatMessage> bucketMessages = indexes.stream().map(messages::get).toList();
+                if (ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY
+                        && retryMissing(operationKeys.get(error.getIndex()), bucketMessages)) {
+                    continue;
+                }
+                failedIndexes.addAll(indexes);
+            }
+            if (!failedIndexes.isEmpty()) {
+                throw new ChatMessageBulkInsertException(failedIndexes, e);
+            }
+        }
+    }
+
+    @Override
+    public List<ChatMessage> findRecentMessages(String roomCode) {
+        return findBefore(roomCode, null, RECENT_MESSAGE_SIZE);
+    }
+
+    @Override
+    public Optional<ChatMessage> findLatestMessage(String roomCode) {
+        return findBefore(roomCode, null, 1).stream().findFirst();
+    }
+
+    /**
+     * 최신 버킷부터 읽어 offset 만큼 건너뛴 뒤 한 페이지를 채운다
+     * 깊은 페이지일수록 읽는 버킷이 많아지므로 이전 메시지 조회는 seq 커서 조회를 사용한다.
+     */
+    @Override
+    public Page<ChatMessage> findPage(String roomCode, Pageable pageable) {
+        int offset = Math.toIntExact(pageable.getOffset());
+        int windowSize = offset + pageable.getPageSize();
+        List<ChatMessage> window = collectDescending(
+                descendingQuery(roomCode, null, windowSize), message -> true, windowSize);
+        List<ChatMessage> content = offset >= window.size() ? List.of() : window.subList(offset, window.size());
+
+        return new PageImpl<>(content, pageable, countMessages(roomCode));
+    }
+
+    @Override
+    public List<ChatMessage> findBefore(String roomCode, Long beforeSeq, int limit) {
+        Predicate<ChatMessage> filter = beforeSeq == null
+                ? message -> true
+                : message -> message.getSeq() < beforeSeq;
+        return collectDescending(descendingQuery(roomCode, beforeSeq, limit), filter, limit);
+    }
+
+    @Override
+    public List<ChatMessage> findAfter(String roomCode, Long afterSeq, int limit) {
+        Criteria criteria = where("roomCode").is(roomCode)
+                .and("bucketSeq").gte(ChatMessageBucket.bucketSeqOf(afterSeq, bucketSize));
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "bucketSeq"))
+                .cursorBatchSize(batchSizeFor(limit));
+
+        List<ChatMessage> messages = new ArrayList<>(limit);
+        try (Stream<ChatMessageBucket> buckets = mongoOperations.stream(query, ChatMessageBucket.class)) {
+            Iterator<ChatMessageBucket> iterator = buckets.iterator();
+            while (iterator.hasNext() && messages.size() < limit) {
+                for (ChatMessage message : iterator.next().getMessages()) {
+                    if (messages.size() >= limit) {
+                        break;
+                    }
+                    if (message.getSeq() > afterSeq) {
+                        messages.add(message);
+                    }
+                }
+            }
+        }
+        return messages;
+    }
+
+    @Override
+    public Long findLastSeq(String roomCode) {
+        Query query = query(where("roomCode").is(roomCode))
+                .with(Sort.by(Sort.Direction.DESC, "bucketSeq"));
+        query.fields().include("lastSeq");
+        ChatMessageBucket bucket = mongoOperations.findOne(query, ChatMessageBucket.class);
+        return bucket != null ? bucket.getLastSeq() : null;
+    }
+
+    @Override
+    public Map<String, Long> findLastSeqByRooms() {
+        Aggregation aggregation = newAggregation(
+                group("roomCode").max("lastSeq").as("maxSeq")
+        );
+
+        Map<String, Long> lastSeqs = new HashMap<>();
+        for (Document result : mongoOperations.aggregate(aggregation, collectionName, Document.class)) {
+            lastSeqs.put(result.getString("_id"), ((Number) result.get("maxSeq")).longValue());
+        }
+        return lastSeqs;
+    }
+
+    @Override
+    public Map<String, Long> countUnreadByRooms(List<UnreadCountCondition> conditions) {
+        Map<String, Long> unreadCounts = new HashMap<>();
+        for (int from = 0; from < conditions.size(); from += UNREAD_COUNT_CHUNK_SIZE) {
+            List<UnreadCountCondition> chunk =
+                    conditions.subList(from, Math.min(from + UNREAD_COUNT_CHUNK_SIZE, conditions.size()));
+
+            // 버킷 단계에서 읽은 구간 버킷을 먼저 거르고, 펼친 메시지에 발송자 타입/seq 조건 적용
+            Criteria[] bucketCriteria = chunk.stream()
+                    .map(this::toUnreadBucketCriteria)
+                    .toArray(Criteria[]::new);
+            Criteria[] messageCriteria = chunk.stream()
+                    .map(this::toUnreadMessageCriteria)
+                    .toArray(Criteria[]::new);
+
+            Aggregation aggregation = newAggregation(
+                    match(new Criteria().orOperator(bucketCriteria)),
+                    unwind("messages"),
+                    match(new Criteria().orOperator(messageCriteria)),
+                    group("roomCode").count().as("count")
+            );
+
+            for (Document result : mongoOperations.aggregate(aggregation, collectionName, Document.class)) {
+                unreadCounts.put(result.getString("_id"), ((Number) result.get("count")).longValue());
+            }
+        }
+        return unreadCounts;
+    }
+
+    @Override
+    public void decreaseUnreadCountBeforeSeq(String roomCode, MessageSenderType senderType, Long lastReadSeq) {
+        if (lastReadSeq == null) {
+            return;
+        }
+
+        Criteria messageCriteria = where("senderType").ne(senderType.name())
+                .and("unreadCount").gt(0)
+                .and("seq").lte(lastReadSeq);
+        Query query = query(where("roomCode").is(roomCode)
+                .and("firstSeq").lte(lastReadSeq)
+                .and("messages").elemMatch(messageCriteria));
+        Update update = new Update().inc("messages.$[m].unreadCount", -1)
+                .filterArray(where("m.senderType").ne(senderType.name())
+                        .and("m.unreadCount").gt(0)
+                        .and("m.seq").lte(lastReadSeq));
+        mongoOperations.updateMulti(query, update, collectionName);
+    }
+
+    @Override
+    public void decreaseUnreadCount(String roomCode, String messageId) {
+        List<Object> ids = messageIds(messageId);
+        Query query = query(where("roomCode").is(roomCode)
+                .and("messages").elemMatch(where("_id").in(ids).and("unreadCount").gt(0)));
+        Update update = new Update().inc("messages.$[m].unreadCount", -1)
+                .filterArray(where("m._id").in(ids).and("m.unreadCount").gt(0));
+        mongoOperations.updateFirst(query, update, collectionName);
+    }
+
+    @Override
+    public long clearUnreadCountBeforeSeq(String roomCode, Collection<MessageSenderType> senderTypes,
+                                          Long lastReadSeq) {
+        if (lastReadSeq == null || senderTypes.isEmpty()) {
+            return 0;
+        }
+
+        List<String> senderTypeNames = senderTypes.stream().map(MessageSenderType::name).toList();
+        Criteria messageCriteria = where("senderType").in(senderTypeNames)
+                .and("unreadCount").gt(0)
+                .and("seq").lte(lastReadSeq);
+        Query query = query(where("roomCode").is(roomCode)
+                .and("firstSeq").lte(lastReadSeq)
+                .and("messages").elemMatch(messageCriteria));
+        Update update = new Update().set("messages.$[m].unreadCount", 0)
+                .filterArray(where("m.senderType").in(senderTypeNames)
+                        .and("m.unreadCount").gt(0)
+                        .and("m.seq").lte(lastReadSeq));
+        return mongoOperations.updateMulti(query, update, collectionName).getModifiedCount();
+    }
+
+    /**
+     * 최신 버킷부터 읽어 조건에 맞는 메시지를 seq 내림차순으로 limit 개까지 모은다
+     */
+    private List<ChatMessage> collectDescending(Query query, Predicate<ChatMessage> filter, int limit) {
+        List<ChatMessage> messages = new ArrayList<>(limit);
+        try (Stream<ChatMessageBucket> buckets = mongoOperations.stream(query, ChatMessageBucket.class)) {
+            Iterator<ChatMessageBucket> iterator = buckets.iterator();
+            while (iterator.hasNext() && messages.size() < limit) {
+                List<ChatMessage> bucketMessages = iterator.next().getMessages();
+                for (int i = bucketMessages.size() - 1; i >= 0 && messages.size() < limit; i--) {
+                    ChatMessage message = bucketMessages.get(i);
+                    if (filter.test(message)) {
+                        messages.add(message);
+                    }
+                }
+            }
+        }
+        log.trace("[BucketChatMessageStore] Collect messages. count={}, limit={}", messages.size(), limit);
+        return messages;
+    }
+
+    private Query descendingQuery(String roomCode, Long beforeSeq, int limit) {
+        Criteria criteria = where("roomCode").is(roomCode);
+        if (beforeSeq != null) {
+            criteria.and("bucketSeq").lte(ChatMessageBucket.bucketSeqOf(beforeSeq, bucketSize));
+        }
+        return new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "bucketSeq"))
+                .cursorBatchSize(batchSizeFor(limit));
+    }
+
+    private long countMessages(String roomCode) {
+        Aggregation aggregation = newAggregation(
+                match(where("roomCode").is(roomCode)),
+                project().and(ArrayOperators.Size.lengthOfArray("messages")).as("count"),
+                group().sum("count").as("total")
+        );
+        Document result = mongoOperations.aggregate(aggregation, collectionName, Document.class)
+                .getUniqueMappedResult();
+        return result != null ? ((Number) result.get("total")).longValue() : 0;
+    }
+
+    private Criteria toUnreadBucketCriteria(UnreadCountCondition condition) {
+        Criteria criteria = where("roomCode").is(condition.roomCode());
+        if (condition.lastReadSeq() != null) {
+            criteria.and("lastSeq").gt(condition.lastReadSeq());
+        }
+        return criteria;
+    }
+
+    private Criteria toUnreadMessageCriteria(UnreadCountCondition condition) {
+        Criteria criteria = where("roomCode").is(condition.roomCode())
+                .and("messages.senderType").in(condition.senderTypes().stream().map(MessageSenderType::name).toList());
+        if (condition.lastReadSeq() != null) {
+            criteria.and("messages.seq").gt(condition.lastReadSeq());
+        }
+        return criteria;
+    }
+
+    private Update appendUpdate(List<ChatMessage> messages, List<Document> documents) {
+        long firstSeq = Long.MAX_VALUE;
+        long lastSeq = Long.MIN_VALUE;
+        for (ChatMessage message : messages) {
+            firstSeq = Math.min(firstSeq, message.getSeq());
+            lastSeq = Math.max(lastSeq, message.getSeq());
+        }
+        return ChatMessageBucket.appendUpdate(documents, firstSeq, lastSeq);
+    }
+
+    private boolean retryMissing(BucketKey key, List<ChatMessage> messages) {
+        try {
+            appendMissing(key.roomCode(), key.bucketSeq(), messages);
+            return true;
+        } catch (Exception e) {
+            log.warn("[BucketChatMessageStore] Fail to append missing messages. roomCode={}, bucketSeq={}",
+                    key.roomCode(), key.bucketSeq(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 이미 있는 버킷에 메시지 단위로 추가 (버킷에 같은 _id 가 있으면 건너뜀)
+     */
+    private void appendMissing(String roomCode, long bucketSeq, List<ChatMessage> messages) {
+        for (ChatMessage message : messages) {
+            Document document = toDocument(message);
+            long updated = mongoOperations.updateFirst(
+                    appendQuery(roomCode, bucketSeq, List.of(document.get("_id"))),
+                    ChatMessageBucket.appendUpdate(List.of(document), message.getSeq(), message.getSeq()),
+                    ChatMessageBucket.class).getModifiedCount();
+            log.debug("[BucketChatMessageStore] Append missing message. roomCode={}, seq={}, appended={}",
+                    roomCode, message.getSeq(), updated > 0);
+        }
+    }
+
+    private Document toDocument(ChatMessage message) {
+        Document document = new Document();
+        mongoOperations.getConverter().write(message, document);
+        return document;
+    }
+
+    /**
+     * 메시지 추가 대상 버킷 조건 (추가할 메시지가 하나도 없는 버킷만)
+     */
+    private Query appendQuery(String roomCode, long bucketSeq, List<Object> messageIds) {
+        return query(where("roomCode").is(roomCode).and("bucketSeq").is(bucketSeq)
+                .and("messages._id").nin(messageIds));
+    }
+
+    private int batchSizeFor(int limit) {
+        return limit / bucketSize + 2;
+    }
+
+    private static long requireSeq(ChatMessage message) {
+        if (message.getSeq() == null) {
+            throw new IllegalArgumentException("Message seq is required for bucket store. roomCode="
+                    + message.getRoomCode());
+        }
+        return message.getSeq();
+    }
+
+    /**
+     * 메시지 _id 는 ObjectId 형식이면 ObjectId 로 저장되므로 두 형식 모두 비교
+     */
+    private static List<Object> messageIds(String messageId) {
+        return ObjectId.isValid(messageId)
+                ? List.of(new ObjectId(messageId), messageId)
+                : List.of(messageId);
+    }
+
+    private record BucketKey(String roomCode, long bucketSeq) {
+    }
+}
@@ -1,17 +1,49 @@
 package com.myce.domain.repository.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.dto.MessageCacheCommitResult;
+import com.myce.domain.dto.MessageHistoryWindow;
+import com.myce.domain.dto.RecentMessageFill;
+import com.myce.domain.dto.UnreadCounterKey;
 import com.myce.domain.repository.ChatMessageCacheRepository;
 import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
 import org.springframework.stereotype.Repository;
 
 @Slf4j
@@ -20,12 +52,117 @@ import org.springframework.stereotype.Repository;
 public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepository {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, ChatMessage> chatMessageRedisTemplate;
+    private final RedisValueCodec<ChatMessage> chatMessageCodec;
     private final ObjectMapper objectMapper;
 
     // 캐시 설정 상수
     private static final int MAX_CACHED_MESSAGES = 50;
     private static final Duration CACHE_TTL = Duration.ofDays(7);
     private static final Duration BADGE_TTL = Duration.ofDays(7);
+    private static final long NO_RESULT = -1L;
+    private static final String HASH_UNREAD_LAYOUT = "hash";
+    private static final String UNREAD_SET = "set";
+    private static final String UNREAD_INCREMENT = "incr";
+    private static final String HISTORY_BEFORE = "before";
+    private static final String HISTORY_AFTER = "after";
+    // 히스토리 하한 seq 가 0 이면 채팅방 첫 메시지부터 캐시에 있다
+    private static final long HISTORY_START_SEQ = 0L;
+    private static final String MIGRATION_RUNNING = "running";
+    private static final String MIGRATION_DONE = "done";
+    // 이전 중 노드가 죽어도 이 시간이 지나면 다시 시도할 수 있다
+    private static final Duration MIGRATION_LEASE = Duration.ofMinutes(10);
+    // commit-member.lua 카운터/활성 채팅방 종류
+    private static final String MEMBER_COUNTER_NONE = "none";
+    private static final String MEMBER_COUNTER_BADGE = "badge";
+    private static final String MEMBER_COUNTER_HASH = "hash";
+    private static final String MEMBER_ACTIVE_ROOM_NONE = "none";
+    private static final String MEMBER_ACTIVE_ROOM_SET = "set";
+    private static final String MEMBER_ACTIVE_ROOM_INDEX = "index";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> COMMIT_MESSAGE_SCRIPT = listScript("scripts/commit-message.lua");
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> COMMIT_MEMBER_SCRIPT = listScript("scripts/commit-member.lua");
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> UNREAD_HASH_SCRIPT = listScript("scripts/unread-hash.lua");
+    private static final RedisScript<Long> FILL_RECENT_VIEW_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/fill-recent-view.lua"), Long.class);
+    private static final RedisScript<Long> FILL_RECENT_MESSAGES_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/fill-recent-messages.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/release-lease.lua"), Long.class);
+    private static final RedisScript<Long> APPEND_HISTORY_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/append-history.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_HISTORY_SCRIPT = listScript("scripts/read-history.lua");
+    private static final RedisScript<Long> FILL_HISTORY_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/fill-history.lua"), Long.class);
+    // 스크립트 결과 직렬화기: 정수/정수 배열 응답은 직렬화기를 거치지 않으므로 스크립트 결과 타입만 맞춘다
+    @SuppressWarnings("rawtypes")
+    private static final RedisSerializer<List> LIST_RESULT_SERIALIZER = new GenericToStringSerializer<>(List.class);
+    private static final RedisSerializer<Long> LONG_RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+    // 스크립트 인자 직렬화: 코덱으로 인코딩한 값(byte[])은 그대로, 나머지는 문자열로 넘긴다
+    private static final RedisSerializer<Object> SCRIPT_ARG_SERIALIZER = new RedisSerializer<>() {
+        @Override
+        public byte[] serialize(Object value) {
+            return value instanceof byte[] bytes ? bytes : RedisSerializer.string().serialize(String.valueOf(value));
+        }
+
+        @Override
+        public Object deserialize(byte[] bytes) {
+            return bytes;
+        }
+    };
+
+    @Value("${chat.cache.commit-script.enabled:true}")
+    private boolean commitScriptEnabled;
+
+    /**
+     * 미읽음 카운트 저장 방식
+     * key: 채팅방-사용자마다 문자열 키 (chat:room:{roomCode}:unread:{memberId}), 배지는 별도 키
+     * hash: 사용자마다 해시 하나 (chat:user:{memberId}:unread, 필드=채팅방 코드), 배지는 합계 필드(_total)
+     */
+    @Value("${chat.cache.unread.layout:key}")
+    private String unreadLayout;
+
+    /**
+     * 관리자 그룹 배지 샤드 수
+     * 사용자 → 관리자 메시지는 모두 관리자 그룹(-1)이 수신하므로, 배지/활성 채팅방을 박람회(플랫폼) 범위로 나누고
+     * 미읽음은 레이아웃과 관계없이 채팅방 코드 기준 샤드 해시(필드=채팅방, 합계 필드=샤드 배지)에 두고 조회 시 합산한다.
+     */
+    @Value("${chat.cache.admin-badge.shards:8}")
+    private int adminBadgeShards;
+
+    /**
+     * 관리자 그룹 전역 배지 키 → 범위별 키 이전 (배포 시 한 번만 켜는 일회성 작업)
+     */
+    @Value("${chat.cache.admin-badge.migrate-on-startup:false}")
+    private boolean migrateAdminBadgeOnStartup;
+
+    /**
+     * 메시지 히스토리 캐시 (채팅방별 seq 정렬 집합)
+     * 메시지가 저장되거나 히스토리를 조회한 채팅방만 ttl-seconds 동안 유지한다.
+     * 깊이는 min-depth 에서 시작해 하한 아래 조회가 있으면 max-depth 까지 늘어나고,
+     * depth-decay-seconds 동안 늘어나지 않으면 절반씩 줄어든다. max-bytes 는 채팅방당 저장 메시지 크기 합 한도
+     */
+    @Value("${chat.cache.history.enabled:true}")
+    private boolean historyEnabled;
+
+    @Value("${chat.cache.history.min-depth:200}")
+    private int historyMinDepth;
+
+    @Value("${chat.cache.history.max-depth:2000}")
+    private int historyMaxDepth;
+
+    @Value("${chat.cache.history.max-bytes:1048576}")
+    private long historyMaxBytes;
+
+    @Value("${chat.cache.history.ttl-seconds:3600}")
+    private long historyTtlSeconds;
+
+    @Value("${chat.cache.history.depth-decay-seconds:600}")
+    private long historyDepthDecaySeconds;
 
     @PostConstruct
     public void init() {
@@ -42,18 +179,14 @@ public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepositor
         String key = String.format(ChatRoomKey.ROOM_RECENT_KEY_FORMAT, roomCode);
 
         try {
-            List<Object> cachedObjects = redisTemplate.opsForList().range(key, 0, limit - 1);
+            // 값 코덱이 ChatMessage 로 바로 읽는다
+            List<ChatMessage> messages = chatMessageRedisTemplate.opsForList().range(key, 0, limit - 1);
 
-            if (cachedObjects == null || cachedObjects.isEmpty()) {
+            if (messages == null || messages.isEmpty()) {
                 log.debug("[ChatMessageCache] Cache miss for recent message. roomCode={}", roomCode);
                 return null;
             }
 
-            // Object를 ChatMessage로 변환
-            List<ChatMessage> messages = cachedObjects.stream()
-                    .map(obj -> objectMapper.convertValue(obj, ChatMessage.class))
-                    .collect(Collectors.toList());
-
             log.debug("[ChatMessageCache] Cache hit for recent message. roomCode={}, count={}",
                     roomCode, messages.size());
             return messages;
@@ -66,28 +199,16 @@ public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepositor
 
     /**
      * 최근 메시지 캐싱
-     * MongoDB 조회 후 Redis에 저장
+     * MongoDB 조회 후 Redis에 저장 (스크립트 안에서 기존 리스트를 한 번에 교체)
      */
     @Override
     public void cacheRecentMessages(String roomCode, List<ChatMessage> messages) {
         log.trace("[ChatMessageCache] Caching recent message. roomCode={}, size={}", roomCode, messages.size());
-        String key = String.format(ChatRoomKey.ROOM_RECENT_KEY_FORMAT, roomCode);
 
         try {
-            // 기존 캐시 삭제
-            redisTemplate.delete(key);
-
-            // 새 메시지 캐싱 (최신 메시지가 앞에 오도록)
-            List<Object> messagesToCache = messages.stream()
-                    .limit(MAX_CACHED_MESSAGES)
-                    .collect(Collectors.toList());
-
-            if (!messagesToCache.isEmpty()) {
-                redisTemplate.opsForList().rightPushAll(key, messagesToCache.toArray());
-                redisTemplate.expire(key, CACHE_TTL);
-                log.debug("[ChatMessageCache] Success to cache recent message. roomCode={}, size={}",
-                        roomCode, messagesToCache.size());
-            }
+            fillRecentMessages(roomCode, messages, null, null, true);
+            log.debug("[ChatMessageCache] Success to cache recent message. roomCode={}, size={}",
+                    roomCode, Math.min(messages.size(), MAX_CACHED_MESSAGES));
         } catch (Exception e) {
             log.debug("[ChatMessageCache] Fail to cache recent message. roomCode={}, size={}",
                     roomCode, messages.size());
@@ -95,73 +216,293 @@ public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepositor
     }
 
     /**
-     * 새 메시지를 캐시에 추가 (동기)
-     * WebSocket 메시지 전송 시 즉시 캐싱하여 실시간 반영
+     * 최근 메시지 캐시 채우기 임대 시도
+     * 임대를 잡은 뒤 현재 첫 메시지를 읽어 두고, 채울 때 그대로인지 확인한다.
      */
     @Override
-    public CompletableFuture<Void> addMessageToCache(String roomCode, ChatMessage message) {
-        String messageId = message.getId();
-        log.trace("[ChatMessageCache] Caching new message. roomCode={}, messageId={}", roomCode, messageId);
+    public RecentMessageFill tryBeginRecentFill(String roomCode, Duration leaseTime) {
+        String leaseToken = UUID.randomUUID().toString();
+        byte[] leaseKey = RedisSerializer.string().serialize(
+                String.format(ChatRoomKey.ROOM_RECENT_FILL_LEASE_KEY_FORMAT, roomCode));
+        byte[] recentKey = RedisSerializer.string().serialize(
+                String.format(ChatRoomKey.ROOM_RECENT_KEY_FORMAT, roomCode));
 
-        String key = String.format(ChatRoomKey.ROOM_RECENT_KEY_FORMAT, roomCode);
         try {
-            // 새 메시지를 리스트 앞에 추가 (최신 메시지가 앞에)
-            redisTemplate.opsForList().leftPush(key, message);
+            Boolean acquired = redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    connection.stringCommands().set(leaseKey, RedisSerializer.string().serialize(leaseToken),
+                            Expiration.from(leaseTime), SetOption.ifAbsent()));
+            if (!Boolean.TRUE.equals(acquired)) {
+                log.debug("[ChatMessageCache] Recent message fill is in progress. roomCode={}", roomCode);
+                return null;
+            }
 
-            // 리스트 크기 제한
-            redisTemplate.opsForList().trim(key, 0, MAX_CACHED_MESSAGES - 1);
+            byte[] head = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.listCommands().lIndex(recentKey, 0));
+            log.debug("[ChatMessageCache] Success to begin recent message fill. roomCode={}", roomCode);
+            return new RecentMessageFill(roomCode, leaseToken, head);
 
-            // TTL 갱신
-            redisTemplate.expire(key, CACHE_TTL);
+        } catch (Exception e) {
+            log.warn("[ChatMessageCache] Fail to begin recent message fill. roomCode={}", roomCode, e);
+            return new RecentMessageFill(roomCode, null, null);
+        }
+    }
+
+    @Override
+    public boolean completeRecentFill(RecentMessageFill fill, List<ChatMessage> messages) {
+        if (fill.leaseToken() == null) {
+            return false;
+        }
 
-            log.debug("[ChatMessageCache] Success to cache new message. roomCode={}, messageId={}", roomCode, messageId);
+        try {
+            boolean filled = fillRecentMessages(fill.roomCode(), messages, fill.expectedHead(), fill.leaseToken(),
+                    false);
+            log.debug("[ChatMessageCache] Success to complete recent message fill. roomCode={}, filled={}",
+                    fill.roomCode(), filled);
+            return filled;
         } catch (Exception e) {
-            log.debug("[ChatMessageCache] Fail to cache new message. roomCode={}, messageId={}", roomCode, messageId);
+            log.debug("[ChatMessageCache] Fail to complete recent message fill. roomCode={}", fill.roomCode(), e);
+            cancelRecentFill(fill);
+            return false;
+        }
+    }
+
+    @Override
+    public void cancelRecentFill(RecentMessageFill fill) {
+        if (fill.leaseToken() == null) {
+            return;
         }
 
-        return CompletableFuture.completedFuture(null);
+        try {
+            redisTemplate.execute(RELEASE_LEASE_SCRIPT, SCRIPT_ARG_SERIALIZER, LONG_RESULT_SERIALIZER,
+                    List.of(String.format(ChatRoomKey.ROOM_RECENT_FILL_LEASE_KEY_FORMAT, fill.roomCode())),
+                    fill.leaseToken());
+        } catch (Exception e) {
+            log.debug("[ChatMessageCache] Fail to release recent message fill lease. roomCode={}",
+                    fill.roomCode(), e);
+        }
     }
 
     /**
-     * 미읽음 카운트 증가
-     * 메시지 전송 시 수신자의 미읽음 카운트 증가
+     * 최근 메시지 응답 조각 조회
      */
     @Override
-    public Long incrementUnreadCount(String roomCode, Long memberId, long cnt) {
-        log.trace("[ChatMessageCache] Increment unread count. roomCode={}, count={}", roomCode, cnt);
+    public List<byte[]> getRecentMessageViews(String roomCode, int limit) {
+        log.trace("[ChatMessageCache] Get recent message views. roomCode={}, limit={}", roomCode, limit);
+        byte[] key = RedisSerializer.string().serialize(
+                String.format(ChatRoomKey.ROOM_RECENT_VIEW_KEY_FORMAT, roomCode));
 
-        String unreadKey = String.format(ChatRoomKey.ROOM_UNREAD_KEY_FORMAT, roomCode, memberId);
         try {
-            Long count = redisTemplate.opsForValue().increment(unreadKey, cnt);
-            redisTemplate.expire(unreadKey, CACHE_TTL);
-            log.debug("[ChatMessageCache] Success increment unread count. roomCode={}, count={}", roomCode, cnt);
-            return count;
+            List<byte[]> views = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.listCommands().lRange(key, 0, limit - 1));
+            if (views == null || views.isEmpty()) {
+                log.debug("[ChatMessageCache] Cache miss for recent message views. roomCode={}", roomCode);
+                return List.of();
+            }
+
+            log.debug("[ChatMessageCache] Cache hit for recent message views. roomCode={}, count={}",
+                    roomCode, views.size());
+            return views;
 
         } catch (Exception e) {
-            log.warn("[ChatMessageCache] Fail increment unread count. roomCode={}, count={}", roomCode, cnt, e);
-            return 0L;
+            log.error("[ChatMessageCache] Fail to get recent message views. roomCode={}", roomCode, e);
+            return List.of();
         }
     }
 
     /**
-     * 미읽음 카운트 리셋
-     * 채팅방 읽음 처리 시 호출
+     * 최근 메시지 응답 조각 캐싱
+     * 조각을 만드는 사이 새 메시지가 들어왔다면 첫 메시지가 달라지므로 저장하지 않는다.
      */
     @Override
-    public void resetUnreadCount(String roomCode, Long memberId) {
-        log.trace("[ChatMessageCache] Reset unread count. roomCode={}, memberId={}", roomCode, memberId);
+    public boolean cacheRecentMessageViews(String roomCode, ChatMessage headMessage, List<byte[]> views) {
+        log.trace("[ChatMessageCache] Caching recent message views. roomCode={}, size={}", roomCode, views.size());
+        if (views.isEmpty()) {
+            return false;
+        }
 
         try {
-            String unreadKey = String.format(ChatRoomKey.ROOM_UNREAD_KEY_FORMAT, roomCode, memberId);
-            redisTemplate.opsForValue().set(unreadKey, 0L, CACHE_TTL);
+            List<String> keys = List.of(
+                    String.format(ChatRoomKey.ROOM_RECENT_KEY_FORMAT, roomCode),
+                    String.format(ChatRoomKey.ROOM_RECENT_VIEW_KEY_FORMAT, roomCode)
+            );
+            Object[] args = new Object[views.size() + 2];
+            args[0] = chatMessageCodec.serialize(headMessage);
+            args[1] = String.valueOf(CACHE_TTL.toSeconds());
+            for (int i = 0; i < views.size(); i++) {
+                args[i + 2] = views.get(i);
+            }
+
+            Long cached = redisTemplate.execute(FILL_RECENT_VIEW_SCRIPT, SCRIPT_ARG_SERIALIZER,
+                    LONG_RESULT_SERIALIZER, keys, args);
+            boolean filled = cached != null && cached > 0;
+            log.debug("[ChatMessageCache] Success to cache recent message views. roomCode={}, filled={}",
+                    roomCode, filled);
+            return filled;
 
-            log.debug("[ChatMessageCache] Success to reset unread count. roomCode={}, memberId={}",
-                    roomCode, memberId);
+        } catch (Exception e) {
+            log.debug("[ChatMessageCache] Fail to cache recent message views. roomCode={}", roomCode, e);
+            return false;
+        }
+    }
 
+    /**
+     * 저장된 메시지를 히스토리 캐시에 추가
+     * 채팅방마다 스크립트 한 번으로 추가한다. (채팅방 키만 다루므로 Redis Cluster 에서도 한 슬롯)
+     * 추가에 실패하면 빠진 메시지가 남지 않도록 해당 채팅방 히스토리를 버린다.
+     */
+    @Override
+    public void appendHistory(List<ChatMessage> messages) {
+        if (!historyEnabled || messages.isEmpty()) {
+            return;
+        }
+
+        // seq 가 없는 메시지는 구간 조회 대상이 아니므로 제외하고, 채팅방별로 seq 오름차순 정렬
+        Map<String, List<ChatMessage>> messagesByRoom = messages.stream()
+                .filter(message -> message.getRoomCode() != null && message.getSeq() != null)
+                .sorted(Comparator.comparing(ChatMessage::getSeq))
+                .collect(Collectors.groupingBy(ChatMessage::getRoomCode, LinkedHashMap::new, Collectors.toList()));
+        if (messagesByRoom.isEmpty()) {
+            return;
+        }
+        log.trace("[ChatMessageCache] Append history. roomCount={}, size={}", messagesByRoom.size(), messages.size());
+
+        long now = System.currentTimeMillis();
+        messagesByRoom.forEach((roomCode, roomMessages) -> appendRoomHistory(roomCode, roomMessages, now));
+    }
+
+    private void appendRoomHistory(String roomCode, List<ChatMessage> roomMessages, long now) {
+        List<String> keys = List.of(
+                String.format(ChatRoomKey.ROOM_HISTORY_KEY_FORMAT, roomCode),
+                String.format(ChatRoomKey.ROOM_HISTORY_META_KEY_FORMAT, roomCode)
+        );
+
+        try {
+            List<Object> args = new ArrayList<>(5 + roomMessages.size() * 2);
+            args.add(String.valueOf(historyMinDepth));
+            args.add(String.valueOf(historyMaxBytes));
+            args.add(String.valueOf(historyTtlSeconds));
+            args.add(String.valueOf(now));
+            args.add(String.valueOf(Duration.ofSeconds(historyDepthDecaySeconds).toMillis()));
+            for (ChatMessage message : roomMessages) {
+                args.add(String.valueOf(message.getSeq()));
+                args.add(chatMessageCodec.serialize(message));
+            }
+
+            Long added = redisTemplate.execute(APPEND_HISTORY_SCRIPT, SCRIPT_ARG_SERIALIZER,
+                    LONG_RESULT_SERIALIZER, keys, args.toArray());
+            log.debug("[ChatMessageCache] Success to append history. roomCode={}, added={}", roomCode, added);
 
         } catch (Exception e) {
-            log.error("[ChatMessageCache] Fail to reset unread count. roomCode={}, memberId={}",
-                    roomCode, memberId, e);
+            log.warn("[ChatMessageCache] Fail to append history, drop room history. roomCode={}", roomCode, e);
+            try {
+                redisTemplate.unlink(keys);
+            } catch (Exception unlinkException) {
+                log.warn("[ChatMessageCache] Fail to drop room history. roomCode={}", roomCode, unlinkException);
+            }
+        }
+    }
+
+    /**
+     * 히스토리 캐시에서 seq 이전 메시지 구간 조회
+     * 하한 seq 이상에서 limit 개를 채웠거나 채팅방 첫 메시지부터 캐시에 있으면 캐시만으로 응답할 수 있다.
+     */
+    @Override
+    public MessageHistoryWindow getHistoryBefore(String roomCode, Long beforeSeq, int limit) {
+        return readHistory(roomCode, HISTORY_BEFORE, beforeSeq, limit);
+    }
+
+    /**
+     * 히스토리 캐시에서 seq 이후 메시지 구간 조회
+     * 기준 seq 가 하한 seq 이상이면 그 뒤 메시지는 모두 캐시에 있으므로 캐시만으로 응답할 수 있다.
+     */
+    @Override
+    public MessageHistoryWindow getHistoryAfter(String roomCode, Long afterSeq, int limit) {
+        if (afterSeq == null) {
+            return null;
+        }
+        return readHistory(roomCode, HISTORY_AFTER, afterSeq, limit);
+    }
+
+    /**
+     * 히스토리 캐시 확장
+     * 하한 seq 가 조회 시점과 같을 때만 채우고, 채운 만큼 채팅방 히스토리 깊이를 늘린다.
+     */
+    @Override
+    public boolean extendHistory(String roomCode, Long expectedFloorSeq, List<ChatMessage> messages,
+                                 boolean reachedStart) {
+        if (!historyEnabled || (messages.isEmpty() && (expectedFloorSeq == null || !reachedStart))) {
+            return false;
+        }
+        if (messages.stream().anyMatch(message -> message.getSeq() == null)) {
+            return false;
+        }
+        log.trace("[ChatMessageCache] Extend history. roomCode={}, floorSeq={}, size={}",
+                roomCode, expectedFloorSeq, messages.size());
+
+        try {
+            long floorSeq = reachedStart
+                    ? HISTORY_START_SEQ
+                    : messages.stream().mapToLong(ChatMessage::getSeq).min().orElseThrow();
+            List<Object> args = new ArrayList<>(messages.size() * 2 + 7);
+            args.add(expectedFloorSeq != null ? String.valueOf(expectedFloorSeq) : "");
+            args.add(String.valueOf(floorSeq));
+            args.add(String.valueOf(historyMinDepth));
+            args.add(String.valueOf(historyMaxDepth));
+            args.add(String.valueOf(historyMaxBytes));
+            args.add(String.valueOf(historyTtlSeconds));
+            args.add(String.valueOf(System.currentTimeMillis()));
+            for (ChatMessage message : messages) {
+                args.add(String.valueOf(message.getSeq()));
+                args.add(chatMessageCodec.serialize(message));
+            }
+
+            Long added = redisTemplate.execute(FILL_HISTORY_SCRIPT, SCRIPT_ARG_SERIALIZER, LONG_RESULT_SERIALIZER,
+                    List.of(String.format(ChatRoomKey.ROOM_HISTORY_KEY_FORMAT, roomCode),
+                            String.format(ChatRoomKey.ROOM_HISTORY_META_KEY_FORMAT, roomCode)),
+                    args.toArray());
+            boolean extended = added != null && added >= 0;
+            log.debug("[ChatMessageCache] Success to extend history. roomCode={}, extended={}, added={}",
+                    roomCode, extended, added);
+            return extended;
+
+        } catch (Exception e) {
+            log.debug("[ChatMessageCache] Fail to extend history. roomCode={}", roomCode, e);
+            return false;
+        }
+    }
+
+    /**
+     * 메시지 저장 후 Redis 부가 작업 일괄 처리
+     * 채팅방 키, 발신자 키, 수신자 키를 각각 스크립트 한 번으로 원자적으로 처리하고
+     * (슬롯이 서로 다르므로 셋을 한 번에 묶지는 않는다), 스크립트를 쓸 수 없으면 모두 파이프라인으로 처리
+     */
+    @Override
+    public MessageCacheCommitResult commitMessage(String roomCode, ChatMessage message, Long senderId,
+                                                  Long receiverId) {
+        String messageId = message.getId();
+        log.trace("[ChatMessageCache] Commit message. roomCode={}, messageId={}, receiverId={}",
+                roomCode, messageId, receiverId);
+
+        if (commitScriptEnabled) {
+            try {
+                MessageCacheCommitResult result = commitMessageByScript(roomCode, message, senderId, receiverId);
+                log.debug("[ChatMessageCache] Success to commit message by script. roomCode={}, messageId={}",
+                        roomCode, messageId);
+                return result;
+            } catch (Exception e) {
+                log.warn("[ChatMessageCache] Fail to commit message by script, fallback to pipeline. "
+                        + "roomCode={}, messageId={}", roomCode, messageId, e);
+            }
+        }
+
+        try {
+            MessageCacheCommitResult result = commitMessageByPipeline(roomCode, message, senderId, receiverId);
+            log.debug("[ChatMessageCache] Success to commit message by pipeline. roomCode={}, messageId={}",
+                    roomCode, messageId);
+            return result;
+        } catch (Exception e) {
+            log.warn("[ChatMessageCache] Fail to commit message. roomCode={}, messageId={}", roomCode, messageId, e);
+            return MessageCacheCommitResult.failed();
         }
     }
 
@@ -169,9 +510,14 @@ public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepositor
     public Long getUnreadCount(String roomCode, Long memberId) {
         log.trace("[ChatMessageCache] Get unread count. roomCode={}, memberId={}", roomCode, memberId);
 
-        String unreadKey = String.format(ChatRoomKey.ROOM_UNREAD_KEY_FORMAT, roomCode, memberId);
         try {
-            Object value = redisTemplate.opsForValue().get(unreadKey);
+            Object value;
+            if (usesUnreadHash(memberId)) {
+                value = redisTemplate.opsForHash().get(unreadHashKey(roomCode, memberId), roomCode);
+            } else {
+                String unreadKey = String.format(ChatRoomKey.ROOM_UNREAD_KEY_FORMAT, roomCode, memberId);
+                value = redisTemplate.opsForValue().get(unreadKey);
+            }
 
             log.debug("[ChatMessageCache] Success to get unread count. roomCode={}, memberId={}, count={}",
                     roomCode, memberId, value);
@@ -182,6 +528,92 @@ public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepositor
         }
     }
 
+    /**
+     * 여러 미읽음 카운트 한 번에 조회
+     * 채팅방 목록, 배지 재계산 시 채팅방 수만큼 GET 하지 않도록 MGET 사용
+     */
+    @Override
+    public Map<UnreadCounterKey, Long> getUnreadCounts(Collection<UnreadCounterKey> keys) {
+        log.trace("[ChatMessageCache] Get unread counts. size={}", keys.size());
+        Map<UnreadCounterKey, Long> unreadCounts = new HashMap<>();
+        if (keys.isEmpty()) {
+            return unreadCounts;
+        }
+
+        List<UnreadCounterKey> counterKeys = new ArrayList<>(keys);
+        try {
+            // 해시에 있는 카운터(hash 레이아웃, 관리자 그룹)는 HMGET, 나머지는 MGET 으로 조회
+            Map<Boolean, List<UnreadCounterKey>> keysByStore = counterKeys.stream()
+                    .collect(Collectors.partitioningBy(key -> usesUnreadHash(key.memberId())));
+            List<UnreadCounterKey> hashKeys = keysByStore.get(true);
+            List<UnreadCounterKey> stringKeys = keysByStore.get(false);
+            if (!hashKeys.isEmpty()) {
+                putUnreadCounts(unreadCounts, hashKeys, multiGetUnreadHash(hashKeys));
+            }
+            if (!stringKeys.isEmpty()) {
+                putUnreadCounts(unreadCounts, stringKeys, redisTemplate.opsForValue().multiGet(stringKeys.stream()
+                        .map(key -> String.format(ChatRoomKey.ROOM_UNREAD_KEY_FORMAT, key.roomCode(),
+                                key.memberId()))
+                        .toList()));
+            }
+            log.debug("[ChatMessageCache] Success to get unread counts. size={}, hit={}",
+                    counterKeys.size(), unreadCounts.size());
+        } catch (Exception e) {
+            log.warn("[ChatMessageCache] Fail to get unread counts. size={}", counterKeys.size(), e);
+        }
+        return unreadCounts;
+    }
+
+    @Override
+    public void setUnreadCount(String roomCode, Long memberId, long count) {
+        log.trace("[ChatMessageCache] Set unread count. roomCode={}, memberId={}, count={}", roomCode, memberId, count);
+
+        try {
+            if (usesUnreadHash(memberId)) {
+                updateUnreadHash(roomCode, memberId, UNREAD_SET, count);
+            } else {
+                String unreadKey = String.format(ChatRoomKey.ROOM_UNREAD_KEY_FORMAT, roomCode, memberId);
+                redisTemplate.opsForValue().set(unreadKey, count, CACHE_TTL);
+                registerRoomKey(roomCode, unreadKey);
+            }
+            if (isAdminGroup(memberId)) {
+                updateAdminActiveRoomIndex(roomCode, count);
+            }
+            log.debug("[ChatMessageCache] Success to set unread count. roomCode={}, memberId={}, count={}",
+                    roomCode, memberId, count);
+        } catch (Exception e) {
+            log.warn("[ChatMessageCache] Fail to set unread count. roomCode={}, memberId={}", roomCode, memberId, e);
+        }
+    }
+
+    /**
+     * 미읽음 카운트 리셋 후 전체 배지 카운트 재계산
+     * 해시에 있는 카운터(hash 레이아웃, 관리자 그룹)는 리셋 스크립트가 채팅방 필드와 합계 필드를 한 번에 조정한다.
+     * 관리자 그룹은 채팅방이 속한 샤드 합계만 바뀌므로, 범위의 샤드 합계를 읽어 돌려준다.
+     */
+    @Override
+    public Long resetUnreadCountAndRecalculateBadge(String roomCode, Long memberId) {
+        if (!usesUnreadHash(memberId)) {
+            return resetUnreadCountByKey(roomCode, memberId);
+        }
+
+        log.trace("[ChatMessageCache] Reset unread count and badge. roomCode={}, memberId={}", roomCode, memberId);
+        try {
+            Long badgeCount = updateUnreadHash(roomCode, memberId, UNREAD_SET, 0L).get(1);
+            if (isAdminGroup(memberId)) {
+                redisTemplate.opsForZSet().remove(activeRoomsKey(roomCode, memberId), roomCode);
+                badgeCount = sumAdminUnreadTotals(ChatRoom.getAdminBadgeScope(roomCode));
+            }
+            log.debug("[ChatMessageCache] Success to reset unread count and badge. roomCode={}, memberId={}, "
+                    + "badge={}", roomCode, memberId, badgeCount);
+            return badgeCount;
+        } catch (Exception e) {
+            log.warn("[ChatMessageCache] Fail to reset unread count and badge. roomCode={}, memberId={}",
+                    roomCode, memberId, e);
+            return 0L;
+        }
+    }
+
     /**
      * 마지막 읽은 메시지 seq 저장
      * 읽음 상태 추적용
@@ -194,6 +626,7 @@ public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepositor
         try {
             String key = String.format(ChatRoomKey.ROOM_LAST_READ_KEY_FORMAT, roomCode, memberId);
             redisTemplate.opsForValue().set(key, messageSeq, CACHE_TTL);
+            registerRoomKey(roomCode, key);
 
             log.debug("[ChatMessageCache] Success to cache last read seq. roomCode={}, memberId={}, seq={}",
                     roomCode, memberId, messageSeq);
@@ -227,68 +660,612 @@ public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepositor
     }
 
     /**
-     * 전체 배지 카운트 증가
-     * 사용자의 전체 미읽음 메시지 수
+     * 관리자 그룹 전역 배지/활성 채팅방 키를 범위별 키로 옮긴다.
+     * 이전 표시 키를 먼저 잡은 한 노드만 수행하고, 완료하면 표시를 남겨 이후 재시작에서는 건너뛴다.
+     * 실패하면 표시를 지워 다음 시작 때 다시 시도한다.
      */
-    @Override
-    public Long incrementBadgeCount(Long memberId) {
-        log.trace("[ChatMessageCache] Increment badge count. memberId={}", memberId);
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateAdminGroupBadge() {
+        if (!migrateAdminBadgeOnStartup) {
+            return;
+        }
+
         try {
-            String badgeKey = String.format(ChatRoomKey.USER_BADGE_KEY_FORMAT, memberId);
-            Long count = redisTemplate.opsForValue().increment(badgeKey);
-            redisTemplate.expire(badgeKey, BADGE_TTL);
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(
+                    ChatRoomKey.ADMIN_BADGE_MIGRATION_KEY, MIGRATION_RUNNING, MIGRATION_LEASE))) {
+                log.info("[ChatMessageCache] Admin group badge migration is done or running on another node.");
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("[ChatMessageCache] Fail to acquire admin group badge migration lock.", e);
+            return;
+        }
 
-            log.debug("[ChatMessageCache] Success increment badge count. memberId={}, newCount={}",
-                    memberId, count);
-            return count;
+        Long adminGroupId = ChatRoom.ADMIN_GROUP_MEMBER_ID;
+        String legacyRoomsKey = ChatRoomKey.LEGACY_ADMIN_GROUP_ACTIVE_ROOMS_KEY;
+        String legacyHashKey = ChatRoomKey.LEGACY_ADMIN_GROUP_UNREAD_HASH_KEY;
+        try {
+            List<String> legacyRooms = getActiveRooms(legacyRoomsKey);
+            Map<Object, Object> legacyHash = redisTemplate.opsForHash().entries(legacyHashKey);
+            if (legacyRooms.isEmpty() && legacyHash.isEmpty()) {
+                redisTemplate.opsForValue().set(ChatRoomKey.ADMIN_BADGE_MIGRATION_KEY, MIGRATION_DONE);
+                return;
+            }
 
+            long now = System.currentTimeMillis();
+            for (String roomCode : legacyRooms) {
+                String roomsKey = activeRoomsKey(roomCode, adminGroupId);
+                redisTemplate.opsForZSet().addIfAbsent(roomsKey, roomCode, now);
+                redisTemplate.expire(roomsKey, BADGE_TTL);
+            }
+            legacyHash.forEach((field, value) -> {
+                if (!ChatRoomKey.USER_UNREAD_TOTAL_FIELD.equals(field)) {
+                    updateUnreadHash(field.toString(), adminGroupId, UNREAD_SET, Long.parseLong(value.toString()));
+                }
+            });
+
+            redisTemplate.delete(List.of(legacyRoomsKey, legacyHashKey, ChatRoomKey.LEGACY_ADMIN_GROUP_BADGE_KEY));
+            redisTemplate.opsForValue().set(ChatRoomKey.ADMIN_BADGE_MIGRATION_KEY, MIGRATION_DONE);
+            log.info("[ChatMessageCache] Migrated admin group badge to scoped keys. roomCount={}, hashFieldCount={}",
+                    legacyRooms.size(), legacyHash.size());
         } catch (Exception e) {
-            log.warn("[ChatMessageCache] Fail increment badge count. memberId={}, ", memberId);
-            return 0L;
+            log.warn("[ChatMessageCache] Fail to migrate admin group badge.", e);
+            redisTemplate.delete(ChatRoomKey.ADMIN_BADGE_MIGRATION_KEY);
         }
     }
 
+    private MessageCacheCommitResult commitMessageByScript(String roomCode, ChatMessage message, Long senderId,
+                                                           Long receiverId) throws JsonProcessingException {
+        boolean hasReceiver = receiverId != null;
+        boolean roomUnread = hasReceiver && !usesUnreadHash(receiverId);
+        String unreadKey = String.format(ChatRoomKey.ROOM_UNREAD_KEY_FORMAT, roomCode,
+                hasReceiver ? receiverId : NO_RESULT);
+        List<String> keys = List.of(
+                String.format(ChatRoomKey.ROOM_RECENT_KEY_FORMAT, roomCode),
+                String.format(ChatRoomKey.ROOM_RECENT_VIEW_KEY_FORMAT, roomCode),
+                String.format(ChatRoomKey.ROOM_KEY_REGISTRY_FORMAT, roomCode),
+                unreadKey
+        );
+
+        // 1. 채팅방 키(같은 해시 슬롯)는 스크립트 한 번으로 원자적으로 처리
+        // 메시지는 최근 메시지 캐시와 같은 코덱으로, 파생 키 목록 값은 값 직렬화기와 같은 JSON 으로 넘긴다
+        List<?> roomResults = redisTemplate.execute(COMMIT_MESSAGE_SCRIPT, SCRIPT_ARG_SERIALIZER,
+                LIST_RESULT_SERIALIZER, keys,
+                chatMessageCodec.serialize(message),
+                String.valueOf(MAX_CACHED_MESSAGES),
+                String.valueOf(CACHE_TTL.toSeconds()),
+                roomUnread ? "1" : "0",
+                objectMapper.writeValueAsString(unreadKey));
+        if (roomResults == null || roomResults.size() < 2) {
+            throw new IllegalStateException("Unexpected commit script result: " + roomResults);
+        }
+
+        // 2. 발신자/수신자 키는 사람(관리자 그룹은 범위)마다 슬롯이 다르므로 사람마다 스크립트를 따로 실행
+        // 이미 반영된 채팅방 키를 다시 올리지 않도록, 실패하면 발신자/수신자 키만 파이프라인으로 처리한다
+        MemberCommit memberCommit;
+        try {
+            memberCommit = commitMemberKeysByScript(roomCode, senderId, receiverId);
+        } catch (Exception e) {
+            log.warn("[ChatMessageCache] Fail to commit member keys by script, fallback to pipeline. "
+                    + "roomCode={}, senderId={}, receiverId={}", roomCode, senderId, receiverId, e);
+            memberCommit = commitMemberKeysByPipeline(roomCode, senderId, receiverId);
+        }
+
+        return new MessageCacheCommitResult(
+                toCount(roomResults.get(0)),
+                roomUnread ? toCount(roomResults.get(1)) : memberCommit.unreadCount(),
+                memberCommit.badgeCount(),
+                memberCommit.senderRoomAdded(),
+                memberCommit.receiverRoomAdded(),
+                true
+        );
+    }
+
     /**
-     * 전체 배지 카운트 재계산
-     * 읽음 처리 후 전체 카운트 재계산
+     * 발신자/수신자 키를 사람마다 스크립트 한 번으로 처리
+     * 관리자 그룹 미읽음 샤드 해시는 활성 채팅방 인덱스와 슬롯이 다르므로 따로 실행한다.
+     * AI/시스템 메시지처럼 발신자가 회원이 아니면 발신자 활성 채팅방은 건너뛴다
      */
-    @Override
-    public Long recalculateBadgeCount(List<String> activeRooms, Long memberId) {
-        log.trace("[ChatMessageCache] Recalculate badge count. memberId={}", memberId);
+    private MemberCommit commitMemberKeysByScript(String roomCode, Long senderId, Long receiverId)
+            throws JsonProcessingException {
+        // 활성 채팅방 값은 addUserActiveRoom 과 같도록 값 직렬화기와 같은 JSON 으로 넘긴다
+        String activeRoomValue = objectMapper.writeValueAsString(roomCode);
+        Boolean senderRoomAdded = null;
+        if (senderId != null) {
+            List<?> senderResults = executeMemberScript(roomCode, activeRoomValue, null, MEMBER_COUNTER_NONE,
+                    activeRoomsKey(roomCode, senderId), activeRoomMode(senderId));
+            senderRoomAdded = toAdded(senderResults.get(2));
+        }
+        if (receiverId == null) {
+            return new MemberCommit(null, null, senderRoomAdded, null);
+        }
+
+        String receiverRoomsKey = activeRoomsKey(roomCode, receiverId);
+        List<?> receiverResults;
+        if (isAdminGroup(receiverId)) {
+            List<?> unreadResults = executeMemberScript(roomCode, activeRoomValue,
+                    unreadHashKey(roomCode, receiverId), MEMBER_COUNTER_HASH, null, MEMBER_ACTIVE_ROOM_NONE);
+            List<?> indexResults = executeMemberScript(roomCode, activeRoomValue, null, MEMBER_COUNTER_NONE,
+                    receiverRoomsKey, MEMBER_ACTIVE_ROOM_INDEX);
+            receiverResults = List.of(unreadResults.get(0), unreadResults.get(1), indexResults.get(2));
+        } else if (isHashUnreadLayout()) {
+            receiverResults = executeMemberScript(roomCode, activeRoomValue, unreadHashKey(roomCode, receiverId),
+                    MEMBER_COUNTER_HASH, receiverRoomsKey, MEMBER_ACTIVE_ROOM_SET);
+        } else {
+            receiverResults = executeMemberScript(roomCode, activeRoomValue, badgeKey(receiverId),
+                    MEMBER_COUNTER_BADGE, receiverRoomsKey, activeRoomMode(receiverId));
+        }
+        return new MemberCommit(toCount(receiverResults.get(0)), toCount(receiverResults.get(1)), senderRoomAdded,
+                toAdded(receiverResults.get(2)));
+    }
+
+    /**
+     * 사람 한 명의 카운터와 활성 채팅방 키를 commit-member.lua 로 처리
+     * @return {미읽음 카운트, 배지 카운트, 활성 채팅방 추가 여부} (처리하지 않은 값은 -1)
+     */
+    private List<?> executeMemberScript(String roomCode, String activeRoomValue, String counterKey,
+                                        String counterMode, String activeRoomKey, String activeRoomMode) {
+        List<String> keys = new ArrayList<>(2);
+        if (!MEMBER_COUNTER_NONE.equals(counterMode)) {
+            keys.add(counterKey);
+        }
+        if (!MEMBER_ACTIVE_ROOM_NONE.equals(activeRoomMode)) {
+            keys.add(activeRoomKey);
+        }
+
+        List<?> results = redisTemplate.execute(COMMIT_MEMBER_SCRIPT, SCRIPT_ARG_SERIALIZER, LIST_RESULT_SERIALIZER,
+                keys, counterMode, activeRoomMode, activeRoomValue, roomCode, ChatRoomKey.USER_UNREAD_TOTAL_FIELD,
+                String.valueOf(BADGE_TTL.toSeconds()), String.valueOf(System.currentTimeMillis()));
+        if (results == null || results.size() < 3) {
+            throw new IllegalStateException("Unexpected commit member script result: " + results);
+        }
+        return results;
+    }
+
+    private String activeRoomMode(Long memberId) {
+        return isAdminGroup(memberId) ? MEMBER_ACTIVE_ROOM_INDEX : MEMBER_ACTIVE_ROOM_SET;
+    }
+
+    /**
+     * 채팅방 키는 이미 반영된 상태에서 발신자/수신자 키만 파이프라인으로 처리
+     */
+    private MemberCommit commitMemberKeysByPipeline(String roomCode, Long senderId, Long receiverId) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                queueMemberCommands((RedisOperations<String, Object>) operations, roomCode, senderId, receiverId,
+                        null);
+                return null;
+            }
+        });
+        return toMemberCommit(results, 0, senderId != null, receiverId != null,
+                receiverId != null && usesUnreadHash(receiverId));
+    }
+
+    private MessageCacheCommitResult commitMessageByPipeline(String roomCode, ChatMessage message, Long senderId,
+                                                             Long receiverId) {
+        String recentKey = String.format(ChatRoomKey.ROOM_RECENT_KEY_FORMAT, roomCode);
+        String recentViewKey = String.format(ChatRoomKey.ROOM_RECENT_VIEW_KEY_FORMAT, roomCode);
+        String roomUnreadKey = receiverId != null && !usesUnreadHash(receiverId)
+                ? String.format(ChatRoomKey.ROOM_UNREAD_KEY_FORMAT, roomCode, receiverId)
+                : null;
+        byte[] recentKeyBytes = RedisSerializer.string().serialize(recentKey);
+        byte[] encodedMessage = chatMessageCodec.serialize(message);
+
+        // 결과를 사용하는 명령을 앞에 두어 결과 인덱스가 고정되도록 한다
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                // 최근 메시지는 ChatMessage 코덱으로 인코딩한 값을 그대로 넣는다
+                ops.execute((RedisCallback<Long>) connection ->
+                        connection.listCommands().lPush(recentKeyBytes, encodedMessage));
+                queueMemberCommands(ops, roomCode, senderId, receiverId, roomUnreadKey);
+                ops.opsForList().trim(recentKey, 0, MAX_CACHED_MESSAGES - 1);
+                ops.expire(recentKey, CACHE_TTL);
+                ops.delete(recentViewKey);
+                return null;
+            }
+        });
+
+        Long recentSize = toCount(results.get(0));
+        MemberCommit memberCommit = toMemberCommit(results, 1, senderId != null, receiverId != null, true);
+        return new MessageCacheCommitResult(
+                recentSize != null ? Math.min(recentSize, MAX_CACHED_MESSAGES) : null,
+                memberCommit.unreadCount(),
+                memberCommit.badgeCount(),
+                memberCommit.senderRoomAdded(),
+                memberCommit.receiverRoomAdded(),
+                false
+        );
+    }
+
+    /**
+     * 발신자/수신자 키 명령을 파이프라인에 넣는다
+     * 결과를 사용하는 명령(발신자 활성 채팅방, 미읽음, 배지, 수신자 활성 채팅방)을 이 순서로 앞에 둔다.
+     * @param roomUnreadKey key 레이아웃에서 함께 올릴 채팅방 미읽음 키 (채팅방 키를 이미 반영했으면 null)
+     */
+    private void queueMemberCommands(RedisOperations<String, Object> ops, String roomCode, Long senderId,
+                                     Long receiverId, String roomUnreadKey) {
+        String senderRoomsKey = senderId != null ? activeRoomsKey(roomCode, senderId) : null;
+        if (senderRoomsKey != null) {
+            ops.opsForSet().add(senderRoomsKey, roomCode);
+        }
+        if (receiverId != null && usesUnreadHash(receiverId)) {
+            String unreadHashKey = unreadHashKey(roomCode, receiverId);
+            String receiverRoomsKey = activeRoomsKey(roomCode, receiverId);
+
+            ops.opsForHash().increment(unreadHashKey, roomCode, 1);
+            ops.opsForHash().increment(unreadHashKey, ChatRoomKey.USER_UNREAD_TOTAL_FIELD, 1);
+            addReceiverActiveRoom(ops, receiverRoomsKey, roomCode, receiverId);
+            ops.expire(unreadHashKey, BADGE_TTL);
+            ops.expire(receiverRoomsKey, BADGE_TTL);
+        } else if (receiverId != null) {
+            String badgeKey = badgeKey(receiverId);
+            String receiverRoomsKey = activeRoomsKey(roomCode, receiverId);
+
+            if (roomUnreadKey != null) {
+                ops.opsForValue().increment(roomUnreadKey, 1);
+            }
+            ops.opsForValue().increment(badgeKey);
+            addReceiverActiveRoom(ops, receiverRoomsKey, roomCode, receiverId);
+            if (roomUnreadKey != null) {
+                String registryKey = String.format(ChatRoomKey.ROOM_KEY_REGISTRY_FORMAT, roomCode);
+                ops.opsForSet().add(registryKey, roomUnreadKey);
+                ops.expire(registryKey, CACHE_TTL);
+                ops.expire(roomUnreadKey, CACHE_TTL);
+            }
+            ops.expire(badgeKey, BADGE_TTL);
+            ops.expire(receiverRoomsKey, BADGE_TTL);
+        }
+        if (senderRoomsKey != null) {
+            ops.expire(senderRoomsKey, BADGE_TTL);
+        }
+    }
+
+    private MemberCommit toMemberCommit(List<Object> results, int offset, boolean hasSender, boolean hasReceiver,
+                                        boolean hasUnread) {
+        int index = offset;
+        Boolean senderRoomAdded = hasSender ? toAdded(results.get(index++)) : null;
+        if (!hasReceiver) {
+            return new MemberCommit(null, null, senderRoomAdded, null);
+        }
+        Long unreadCount = hasUnread ? toCount(results.get(index++)) : null;
+        Long badgeCount = toCount(results.get(index++));
+        return new MemberCommit(unreadCount, badgeCount, senderRoomAdded, toAdded(results.get(index)));
+    }
+
+    /**
+     * 최근 메시지 리스트를 스크립트 한 번으로 교체
+     * force 가 아니면 expectedHead 가 현재 첫 메시지와 같을 때만 교체하고, 임대 토큰이 있으면 임대도 함께 해제한다.
+     */
+    private boolean fillRecentMessages(String roomCode, List<ChatMessage> messages, byte[] expectedHead,
+                                       String leaseToken, boolean force) {
+        List<ChatMessage> messagesToCache = messages.stream()
+                .limit(MAX_CACHED_MESSAGES)
+                .toList();
+        List<String> keys = List.of(
+                String.format(ChatRoomKey.ROOM_RECENT_KEY_FORMAT, roomCode),
+                String.format(ChatRoomKey.ROOM_RECENT_VIEW_KEY_FORMAT, roomCode),
+                String.format(ChatRoomKey.ROOM_RECENT_FILL_LEASE_KEY_FORMAT, roomCode)
+        );
+        Object[] args = new Object[messagesToCache.size() + 4];
+        args[0] = expectedHead != null ? expectedHead : "";
+        args[1] = String.valueOf(CACHE_TTL.toSeconds());
+        args[2] = leaseToken != null ? leaseToken : "";
+        args[3] = force ? "1" : "0";
+        for (int i = 0; i < messagesToCache.size(); i++) {
+            args[i + 4] = chatMessageCodec.serialize(messagesToCache.get(i));
+        }
+
+        Long filled = redisTemplate.execute(FILL_RECENT_MESSAGES_SCRIPT, SCRIPT_ARG_SERIALIZER,
+                LONG_RESULT_SERIALIZER, keys, args);
+        return filled != null && filled > 0;
+    }
+
+    private MessageHistoryWindow readHistory(String roomCode, String direction, Long seq, int limit) {
+        if (!historyEnabled || limit <= 0) {
+            return null;
+        }
+        log.trace("[ChatMessageCache] Get history. roomCode={}, direction={}, seq={}, limit={}",
+                roomCode, direction, seq, limit);
 
         try {
-            long totalUnread = 0;
-            for (String roomCode : activeRooms) {
-                totalUnread += getUnreadCount(roomCode, memberId);
+            List<byte[]> results = executeBinaryListScript(READ_HISTORY_SCRIPT,
+                    List.of(String.format(ChatRoomKey.ROOM_HISTORY_KEY_FORMAT, roomCode),
+                            String.format(ChatRoomKey.ROOM_HISTORY_META_KEY_FORMAT, roomCode)),
+                    direction, seq != null ? String.valueOf(seq) : "", String.valueOf(limit));
+            if (results == null || results.isEmpty()) {
+                log.debug("[ChatMessageCache] Cache miss for history. roomCode={}", roomCode);
+                return MessageHistoryWindow.untracked();
             }
 
-            // 전체 배지 카운트 업데이트
-            String badgeKey = String.format(ChatRoomKey.USER_BADGE_KEY_FORMAT, memberId);
-            redisTemplate.opsForValue().set(badgeKey, totalUnread, BADGE_TTL);
+            long floorSeq = (long) Double.parseDouble(new String(results.get(0), StandardCharsets.UTF_8));
+            List<ChatMessage> messages = new ArrayList<>(results.size() - 1);
+            Set<String> messageIds = new HashSet<>();
+            for (int i = 1; i < results.size(); i++) {
+                ChatMessage message = chatMessageCodec.deserialize(results.get(i));
+                // 같은 메시지가 다른 인코딩으로 두 번 들어간 경우 한 번만 사용
+                if (message != null && messageIds.add(message.getId())) {
+                    messages.add(message);
+                }
+            }
 
-            log.debug("[ChatMessageCache] Success to recalculate badge count. memberId={}, count={}",
-                    memberId, totalUnread);
-            return totalUnread;
+            boolean complete = floorSeq == HISTORY_START_SEQ || (HISTORY_BEFORE.equals(direction)
+                    ? messages.size() >= limit
+                    : seq >= floorSeq);
+            log.debug("[ChatMessageCache] Success to get history. roomCode={}, direction={}, floorSeq={}, "
+                    + "count={}, complete={}", roomCode, direction, floorSeq, messages.size(), complete);
+            return new MessageHistoryWindow(messages, floorSeq, complete);
 
         } catch (Exception e) {
-            log.warn("[ChatMessageCache] Fail to recalculate badge count. memberId={}", memberId);
-            log.error("Error recalculating badge count for user: {}", memberId, e);
+            log.warn("[ChatMessageCache] Fail to get history. roomCode={}, direction={}", roomCode, direction, e);
+            return null;
+        }
+    }
+
+    private Long toCount(Object value) {
+        if (!(value instanceof Number number) || number.longValue() == NO_RESULT) {
+            return null;
+        }
+        return number.longValue();
+    }
+
+    private Boolean toAdded(Object value) {
+        if (value instanceof Boolean added) {
+            return added;
+        }
+        Long count = toCount(value);
+        return count != null ? count > 0 : null;
+    }
+
+    private boolean isHashUnreadLayout() {
+        return HASH_UNREAD_LAYOUT.equalsIgnoreCase(unreadLayout);
+    }
+
+    /**
+     * 미읽음 카운트를 해시에 두는지 (hash 레이아웃, 또는 레이아웃과 관계없이 관리자 그룹)
+     */
+    private boolean usesUnreadHash(Long memberId) {
+        return isHashUnreadLayout() || isAdminGroup(memberId);
+    }
+
+    /**
+     * 채팅방 파생 키 등록 (ChatRoomCacheRepository.invalidateRoomCache 에서 함께 삭제)
+     */
+    private void registerRoomKey(String roomCode, String key) {
+        String registryKey = String.format(ChatRoomKey.ROOM_KEY_REGISTRY_FORMAT, roomCode);
+        redisTemplate.opsForSet().add(registryKey, key);
+        redisTemplate.expire(registryKey, CACHE_TTL);
+    }
+
+    private boolean isAdminGroup(Long memberId) {
+        return ChatRoom.ADMIN_GROUP_MEMBER_ID.equals(memberId);
+    }
+
+    private String unreadHashKey(String roomCode, Long memberId) {
+        if (isAdminGroup(memberId)) {
+            return ChatRoomKey.adminUnreadHashKey(roomCode, adminBadgeShards);
+        }
+        return String.format(ChatRoomKey.USER_UNREAD_HASH_KEY_FORMAT, memberId);
+    }
+
+    private String badgeKey(Long memberId) {
+        return String.format(ChatRoomKey.USER_BADGE_KEY_FORMAT, memberId);
+    }
+
+    private String activeRoomsKey(String roomCode, Long memberId) {
+        if (isAdminGroup(memberId)) {
+            return String.format(ChatRoomKey.ADMIN_ACTIVE_ROOM_INDEX_KEY_FORMAT,
+                    ChatRoom.getAdminBadgeScope(roomCode));
+        }
+        return String.format(ChatRoomKey.USER_ACTIVE_ROOMS_KEY_FORMAT, memberId);
+    }
+
+    /**
+     * 관리자 그룹 범위의 샤드 합계 필드를 더한 배지 (샤드 해시마다 HGET, 파이프라인으로 한 번에 조회)
+     */
+    private long sumAdminUnreadTotals(String scope) {
+        int shards = Math.max(adminBadgeShards, 1);
+        List<Object> values = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (int shard = 0; shard < shards; shard++) {
+                    ops.opsForHash().get(String.format(ChatRoomKey.ADMIN_UNREAD_HASH_KEY_FORMAT, scope, shard),
+                            ChatRoomKey.USER_UNREAD_TOTAL_FIELD);
+                }
+                return null;
+            }
+        });
+        return values.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(value -> Long.parseLong(value.toString()))
+                .sum();
+    }
+
+    /**
+     * key 레이아웃 사용자 미읽음 리셋 후 활성 채팅방 기준으로 배지 재계산
+     */
+    private Long resetUnreadCountByKey(String roomCode, Long memberId) {
+        log.trace("[ChatMessageCache] Reset unread count and badge. roomCode={}, memberId={}", roomCode, memberId);
+        try {
+            String unreadKey = String.format(ChatRoomKey.ROOM_UNREAD_KEY_FORMAT, roomCode, memberId);
+            redisTemplate.opsForValue().set(unreadKey, 0L, CACHE_TTL);
+            registerRoomKey(roomCode, unreadKey);
+
+            List<UnreadCounterKey> keys = getActiveRooms(memberId).stream()
+                    .map(activeRoom -> new UnreadCounterKey(activeRoom, memberId))
+                    .toList();
+            long totalUnread = getUnreadCounts(keys).values().stream()
+                    .mapToLong(Long::longValue)
+                    .sum();
+            redisTemplate.opsForValue().set(badgeKey(memberId), totalUnread, BADGE_TTL);
+
+            log.debug("[ChatMessageCache] Success to reset unread count and badge. roomCode={}, memberId={}, "
+                    + "badge={}", roomCode, memberId, totalUnread);
+            return totalUnread;
+        } catch (Exception e) {
+            log.warn("[ChatMessageCache] Fail to reset unread count and badge. roomCode={}, memberId={}",
+                    roomCode, memberId, e);
             return 0L;
         }
     }
 
+    private void putUnreadCounts(Map<UnreadCounterKey, Long> unreadCounts, List<UnreadCounterKey> counterKeys,
+                                 List<Object> values) {
+        if (values == null) {
+            return;
+        }
+        for (int i = 0; i < counterKeys.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                unreadCounts.put(counterKeys.get(i), Long.parseLong(value.toString()));
+            }
+        }
+    }
+
     /**
-     * 전체 배지 카운트 조회
-     * FAB 버튼에 표시할 전체 미읽음 수
+     * 미읽음 해시(사용자, 관리자 그룹 샤드)의 채팅방 카운트 변경
+     * @return {채팅방 미읽음 카운트, 합계}
      */
-    @Override
-    public Long getBadgeCount(Long memberId) {
-        log.trace("[ChatMessageCache] Get badge count. memberId={}", memberId);
-        String badgeKey = String.format(ChatRoomKey.USER_BADGE_KEY_FORMAT, memberId);
+    private List<Long> updateUnreadHash(String roomCode, Long memberId, String operation, long value) {
+        List<?> results = redisTemplate.execute(UNREAD_HASH_SCRIPT, RedisSerializer.string(),
+                LIST_RESULT_SERIALIZER,
+                List.of(unreadHashKey(roomCode, memberId)),
+                roomCode, operation, String.valueOf(value), String.valueOf(BADGE_TTL.toSeconds()),
+                ChatRoomKey.USER_UNREAD_TOTAL_FIELD);
+        if (results == null || results.size() < 2) {
+            throw new IllegalStateException("Unexpected unread hash script result: " + results);
+        }
+        return List.of(toCount(results.get(0)), toCount(results.get(1)));
+    }
 
-        Object value = redisTemplate.opsForValue().get(badgeKey);
-        log.debug("[ChatMessageCache] Success to get badge count. memberId={}", memberId);
+    /**
+     * 해시별로 묶어 HMGET 한 번씩, 파이프라인으로 한 번에 조회
+     * @return 요청한 키 순서의 미읽음 카운트 (없으면 null)
+     */
+    private List<Object> multiGetUnreadHash(List<UnreadCounterKey> counterKeys) {
+        Map<String, List<Integer>> indexesByHash = new LinkedHashMap<>();
+        for (int i = 0; i < counterKeys.size(); i++) {
+            UnreadCounterKey counterKey = counterKeys.get(i);
+            indexesByHash.computeIfAbsent(unreadHashKey(counterKey.roomCode(), counterKey.memberId()),
+                    hashKey -> new ArrayList<>()).add(i);
+        }
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                indexesByHash.forEach((hashKey, indexes) -> ops.opsForHash().multiGet(hashKey,
+                        indexes.stream().<Object>map(index -> counterKeys.get(index).roomCode()).toList()));
+                return null;
+            }
+        });
+
+        Object[] values = new Object[counterKeys.size()];
+        int resultIndex = 0;
+        for (List<Integer> indexes : indexesByHash.values()) {
+            List<?> memberValues = (List<?>) results.get(resultIndex++);
+            for (int i = 0; i < indexes.size(); i++) {
+                values[indexes.get(i)] = memberValues != null ? memberValues.get(i) : null;
+            }
+        }
+        return Arrays.asList(values);
+    }
+
+    private List<String> getActiveRooms(Long memberId) {
+        return getActiveRooms(String.format(ChatRoomKey.USER_ACTIVE_ROOMS_KEY_FORMAT, memberId));
+    }
+
+    private List<String> getActiveRooms(String activeRoomsKey) {
+        Set<Object> rooms = redisTemplate.opsForSet().members(activeRoomsKey);
+        if (rooms == null) {
+            return List.of();
+        }
+        return rooms.stream().map(Object::toString).toList();
+    }
+
+    /**
+     * 관리자 그룹 채팅방 미읽음 변경 시 인덱스 반영
+     * 미읽음이 0 이면 인덱스에서 빼고, 남아 있으면 기존 활동 시각을 유지한 채 추가한다.
+     */
+    private void updateAdminActiveRoomIndex(String roomCode, long unreadCount) {
+        String indexKey = activeRoomsKey(roomCode, ChatRoom.ADMIN_GROUP_MEMBER_ID);
+        if (unreadCount <= 0) {
+            redisTemplate.opsForZSet().remove(indexKey, roomCode);
+            return;
+        }
+        redisTemplate.opsForZSet().addIfAbsent(indexKey, roomCode, System.currentTimeMillis());
+        redisTemplate.expire(indexKey, BADGE_TTL);
+    }
+
+    private void addReceiverActiveRoom(RedisOperations<String, Object> ops, String roomsKey, String roomCode,
+                                       Long receiverId) {
+        if (!isAdminGroup(receiverId)) {
+            ops.opsForSet().add(roomsKey, roomCode);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        ops.opsForZSet().add(roomsKey, roomCode, now);
+        ops.opsForZSet().removeRangeByScore(roomsKey, Double.NEGATIVE_INFINITY, now - BADGE_TTL.toMillis() - 1);
+    }
+
+    /**
+     * 코덱으로 인코딩한 메시지 배열을 돌려주는 스크립트 실행
+     * 결과 직렬화기를 거치지 않고 응답 byte[] 를 그대로 받는다. (스크립트 캐시에 없으면 본문으로 다시 실행)
+     */
+    private List<byte[]> executeBinaryListScript(RedisScript<?> script, List<String> keys, Object... args) {
+        byte[][] keysAndArgs = new byte[keys.size() + args.length][];
+        int index = 0;
+        for (String key : keys) {
+            keysAndArgs[index++] = RedisSerializer.string().serialize(key);
+        }
+        for (Object arg : args) {
+            keysAndArgs[index++] = SCRIPT_ARG_SERIALIZER.serialize(arg);
+        }
 
-        return value == null ? 0L : Long.parseLong(value.toString());
+        return redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> {
+            try {
+                return connection.scriptingCommands().evalSha(script.getSha1(), ReturnType.MULTI, keys.size(),
+                        keysAndArgs);
+            } catch (Exception e) {
+                if (!isNoScriptError(e)) {
+                    throw e;
+                }
+                return connection.scriptingCommands().eval(
+                        script.getScriptAsString().getBytes(StandardCharsets.UTF_8), ReturnType.MULTI, keys.size(),
+                        keysAndArgs);
+            }
+        });
+    }
+
+    private static boolean isNoScriptError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static RedisScript<List> listScript(String path) {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(List.class);
+        return script;
+    }
+
+    /**
+     * 발신자/수신자 키 처리 결과 (처리하지 않은 값은 null)
+     */
+    private record MemberCommit(Long unreadCount, Long badgeCount, Boolean senderRoomAdded,
+                                Boolean receiverRoomAdded) {
     }
 }
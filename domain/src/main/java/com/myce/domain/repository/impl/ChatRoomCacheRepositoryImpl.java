@@ -1,48 +1,129 @@
 package com.myce.domain.repository.impl;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.myce.domain.document.ChatRoom;
 import com.myce.domain.repository.ChatRoomCacheRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 public class ChatRoomCacheRepositoryImpl implements ChatRoomCacheRepository {
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, ChatRoom> chatRoomRedisTemplate;
+    private final RedisValueCodec<ChatRoom> chatRoomCodec;
 
     private static final Duration BADGE_TTL = Duration.ofDays(7);
     private static final Duration CHAT_ROOM_TTL = Duration.ofMinutes(30);
+    // 캐시 버전은 채팅방 캐시보다 오래 유지해, 조회 도중 만료되어 비교가 무의미해지지 않게 한다
+    private static final Duration CHAT_ROOM_VERSION_TTL = Duration.ofDays(1);
+    private static final String CACHE_ROOM_FILL = "fill";
+    private static final String CACHE_ROOM_SAVE = "save";
+    private static final String ACTIVITY_MESSAGE = "message";
+    private static final String ACTIVITY_READ = "read";
+    // 마지막 메시지/읽음 상태 해시 필드 (읽음 상태는 "read:{읽은 사람}")
+    private static final String ACTIVITY_LAST_MESSAGE_ID_FIELD = "lastMessageId";
+    private static final String ACTIVITY_LAST_MESSAGE_FIELD = "lastMessage";
+    private static final String ACTIVITY_LAST_MESSAGE_AT_FIELD = "lastMessageAt";
+    private static final String ACTIVITY_READ_FIELD_PREFIX = "read:";
+    private static final RedisScript<Long> CACHE_ROOM_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/cache-room.lua"), Long.class);
+    private static final RedisScript<Long> UPDATE_ROOM_ACTIVITY_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/update-room-activity.lua"), Long.class);
+    private static final RedisSerializer<Long> LONG_RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+    // 스크립트 인자 직렬화: 코덱으로 인코딩한 값(byte[])은 그대로, 나머지는 문자열로 넘긴다
+    private static final RedisSerializer<Object> SCRIPT_ARG_SERIALIZER = new RedisSerializer<>() {
+        @Override
+        public byte[] serialize(Object value) {
+            return value instanceof byte[] bytes ? bytes : RedisSerializer.string().serialize(String.valueOf(value));
+        }
+
+        @Override
+        public Object deserialize(byte[] bytes) {
+            return bytes;
+        }
+    };
+
+    private final Timer invalidateTimer;
+    private final DistributionSummary invalidateKeySummary;
+
+    public ChatRoomCacheRepositoryImpl(
+            RedisTemplate<String, Object> redisTemplate,
+            RedisTemplate<String, ChatRoom> chatRoomRedisTemplate,
+            RedisValueCodec<ChatRoom> chatRoomCodec,
+            ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.chatRoomRedisTemplate = chatRoomRedisTemplate;
+        this.chatRoomCodec = chatRoomCodec;
+
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.invalidateTimer = Timer.builder("chat.room.cache.invalidate")
+                .description("채팅방 캐시 무효화 소요 시간")
+                .register(meterRegistry);
+        this.invalidateKeySummary = DistributionSummary.builder("chat.room.cache.invalidate.keys")
+                .description("채팅방 캐시 무효화 시 삭제한 키 수")
+                .register(meterRegistry);
+    }
 
     /**
      * 채팅방 캐시 무효화
      * 채팅방 삭제 시 관련 캐시 정리
+     * 키 패턴으로 키 공간을 훑지 않고, 고정 키(채팅방, 최근 메시지, 히스토리)와 파생 키 목록에 등록된 키만 UNLINK 한다.
+     * 캐시 버전은 지우지 않고 올려, 무효화 전에 DB 를 조회한 요청이 채팅방 캐시를 다시 채우지 못하게 한다.
      */
     @Override
     public void invalidateRoomCache(String roomCode) {
         log.trace("[ChatRoomCache] Invalidate cached room. roomCode={}", roomCode);
+        Timer.Sample sample = Timer.start();
         try {
-            // 채팅방 관련 모든 캐시 삭제
-            String keyPattern = String.format(ChatRoomKey.ROOM_KEY_FORMAT, roomCode) +"*";
-            Set<String> keys = redisTemplate.keys(keyPattern);
+            increaseCacheVersion(roomCode);
+            String registryKey = String.format(ChatRoomKey.ROOM_KEY_REGISTRY_FORMAT, roomCode);
+            List<String> keys = new ArrayList<>();
+            keys.add(String.format(ChatRoomKey.ROOM_KEY_FORMAT, roomCode));
+            keys.add(String.format(ChatRoomKey.ROOM_ACTIVITY_KEY_FORMAT, roomCode));
+            keys.add(String.format(ChatRoomKey.ROOM_RECENT_KEY_FORMAT, roomCode));
+            keys.add(String.format(ChatRoomKey.ROOM_RECENT_VIEW_KEY_FORMAT, roomCode));
+            keys.add(String.format(ChatRoomKey.ROOM_HISTORY_KEY_FORMAT, roomCode));
+            keys.add(String.format(ChatRoomKey.ROOM_HISTORY_META_KEY_FORMAT, roomCode));
+            keys.add(registryKey);
 
-            if (keys != null && !keys.isEmpty()) {
-                redisTemplate.delete(keys);
-                log.debug("[ChatRoomCache] Success to invalidate cached room. roomCode={}", roomCode);
+            Set<Object> derivedKeys = redisTemplate.opsForSet().members(registryKey);
+            if (derivedKeys != null) {
+                derivedKeys.forEach(key -> keys.add(key.toString()));
             }
 
+            Long unlinked = redisTemplate.unlink(keys);
+            invalidateKeySummary.record(keys.size());
+            log.debug("[ChatRoomCache] Success to invalidate cached room. roomCode={}, keyCount={}, unlinked={}",
+                    roomCode, keys.size(), unlinked);
+
         } catch (Exception e) {
             log.debug("[ChatRoomCache] Fail to invalidate cached room. roomCode={}", roomCode, e);
+        } finally {
+            sample.stop(invalidateTimer);
         }
     }
 
@@ -80,6 +161,15 @@ public class ChatRoomCacheRepositoryImpl implements ChatRoomCacheRepository {
         log.trace("[ChatRoomCache] Add member active room. memberId={}, roomCode={}",
                 memberId, roomCode);
         try {
+            if (ChatRoom.ADMIN_GROUP_MEMBER_ID.equals(memberId)) {
+                // 관리자 그룹은 박람회(플랫폼) 범위의 활동 시각 순 인덱스에 기록
+                String key = String.format(ChatRoomKey.ADMIN_ACTIVE_ROOM_INDEX_KEY_FORMAT,
+                        ChatRoom.getAdminBadgeScope(roomCode));
+                redisTemplate.opsForZSet().add(key, roomCode, System.currentTimeMillis());
+                redisTemplate.expire(key, BADGE_TTL);
+                return;
+            }
+
             String key = String.format(ChatRoomKey.USER_ACTIVE_ROOMS_KEY_FORMAT, memberId);
             redisTemplate.opsForSet().add(key, roomCode);
             redisTemplate.expire(key, BADGE_TTL);
@@ -95,22 +185,16 @@ public class ChatRoomCacheRepositoryImpl implements ChatRoomCacheRepository {
 
     /**
      * ChatRoom 캐시 조회
+     * 캐시 값의 마지막 메시지/읽음 상태는 오래되었을 수 있으므로 {@link #mergeCachedActivity} 로 합쳐서 사용한다.
      */
     @Override
     public ChatRoom getCachedChatRoom(String roomCode) {
         log.trace("[ChatRoomCache] Get cached chat room. roomCode={}", roomCode);
         try {
             String key = String.format(ChatRoomKey.ROOM_KEY_FORMAT, roomCode);
-            Object cachedData = redisTemplate.opsForValue().get(key);
-
-            if (cachedData != null) {
-                ChatRoom chatRoom;
-                if (cachedData instanceof String) {
-                    chatRoom = objectMapper.readValue((String) cachedData, ChatRoom.class);
-                } else {
-                    chatRoom = objectMapper.convertValue(cachedData, ChatRoom.class);
-                }
+            ChatRoom chatRoom = chatRoomRedisTemplate.opsForValue().get(key);
 
+            if (chatRoom != null) {
                 log.debug("[ChatRoomCache] Cache hit. roomCode={}", roomCode);
                 return chatRoom;
             }
@@ -127,20 +211,212 @@ public class ChatRoomCacheRepositoryImpl implements ChatRoomCacheRepository {
 
     /**
      * ChatRoom 캐싱
+     * 버전을 올려 이 값보다 먼저 DB 를 조회한 요청이 캐시를 채우지 못하게 한다.
+     * 마지막 메시지/읽음 상태 해시는 덮어쓰지 않고 더 최신인 값만 반영한다.
      */
     @Override
     public void cacheChatRoom(String roomCode, ChatRoom chatRoom) {
         log.trace("[ChatRoomCache] ChatRoom cached. roomCode={}", roomCode);
         try {
-            String key = String.format(ChatRoomKey.ROOM_KEY_FORMAT, roomCode);
-            String jsonValue = objectMapper.writeValueAsString(chatRoom);
-
             // 30분 TTL (ChatRoom 정보는 상대적으로 오래 유지)
-            redisTemplate.opsForValue().set(key, jsonValue, CHAT_ROOM_TTL);
+            executeCacheRoom(roomCode, chatRoom, CACHE_ROOM_SAVE, 0L);
             log.debug("[ChatRoomCache] Success to ChatRoom cached. roomCode={}", roomCode);
 
         } catch (Exception e) {
             log.error("[ChatRoomCache] Fail to caching chat room. roomCode={}, error={}", roomCode, e.getMessage(), e);
         }
     }
+
+    /**
+     * ChatRoom 캐시 버전 조회
+     */
+    @Override
+    public long getCacheVersion(String roomCode) {
+        try {
+            String versionKey = String.format(ChatRoomKey.ROOM_VERSION_KEY_FORMAT, roomCode);
+            Object version = redisTemplate.opsForValue().get(versionKey);
+            return version != null ? Long.parseLong(version.toString()) : 0L;
+
+        } catch (Exception e) {
+            log.debug("[ChatRoomCache] Fail to get chat room cache version. roomCode={}", roomCode, e);
+            return -1L;
+        }
+    }
+
+    /**
+     * ChatRoom 캐싱 (캐시가 비어 있고 버전이 그대로일 때만)
+     * 버전 비교와 캐싱은 스크립트 하나로 처리한다. (채팅방 키는 모두 같은 슬롯)
+     */
+    @Override
+    public boolean cacheChatRoomIfVersion(String roomCode, ChatRoom chatRoom, long version) {
+        log.trace("[ChatRoomCache] ChatRoom cache fill. roomCode={}, version={}", roomCode, version);
+        if (version < 0) {
+            return false;
+        }
+        try {
+            boolean cached = executeCacheRoom(roomCode, chatRoom, CACHE_ROOM_FILL, version);
+            log.debug("[ChatRoomCache] Success to fill ChatRoom cache. roomCode={}, cached={}", roomCode, cached);
+            return cached;
+
+        } catch (Exception e) {
+            log.error("[ChatRoomCache] Fail to fill chat room cache. roomCode={}, error={}",
+                    roomCode, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 캐시된 마지막 메시지/읽음 상태를 채팅방에 합친다
+     * 해시는 바이트 그대로 읽는다. (스크립트가 쓴 값은 값 직렬화기 형식이 아니다)
+     */
+    @Override
+    public boolean mergeCachedActivity(ChatRoom chatRoom) {
+        String roomCode = chatRoom.getRoomCode();
+        try {
+            byte[] key = RedisSerializer.string().serialize(
+                    String.format(ChatRoomKey.ROOM_ACTIVITY_KEY_FORMAT, roomCode));
+            Map<byte[], byte[]> entries = redisTemplate.execute(
+                    (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(key));
+            if (entries == null || entries.isEmpty()) {
+                log.debug("[ChatRoomCache] Cache miss for activity. roomCode={}", roomCode);
+                return false;
+            }
+
+            Map<String, String> fields = new HashMap<>();
+            entries.forEach((field, value) -> fields.put(new String(field, StandardCharsets.UTF_8),
+                    new String(value, StandardCharsets.UTF_8)));
+            Map<String, Long> readStatus = new HashMap<>();
+            fields.forEach((field, value) -> {
+                if (field.startsWith(ACTIVITY_READ_FIELD_PREFIX)) {
+                    readStatus.put(field.substring(ACTIVITY_READ_FIELD_PREFIX.length()), Long.parseLong(value));
+                }
+            });
+            String sentAt = fields.get(ACTIVITY_LAST_MESSAGE_AT_FIELD);
+            chatRoom.mergeActivity(emptyToNull(fields.get(ACTIVITY_LAST_MESSAGE_ID_FIELD)),
+                    emptyToNull(fields.get(ACTIVITY_LAST_MESSAGE_FIELD)),
+                    sentAt != null ? toLocalDateTime(Long.parseLong(sentAt)) : null,
+                    readStatus);
+            return true;
+
+        } catch (Exception e) {
+            log.error("[ChatRoomCache] Fail to merge cached activity. roomCode={}, error={}",
+                    roomCode, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 캐시된 마지막 메시지 갱신 (DB 단일 업데이트 후, 캐시 값은 그대로 두고 해시만)
+     */
+    @Override
+    public void updateCachedLastMessage(String roomCode, String messageId, String content, LocalDateTime sentAt) {
+        updateActivity(roomCode, ACTIVITY_MESSAGE, messageId, nullToEmpty(ChatRoom.truncateMessage(content)),
+                toEpochMilli(sentAt));
+    }
+
+    /**
+     * 캐시된 읽음 상태 갱신 (DB 단일 업데이트 후, 캐시 값은 그대로 두고 해시만)
+     */
+    @Override
+    public void updateCachedReadStatus(String roomCode, String reader, Long messageSeq) {
+        if (messageSeq == null) {
+            return;
+        }
+        updateActivity(roomCode, ACTIVITY_READ, reader, messageSeq);
+    }
+
+    /**
+     * ChatRoom 캐시만 삭제
+     */
+    @Override
+    public void evictCachedChatRoom(String roomCode) {
+        log.trace("[ChatRoomCache] Evict cached chat room. roomCode={}", roomCode);
+        try {
+            increaseCacheVersion(roomCode);
+            redisTemplate.unlink(List.of(String.format(ChatRoomKey.ROOM_KEY_FORMAT, roomCode),
+                    String.format(ChatRoomKey.ROOM_ACTIVITY_KEY_FORMAT, roomCode)));
+            log.debug("[ChatRoomCache] Success to evict cached chat room. roomCode={}", roomCode);
+
+        } catch (Exception e) {
+            log.error("[ChatRoomCache] Fail to evict cached chat room. roomCode={}", roomCode, e);
+        }
+    }
+
+    private boolean executeCacheRoom(String roomCode, ChatRoom chatRoom, String mode, long version) {
+        List<String> keys = List.of(
+                String.format(ChatRoomKey.ROOM_KEY_FORMAT, roomCode),
+                String.format(ChatRoomKey.ROOM_VERSION_KEY_FORMAT, roomCode),
+                String.format(ChatRoomKey.ROOM_ACTIVITY_KEY_FORMAT, roomCode)
+        );
+        List<Object> args = new ArrayList<>();
+        args.add(mode);
+        args.add(String.valueOf(version));
+        args.add(chatRoomCodec.serialize(chatRoom));
+        args.add(String.valueOf(CHAT_ROOM_TTL.toSeconds()));
+        args.add(String.valueOf(CHAT_ROOM_VERSION_TTL.toSeconds()));
+        args.add(nullToEmpty(chatRoom.getLastMessageId()));
+        args.add(nullToEmpty(chatRoom.getLastMessage()));
+        args.add(chatRoom.getLastMessageAt() != null ? String.valueOf(toEpochMilli(chatRoom.getLastMessageAt())) : "");
+        if (chatRoom.getReadStatus() != null) {
+            chatRoom.getReadStatus().forEach((reader, messageSeq) -> {
+                if (messageSeq != null) {
+                    args.add(reader);
+                    args.add(String.valueOf(messageSeq));
+                }
+            });
+        }
+
+        Long cached = redisTemplate.execute(CACHE_ROOM_SCRIPT, SCRIPT_ARG_SERIALIZER, LONG_RESULT_SERIALIZER,
+                keys, args.toArray());
+        return cached != null && cached > 0;
+    }
+
+    private void updateActivity(String roomCode, String kind, Object... values) {
+        log.trace("[ChatRoomCache] Update cached activity. roomCode={}, kind={}", roomCode, kind);
+        try {
+            List<String> keys = List.of(
+                    String.format(ChatRoomKey.ROOM_ACTIVITY_KEY_FORMAT, roomCode),
+                    String.format(ChatRoomKey.ROOM_VERSION_KEY_FORMAT, roomCode)
+            );
+            Object[] args = new Object[values.length + 2];
+            args[0] = kind;
+            args[1] = String.valueOf(CHAT_ROOM_VERSION_TTL.toSeconds());
+            System.arraycopy(values, 0, args, 2, values.length);
+
+            Long updated = redisTemplate.execute(UPDATE_ROOM_ACTIVITY_SCRIPT, SCRIPT_ARG_SERIALIZER,
+                    LONG_RESULT_SERIALIZER, keys, args);
+            log.debug("[ChatRoomCache] Success to update cached activity. roomCode={}, kind={}, updated={}",
+                    roomCode, kind, updated);
+
+        } catch (Exception e) {
+            // 해시를 갱신하지 못하면 오래된 값이 남지 않도록 캐시를 지운다
+            log.warn("[ChatRoomCache] Fail to update cached activity. roomCode={}, kind={}", roomCode, kind, e);
+            evictCachedChatRoom(roomCode);
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 캐시 버전 증가 (채팅방 캐시를 바꾸거나 지우기 전에 호출)
+     */
+    private void increaseCacheVersion(String roomCode) {
+        String versionKey = String.format(ChatRoomKey.ROOM_VERSION_KEY_FORMAT, roomCode);
+        redisTemplate.opsForValue().increment(versionKey);
+        redisTemplate.expire(versionKey, CHAT_ROOM_VERSION_TTL);
+    }
 }
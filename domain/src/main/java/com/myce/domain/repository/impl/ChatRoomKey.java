@@ -1,11 +1,55 @@
 package com.myce.domain.repository.impl;
 
+import com.myce.domain.document.ChatRoom;
+
 public final class ChatRoomKey {
     public static final String ROOM_KEY_PREFIX = "chat:room:";
-    public static final String ROOM_KEY_FORMAT = ROOM_KEY_PREFIX + "%s";
-    public static final String ROOM_RECENT_KEY_FORMAT = ROOM_KEY_PREFIX + "%s:recent";
-    public static final String ROOM_UNREAD_KEY_FORMAT = ROOM_KEY_PREFIX + "%s:unread:%d";
-    public static final String ROOM_LAST_READ_KEY_FORMAT = ROOM_KEY_PREFIX + "%s:lastRead:%d";
-    public static final String USER_BADGE_KEY_FORMAT = "chat:user:%d:badge";
-    public static final String USER_ACTIVE_ROOMS_KEY_FORMAT = "chat:user:%d:activeRooms";
+    // 채팅방 키는 {roomCode} 해시 태그로 묶어 Redis Cluster 에서도 한 슬롯에 두고 스크립트 하나로 다룬다
+    public static final String ROOM_KEY_FORMAT = ROOM_KEY_PREFIX + "{%s}";
+    public static final String ROOM_RECENT_KEY_FORMAT = ROOM_KEY_FORMAT + ":recent";
+    // 최근 메시지를 응답 JSON 조각으로 미리 렌더링한 리스트 (최근 메시지 캐시가 바뀌면 삭제)
+    public static final String ROOM_RECENT_VIEW_KEY_FORMAT = ROOM_KEY_FORMAT + ":recentView";
+    // 최근 메시지 캐시 채우기 임대 (여러 노드 중 한 요청만 MongoDB 를 조회해 채운다)
+    public static final String ROOM_RECENT_FILL_LEASE_KEY_FORMAT = ROOM_KEY_FORMAT + ":recentFillLease";
+    // seq 를 점수로 한 메시지 히스토리 정렬 집합과 메타 해시(하한 seq, 깊이, 크기)
+    public static final String ROOM_HISTORY_KEY_FORMAT = ROOM_KEY_FORMAT + ":history";
+    public static final String ROOM_HISTORY_META_KEY_FORMAT = ROOM_KEY_FORMAT + ":historyMeta";
+    // 마지막 메시지/읽음 상태 해시. 메시지마다 바뀌므로 채팅방 캐시 값과 따로 두고 조회할 때 합친다
+    public static final String ROOM_ACTIVITY_KEY_FORMAT = ROOM_KEY_FORMAT + ":activity";
+    public static final String ROOM_UNREAD_KEY_FORMAT = ROOM_KEY_FORMAT + ":unread:%d";
+    public static final String ROOM_LAST_READ_KEY_FORMAT = ROOM_KEY_FORMAT + ":lastRead:%d";
+    // 채팅방의 사용자별 파생 키(unread, lastRead) 목록. 무효화 시 키 공간을 훑지 않고 이 목록만 지운다
+    public static final String ROOM_KEY_REGISTRY_FORMAT = ROOM_KEY_FORMAT + ":keys";
+    // 채팅방 캐시 버전. 저장/삭제마다 증가하고, DB 조회 결과로 캐시를 채울 때 조회 전 버전과 비교한다 (무효화 시에도 지우지 않는다)
+    public static final String ROOM_VERSION_KEY_FORMAT = ROOM_KEY_FORMAT + ":version";
+    // 사용자/관리자 범위 키는 채팅방 키와 슬롯이 다르므로 채팅방 키와 한 스크립트에서 다루지 않는다
+    // 사용자 키는 {memberId}, 관리자 범위 키는 {scope} 해시 태그로 묶어 수신자 키를 스크립트 하나로 갱신한다
+    public static final String USER_KEY_PREFIX = "chat:user:";
+    public static final String USER_BADGE_KEY_FORMAT = USER_KEY_PREFIX + "{%d}:badge";
+    public static final String USER_ACTIVE_ROOMS_KEY_FORMAT = USER_KEY_PREFIX + "{%d}:activeRooms";
+    public static final String USER_UNREAD_HASH_KEY_FORMAT = USER_KEY_PREFIX + "{%d}:unread";
+    public static final String USER_UNREAD_TOTAL_FIELD = "_total";
+    public static final String ADMIN_KEY_PREFIX = "chat:admin:";
+    public static final String ADMIN_ACTIVE_ROOM_INDEX_KEY_FORMAT = ADMIN_KEY_PREFIX + "{%s}:activeRoomIndex";
+    // 관리자 그룹 미읽음은 범위·샤드마다 해시 하나 (필드=채팅방 코드, 합계 필드=샤드 배지)
+    // 샤드마다 해시 태그가 달라 클러스터 슬롯에 고르게 퍼지고, 채팅방 카운트와 샤드 합계는 한 키에서 함께 바뀐다
+    public static final String ADMIN_UNREAD_HASH_KEY_FORMAT = ADMIN_KEY_PREFIX + "{%s:%d}:unread";
+    // 관리자 그룹 범위 이전 전의 전역 키 (해시 태그 도입 전 이름)
+    public static final String LEGACY_ADMIN_GROUP_BADGE_KEY = USER_KEY_PREFIX + "-1:badge";
+    public static final String LEGACY_ADMIN_GROUP_ACTIVE_ROOMS_KEY = USER_KEY_PREFIX + "-1:activeRooms";
+    public static final String LEGACY_ADMIN_GROUP_UNREAD_HASH_KEY = USER_KEY_PREFIX + "-1:unread";
+    // 관리자 그룹 배지 범위 키 이전 완료 표시 (한 번만 수행)
+    public static final String ADMIN_BADGE_MIGRATION_KEY = "chat:migration:admin-badge-scope";
+    // 해시 태그 없는 이전 키 이름 → 해시 태그 키 이름 이전 완료 표시 (한 번만 수행)
+    public static final String KEY_HASH_TAG_MIGRATION_KEY = "chat:migration:key-hash-tag";
+    // 채팅방 로컬 캐시(L1) 무효화 전파 채널
+    public static final String ROOM_INVALIDATE_CHANNEL = "chat:room:invalidate";
+
+    /**
+     * 채팅방이 속한 관리자 그룹 미읽음 해시 (같은 채팅방은 항상 같은 샤드)
+     */
+    public static String adminUnreadHashKey(String roomCode, int shards) {
+        return String.format(ADMIN_UNREAD_HASH_KEY_FORMAT, ChatRoom.getAdminBadgeScope(roomCode),
+                Math.floorMod(roomCode.hashCode(), Math.max(shards, 1)));
+    }
 }
@@ -0,0 +1,135 @@
+package com.myce.domain.repository.impl;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.dto.UnreadCountCondition;
+import com.myce.domain.repository.ChatMessageBulkInsertException;
+import com.myce.domain.repository.ChatMessageRepository;
+import com.myce.domain.repository.ChatMessageStore;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 메시지 단위 문서 저장소 (chat_messages, 기본 모드)
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.message.store.mode", havingValue = "document", matchIfMissing = true)
+public class DocumentChatMessageStore implements ChatMessageStore {
+
+    private final MongoOperations mongoOperations;
+    private final ChatMessageRepository chatMessageRepository;
+
+    @Override
+    public ChatMessage insert(ChatMessage message) {
+        return mongoOperations.insert(message);
+    }
+
+    @Override
+    public void insertAll(List<ChatMessage> messages) {
+        try {
+            mongoOperations.bulkOps(BulkMode.UNORDERED, ChatMessage.class)
+                    .insert(messages)
+                    .execute();
+        } catch (BulkOperationException e) {
+            Set<Integer> failedIndexes = new HashSet<>();
+            for (BulkWriteError error : e.getErrors()) {
+                failedIndexes.add(error.getIndex());
+            }
+            throw new ChatMessageBulkInsertException(failedIndexes, e);
+        }
+    }
+
+    @Override
+    public List<ChatMessage> findRecentMessages(String roomCode) {
+        return chatMessageRepository.findTop50ByRoomCodeOrderBySentAtDesc(roomCode);
+    }
+
+    @Override
+    public Optional<ChatMessage> findLatestMessage(String roomCode) {
+        return chatMessageRepository.findTop1ByRoomCodeOrderBySentAtDesc(roomCode);
+    }
+
+    @Override
+    public Page<ChatMessage> findPage(String roomCode, Pageable pageable) {
+        return chatMessageRepository.findByRoomCodeOrderBySentAtDesc(roomCode, pageable);
+    }
+
+    @Override
+    public List<ChatMessage> findBefore(String roomCode, Long beforeSeq, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        return beforeSeq == null
+                ? chatMessageRepository.findByRoomCodeOrderBySeqDesc(roomCode, pageable)
+                : chatMessageRepository.findByRoomCodeAndSeqLessThanOrderBySeqDesc(roomCode, beforeSeq, pageable);
+    }
+
+    @Override
+    public List<ChatMessage> findAfter(String roomCode, Long afterSeq, int limit) {
+        return chatMessageRepository.findByRoomCodeAndSeqGreaterThanOrderBySeqAsc(
+                roomCode, afterSeq, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public Long findLastSeq(String roomCode) {
+        return chatMessageRepository.findTop1ByRoomCodeOrderBySeqDesc(roomCode)
+                .map(ChatMessage::getSeq)
+                .orElse(null);
+    }
+
+    @Override
+    public Map<String, Long> findLastSeqByRooms() {
+        Aggregation aggregation = newAggregation(
+                match(where("seq").ne(null)),
+                group("roomCode").max("seq").as("maxSeq")
+        );
+
+        Map<String, Long> lastSeqs = new HashMap<>();
+        for (Document result : mongoOperations.aggregate(aggregation, ChatMessage.class, Document.class)) {
+            lastSeqs.put(result.getString("_id"), ((Number) result.get("maxSeq")).longValue());
+        }
+        return lastSeqs;
+    }
+
+    @Override
+    public Map<String, Long> countUnreadByRooms(List<UnreadCountCondition> conditions) {
+        return chatMessageRepository.countUnreadByRooms(conditions);
+    }
+
+    @Override
+    public void decreaseUnreadCountBeforeSeq(String roomCode, MessageSenderType senderType, Long lastReadSeq) {
+        chatMessageRepository.decreaseUnreadCountBeforeSeq(roomCode, senderType, lastReadSeq);
+    }
+
+    @Override
+    public void decreaseUnreadCount(String roomCode, String messageId) {
+        chatMessageRepository.updateUnreadCountEqualSeq(roomCode, messageId);
+    }
+
+    @Override
+    public long clearUnreadCountBeforeSeq(String roomCode, Collection<MessageSenderType> senderTypes,
+                                          Long lastReadSeq) {
+        return chatMessageRepository.clearUnreadCountBeforeSeq(roomCode, senderTypes, lastReadSeq);
+    }
+}
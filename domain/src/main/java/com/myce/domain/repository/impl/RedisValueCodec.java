@@ -0,0 +1,95 @@
+package com.myce.domain.repository.impl;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.Arrays;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 타입별 Redis 값 코덱
+ * [버전 1바이트][Smile 본문] 형태로 저장한다. 타입을 알고 있으므로 타입 정보 없이 바로 대상 클래스로 읽는다.
+ * <p>
+ * 이전 형식(Jackson JSON 객체, 또는 JSON 문자열 안에 다시 JSON 을 담은 값)도 읽을 수 있어
+ * 배포 직후 남아 있는 캐시는 TTL 이 지나며 자연스럽게 새 형식으로 바뀐다.
+ */
+public class RedisValueCodec<T> implements RedisSerializer<T> {
+
+    public static final byte SMILE_V1 = 0x01;
+
+    private static final byte JSON_OBJECT_START = '{';
+    private static final byte JSON_STRING_START = '"';
+
+    private final Class<T> type;
+    private final ObjectWriter smileWriter;
+    private final ObjectReader smileReader;
+    private final ObjectMapper jsonMapper;
+
+    public RedisValueCodec(Class<T> type) {
+        this.type = type;
+
+        SmileFactory smileFactory = SmileFactory.builder()
+                // 헤더 대신 앞의 버전 바이트로 형식을 구분한다
+                .disable(SmileGenerator.Feature.WRITE_HEADER)
+                .disable(SmileParser.Feature.REQUIRE_HEADER)
+                .build();
+        ObjectMapper smileMapper = configure(new ObjectMapper(smileFactory));
+        this.smileWriter = smileMapper.writerFor(type);
+        this.smileReader = smileMapper.readerFor(type);
+        this.jsonMapper = configure(new ObjectMapper());
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        try {
+            byte[] body = smileWriter.writeValueAsBytes(value);
+            byte[] bytes = new byte[body.length + 1];
+            bytes[0] = SMILE_V1;
+            System.arraycopy(body, 0, bytes, 1, body.length);
+            return bytes;
+        } catch (Exception e) {
+            throw new SerializationException("Could not write " + type.getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return switch (bytes[0]) {
+                case SMILE_V1 -> smileReader.readValue(bytes, 1, bytes.length - 1);
+                case JSON_OBJECT_START -> jsonMapper.readValue(bytes, type);
+                case JSON_STRING_START -> jsonMapper.readValue(jsonMapper.readValue(bytes, String.class), type);
+                default -> throw new SerializationException(
+                        "Unknown format " + bytes[0] + " for " + type.getSimpleName());
+            };
+        } catch (SerializationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SerializationException("Could not read " + type.getSimpleName()
+                    + ", head=" + Arrays.toString(Arrays.copyOf(bytes, Math.min(bytes.length, 4))), e);
+        }
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return type;
+    }
+
+    private static ObjectMapper configure(ObjectMapper objectMapper) {
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return objectMapper;
+    }
+}
@@ -0,0 +1,64 @@
+-- 저장된 메시지를 채팅방 히스토리 캐시(seq 점수 정렬 집합)에 추가 (채팅방마다 한 번씩 실행해 키가 한 슬롯에 있게 한다)
+-- 히스토리에는 하한 seq(floor) 이상 메시지가 빠짐없이 들어 있다. 캐시가 없던 채팅방은 추가한 메시지 중 가장 작은 seq 가 하한이 된다.
+-- 추가 후 깊이/메모리 한도를 넘는 오래된 메시지는 정리하고 하한 seq 를 올린다.
+-- 깊이는 하한 아래 조회가 있을 때 늘어나고(fill-history.lua), 감쇠 주기 동안 늘어나지 않으면 절반씩 줄어든다.
+-- KEYS[1] 히스토리 정렬 집합, KEYS[2] 메타 해시(floor, depth, depthAt, bytes)
+-- ARGV[1] 최소 깊이, ARGV[2] 메모리 한도(바이트), ARGV[3] TTL(초), ARGV[4] 현재 시각(epoch ms), ARGV[5] 깊이 감쇠 주기(ms)
+-- ARGV[6..] {seq, 메시지, seq, 메시지, ...} (seq 오름차순)
+-- 반환: 추가한 메시지 수
+
+local minDepth = tonumber(ARGV[1])
+local maxBytes = tonumber(ARGV[2])
+local now = tonumber(ARGV[4])
+local decay = tonumber(ARGV[5])
+
+local function trim(historyKey, metaKey, depth, low)
+    local bytes = tonumber(redis.call('HGET', metaKey, 'bytes') or '0')
+    local size = redis.call('ZCARD', historyKey)
+    local trimmed = false
+    while size > 1 and (size > depth or bytes > maxBytes) do
+        local popped = redis.call('ZPOPMIN', historyKey)
+        bytes = bytes - #popped[1]
+        size = size - 1
+        trimmed = true
+    end
+    if trimmed then
+        local lowest = redis.call('ZRANGE', historyKey, 0, 0, 'WITHSCORES')
+        redis.call('HSET', metaKey, 'floor', math.max(tonumber(low), tonumber(lowest[2])),
+                'bytes', math.max(bytes, 0))
+    end
+end
+
+local historyKey = KEYS[1]
+local metaKey = KEYS[2]
+
+local low = redis.call('HGET', metaKey, 'floor')
+if not low then
+    redis.call('DEL', historyKey)
+    low = ARGV[6]
+    redis.call('HSET', metaKey, 'floor', low, 'depth', minDepth, 'depthAt', now, 'bytes', 0)
+end
+
+local added = 0
+local bytes = 0
+for index = 6, #ARGV, 2 do
+    local member = ARGV[index + 1]
+    if redis.call('ZADD', historyKey, ARGV[index], member) == 1 then
+        bytes = bytes + #member
+        added = added + 1
+    end
+end
+redis.call('HINCRBY', metaKey, 'bytes', bytes)
+
+local depth = tonumber(redis.call('HGET', metaKey, 'depth') or ARGV[1])
+local depthAt = tonumber(redis.call('HGET', metaKey, 'depthAt') or ARGV[4])
+if depth > minDepth and now - depthAt > decay then
+    depth = math.max(minDepth, math.floor(depth / 2))
+    redis.call('HSET', metaKey, 'depth', depth, 'depthAt', now)
+end
+
+trim(historyKey, metaKey, depth, low)
+redis.call('EXPIRE', historyKey, ARGV[3])
+redis.call('EXPIRE', metaKey, ARGV[3])
+
+return added
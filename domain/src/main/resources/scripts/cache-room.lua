@@ -0,0 +1,44 @@
+-- 채팅방 캐시 저장 (채팅방 값과 마지막 메시지/읽음 상태 해시를 함께)
+-- fill: DB 를 조회하기 전에 읽은 캐시 버전이 그대로일 때만 비어 있는 캐시를 채운다
+-- save: 버전을 올리고 저장 후 값으로 덮어쓴다
+-- 마지막 메시지/읽음 상태는 단일 업데이트로 앞으로만 바뀌므로 해시에 있는 값보다 최신일 때만 반영한다
+-- KEYS[1] 채팅방 캐시, KEYS[2] 캐시 버전, KEYS[3] 마지막 메시지/읽음 상태 해시
+-- ARGV[1] 방식(fill/save), ARGV[2] DB 조회 전 캐시 버전(fill), ARGV[3] 채팅방 값, ARGV[4] TTL(초), ARGV[5] 버전 TTL(초)
+-- ARGV[6] 마지막 메시지 ID, ARGV[7] 마지막 메시지, ARGV[8] 마지막 메시지 시각(ms, 없으면 빈 문자열)
+-- ARGV[9..] 읽음 상태 (읽은 사람, seq) 쌍
+-- 반환: 채팅방 값 저장 여부(1/0)
+
+local cached = 0
+if ARGV[1] == 'fill' then
+    local version = redis.call('GET', KEYS[2]) or '0'
+    if version ~= ARGV[2] then
+        return 0
+    end
+    if redis.call('SET', KEYS[1], ARGV[3], 'NX', 'EX', ARGV[4]) then
+        cached = 1
+    end
+else
+    redis.call('INCR', KEYS[2])
+    redis.call('EXPIRE', KEYS[2], ARGV[5])
+    redis.call('SET', KEYS[1], ARGV[3], 'EX', ARGV[4])
+    cached = 1
+end
+
+-- 메시지/읽음 기록이 없는 채팅방도 해시가 있어야 캐시 히트로 본다
+redis.call('HSETNX', KEYS[3], '_loaded', '1')
+if ARGV[8] ~= '' then
+    local current = tonumber(redis.call('HGET', KEYS[3], 'lastMessageAt') or '-1')
+    if tonumber(ARGV[8]) > current then
+        redis.call('HSET', KEYS[3], 'lastMessageId', ARGV[6], 'lastMessage', ARGV[7], 'lastMessageAt', ARGV[8])
+    end
+end
+for i = 9, #ARGV, 2 do
+    local field = 'read:' .. ARGV[i]
+    local current = tonumber(redis.call('HGET', KEYS[3], field) or '-1')
+    if tonumber(ARGV[i + 1]) > current then
+        redis.call('HSET', KEYS[3], field, ARGV[i + 1])
+    end
+end
+redis.call('EXPIRE', KEYS[3], ARGV[4])
+
+return cached
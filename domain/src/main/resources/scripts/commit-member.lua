@@ -0,0 +1,36 @@
+-- 메시지 저장 후 발신자/수신자 한 명의 키를 한 번에 처리
+-- 사용자 키는 {memberId}, 관리자 범위 키는 {scope} 해시 태그를 가지므로 Redis Cluster 에서도 한 슬롯에서 실행된다.
+-- 관리자 그룹 미읽음 샤드 해시는 범위 키와 슬롯이 다르므로 이 스크립트에서 활성 채팅방 인덱스와 함께 다루지 않는다.
+-- KEYS 는 카운터 키(ARGV[1] 이 none 이 아닐 때), 활성 채팅방 키(ARGV[2] 가 none 이 아닐 때) 순서로 넘긴다.
+-- ARGV[1] 카운터 종류(none/badge/hash), ARGV[2] 활성 채팅방 종류(none/set/index)
+-- ARGV[3] 활성 채팅방 값(값 직렬화기와 같은 JSON), ARGV[4] 미읽음 해시 필드(채팅방 코드), ARGV[5] 합계 필드
+-- ARGV[6] TTL(초), ARGV[7] 현재 시각(ms)
+-- 반환: {미읽음 카운트, 배지 카운트, 활성 채팅방 추가 여부(1/0)} (처리하지 않은 값은 -1)
+
+local unread = -1
+local badge = -1
+local added = -1
+local keyIndex = 1
+
+if ARGV[1] == 'badge' then
+    badge = redis.call('INCR', KEYS[keyIndex])
+    redis.call('EXPIRE', KEYS[keyIndex], ARGV[6])
+    keyIndex = keyIndex + 1
+elseif ARGV[1] == 'hash' then
+    unread = redis.call('HINCRBY', KEYS[keyIndex], ARGV[4], 1)
+    badge = redis.call('HINCRBY', KEYS[keyIndex], ARGV[5], 1)
+    redis.call('EXPIRE', KEYS[keyIndex], ARGV[6])
+    keyIndex = keyIndex + 1
+end
+
+if ARGV[2] == 'set' then
+    added = redis.call('SADD', KEYS[keyIndex], ARGV[3])
+    redis.call('EXPIRE', KEYS[keyIndex], ARGV[6])
+elseif ARGV[2] == 'index' then
+    local now = tonumber(ARGV[7])
+    added = redis.call('ZADD', KEYS[keyIndex], now, ARGV[3])
+    redis.call('ZREMRANGEBYSCORE', KEYS[keyIndex], '-inf', now - tonumber(ARGV[6]) * 1000 - 1)
+    redis.call('EXPIRE', KEYS[keyIndex], ARGV[6])
+end
+
+return {unread, badge, added}
@@ -0,0 +1,26 @@
+-- 메시지 저장 후 채팅방 키의 Redis 부가 작업을 한 번에 처리
+-- 채팅방 키는 모두 {roomCode} 해시 태그를 가지므로 Redis Cluster 에서도 한 슬롯에서 실행된다.
+-- 발신자/수신자 키(활성 채팅방, 배지, 사용자 미읽음 해시)는 슬롯이 다르므로 commit-member.lua 로 따로 처리한다.
+-- KEYS[1] 최근 메시지 리스트, KEYS[2] 최근 메시지 응답 조각, KEYS[3] 채팅방 파생 키 목록, KEYS[4] 수신자 미읽음 카운트
+-- ARGV[1] 메시지, ARGV[2] 최근 메시지 최대 개수, ARGV[3] 캐시 TTL(초)
+-- ARGV[4] 수신자 미읽음 카운트 증가 여부(1/0), ARGV[5] 수신자 미읽음 키 이름(파생 키 목록 값)
+-- 반환: {최근 메시지 수, 미읽음 카운트} (증가하지 않았으면 -1)
+
+local recentSize = redis.call('LPUSH', KEYS[1], ARGV[1])
+redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+redis.call('DEL', KEYS[2])
+if recentSize > tonumber(ARGV[2]) then
+    recentSize = tonumber(ARGV[2])
+end
+
+if ARGV[4] ~= '1' then
+    return {recentSize, -1}
+end
+
+local unread = redis.call('INCRBY', KEYS[4], 1)
+redis.call('EXPIRE', KEYS[4], ARGV[3])
+redis.call('SADD', KEYS[3], ARGV[5])
+redis.call('EXPIRE', KEYS[3], ARGV[3])
+
+return {recentSize, unread}
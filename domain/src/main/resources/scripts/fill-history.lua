@@ -0,0 +1,57 @@
+-- 히스토리 캐시를 하한 seq 아래로 확장 (MongoDB 조회 결과로 채움)
+-- 조회 시점의 하한 seq 가 그대로일 때만 채워, 그 사이 정리/무효화된 캐시에 빠진 구간이 생기지 않게 한다.
+-- 하한 아래까지 조회했다는 것은 그만큼 깊은 히스토리가 필요하다는 뜻이므로 깊이를 최대 깊이까지 늘린다.
+-- KEYS[1] 히스토리 정렬 집합, KEYS[2] 메타 해시(floor, depth, depthAt, bytes)
+-- ARGV[1] 조회 시점 하한 seq (빈 값이면 캐시가 없을 때만 새로 채운다), ARGV[2] 새 하한 seq
+-- ARGV[3] 최소 깊이, ARGV[4] 최대 깊이, ARGV[5] 메모리 한도(바이트), ARGV[6] TTL(초), ARGV[7] 현재 시각(epoch ms)
+-- ARGV[8..] seq, 메시지 쌍
+-- 반환: 추가한 메시지 수 (하한 seq 가 달라졌으면 -1)
+
+local minDepth = tonumber(ARGV[3])
+local maxBytes = tonumber(ARGV[5])
+
+local low = redis.call('HGET', KEYS[2], 'floor')
+if ARGV[1] == '' then
+    if low then
+        return -1
+    end
+    redis.call('DEL', KEYS[1])
+    redis.call('HSET', KEYS[2], 'depth', minDepth, 'bytes', 0)
+elseif not low or tonumber(low) ~= tonumber(ARGV[1]) then
+    return -1
+end
+
+local newLow = tonumber(ARGV[2])
+if low and tonumber(low) < newLow then
+    newLow = tonumber(low)
+end
+
+local bytes = tonumber(redis.call('HGET', KEYS[2], 'bytes') or '0')
+local added = 0
+for i = 8, #ARGV, 2 do
+    if redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) == 1 then
+        bytes = bytes + #ARGV[i + 1]
+        added = added + 1
+    end
+end
+
+local depth = math.max(tonumber(redis.call('HGET', KEYS[2], 'depth') or ARGV[3]), minDepth)
+local size = redis.call('ZCARD', KEYS[1])
+depth = math.min(math.max(depth, size), tonumber(ARGV[4]))
+redis.call('HSET', KEYS[2], 'floor', newLow, 'depth', depth, 'depthAt', ARGV[7], 'bytes', bytes)
+
+local trimmed = false
+while size > 1 and (size > depth or bytes > maxBytes) do
+    local popped = redis.call('ZPOPMIN', KEYS[1])
+    bytes = bytes - #popped[1]
+    size = size - 1
+    trimmed = true
+end
+if trimmed then
+    local lowest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+    redis.call('HSET', KEYS[2], 'floor', math.max(newLow, tonumber(lowest[2])), 'bytes', math.max(bytes, 0))
+end
+
+redis.call('EXPIRE', KEYS[1], ARGV[6])
+redis.call('EXPIRE', KEYS[2], ARGV[6])
+return added
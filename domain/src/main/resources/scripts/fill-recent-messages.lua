@@ -0,0 +1,25 @@
+-- 최근 메시지 캐시 채우기 (기존 리스트를 한 번에 교체)
+-- 스크립트 안에서 지우고 다시 채우므로 다른 요청은 비어 있거나 일부만 채워진 리스트를 보지 않는다.
+-- 강제 교체가 아니면 채우기를 시작할 때 본 첫 메시지가 그대로일 때만 교체해, 그 사이 추가된 메시지를 덮어쓰지 않는다.
+-- KEYS[1] 최근 메시지 리스트, KEYS[2] 최근 메시지 응답 조각, KEYS[3] 채우기 임대 키
+-- ARGV[1] 시작 시점 첫 메시지 (빈 값이면 캐시가 없었음), ARGV[2] 캐시 TTL(초), ARGV[3] 임대 토큰 (빈 값이면 임대 없음)
+-- ARGV[4] 강제 교체 여부(1/0), ARGV[5..] 메시지 (최신 메시지부터)
+-- 반환: 교체 여부(1/0)
+
+local head = redis.call('LINDEX', KEYS[1], 0)
+local filled = 0
+if ARGV[4] == '1' or (ARGV[1] == '' and not head) or head == ARGV[1] then
+    redis.call('DEL', KEYS[1], KEYS[2])
+    for i = 5, #ARGV do
+        redis.call('RPUSH', KEYS[1], ARGV[i])
+    end
+    if #ARGV >= 5 then
+        redis.call('EXPIRE', KEYS[1], ARGV[2])
+    end
+    filled = 1
+end
+
+if ARGV[3] ~= '' and redis.call('GET', KEYS[3]) == ARGV[3] then
+    redis.call('DEL', KEYS[3])
+end
+return filled
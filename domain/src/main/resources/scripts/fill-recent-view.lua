@@ -0,0 +1,16 @@
+-- 최근 메시지 응답 조각 캐시 채우기
+-- 최근 메시지 캐시의 첫 메시지가 조각을 만든 기준 메시지와 같을 때만 채워, 그 사이 추가된 메시지가 빠진 조각이 남지 않게 한다
+-- KEYS[1] 최근 메시지 리스트, KEYS[2] 응답 조각 리스트
+-- ARGV[1] 기준 메시지(최근 메시지 캐시와 같은 인코딩), ARGV[2] TTL(초), ARGV[3..] 응답 조각(최신 메시지부터)
+-- 반환: 채운 조각 수 (기준 메시지가 다르면 0)
+
+if redis.call('LINDEX', KEYS[1], 0) ~= ARGV[1] then
+    return 0
+end
+
+redis.call('DEL', KEYS[2])
+for i = 3, #ARGV do
+    redis.call('RPUSH', KEYS[2], ARGV[i])
+end
+redis.call('EXPIRE', KEYS[2], ARGV[2])
+return #ARGV - 2
@@ -0,0 +1,24 @@
+-- 히스토리 캐시 구간 조회
+-- 하한 seq(floor) 아래 메시지는 빠진 구간이 있을 수 있으므로 before 조회는 하한까지만 읽는다.
+-- KEYS[1] 히스토리 정렬 집합, KEYS[2] 메타 해시
+-- ARGV[1] 방향(before/after), ARGV[2] 기준 seq (before 에서 빈 값이면 최신 메시지부터), ARGV[3] 최대 개수
+-- 반환: {하한 seq, 메시지...} (before 는 seq 내림차순, after 는 오름차순), 캐시가 없으면 빈 배열
+
+local low = redis.call('HGET', KEYS[2], 'floor')
+if not low then
+    return {}
+end
+
+local members
+if ARGV[1] == 'before' then
+    local max = '+inf'
+    if ARGV[2] ~= '' then
+        max = '(' .. ARGV[2]
+    end
+    members = redis.call('ZREVRANGEBYSCORE', KEYS[1], max, low, 'LIMIT', 0, ARGV[3])
+else
+    members = redis.call('ZRANGEBYSCORE', KEYS[1], '(' .. ARGV[2], '+inf', 'LIMIT', 0, ARGV[3])
+end
+
+table.insert(members, 1, low)
+return members
@@ -0,0 +1,8 @@
+-- 임대 해제 (임대 토큰이 같을 때만 삭제해 다른 요청이 다시 잡은 임대는 건드리지 않는다)
+-- KEYS[1] 임대 키, ARGV[1] 임대 토큰
+-- 반환: 삭제 여부(1/0)
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
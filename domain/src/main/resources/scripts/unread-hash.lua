@@ -0,0 +1,23 @@
+-- 사용자별 미읽음 해시의 채팅방 카운트 변경 (합계 필드를 함께 조정)
+-- KEYS[1] 사용자 미읽음 해시
+-- ARGV[1] 채팅방 코드(필드), ARGV[2] 연산(set/incr), ARGV[3] 값, ARGV[4] TTL(초), ARGV[5] 합계 필드
+-- 반환: {채팅방 미읽음 카운트, 합계}
+
+local previous = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+local value = tonumber(ARGV[3])
+if ARGV[2] == 'incr' then
+    value = previous + value
+end
+if value < 0 then
+    value = 0
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], value)
+local total = redis.call('HINCRBY', KEYS[1], ARGV[5], value - previous)
+if total < 0 then
+    total = 0
+    redis.call('HSET', KEYS[1], ARGV[5], 0)
+end
+redis.call('EXPIRE', KEYS[1], ARGV[4])
+
+return {value, total}
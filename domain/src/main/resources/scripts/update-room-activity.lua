@@ -0,0 +1,31 @@
+-- 마지막 메시지/읽음 상태 해시 갱신 (DB 단일 업데이트 후)
+-- 해시가 있으면 가지고 있는 값보다 최신일 때만 반영한다.
+-- 해시가 없으면 채우지 않고 캐시 버전만 올려, 이 업데이트 전에 DB 를 조회한 요청이 오래된 값으로 캐시를 채우지 못하게 한다
+-- KEYS[1] 마지막 메시지/읽음 상태 해시, KEYS[2] 캐시 버전
+-- ARGV[1] 종류(message/read), ARGV[2] 버전 TTL(초)
+-- message: ARGV[3] 메시지 ID, ARGV[4] 메시지, ARGV[5] 전송 시각(ms)
+-- read: ARGV[3] 읽은 사람, ARGV[4] seq
+-- 반환: 반영 여부(1/0)
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    redis.call('INCR', KEYS[2])
+    redis.call('EXPIRE', KEYS[2], ARGV[2])
+    return 0
+end
+
+if ARGV[1] == 'message' then
+    local current = tonumber(redis.call('HGET', KEYS[1], 'lastMessageAt') or '-1')
+    if tonumber(ARGV[5]) <= current then
+        return 0
+    end
+    redis.call('HSET', KEYS[1], 'lastMessageId', ARGV[3], 'lastMessage', ARGV[4], 'lastMessageAt', ARGV[5])
+    return 1
+end
+
+local field = 'read:' .. ARGV[3]
+local current = tonumber(redis.call('HGET', KEYS[1], field) or '-1')
+if tonumber(ARGV[4]) <= current then
+    return 0
+end
+redis.call('HSET', KEYS[1], field, ARGV[4])
+return 1
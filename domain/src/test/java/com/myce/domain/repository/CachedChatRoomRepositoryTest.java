@@ -0,0 +1,165 @@
+package com.myce.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.repository.impl.RedisValueCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CachedChatRoomRepositoryTest {
+
+    private static final String ROOM_CODE = "admin-7-10";
+    private static final String OTHER_ROOM_CODE = "admin-7-11";
+
+    private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+    private final ChatRoomCacheRepository chatRoomCacheRepository = mock(ChatRoomCacheRepository.class);
+
+    private CachedChatRoomRepository cachedChatRoomRepository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        cachedChatRoomRepository = new CachedChatRoomRepository(chatRoomRepository, chatRoomCacheRepository,
+                mock(RedisTemplate.class), new RedisValueCodec<>(ChatRoom.class),
+                mock(RedisMessageListenerContainer.class),
+                new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class), true, 100, 60);
+        when(chatRoomCacheRepository.getCacheVersion(any())).thenReturn(3L);
+        when(chatRoomCacheRepository.mergeCachedActivity(any())).thenReturn(true);
+    }
+
+    @Test
+    void 조회_도중_다른_채팅방이_무효화되어도_L1_을_채운다() {
+        when(chatRoomRepository.findByRoomCode(ROOM_CODE)).thenAnswer(invocation -> {
+            cachedChatRoomRepository.evict(OTHER_ROOM_CODE);
+            return Optional.of(room(ROOM_CODE));
+        });
+
+        cachedChatRoomRepository.findByRoomCode(ROOM_CODE);
+        cachedChatRoomRepository.findByRoomCode(ROOM_CODE);
+
+        verify(chatRoomRepository, times(1)).findByRoomCode(ROOM_CODE);
+    }
+
+    @Test
+    void 조회_도중_같은_채팅방이_무효화되면_L1_을_채우지_않는다() {
+        when(chatRoomRepository.findByRoomCode(ROOM_CODE))
+                .thenAnswer(invocation -> {
+                    cachedChatRoomRepository.evict(ROOM_CODE);
+                    return Optional.of(room(ROOM_CODE));
+                })
+                .thenReturn(Optional.of(room(ROOM_CODE)));
+
+        cachedChatRoomRepository.findByRoomCode(ROOM_CODE);
+        cachedChatRoomRepository.findByRoomCode(ROOM_CODE);
+
+        verify(chatRoomRepository, times(2)).findByRoomCode(ROOM_CODE);
+    }
+
+    @Test
+    void DB_조회_결과는_조회_전에_읽은_버전으로_L2_를_채운다() {
+        when(chatRoomRepository.findByRoomCode(ROOM_CODE)).thenReturn(Optional.of(room(ROOM_CODE)));
+
+        cachedChatRoomRepository.findByRoomCode(ROOM_CODE);
+
+        verify(chatRoomCacheRepository).cacheChatRoomIfVersion(eq(ROOM_CODE), any(ChatRoom.class), eq(3L));
+    }
+
+    @Test
+    void 기존_채팅방_저장은_상태만_반영하고_저장_후_값을_캐시한다() {
+        ChatRoom snapshot = room(ROOM_CODE);
+        ChatRoom stored = room(ROOM_CODE);
+        stored.updateReadStatus("ADMIN", 20L);
+        ReflectionTestUtils.setField(snapshot, "id", "room-id");
+        when(chatRoomRepository.updateRoomState(snapshot)).thenReturn(stored);
+
+        ChatRoom saved = cachedChatRoomRepository.save(snapshot);
+
+        assertThat(saved).isSameAs(stored);
+        verify(chatRoomRepository, never()).save(any(ChatRoom.class));
+        verify(chatRoomRepository, never()).saveAll(any(List.class));
+        verify(chatRoomCacheRepository).cacheChatRoom(ROOM_CODE, stored);
+    }
+
+    @Test
+    void 새_채팅방은_문서_전체를_저장한다() {
+        ChatRoom newRoom = room(ROOM_CODE);
+        when(chatRoomRepository.save(newRoom)).thenReturn(newRoom);
+
+        cachedChatRoomRepository.save(newRoom);
+
+        verify(chatRoomRepository).save(newRoom);
+        verify(chatRoomRepository, never()).updateRoomState(any());
+    }
+
+    @Test
+    void 저장할_채팅방이_없으면_캐시를_삭제한다() {
+        ChatRoom snapshot = room(ROOM_CODE);
+        ReflectionTestUtils.setField(snapshot, "id", "room-id");
+
+        cachedChatRoomRepository.save(snapshot);
+
+        verify(chatRoomCacheRepository).evictCachedChatRoom(ROOM_CODE);
+        verify(chatRoomCacheRepository, never()).cacheChatRoom(any(), any());
+        verify(chatRoomCacheRepository, never()).cacheChatRoomIfVersion(any(), any(), anyLong());
+    }
+
+    @Test
+    void 마지막_메시지_갱신은_캐시를_지우지_않고_해시만_갱신한다() {
+        LocalDateTime sentAt = LocalDateTime.now();
+        when(chatRoomRepository.updateLastMessage(ROOM_CODE, "message-id", "안녕하세요", sentAt)).thenReturn(true);
+
+        cachedChatRoomRepository.updateLastMessage(ROOM_CODE, "message-id", "안녕하세요", sentAt);
+
+        verify(chatRoomCacheRepository).updateCachedLastMessage(ROOM_CODE, "message-id", "안녕하세요", sentAt);
+        verify(chatRoomCacheRepository, never()).evictCachedChatRoom(any());
+    }
+
+    @Test
+    void 읽음_상태_갱신은_캐시를_지우지_않고_해시만_갱신한다() {
+        when(chatRoomRepository.findByRoomCode(ROOM_CODE)).thenReturn(Optional.of(room(ROOM_CODE)));
+        cachedChatRoomRepository.findByRoomCode(ROOM_CODE);
+
+        cachedChatRoomRepository.updateReadStatus(ROOM_CODE, "ADMIN", 20L);
+        cachedChatRoomRepository.findByRoomCode(ROOM_CODE);
+
+        verify(chatRoomCacheRepository).updateCachedReadStatus(ROOM_CODE, "ADMIN", 20L);
+        verify(chatRoomCacheRepository, never()).evictCachedChatRoom(any());
+        verify(chatRoomRepository, times(1)).findByRoomCode(ROOM_CODE);
+    }
+
+    @Test
+    void 캐시된_해시가_없으면_L1_값을_쓰지_않고_DB_에서_읽는다() {
+        when(chatRoomRepository.findByRoomCode(ROOM_CODE)).thenReturn(Optional.of(room(ROOM_CODE)));
+        cachedChatRoomRepository.findByRoomCode(ROOM_CODE);
+        when(chatRoomCacheRepository.mergeCachedActivity(any())).thenReturn(false);
+
+        cachedChatRoomRepository.findByRoomCode(ROOM_CODE);
+
+        verify(chatRoomRepository, times(2)).findByRoomCode(ROOM_CODE);
+    }
+
+    private static ChatRoom room(String roomCode) {
+        return ChatRoom.builder()
+                .roomCode(roomCode)
+                .memberId(10L)
+                .expoId(7L)
+                .build();
+    }
+}
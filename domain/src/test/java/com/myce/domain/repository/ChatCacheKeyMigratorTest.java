@@ -0,0 +1,139 @@
+package com.myce.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.myce.domain.repository.impl.ChatRoomKey;
+import com.myce.domain.support.RedisTestSupport;
+import java.time.Duration;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ChatCacheKeyMigratorTest extends RedisTestSupport {
+
+    private static final String ROOM_CODE = "admin-7-10";
+    private static final Long USER_ID = 10L;
+    private static final String SCOPE = "expo:7";
+
+    private ChatCacheKeyMigrator migrator;
+
+    @BeforeEach
+    void setUp() {
+        migrator = new ChatCacheKeyMigrator(redisTemplate, 100, true, 8);
+    }
+
+    @Test
+    void 이전_미읽음_카운터는_새_이름의_값에_더해지고_파생_키_목록에_등록된다() {
+        String unreadKey = String.format(ChatRoomKey.ROOM_UNREAD_KEY_FORMAT, ROOM_CODE, USER_ID);
+        redisTemplate.opsForValue().set("chat:room:" + ROOM_CODE + ":unread:" + USER_ID, 3L, Duration.ofDays(1));
+        redisTemplate.opsForValue().set(unreadKey, 2L);
+
+        migrator.migrateAll();
+
+        assertThat(redisTemplate.hasKey("chat:room:" + ROOM_CODE + ":unread:" + USER_ID)).isFalse();
+        assertThat(redisTemplate.opsForValue().get(unreadKey).toString()).isEqualTo("5");
+        assertThat(redisTemplate.opsForSet().isMember(
+                String.format(ChatRoomKey.ROOM_KEY_REGISTRY_FORMAT, ROOM_CODE), unreadKey)).isTrue();
+        assertThat(redisTemplate.getExpire(unreadKey)).isPositive();
+    }
+
+    @Test
+    void 마지막_읽은_seq는_새_이름에_값이_있으면_유지한다() {
+        String lastReadKey = String.format(ChatRoomKey.ROOM_LAST_READ_KEY_FORMAT, ROOM_CODE, USER_ID);
+        redisTemplate.opsForValue().set("chat:room:" + ROOM_CODE + ":lastRead:" + USER_ID, 10L);
+        redisTemplate.opsForValue().set(lastReadKey, 12L);
+
+        migrator.migrateAll();
+
+        assertThat(redisTemplate.opsForValue().get(lastReadKey).toString()).isEqualTo("12");
+    }
+
+    @Test
+    void 채팅방_캐시_키는_옮기지_않고_지운다() {
+        redisTemplate.opsForList().leftPush("chat:room:" + ROOM_CODE + ":recent", "message");
+
+        migrator.migrateAll();
+
+        assertThat(redisTemplate.hasKey("chat:room:" + ROOM_CODE + ":recent")).isFalse();
+        assertThat(redisTemplate.hasKey(String.format(ChatRoomKey.ROOM_RECENT_KEY_FORMAT, ROOM_CODE))).isFalse();
+    }
+
+    @Test
+    void 사용자_배지와_활성_채팅방과_미읽음_해시를_새_이름으로_합친다() {
+        redisTemplate.opsForValue().set("chat:user:" + USER_ID + ":badge", 4L);
+        redisTemplate.opsForSet().add("chat:user:" + USER_ID + ":activeRooms", ROOM_CODE);
+        redisTemplate.opsForHash().put("chat:user:" + USER_ID + ":unread", ROOM_CODE, 4L);
+        redisTemplate.opsForHash().put("chat:user:" + USER_ID + ":unread", ChatRoomKey.USER_UNREAD_TOTAL_FIELD, 4L);
+        String hashKey = String.format(ChatRoomKey.USER_UNREAD_HASH_KEY_FORMAT, USER_ID);
+        redisTemplate.opsForHash().increment(hashKey, ChatRoomKey.USER_UNREAD_TOTAL_FIELD, 1);
+
+        migrator.migrateAll();
+
+        assertThat(redisTemplate.opsForValue().get(String.format(ChatRoomKey.USER_BADGE_KEY_FORMAT, USER_ID))
+                .toString()).isEqualTo("4");
+        assertThat(redisTemplate.opsForSet().isMember(
+                String.format(ChatRoomKey.USER_ACTIVE_ROOMS_KEY_FORMAT, USER_ID), ROOM_CODE)).isTrue();
+        assertThat(redisTemplate.opsForHash().get(hashKey, ROOM_CODE).toString()).isEqualTo("4");
+        assertThat(redisTemplate.opsForHash().get(hashKey, ChatRoomKey.USER_UNREAD_TOTAL_FIELD).toString())
+                .isEqualTo("5");
+        assertThat(redisTemplate.hasKey("chat:user:" + USER_ID + ":badge")).isFalse();
+    }
+
+    @Test
+    void 관리자_범위_인덱스는_옮기고_미읽음_샤드와_관리자_그룹_전역_키는_그대로_둔다() {
+        redisTemplate.opsForZSet().add("chat:admin:" + SCOPE + ":activeRoomIndex", ROOM_CODE, 1000);
+        String shardKey = ChatRoomKey.adminUnreadHashKey(ROOM_CODE, 8);
+        redisTemplate.opsForHash().put(shardKey, ROOM_CODE, 2L);
+        redisTemplate.opsForSet().add(ChatRoomKey.LEGACY_ADMIN_GROUP_ACTIVE_ROOMS_KEY, ROOM_CODE);
+
+        migrator.migrateAll();
+
+        assertThat(redisTemplate.opsForZSet().score(
+                String.format(ChatRoomKey.ADMIN_ACTIVE_ROOM_INDEX_KEY_FORMAT, SCOPE), ROOM_CODE)).isEqualTo(1000.0);
+        assertThat(redisTemplate.hasKey("chat:admin:" + SCOPE + ":activeRoomIndex")).isFalse();
+        assertThat(redisTemplate.hasKey(shardKey)).isTrue();
+        assertThat(redisTemplate.hasKey(ChatRoomKey.LEGACY_ADMIN_GROUP_ACTIVE_ROOMS_KEY)).isTrue();
+    }
+
+    @Test
+    void 관리자_그룹_채팅방_미읽음은_범위_샤드_해시로_옮긴다() {
+        redisTemplate.opsForValue().set("chat:room:" + ROOM_CODE + ":unread:-1", 3L);
+        redisTemplate.opsForHash().put("chat:admin:" + SCOPE + ":unread", "admin-7-11", 2L);
+        redisTemplate.opsForHash().put("chat:admin:" + SCOPE + ":unread", ChatRoomKey.USER_UNREAD_TOTAL_FIELD, 2L);
+
+        migrator.migrateAll();
+
+        String shardKey = ChatRoomKey.adminUnreadHashKey(ROOM_CODE, 8);
+        String otherShardKey = ChatRoomKey.adminUnreadHashKey("admin-7-11", 8);
+        assertThat(redisTemplate.opsForHash().get(shardKey, ROOM_CODE).toString()).isEqualTo("3");
+        assertThat(redisTemplate.opsForHash().get(otherShardKey, "admin-7-11").toString()).isEqualTo("2");
+        long total = Stream.of(shardKey, otherShardKey).distinct()
+                .mapToLong(key -> Long.parseLong(redisTemplate.opsForHash()
+                        .get(key, ChatRoomKey.USER_UNREAD_TOTAL_FIELD).toString()))
+                .sum();
+        assertThat(total).isEqualTo(5L);
+        assertThat(redisTemplate.hasKey(String.format(ChatRoomKey.ROOM_UNREAD_KEY_FORMAT, ROOM_CODE, -1L))).isFalse();
+        assertThat(redisTemplate.hasKey("chat:admin:" + SCOPE + ":unread")).isFalse();
+    }
+
+    @Test
+    void 기본_설정에서는_이전하지_않는다() {
+        redisTemplate.opsForValue().set("chat:user:" + USER_ID + ":badge", 4L);
+
+        new ChatCacheKeyMigrator(redisTemplate, 100, false, 8).migrateOnStartup();
+
+        assertThat(redisTemplate.hasKey("chat:user:" + USER_ID + ":badge")).isTrue();
+        assertThat(redisTemplate.hasKey(ChatRoomKey.KEY_HASH_TAG_MIGRATION_KEY)).isFalse();
+    }
+
+    @Test
+    void 완료된_이전은_다시_수행하지_않는다() {
+        migrator.migrateOnStartup();
+        redisTemplate.opsForValue().set("chat:user:" + USER_ID + ":badge", 4L);
+
+        migrator.migrateOnStartup();
+
+        assertThat(redisTemplate.opsForValue().get(ChatRoomKey.KEY_HASH_TAG_MIGRATION_KEY)).isEqualTo("done");
+        assertThat(redisTemplate.hasKey("chat:user:" + USER_ID + ":badge")).isTrue();
+    }
+}
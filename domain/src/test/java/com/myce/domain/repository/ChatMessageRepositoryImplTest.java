@@ -0,0 +1,102 @@
+package com.myce.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.dto.UnreadCountCondition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers(disabledWithoutDocker = true)
+class ChatMessageRepositoryImplTest {
+
+    @Container
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static final Set<MessageSenderType> USER_READABLE =
+            Set.of(MessageSenderType.ADMIN, MessageSenderType.PLATFORM_ADMIN, MessageSenderType.AI);
+
+    static MongoClient mongoClient;
+    static MongoTemplate mongoTemplate;
+
+    ChatMessageRepositoryImpl chatMessageRepository = new ChatMessageRepositoryImpl(mongoTemplate);
+
+    @BeforeAll
+    static void setUpClient() {
+        mongoClient = MongoClients.create(MONGO.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(mongoClient, "chat_message_test");
+    }
+
+    @AfterAll
+    static void closeClient() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void clean() {
+        mongoTemplate.dropCollection(ChatMessage.class);
+    }
+
+    @Test
+    void 여러_채팅방_미읽음을_한_번에_세고_조건에_맞는_메시지만_센다() {
+        insertMessage("platform-1", 1L, MessageSenderType.AI);
+        insertMessage("platform-1", 2L, MessageSenderType.USER);
+        insertMessage("platform-1", 3L, MessageSenderType.PLATFORM_ADMIN);
+        insertMessage("platform-1", 4L, MessageSenderType.AI);
+        insertMessage("platform-2", 1L, MessageSenderType.AI);
+        insertMessage("platform-3", 1L, MessageSenderType.USER);
+
+        Map<String, Long> counts = chatMessageRepository.countUnreadByRooms(List.of(
+                new UnreadCountCondition("platform-1", USER_READABLE, 1L),
+                new UnreadCountCondition("platform-2", USER_READABLE, null),
+                new UnreadCountCondition("platform-3", USER_READABLE, null)));
+
+        assertThat(counts).containsEntry("platform-1", 2L).containsEntry("platform-2", 1L);
+        // 미읽음이 없는 채팅방은 결과에 없다 (호출자가 0 으로 채움)
+        assertThat(counts).doesNotContainKey("platform-3");
+    }
+
+    @Test
+    void 조건이_많으면_나눠서_집계해도_모든_채팅방을_센다() {
+        List<UnreadCountCondition> conditions = new ArrayList<>();
+        for (int i = 0; i < 501; i++) {
+            String roomCode = "platform-" + i;
+            insertMessage(roomCode, 1L, MessageSenderType.AI);
+            conditions.add(new UnreadCountCondition(roomCode, USER_READABLE, 0L));
+        }
+
+        Map<String, Long> counts = chatMessageRepository.countUnreadByRooms(conditions);
+
+        assertThat(counts).hasSize(501).containsEntry("platform-500", 1L);
+    }
+
+    @Test
+    void 조건이_없으면_빈_결과를_돌려준다() {
+        assertThat(chatMessageRepository.countUnreadByRooms(List.of())).isEmpty();
+    }
+
+    private void insertMessage(String roomCode, Long seq, MessageSenderType senderType) {
+        mongoTemplate.insert(ChatMessage.builder()
+                .roomCode(roomCode)
+                .seq(seq)
+                .senderType(senderType)
+                .senderId(1L)
+                .content("메시지 " + seq)
+                .messageType("TEXT")
+                .unreadCount(1)
+                .build());
+    }
+}
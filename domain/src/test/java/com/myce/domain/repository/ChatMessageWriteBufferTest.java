@@ -0,0 +1,126 @@
+package com.myce.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.type.MessageSenderType;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+class ChatMessageWriteBufferTest {
+
+    private final ChatMessageStore chatMessageStore = mock(ChatMessageStore.class);
+    private final ChatMessageCacheRepository chatMessageCacheRepository = mock(ChatMessageCacheRepository.class);
+
+    @Test
+    void 모은_메시지는_한_번에_저장하고_future_를_완료한다() throws Exception {
+        ChatMessageWriteBuffer writeBuffer = newWriteBuffer(50);
+
+        CompletableFuture<ChatMessage> first = writeBuffer.insert(message("a"));
+        CompletableFuture<ChatMessage> second = writeBuffer.insert(message("b"));
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getContent()).isEqualTo("a");
+        assertThat(second.get(5, TimeUnit.SECONDS).getContent()).isEqualTo("b");
+        writeBuffer.shutdown();
+    }
+
+    @Test
+    void 종료와_동시에_들어온_요청도_모두_완료된다() throws Exception {
+        when(chatMessageStore.insert(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        for (int round = 0; round < 20; round++) {
+            ChatMessageWriteBuffer writeBuffer = newWriteBuffer(1);
+            List<CompletableFuture<ChatMessage>> futures = new CopyOnWriteArrayList<>();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService producers = Executors.newFixedThreadPool(4);
+            for (int i = 0; i < 4; i++) {
+                producers.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 200; j++) {
+                        futures.add(writeBuffer.insert(message("m" + j)));
+                    }
+                    return null;
+                });
+            }
+
+            start.countDown();
+            writeBuffer.shutdown();
+            producers.shutdown();
+            assertThat(producers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+            assertThat(futures).hasSize(800).allMatch(CompletableFuture::isDone);
+        }
+    }
+
+    @Test
+    void 종료할_때는_진행_중인_저장을_중단하지_않고_남은_요청까지_저장한_뒤_끝낸다() throws Exception {
+        CountDownLatch flushing = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        doAnswer(invocation -> {
+            flushing.countDown();
+            Thread.sleep(200);
+            interrupted.compareAndSet(false, Thread.currentThread().isInterrupted());
+            return null;
+        }).when(chatMessageStore).insertAll(any());
+        ChatMessageWriteBuffer writeBuffer = newWriteBuffer(1, 5000, 5000);
+
+        CompletableFuture<ChatMessage> first = writeBuffer.insert(message("a"));
+        assertThat(flushing.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<ChatMessage> second = writeBuffer.insert(message("b"));
+        writeBuffer.shutdown();
+
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        assertThat(interrupted).isFalse();
+    }
+
+    @Test
+    void 저장_완료를_기다리는_시간이_지나면_예외를_던진다() {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS)).when(chatMessageStore).insertAll(any());
+        ChatMessageWriteBuffer writeBuffer = newWriteBuffer(1, 5000, 50);
+
+        try {
+            assertThatThrownBy(() -> writeBuffer.insertAndAwait(message("a")))
+                    .isInstanceOf(IllegalStateException.class);
+        } finally {
+            release.countDown();
+            writeBuffer.shutdown();
+        }
+    }
+
+    private ChatMessageWriteBuffer newWriteBuffer(long flushIntervalMillis) {
+        return newWriteBuffer(flushIntervalMillis, 5000, 5000);
+    }
+
+    private ChatMessageWriteBuffer newWriteBuffer(long flushIntervalMillis, long shutdownDrainMillis,
+                                                  long awaitTimeoutMillis) {
+        return new ChatMessageWriteBuffer(chatMessageStore, chatMessageCacheRepository,
+                new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class), true, 100,
+                flushIntervalMillis, 10000, shutdownDrainMillis, awaitTimeoutMillis);
+    }
+
+    private ChatMessage message(String content) {
+        return ChatMessage.builder()
+                .roomCode("platform-1")
+                .senderType(MessageSenderType.USER)
+                .senderId(1L)
+                .content(content)
+                .build();
+    }
+}
@@ -0,0 +1,252 @@
+package com.myce.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.document.type.ChatRoomState;
+import com.myce.domain.dto.ChatRoomCursor;
+import com.myce.domain.dto.ChatRoomListCondition;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers(disabledWithoutDocker = true)
+class ChatRoomRepositoryImplTest {
+
+    @Container
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    static MongoClient mongoClient;
+    static MongoTemplate mongoTemplate;
+
+    ChatRoomRepositoryImpl chatRoomRepository = new ChatRoomRepositoryImpl(mongoTemplate);
+
+    @BeforeAll
+    static void setUpClient() {
+        mongoClient = MongoClients.create(MONGO.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(mongoClient, "chat_room_test");
+    }
+
+    @AfterAll
+    static void closeClient() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void clean() {
+        mongoTemplate.dropCollection(ChatRoom.class);
+    }
+
+    @Test
+    void 같은_updatedAt_채팅방이_페이지_경계에_걸려도_빠짐없이_한_번씩_조회한다() {
+        // 5개 중 3개는 같은 시각에 변경됨
+        insertRoom("admin-1-1", BASE.plusMinutes(1));
+        insertRoom("admin-1-2", BASE.plusMinutes(2));
+        insertRoom("admin-1-3", BASE.plusMinutes(2));
+        insertRoom("admin-1-4", BASE.plusMinutes(2));
+        insertRoom("admin-1-5", BASE.plusMinutes(3));
+
+        List<String> visited = new ArrayList<>();
+        LocalDateTime cursorUpdatedAt = BASE;
+        String cursorId = null;
+        List<ChatRoom> rooms;
+        do {
+            rooms = chatRoomRepository.findUpdatedRoomsAfter(cursorUpdatedAt, cursorId, 2);
+            rooms.forEach(room -> visited.add(room.getRoomCode()));
+            if (!rooms.isEmpty()) {
+                cursorUpdatedAt = rooms.get(rooms.size() - 1).getUpdatedAt();
+                cursorId = rooms.get(rooms.size() - 1).getId();
+            }
+        } while (rooms.size() == 2);
+
+        assertThat(visited).containsExactlyInAnyOrder("admin-1-1", "admin-1-2", "admin-1-3", "admin-1-4",
+                "admin-1-5");
+        assertThat(visited).doesNotHaveDuplicates();
+        assertThat(visited.get(0)).isEqualTo("admin-1-1");
+        assertThat(visited.get(4)).isEqualTo("admin-1-5");
+    }
+
+    @Test
+    void 시작_시각_이전에_변경된_채팅방은_조회하지_않는다() {
+        insertRoom("admin-1-1", BASE.minusMinutes(1));
+        insertRoom("admin-1-2", BASE);
+        insertRoom("admin-1-3", BASE.plusMinutes(1));
+
+        List<ChatRoom> rooms = chatRoomRepository.findUpdatedRoomsAfter(BASE, null, 10);
+
+        assertThat(rooms).extracting(ChatRoom::getRoomCode).containsExactly("admin-1-3");
+    }
+
+    @Test
+    void 오래된_스냅샷을_저장해도_마지막_메시지와_읽음_상태를_되돌리지_않는다() {
+        insertRoom("admin-1-1", BASE);
+        ChatRoom snapshot = mongoTemplate.findOne(Query.query(Criteria.where("roomCode").is("admin-1-1")),
+                ChatRoom.class);
+        // 스냅샷을 읽은 뒤 메시지 저장/읽음 처리가 단일 업데이트로 반영됨
+        chatRoomRepository.updateLastMessage("admin-1-1", "message-2", "새 메시지", BASE.plusMinutes(5));
+        chatRoomRepository.updateReadStatus("admin-1-1", "USER", 10L);
+
+        snapshot.assignAdmin("ADMIN-1");
+        snapshot.updateReadStatus("USER", 5L);
+        snapshot.updateReadStatus("ADMIN", 3L);
+        ChatRoom saved = chatRoomRepository.updateRoomState(snapshot);
+
+        assertThat(saved.getCurrentAdminCode()).isEqualTo("ADMIN-1");
+        assertThat(saved.getLastMessageId()).isEqualTo("message-2");
+        assertThat(saved.getLastMessage()).isEqualTo("새 메시지");
+        assertThat(saved.getLastMessageAt()).isEqualTo(BASE.plusMinutes(5));
+        assertThat(saved.getReadStatus()).containsEntry("USER", 10L).containsEntry("ADMIN", 3L);
+        assertThat(saved.getUpdatedAt()).isAfter(BASE.plusMinutes(5));
+    }
+
+    @Test
+    void 담당_해제로_null_이_된_상태_필드는_다시_읽어도_남아_있지_않다() {
+        insertRoom("admin-1-1", BASE);
+        ChatRoom assigned = findRoom("admin-1-1");
+        assigned.startWaitingForAdmin();
+        assigned.assignAdmin("ADMIN-1");
+        chatRoomRepository.updateRoomState(assigned);
+
+        ChatRoom released = findRoom("admin-1-1");
+        assertThat(released.getCurrentAdminCode()).isEqualTo("ADMIN-1");
+        assertThat(released.getHandoffRequestedAt()).isNotNull();
+        released.stopWaitingForAdmin();
+        released.releaseAdmin();
+        chatRoomRepository.updateRoomState(released);
+
+        ChatRoom reloaded = findRoom("admin-1-1");
+        assertThat(reloaded.getCurrentAdminCode()).isNull();
+        assertThat(reloaded.getLastAdminActivity()).isNull();
+        assertThat(reloaded.getHandoffRequestedAt()).isNull();
+        assertThat(reloaded.getCurrentState()).isEqualTo(ChatRoomState.AI_ACTIVE);
+        Document stored = mongoTemplate.getCollection("chat_rooms")
+                .find(new Document("roomCode", "admin-1-1")).first();
+        assertThat(stored).doesNotContainKeys("currentAdminCode", "lastAdminActivity", "handoffRequestedAt");
+    }
+
+    @Test
+    void 없는_채팅방은_상태를_저장하지_않는다() {
+        ChatRoom chatRoom = ChatRoom.builder()
+                .roomCode("admin-1-1")
+                .memberId(1L)
+                .expoId(1L)
+                .build();
+        ReflectionTestUtils.setField(chatRoom, "id", "deleted-room-id");
+
+        assertThat(chatRoomRepository.updateRoomState(chatRoom)).isNull();
+        assertThat(mongoTemplate.count(new Query(), ChatRoom.class)).isZero();
+    }
+
+    @Test
+    void 마지막_메시지_시각이_같거나_없는_채팅방도_커서로_빠짐없이_한_번씩_조회한다() {
+        insertListedRoom("admin-7-1", BASE.plusMinutes(3), ChatRoomState.AI_ACTIVE, null);
+        insertListedRoom("admin-7-2", BASE.plusMinutes(2), ChatRoomState.AI_ACTIVE, null);
+        insertListedRoom("admin-7-3", BASE.plusMinutes(2), ChatRoomState.AI_ACTIVE, null);
+        insertListedRoom("admin-7-4", BASE.plusMinutes(2), ChatRoomState.AI_ACTIVE, null);
+        insertListedRoom("admin-7-5", null, ChatRoomState.AI_ACTIVE, null);
+        insertListedRoom("admin-7-6", null, ChatRoomState.AI_ACTIVE, null);
+
+        List<ChatRoom> visited = new ArrayList<>();
+        ChatRoomCursor cursor = null;
+        List<ChatRoom> rooms;
+        do {
+            rooms = chatRoomRepository.findActiveRoomsByCursor(
+                    ChatRoomListCondition.ofExpo(7L, null, false, null), cursor, 2);
+            visited.addAll(rooms);
+            if (!rooms.isEmpty()) {
+                cursor = ChatRoomCursor.of(rooms.get(rooms.size() - 1));
+            }
+        } while (rooms.size() == 2);
+
+        assertThat(visited).extracting(ChatRoom::getRoomCode).doesNotHaveDuplicates()
+                .containsExactlyInAnyOrder("admin-7-1", "admin-7-2", "admin-7-3", "admin-7-4", "admin-7-5",
+                        "admin-7-6");
+        assertThat(visited.get(0).getRoomCode()).isEqualTo("admin-7-1");
+        assertThat(visited.subList(1, 4)).extracting(ChatRoom::getLastMessageAt)
+                .containsOnly(BASE.plusMinutes(2));
+        assertThat(visited.subList(4, 6)).extracting(ChatRoom::getLastMessageAt).containsOnlyNulls();
+        // 같은 시각이면 _id 내림차순
+        assertThat(visited.subList(1, 4)).extracting(ChatRoom::getId)
+                .isSortedAccordingTo((left, right) -> right.compareTo(left));
+    }
+
+    @Test
+    void 상태와_담당자_조건으로_채팅방을_거른다() {
+        insertListedRoom("admin-7-1", BASE.plusMinutes(1), ChatRoomState.WAITING_FOR_ADMIN, null);
+        insertListedRoom("admin-7-2", BASE.plusMinutes(2), ChatRoomState.ADMIN_ACTIVE, "ADMIN-1");
+        insertListedRoom("admin-7-3", BASE.plusMinutes(3), ChatRoomState.ADMIN_ACTIVE, "ADMIN-2");
+        insertListedRoom("admin-7-4", BASE.plusMinutes(4), ChatRoomState.AI_ACTIVE, null);
+        insertListedRoom("admin-8-5", BASE.plusMinutes(5), ChatRoomState.WAITING_FOR_ADMIN, null);
+        insertListedRoom("admin-7-6", BASE.plusMinutes(6), ChatRoomState.WAITING_FOR_ADMIN, null);
+        mongoTemplate.updateFirst(Query.query(Criteria.where("roomCode").is("admin-7-6")),
+                Update.update("isActive", false), ChatRoom.class);
+
+        assertThat(findRoomCodes(ChatRoomListCondition.ofExpo(7L, null, false, null)))
+                .containsExactly("admin-7-4", "admin-7-3", "admin-7-2", "admin-7-1");
+        assertThat(findRoomCodes(ChatRoomListCondition.ofExpo(7L, ChatRoomState.WAITING_FOR_ADMIN, false, null)))
+                .containsExactly("admin-7-1");
+        assertThat(findRoomCodes(ChatRoomListCondition.ofExpo(7L, null, true, null)))
+                .containsExactly("admin-7-4", "admin-7-1");
+        assertThat(findRoomCodes(ChatRoomListCondition.ofExpo(7L, null, false, "ADMIN-1")))
+                .containsExactly("admin-7-2");
+        assertThat(findRoomCodes(ChatRoomListCondition.ofMember(5L)))
+                .containsExactly("admin-8-5");
+    }
+
+    private List<String> findRoomCodes(ChatRoomListCondition condition) {
+        return chatRoomRepository.findActiveRoomsByCursor(condition, null, 10).stream()
+                .map(ChatRoom::getRoomCode)
+                .toList();
+    }
+
+    /**
+     * 채팅방 코드 admin-{expoId}-{memberId} 로 박람회/회원을 정해 목록 조회용 채팅방 저장
+     */
+    private void insertListedRoom(String roomCode, LocalDateTime lastMessageAt, ChatRoomState state,
+                                  String adminCode) {
+        String[] parts = roomCode.split("-");
+        mongoTemplate.insert(ChatRoom.builder()
+                .roomCode(roomCode)
+                .memberId(Long.valueOf(parts[2]))
+                .expoId(Long.valueOf(parts[1]))
+                .build());
+        Update update = new Update()
+                .set("currentState", state)
+                .set("currentAdminCode", adminCode);
+        if (lastMessageAt != null) {
+            update.set("lastMessageAt", lastMessageAt);
+        }
+        mongoTemplate.updateFirst(Query.query(Criteria.where("roomCode").is(roomCode)), update, ChatRoom.class);
+    }
+
+    private ChatRoom findRoom(String roomCode) {
+        return mongoTemplate.findOne(Query.query(Criteria.where("roomCode").is(roomCode)), ChatRoom.class);
+    }
+
+    private void insertRoom(String roomCode, LocalDateTime updatedAt) {
+        mongoTemplate.insert(ChatRoom.builder()
+                .roomCode(roomCode)
+                .memberId(1L)
+                .expoId(1L)
+                .build());
+        mongoTemplate.updateFirst(Query.query(Criteria.where("roomCode").is(roomCode)),
+                Update.update("updatedAt", updatedAt), ChatRoom.class);
+    }
+}
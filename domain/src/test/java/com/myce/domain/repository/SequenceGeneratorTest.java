@@ -0,0 +1,207 @@
+package com.myce.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.myce.domain.document.AutoIncrementSequence;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers(disabledWithoutDocker = true)
+class SequenceGeneratorTest {
+
+    @Container
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    static MongoClient mongoClient;
+    static MongoTemplate mongoTemplate;
+
+    ChatMessageStore chatMessageStore = mock(ChatMessageStore.class);
+
+    @BeforeAll
+    static void setUpClient() {
+        mongoClient = MongoClients.create(MONGO.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(mongoClient, "sequence_test");
+    }
+
+    @AfterAll
+    static void closeClient() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void clean() {
+        mongoTemplate.dropCollection(AutoIncrementSequence.class);
+    }
+
+    @Test
+    void 여러_노드가_번갈아_발급해도_채팅방_seq는_단조_증가한다() {
+        SequenceGenerator nodeA = newGenerator("global");
+        SequenceGenerator nodeB = newGenerator("global");
+
+        long previous = 0;
+        for (int i = 0; i < 50; i++) {
+            SequenceGenerator node = i % 2 == 0 ? nodeA : nodeB;
+            long seq = node.generateMessageSequence("room-1");
+            assertThat(seq).isGreaterThan(previous);
+            previous = seq;
+        }
+    }
+
+    @Test
+    void 동시에_발급해도_seq는_중복되지_않는다() throws Exception {
+        List<SequenceGenerator> nodes = List.of(newGenerator("room"), newGenerator("room"));
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                SequenceGenerator node = nodes.get(i % nodes.size());
+                futures.add(executor.submit(() -> issued.add(node.generateMessageSequence("room-1"))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(issued).hasSize(200);
+        assertThat(issued).allSatisfy(seq -> assertThat(seq).isBetween(1L, 200L));
+    }
+
+    @Test
+    void 채팅방_모드의_첫_발급들은_동시에_호출돼도_기존_최대_seq_뒤에서_시작한다() throws Exception {
+        when(chatMessageStore.findLastSeq("room-1")).thenReturn(500L);
+        List<SequenceGenerator> nodes = List.of(newGenerator("room"), newGenerator("room"));
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                SequenceGenerator node = nodes.get(i % nodes.size());
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return issued.add(node.generateMessageSequence("room-1"));
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(issued).containsExactlyInAnyOrder(501L, 502L, 503L, 504L, 505L, 506L, 507L, 508L);
+    }
+
+    @Test
+    void 임대한_노드는_구간_안에서_연속된_seq를_발급한다() {
+        SequenceGenerator node = newLeasingGenerator(10);
+
+        List<Long> issued = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            issued.add(node.generateMessageSequence("room-1"));
+        }
+
+        assertThat(issued).containsExactlyElementsOf(LongStream.rangeClosed(1, 25).boxed().toList());
+        assertThat(roomCounter("room-1").getLong("seq")).isEqualTo(30L);
+    }
+
+    @Test
+    void 임대_중에_여러_노드가_번갈아_발급해도_채팅방_seq는_단조_증가한다() {
+        SequenceGenerator nodeA = newLeasingGenerator(10);
+        SequenceGenerator nodeB = newLeasingGenerator(10);
+
+        long previous = 0;
+        for (int i = 0; i < 20; i++) {
+            SequenceGenerator node = i % 2 == 0 ? nodeA : nodeB;
+            long seq = node.generateMessageSequence("room-1");
+            assertThat(seq).isGreaterThan(previous);
+            previous = seq;
+        }
+    }
+
+    @Test
+    void 임대를_기다린_채팅방은_공유_모드로_전환된다() {
+        SequenceGenerator nodeA = newLeasingGenerator(10);
+        SequenceGenerator nodeB = newLeasingGenerator(10);
+
+        nodeA.generateMessageSequence("room-1");
+        nodeB.generateMessageSequence("room-1");
+
+        Document counter = roomCounter("room-1");
+        assertThat(counter.get("contendedUntil")).isNotNull();
+        assertThat(counter.get("leaseOwner")).isNull();
+    }
+
+    @Test
+    void 기동_시_보정은_한_노드에서_한_번만_실행된다() {
+        when(chatMessageStore.findLastSeqByRooms()).thenReturn(Map.of("room-1", 300L));
+
+        newGenerator("room", true).seedRoomSequences();
+        newGenerator("room", true).seedRoomSequences();
+
+        verify(chatMessageStore, times(1)).findLastSeqByRooms();
+        AutoIncrementSequence counter = mongoTemplate.findById("message_sequence:room-1", AutoIncrementSequence.class);
+        assertThat(counter.getSeq()).isEqualTo(300L);
+    }
+
+    @Test
+    void 기동_시_보정은_기본적으로_실행되지_않는다() {
+        newGenerator("room").seedRoomSequences();
+
+        verifyNoInteractions(chatMessageStore);
+    }
+
+    private SequenceGenerator newGenerator(String mode) {
+        return newGenerator(mode, false);
+    }
+
+    private SequenceGenerator newGenerator(String mode, boolean seedOnStartup) {
+        return newGenerator(mode, seedOnStartup, 1);
+    }
+
+    private SequenceGenerator newLeasingGenerator(int blockSize) {
+        return newGenerator("room", false, blockSize);
+    }
+
+    private SequenceGenerator newGenerator(String mode, boolean seedOnStartup, int leaseBlockSize) {
+        return new SequenceGenerator(mongoTemplate, chatMessageStore,
+                new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class), mode, seedOnStartup, 1000,
+                leaseBlockSize, 500, 100, 10000, 3000);
+    }
+
+    private Document roomCounter(String roomCode) {
+        return mongoTemplate.getCollection("auto_sequence")
+                .find(new Document("_id", "message_sequence:" + roomCode))
+                .first();
+    }
+}
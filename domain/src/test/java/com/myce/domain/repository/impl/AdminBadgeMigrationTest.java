@@ -0,0 +1,86 @@
+package com.myce.domain.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.support.RedisTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class AdminBadgeMigrationTest extends RedisTestSupport {
+
+    private static final String ROOM_CODE = "admin-7-10";
+    private static final String LEGACY_ROOMS_KEY = ChatRoomKey.LEGACY_ADMIN_GROUP_ACTIVE_ROOMS_KEY;
+    private static final String SCOPED_ROOMS_KEY =
+            String.format(ChatRoomKey.ADMIN_ACTIVE_ROOM_INDEX_KEY_FORMAT, ChatRoom.getAdminBadgeScope(7L));
+
+    private ChatMessageCacheRepositoryImpl cacheRepository;
+
+    @BeforeEach
+    void setUp() {
+        cacheRepository = newRepository(true);
+        redisTemplate.opsForSet().add(LEGACY_ROOMS_KEY, ROOM_CODE);
+    }
+
+    @Test
+    void 기본_설정에서는_이전하지_않는다() {
+        newRepository(false).migrateAdminGroupBadge();
+
+        assertThat(redisTemplate.hasKey(LEGACY_ROOMS_KEY)).isTrue();
+        assertThat(redisTemplate.hasKey(ChatRoomKey.ADMIN_BADGE_MIGRATION_KEY)).isFalse();
+    }
+
+    @Test
+    void 레거시_키를_범위별_키로_옮기고_완료를_표시한다() {
+        cacheRepository.migrateAdminGroupBadge();
+
+        assertThat(redisTemplate.hasKey(LEGACY_ROOMS_KEY)).isFalse();
+        assertThat(redisTemplate.opsForZSet().score(SCOPED_ROOMS_KEY, ROOM_CODE)).isNotNull();
+        assertThat(redisTemplate.opsForValue().get(ChatRoomKey.ADMIN_BADGE_MIGRATION_KEY)).isEqualTo("done");
+    }
+
+    @Test
+    void 레거시_미읽음_해시는_채팅방이_속한_샤드_해시로_옮긴다() {
+        redisTemplate.opsForHash().put(ChatRoomKey.LEGACY_ADMIN_GROUP_UNREAD_HASH_KEY, ROOM_CODE, 3L);
+        redisTemplate.opsForHash().put(ChatRoomKey.LEGACY_ADMIN_GROUP_UNREAD_HASH_KEY,
+                ChatRoomKey.USER_UNREAD_TOTAL_FIELD, 3L);
+
+        cacheRepository.migrateAdminGroupBadge();
+
+        String shardKey = ChatRoomKey.adminUnreadHashKey(ROOM_CODE, 8);
+        assertThat(cacheRepository.getUnreadCount(ROOM_CODE, ChatRoom.ADMIN_GROUP_MEMBER_ID)).isEqualTo(3L);
+        assertThat(redisTemplate.opsForHash().get(shardKey, ChatRoomKey.USER_UNREAD_TOTAL_FIELD).toString())
+                .isEqualTo("3");
+        assertThat(redisTemplate.hasKey(ChatRoomKey.LEGACY_ADMIN_GROUP_UNREAD_HASH_KEY)).isFalse();
+    }
+
+    @Test
+    void 완료된_이전은_재시작해도_다시_수행하지_않는다() {
+        cacheRepository.migrateAdminGroupBadge();
+        redisTemplate.opsForSet().add(LEGACY_ROOMS_KEY, "admin-7-11");
+
+        newRepository(true).migrateAdminGroupBadge();
+
+        assertThat(redisTemplate.hasKey(LEGACY_ROOMS_KEY)).isTrue();
+        assertThat(redisTemplate.opsForZSet().score(SCOPED_ROOMS_KEY, "admin-7-11")).isNull();
+    }
+
+    @Test
+    void 다른_노드가_이전_중이면_건너뛴다() {
+        redisTemplate.opsForValue().set(ChatRoomKey.ADMIN_BADGE_MIGRATION_KEY, "running");
+
+        cacheRepository.migrateAdminGroupBadge();
+
+        assertThat(redisTemplate.hasKey(LEGACY_ROOMS_KEY)).isTrue();
+    }
+
+    private ChatMessageCacheRepositoryImpl newRepository(boolean migrateOnStartup) {
+        ChatMessageCacheRepositoryImpl repository = new ChatMessageCacheRepositoryImpl(redisTemplate,
+                chatMessageRedisTemplate, chatMessageCodec, objectMapper);
+        ReflectionTestUtils.setField(repository, "unreadLayout", "key");
+        ReflectionTestUtils.setField(repository, "adminBadgeShards", 8);
+        ReflectionTestUtils.setField(repository, "migrateAdminBadgeOnStartup", migrateOnStartup);
+        return repository;
+    }
+}
@@ -0,0 +1,129 @@
+package com.myce.domain.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.support.RedisTestSupport;
+import io.lettuce.core.cluster.SlotHash;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class AdminBadgeShardTest extends RedisTestSupport {
+
+    private static final Long ADMIN_GROUP_ID = ChatRoom.ADMIN_GROUP_MEMBER_ID;
+    private static final int SHARDS = 8;
+
+    private ChatMessageCacheRepositoryImpl cacheRepository;
+
+    @BeforeEach
+    void setUp() {
+        cacheRepository = new ChatMessageCacheRepositoryImpl(redisTemplate, chatMessageRedisTemplate,
+                chatMessageCodec, objectMapper);
+        ReflectionTestUtils.setField(cacheRepository, "commitScriptEnabled", true);
+        ReflectionTestUtils.setField(cacheRepository, "unreadLayout", "key");
+        ReflectionTestUtils.setField(cacheRepository, "adminBadgeShards", SHARDS);
+        ReflectionTestUtils.setField(cacheRepository, "historyEnabled", false);
+    }
+
+    @Test
+    void 채팅방별_증가는_여러_샤드로_나뉘고_합계는_전체_미읽음과_같다() {
+        List<String> roomCodes = roomCodes(7L, 10);
+        roomCodes.forEach(roomCode -> commitToAdmin(roomCode, 2));
+
+        List<Long> shardValues = shardValues(7L);
+
+        assertThat(shardValues.stream().filter(Objects::nonNull).count()).isGreaterThan(1L);
+        assertThat(shardValues.stream().filter(Objects::nonNull).mapToLong(Long::longValue).sum())
+                .isEqualTo(20L);
+    }
+
+    @Test
+    void 엑스포별_배지_범위는_서로_섞이지_않는다() {
+        commitToAdmin("admin-7-10", 3);
+        commitToAdmin("admin-8-10", 1);
+        commitToAdmin("platform-10", 2);
+
+        assertThat(shardSum(7L)).isEqualTo(3L);
+        assertThat(shardSum(8L)).isEqualTo(1L);
+        assertThat(shardSum(null)).isEqualTo(2L);
+    }
+
+    @Test
+    void 읽음_처리는_채팅방_필드와_같은_샤드_합계를_함께_줄인다() {
+        List<String> roomCodes = roomCodes(7L, 5);
+        roomCodes.forEach(roomCode -> commitToAdmin(roomCode, 1));
+        commitToAdmin(roomCodes.get(0), 1);
+        String shardKey = ChatRoomKey.adminUnreadHashKey(roomCodes.get(0), SHARDS);
+        long shardTotal = total(shardKey);
+
+        Long badge = cacheRepository.resetUnreadCountAndRecalculateBadge(roomCodes.get(0), ADMIN_GROUP_ID);
+
+        assertThat(badge).isEqualTo(4L);
+        assertThat(redisTemplate.opsForHash().get(shardKey, roomCodes.get(0)).toString()).isEqualTo("0");
+        assertThat(total(shardKey)).isEqualTo(shardTotal - 2);
+        assertThat(shardSum(7L)).isEqualTo(4L);
+    }
+
+    @Test
+    void 미읽음_샤드_해시는_여러_슬롯에_퍼진다() {
+        String scope = ChatRoom.getAdminBadgeScope(7L);
+        long slots = IntStream.range(0, SHARDS)
+                .map(shard -> SlotHash.getSlot(String.format(ChatRoomKey.ADMIN_UNREAD_HASH_KEY_FORMAT, scope, shard)))
+                .distinct()
+                .count();
+
+        assertThat(slots).isGreaterThan(1L);
+    }
+
+    private void commitToAdmin(String roomCode, int count) {
+        IntStream.range(0, count).forEach(index ->
+                cacheRepository.commitMessage(roomCode, message(roomCode, "message-" + index), 10L, ADMIN_GROUP_ID));
+    }
+
+    private static List<String> roomCodes(Long expoId, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(index -> String.format("admin-%d-%d", expoId, 10 + index))
+                .toList();
+    }
+
+    private static String shardKey(Long expoId, int shard) {
+        return String.format(ChatRoomKey.ADMIN_UNREAD_HASH_KEY_FORMAT, ChatRoom.getAdminBadgeScope(expoId), shard);
+    }
+
+    private List<Long> shardValues(Long expoId) {
+        return IntStream.range(0, SHARDS)
+                .mapToObj(shard -> redisTemplate.opsForHash().get(shardKey(expoId, shard),
+                        ChatRoomKey.USER_UNREAD_TOTAL_FIELD))
+                .map(value -> value == null ? null : Long.parseLong(value.toString()))
+                .toList();
+    }
+
+    private long total(String shardKey) {
+        Object value = redisTemplate.opsForHash().get(shardKey, ChatRoomKey.USER_UNREAD_TOTAL_FIELD);
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+
+    private long shardSum(Long expoId) {
+        return shardValues(expoId).stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    private static ChatMessage message(String roomCode, String content) {
+        return ChatMessage.builder()
+                .roomCode(roomCode)
+                .senderId(10L)
+                .senderType(MessageSenderType.USER)
+                .senderName("사용자")
+                .content(content)
+                .messageType("TEXT")
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.myce.domain.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoOperations;
+
+class BucketChatMessageStoreModeTest {
+
+    @Test
+    void 채팅방별_seq_모드가_아니면_버킷_저장소를_시작하지_않는다() {
+        assertThatThrownBy(() -> new BucketChatMessageStore(mock(MongoOperations.class), 200, "global"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("chat.sequence.mode=room");
+    }
+}
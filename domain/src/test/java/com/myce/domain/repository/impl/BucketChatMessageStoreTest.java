@@ -0,0 +1,104 @@
+package com.myce.domain.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.ChatMessageBucket;
+import com.myce.domain.document.type.MessageSenderType;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers(disabledWithoutDocker = true)
+class BucketChatMessageStoreTest {
+
+    private static final String ROOM_CODE = "platform-1";
+
+    @Container
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    static MongoClient mongoClient;
+    static MongoTemplate mongoTemplate;
+
+    BucketChatMessageStore store;
+
+    @BeforeAll
+    static void setUpClient() {
+        mongoClient = MongoClients.create(MONGO.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(mongoClient, "chat_message_bucket_test");
+    }
+
+    @AfterAll
+    static void closeClient() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.dropCollection(ChatMessageBucket.class);
+        mongoTemplate.indexOps(ChatMessageBucket.class).ensureIndex(new Index()
+                .on("roomCode", Sort.Direction.ASC)
+                .on("bucketSeq", Sort.Direction.DESC)
+                .unique());
+        store = new BucketChatMessageStore(mongoTemplate, 200, "room");
+    }
+
+    @Test
+    void 같은_배치를_다시_저장해도_메시지가_중복되지_않는다() {
+        List<ChatMessage> messages = List.of(message(1L), message(2L));
+
+        store.insertAll(messages);
+        store.insertAll(messages);
+
+        assertThat(storedSeqs()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 일부만_저장된_배치를_재시도하면_없는_메시지만_추가한다() {
+        ChatMessage first = message(1L);
+        store.insertAll(List.of(first));
+
+        store.insertAll(List.of(first, message(2L)));
+
+        assertThat(storedSeqs()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 단건_저장도_재시도에_중복되지_않는다() {
+        ChatMessage message = message(1L);
+
+        store.insert(message);
+        store.insert(message);
+
+        assertThat(storedSeqs()).containsExactly(1L);
+    }
+
+    private List<Long> storedSeqs() {
+        return mongoTemplate.findAll(ChatMessageBucket.class).stream()
+                .flatMap(bucket -> bucket.getMessages().stream())
+                .map(ChatMessage::getSeq)
+                .toList();
+    }
+
+    private static ChatMessage message(Long seq) {
+        return ChatMessage.builder()
+                .roomCode(ROOM_CODE)
+                .seq(seq)
+                .senderType(MessageSenderType.USER)
+                .senderId(1L)
+                .content("메시지 " + seq)
+                .messageType("TEXT")
+                .unreadCount(1)
+                .build();
+    }
+}
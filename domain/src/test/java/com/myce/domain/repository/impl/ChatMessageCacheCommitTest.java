@@ -0,0 +1,189 @@
+package com.myce.domain.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.dto.MessageCacheCommitResult;
+import com.myce.domain.support.RedisTestSupport;
+import io.lettuce.core.cluster.SlotHash;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ChatMessageCacheCommitTest extends RedisTestSupport {
+
+    private static final String ROOM_CODE = "admin-7-10";
+    private static final Long ADMIN_ID = 5L;
+    private static final Long USER_ID = 10L;
+
+    private ChatMessageCacheRepositoryImpl cacheRepository;
+
+    @BeforeEach
+    void setUp() {
+        cacheRepository = new ChatMessageCacheRepositoryImpl(redisTemplate, chatMessageRedisTemplate,
+                chatMessageCodec, objectMapper);
+        ReflectionTestUtils.setField(cacheRepository, "commitScriptEnabled", true);
+        ReflectionTestUtils.setField(cacheRepository, "unreadLayout", "key");
+        ReflectionTestUtils.setField(cacheRepository, "adminBadgeShards", 8);
+        ReflectionTestUtils.setField(cacheRepository, "historyEnabled", false);
+    }
+
+    @Test
+    void 커밋_스크립트가_다루는_채팅방_키는_모두_같은_슬롯에_있다() {
+        List<String> roomKeys = List.of(
+                String.format(ChatRoomKey.ROOM_RECENT_KEY_FORMAT, ROOM_CODE),
+                String.format(ChatRoomKey.ROOM_RECENT_VIEW_KEY_FORMAT, ROOM_CODE),
+                String.format(ChatRoomKey.ROOM_KEY_REGISTRY_FORMAT, ROOM_CODE),
+                String.format(ChatRoomKey.ROOM_UNREAD_KEY_FORMAT, ROOM_CODE, USER_ID),
+                String.format(ChatRoomKey.ROOM_HISTORY_KEY_FORMAT, ROOM_CODE),
+                String.format(ChatRoomKey.ROOM_HISTORY_META_KEY_FORMAT, ROOM_CODE),
+                String.format(ChatRoomKey.ROOM_RECENT_FILL_LEASE_KEY_FORMAT, ROOM_CODE));
+
+        int slot = SlotHash.getSlot(roomKeys.get(0));
+        assertThat(roomKeys).allSatisfy(key -> assertThat(SlotHash.getSlot(key)).isEqualTo(slot));
+    }
+
+    @Test
+    void 수신자_스크립트가_다루는_사용자_키는_모두_같은_슬롯에_있다() {
+        List<String> userKeys = List.of(
+                String.format(ChatRoomKey.USER_BADGE_KEY_FORMAT, USER_ID),
+                String.format(ChatRoomKey.USER_ACTIVE_ROOMS_KEY_FORMAT, USER_ID),
+                String.format(ChatRoomKey.USER_UNREAD_HASH_KEY_FORMAT, USER_ID));
+
+        int userSlot = SlotHash.getSlot(userKeys.get(0));
+        assertThat(userKeys).allSatisfy(key -> assertThat(SlotHash.getSlot(key)).isEqualTo(userSlot));
+    }
+
+    @Test
+    void 관리자_그룹이_받은_메시지는_미읽음_샤드와_활성_채팅방_인덱스에_반영된다() {
+        Long adminGroupId = ChatRoom.ADMIN_GROUP_MEMBER_ID;
+
+        MessageCacheCommitResult first = cacheRepository.commitMessage(ROOM_CODE, message("hello"), USER_ID,
+                adminGroupId);
+        MessageCacheCommitResult second = cacheRepository.commitMessage(ROOM_CODE, message("again"), USER_ID,
+                adminGroupId);
+
+        assertThat(second.scripted()).isTrue();
+        assertThat(second.unreadCount()).isEqualTo(2L);
+        assertThat(second.badgeCount()).isEqualTo(2L);
+        assertThat(first.receiverRoomAdded()).isTrue();
+        assertThat(second.receiverRoomAdded()).isFalse();
+        assertThat(redisTemplate.opsForZSet().score(String.format(ChatRoomKey.ADMIN_ACTIVE_ROOM_INDEX_KEY_FORMAT,
+                ChatRoom.getAdminBadgeScope(ROOM_CODE)), ROOM_CODE)).isNotNull();
+    }
+
+    @Test
+    void 관리자가_보낸_메시지는_스크립트로_수신자_미읽음과_배지를_올린다() {
+        MessageCacheCommitResult first = cacheRepository.commitMessage(ROOM_CODE, message("hello"), ADMIN_ID, USER_ID);
+        MessageCacheCommitResult second = cacheRepository.commitMessage(ROOM_CODE, message("again"), ADMIN_ID, USER_ID);
+
+        assertThat(first.scripted()).isTrue();
+        assertThat(second.recentSize()).isEqualTo(2L);
+        assertThat(second.unreadCount()).isEqualTo(2L);
+        assertThat(second.badgeCount()).isEqualTo(2L);
+        assertThat(first.senderRoomAdded()).isTrue();
+        assertThat(first.receiverRoomAdded()).isTrue();
+        assertThat(second.receiverRoomAdded()).isFalse();
+        assertThat(cacheRepository.getUnreadCount(ROOM_CODE, USER_ID)).isEqualTo(2L);
+        assertThat(redisTemplate.opsForValue().get(String.format(ChatRoomKey.USER_BADGE_KEY_FORMAT, USER_ID))
+                .toString()).isEqualTo("2");
+        assertThat(cacheRepository.getCachedRecentMessages(ROOM_CODE, 10))
+                .extracting(ChatMessage::getContent)
+                .containsExactly("again", "hello");
+    }
+
+    @Test
+    void 해시_레이아웃에서도_수신자_미읽음과_합계가_함께_오른다() {
+        ReflectionTestUtils.setField(cacheRepository, "unreadLayout", "hash");
+
+        cacheRepository.commitMessage(ROOM_CODE, message("hello"), ADMIN_ID, USER_ID);
+        MessageCacheCommitResult result = cacheRepository.commitMessage(ROOM_CODE, message("again"), ADMIN_ID,
+                USER_ID);
+
+        assertThat(result.scripted()).isTrue();
+        assertThat(result.unreadCount()).isEqualTo(2L);
+        assertThat(result.badgeCount()).isEqualTo(2L);
+        assertThat(redisTemplate.opsForHash().get(String.format(ChatRoomKey.USER_UNREAD_HASH_KEY_FORMAT, USER_ID),
+                ChatRoomKey.USER_UNREAD_TOTAL_FIELD).toString()).isEqualTo("2");
+    }
+
+    @Test
+    void 관리자_그룹_미읽음을_리셋하면_배지_샤드에서_리셋한_만큼_빠진다() {
+        Long adminGroupId = ChatRoom.ADMIN_GROUP_MEMBER_ID;
+        cacheRepository.commitMessage(ROOM_CODE, message("hello"), USER_ID, adminGroupId);
+        cacheRepository.commitMessage(ROOM_CODE, message("again"), USER_ID, adminGroupId);
+        cacheRepository.commitMessage("admin-7-11", message("other"), 11L, adminGroupId);
+        assertThat(adminBadgeShardSum(7L)).isEqualTo(3L);
+
+        Long badge = cacheRepository.resetUnreadCountAndRecalculateBadge(ROOM_CODE, adminGroupId);
+
+        assertThat(badge).isEqualTo(1L);
+        assertThat(cacheRepository.getUnreadCount(ROOM_CODE, adminGroupId)).isZero();
+        assertThat(adminBadgeShardSum(7L)).isEqualTo(1L);
+    }
+
+    @Test
+    void 발신자가_없는_AI_메시지도_스크립트로_수신자_미읽음과_배지를_올린다() {
+        MessageCacheCommitResult result = cacheRepository.commitMessage(ROOM_CODE, message("ai"), null, USER_ID);
+
+        assertThat(result.scripted()).isTrue();
+        assertThat(result.senderRoomAdded()).isNull();
+        assertThat(result.unreadCount()).isEqualTo(1L);
+        assertThat(result.badgeCount()).isEqualTo(1L);
+        assertThat(result.receiverRoomAdded()).isTrue();
+        assertThat(cacheRepository.getUnreadCount(ROOM_CODE, USER_ID)).isEqualTo(1L);
+    }
+
+    @Test
+    void 발신자가_없는_메시지는_해시_레이아웃에서도_결과_순서가_맞다() {
+        ReflectionTestUtils.setField(cacheRepository, "unreadLayout", "hash");
+
+        MessageCacheCommitResult result = cacheRepository.commitMessage(ROOM_CODE, message("ai"), null, USER_ID);
+
+        assertThat(result.unreadCount()).isEqualTo(1L);
+        assertThat(result.badgeCount()).isEqualTo(1L);
+        assertThat(result.receiverRoomAdded()).isTrue();
+    }
+
+    @Test
+    void 발신자가_없는_메시지는_파이프라인에서도_수신자_카운터를_올린다() {
+        ReflectionTestUtils.setField(cacheRepository, "commitScriptEnabled", false);
+
+        cacheRepository.commitMessage(ROOM_CODE, message("ai"), null, USER_ID);
+        MessageCacheCommitResult result = cacheRepository.commitMessage(ROOM_CODE, message("again"), null, USER_ID);
+
+        assertThat(result.scripted()).isFalse();
+        assertThat(result.senderRoomAdded()).isNull();
+        assertThat(result.recentSize()).isEqualTo(2L);
+        assertThat(result.unreadCount()).isEqualTo(2L);
+        assertThat(result.badgeCount()).isEqualTo(2L);
+        assertThat(result.receiverRoomAdded()).isFalse();
+    }
+
+    private long adminBadgeShardSum(Long expoId) {
+        String scope = ChatRoom.getAdminBadgeScope(expoId);
+        return IntStream.range(0, 8)
+                .mapToObj(shard -> redisTemplate.opsForHash().get(
+                        String.format(ChatRoomKey.ADMIN_UNREAD_HASH_KEY_FORMAT, scope, shard),
+                        ChatRoomKey.USER_UNREAD_TOTAL_FIELD))
+                .filter(Objects::nonNull)
+                .mapToLong(value -> Long.parseLong(value.toString()))
+                .sum();
+    }
+
+    private ChatMessage message(String content) {
+        return ChatMessage.builder()
+                .roomCode(ROOM_CODE)
+                .senderType(MessageSenderType.USER)
+                .senderId(USER_ID)
+                .senderName("user")
+                .content(content)
+                .messageType("TEXT")
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.myce.domain.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.dto.MessageHistoryWindow;
+import com.myce.domain.support.RedisTestSupport;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ChatMessageHistoryCacheTest extends RedisTestSupport {
+
+    private static final String ROOM_CODE = "admin-7-10";
+    private static final String OTHER_ROOM_CODE = "admin-7-11";
+
+    private ChatMessageCacheRepositoryImpl cacheRepository;
+
+    @BeforeEach
+    void setUp() {
+        cacheRepository = new ChatMessageCacheRepositoryImpl(redisTemplate, chatMessageRedisTemplate,
+                chatMessageCodec, objectMapper);
+        ReflectionTestUtils.setField(cacheRepository, "historyEnabled", true);
+        ReflectionTestUtils.setField(cacheRepository, "historyMinDepth", 200);
+        ReflectionTestUtils.setField(cacheRepository, "historyMaxDepth", 2000);
+        ReflectionTestUtils.setField(cacheRepository, "historyMaxBytes", 1_048_576L);
+        ReflectionTestUtils.setField(cacheRepository, "historyTtlSeconds", 3600L);
+        ReflectionTestUtils.setField(cacheRepository, "historyDepthDecaySeconds", 600L);
+    }
+
+    @Test
+    void 여러_채팅방_메시지를_채팅방별_히스토리에_나눠_추가한다() {
+        cacheRepository.appendHistory(List.of(
+                message(ROOM_CODE, 11L, "두 번째"),
+                message(OTHER_ROOM_CODE, 5L, "다른 채팅방"),
+                message(ROOM_CODE, 10L, "첫 번째")));
+
+        MessageHistoryWindow window = cacheRepository.getHistoryBefore(ROOM_CODE, null, 10);
+        MessageHistoryWindow otherWindow = cacheRepository.getHistoryBefore(OTHER_ROOM_CODE, null, 10);
+
+        assertThat(window.floorSeq()).isEqualTo(10L);
+        assertThat(window.messages()).extracting(ChatMessage::getContent).containsExactly("두 번째", "첫 번째");
+        assertThat(otherWindow.floorSeq()).isEqualTo(5L);
+        assertThat(otherWindow.messages()).extracting(ChatMessage::getContent).containsExactly("다른 채팅방");
+    }
+
+    @Test
+    void 이미_추가한_메시지는_다시_추가하지_않는다() {
+        ChatMessage message = message(ROOM_CODE, 10L, "첫 번째");
+        cacheRepository.appendHistory(List.of(message));
+        cacheRepository.appendHistory(List.of(message, message(ROOM_CODE, 11L, "두 번째")));
+
+        MessageHistoryWindow window = cacheRepository.getHistoryBefore(ROOM_CODE, null, 10);
+        MessageHistoryWindow afterWindow = cacheRepository.getHistoryAfter(ROOM_CODE, 10L, 10);
+
+        assertThat(window.messages()).extracting(ChatMessage::getSeq).containsExactly(11L, 10L);
+        assertThat(afterWindow.messages()).extracting(ChatMessage::getSeq).containsExactly(11L);
+        assertThat(afterWindow.complete()).isTrue();
+    }
+
+    @Test
+    void 스크립트_캐시가_비어도_히스토리를_읽는다() {
+        cacheRepository.appendHistory(List.of(message(ROOM_CODE, 10L, "첫 번째")));
+        redisTemplate.execute(connection -> {
+            connection.scriptingCommands().scriptFlush();
+            return null;
+        }, true);
+
+        MessageHistoryWindow window = cacheRepository.getHistoryBefore(ROOM_CODE, null, 10);
+
+        assertThat(window.messages()).extracting(ChatMessage::getContent).containsExactly("첫 번째");
+    }
+
+    @Test
+    void 히스토리가_없으면_캐시_미스를_돌려준다() {
+        MessageHistoryWindow window = cacheRepository.getHistoryBefore(ROOM_CODE, null, 10);
+
+        assertThat(window.floorSeq()).isNull();
+        assertThat(window.complete()).isFalse();
+    }
+
+    private static ChatMessage message(String roomCode, Long seq, String content) {
+        return ChatMessage.builder()
+                .roomCode(roomCode)
+                .seq(seq)
+                .senderId(10L)
+                .senderType(MessageSenderType.USER)
+                .senderName("사용자")
+                .content(content)
+                .messageType("TEXT")
+                .unreadCount(1)
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.myce.domain.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.myce.domain.config.RedisConfig;
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.support.RedisTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ChatRoomCacheInvalidateTest extends RedisTestSupport {
+
+    private static final String ROOM_CODE = "admin-7-10";
+    private static final String OTHER_ROOM_CODE = "admin-7-11";
+    private static final Long ADMIN_ID = 5L;
+    private static final Long USER_ID = 10L;
+
+    private ChatRoomCacheRepositoryImpl roomCacheRepository;
+    private ChatMessageCacheRepositoryImpl messageCacheRepository;
+
+    @BeforeEach
+    void setUp() {
+        RedisConfig redisConfig = new RedisConfig();
+        RedisValueCodec<ChatRoom> chatRoomCodec = redisConfig.chatRoomCodec();
+        roomCacheRepository = new ChatRoomCacheRepositoryImpl(redisTemplate,
+                redisConfig.chatRoomRedisTemplate(connectionFactory, chatRoomCodec), chatRoomCodec,
+                new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        messageCacheRepository = new ChatMessageCacheRepositoryImpl(redisTemplate, chatMessageRedisTemplate,
+                chatMessageCodec, objectMapper);
+        ReflectionTestUtils.setField(messageCacheRepository, "commitScriptEnabled", true);
+        ReflectionTestUtils.setField(messageCacheRepository, "unreadLayout", "key");
+        ReflectionTestUtils.setField(messageCacheRepository, "adminBadgeShards", 8);
+        ReflectionTestUtils.setField(messageCacheRepository, "historyEnabled", false);
+    }
+
+    @Test
+    void 기록된_파생_키를_모두_지운다() {
+        roomCacheRepository.cacheChatRoom(ROOM_CODE, room(ROOM_CODE));
+        messageCacheRepository.commitMessage(ROOM_CODE, message(ROOM_CODE), ADMIN_ID, USER_ID);
+        messageCacheRepository.setUnreadCount(ROOM_CODE, ADMIN_ID, 3L);
+        messageCacheRepository.setLastReadSeq(ROOM_CODE, USER_ID, 1L);
+        String registryKey = String.format(ChatRoomKey.ROOM_KEY_REGISTRY_FORMAT, ROOM_CODE);
+        assertThat(redisTemplate.opsForSet().members(registryKey)).containsExactlyInAnyOrder(
+                String.format(ChatRoomKey.ROOM_UNREAD_KEY_FORMAT, ROOM_CODE, USER_ID),
+                String.format(ChatRoomKey.ROOM_UNREAD_KEY_FORMAT, ROOM_CODE, ADMIN_ID),
+                String.format(ChatRoomKey.ROOM_LAST_READ_KEY_FORMAT, ROOM_CODE, USER_ID));
+
+        roomCacheRepository.invalidateRoomCache(ROOM_CODE);
+
+        assertThat(redisTemplate.hasKey(String.format(ChatRoomKey.ROOM_KEY_FORMAT, ROOM_CODE))).isFalse();
+        assertThat(redisTemplate.hasKey(String.format(ChatRoomKey.ROOM_RECENT_KEY_FORMAT, ROOM_CODE))).isFalse();
+        assertThat(redisTemplate.hasKey(registryKey)).isFalse();
+        assertThat(messageCacheRepository.getUnreadCount(ROOM_CODE, USER_ID)).isZero();
+        assertThat(messageCacheRepository.getUnreadCount(ROOM_CODE, ADMIN_ID)).isZero();
+        assertThat(redisTemplate.hasKey(String.format(ChatRoomKey.ROOM_LAST_READ_KEY_FORMAT, ROOM_CODE, USER_ID)))
+                .isFalse();
+    }
+
+    @Test
+    void 다른_채팅방과_사용자_배지_키는_남긴다() {
+        messageCacheRepository.commitMessage(ROOM_CODE, message(ROOM_CODE), ADMIN_ID, USER_ID);
+        messageCacheRepository.commitMessage(OTHER_ROOM_CODE, message(OTHER_ROOM_CODE), ADMIN_ID, USER_ID);
+        roomCacheRepository.cacheChatRoom(OTHER_ROOM_CODE, room(OTHER_ROOM_CODE));
+
+        roomCacheRepository.invalidateRoomCache(ROOM_CODE);
+
+        assertThat(messageCacheRepository.getUnreadCount(OTHER_ROOM_CODE, USER_ID)).isEqualTo(1L);
+        assertThat(messageCacheRepository.getCachedRecentMessages(OTHER_ROOM_CODE, 10)).hasSize(1);
+        assertThat(roomCacheRepository.getCachedChatRoom(OTHER_ROOM_CODE)).isNotNull();
+        assertThat(redisTemplate.opsForValue().get(String.format(ChatRoomKey.USER_BADGE_KEY_FORMAT, USER_ID))
+                .toString()).isEqualTo("2");
+        assertThat(redisTemplate.hasKey(String.format(ChatRoomKey.ROOM_KEY_REGISTRY_FORMAT, OTHER_ROOM_CODE)))
+                .isTrue();
+    }
+
+    @Test
+    void 기록이_없는_채팅방도_무효화할_수_있다() {
+        roomCacheRepository.cacheChatRoom(ROOM_CODE, room(ROOM_CODE));
+
+        roomCacheRepository.invalidateRoomCache(ROOM_CODE);
+
+        assertThat(roomCacheRepository.getCachedChatRoom(ROOM_CODE)).isNull();
+    }
+
+    private static ChatRoom room(String roomCode) {
+        return ChatRoom.builder()
+                .roomCode(roomCode)
+                .memberId(USER_ID)
+                .expoId(7L)
+                .build();
+    }
+
+    private static ChatMessage message(String roomCode) {
+        return ChatMessage.builder()
+                .roomCode(roomCode)
+                .senderId(ADMIN_ID)
+                .senderType(MessageSenderType.ADMIN)
+                .senderName("관리자")
+                .content("hello")
+                .messageType("TEXT")
+                .build();
+    }
+}
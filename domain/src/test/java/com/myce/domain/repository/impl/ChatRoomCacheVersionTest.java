@@ -0,0 +1,125 @@
+package com.myce.domain.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.myce.domain.config.RedisConfig;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.support.RedisTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+class ChatRoomCacheVersionTest extends RedisTestSupport {
+
+    private static final String ROOM_CODE = "admin-7-10";
+    private static final String VERSION_KEY = String.format(ChatRoomKey.ROOM_VERSION_KEY_FORMAT, ROOM_CODE);
+
+    private ChatRoomCacheRepositoryImpl cacheRepository;
+
+    @BeforeEach
+    void setUp() {
+        RedisConfig redisConfig = new RedisConfig();
+        RedisValueCodec<ChatRoom> chatRoomCodec = redisConfig.chatRoomCodec();
+        cacheRepository = new ChatRoomCacheRepositoryImpl(redisTemplate,
+                redisConfig.chatRoomRedisTemplate(connectionFactory, chatRoomCodec), chatRoomCodec,
+                new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void 버전이_그대로면_DB_조회_결과로_캐시를_채운다() {
+        long version = cacheRepository.getCacheVersion(ROOM_CODE);
+
+        boolean cached = cacheRepository.cacheChatRoomIfVersion(ROOM_CODE, room("조회한 제목"), version);
+
+        assertThat(version).isZero();
+        assertThat(cached).isTrue();
+        assertThat(cacheRepository.getCachedChatRoom(ROOM_CODE).getRoomTitle()).isEqualTo("조회한 제목");
+    }
+
+    @Test
+    void 조회_도중_캐시가_삭제되면_오래된_값으로_채우지_않는다() {
+        long version = cacheRepository.getCacheVersion(ROOM_CODE);
+        // 다른 요청이 DB 를 갱신하고 캐시를 삭제
+        cacheRepository.evictCachedChatRoom(ROOM_CODE);
+
+        boolean cached = cacheRepository.cacheChatRoomIfVersion(ROOM_CODE, room("오래된 제목"), version);
+
+        assertThat(cached).isFalse();
+        assertThat(cacheRepository.getCachedChatRoom(ROOM_CODE)).isNull();
+    }
+
+    @Test
+    void 조회_도중_저장된_값은_덮어쓰지_않는다() {
+        long version = cacheRepository.getCacheVersion(ROOM_CODE);
+        cacheRepository.cacheChatRoom(ROOM_CODE, room("저장한 제목"));
+        // 저장 값이 만료/삭제된 뒤 늦게 도착한 채우기도 거절
+        redisTemplate.unlink(String.format(ChatRoomKey.ROOM_KEY_FORMAT, ROOM_CODE));
+
+        boolean cached = cacheRepository.cacheChatRoomIfVersion(ROOM_CODE, room("오래된 제목"), version);
+
+        assertThat(cached).isFalse();
+        assertThat(cacheRepository.getCachedChatRoom(ROOM_CODE)).isNull();
+    }
+
+    @Test
+    void 캐시가_있으면_채우지_않는다() {
+        cacheRepository.cacheChatRoom(ROOM_CODE, room("저장한 제목"));
+        long version = cacheRepository.getCacheVersion(ROOM_CODE);
+
+        boolean cached = cacheRepository.cacheChatRoomIfVersion(ROOM_CODE, room("조회한 제목"), version);
+
+        assertThat(cached).isFalse();
+        assertThat(cacheRepository.getCachedChatRoom(ROOM_CODE).getRoomTitle()).isEqualTo("저장한 제목");
+    }
+
+    @Test
+    void 전체_무효화는_버전을_지우지_않고_올린다() {
+        long version = cacheRepository.getCacheVersion(ROOM_CODE);
+
+        cacheRepository.invalidateRoomCache(ROOM_CODE);
+
+        assertThat(redisTemplate.hasKey(VERSION_KEY)).isTrue();
+        assertThat(cacheRepository.getCacheVersion(ROOM_CODE)).isGreaterThan(version);
+        assertThat(cacheRepository.cacheChatRoomIfVersion(ROOM_CODE, room("오래된 제목"), version)).isFalse();
+    }
+
+    @Test
+    void 캐시된_값에_마지막_메시지와_읽음_상태_해시를_합친다() {
+        LocalDateTime sentAt = LocalDateTime.of(2026, 10, 17, 12, 0, 0);
+        cacheRepository.cacheChatRoom(ROOM_CODE, room("저장한 제목"));
+
+        cacheRepository.updateCachedLastMessage(ROOM_CODE, "message-id", "새 메시지", sentAt);
+        cacheRepository.updateCachedReadStatus(ROOM_CODE, "ADMIN", 20L);
+        cacheRepository.updateCachedReadStatus(ROOM_CODE, "ADMIN", 15L);
+        ChatRoom cachedRoom = cacheRepository.getCachedChatRoom(ROOM_CODE);
+        boolean merged = cacheRepository.mergeCachedActivity(cachedRoom);
+
+        assertThat(merged).isTrue();
+        assertThat(cachedRoom.getRoomTitle()).isEqualTo("저장한 제목");
+        assertThat(cachedRoom.getLastMessageId()).isEqualTo("message-id");
+        assertThat(cachedRoom.getLastMessage()).isEqualTo("새 메시지");
+        assertThat(cachedRoom.getLastMessageAt()).isEqualTo(sentAt);
+        assertThat(cachedRoom.getReadStatus()).containsEntry("ADMIN", 20L);
+    }
+
+    @Test
+    void 해시가_없을_때의_갱신은_버전을_올려_오래된_채우기를_막는다() {
+        long version = cacheRepository.getCacheVersion(ROOM_CODE);
+
+        cacheRepository.updateCachedReadStatus(ROOM_CODE, "ADMIN", 20L);
+
+        assertThat(cacheRepository.mergeCachedActivity(room("조회한 제목"))).isFalse();
+        assertThat(cacheRepository.cacheChatRoomIfVersion(ROOM_CODE, room("오래된 제목"), version)).isFalse();
+    }
+
+    private static ChatRoom room(String title) {
+        return ChatRoom.builder()
+                .roomCode(ROOM_CODE)
+                .memberId(10L)
+                .expoId(7L)
+                .roomTitle(title)
+                .build();
+    }
+}
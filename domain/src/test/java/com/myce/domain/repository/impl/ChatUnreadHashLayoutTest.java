@@ -0,0 +1,81 @@
+package com.myce.domain.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.myce.domain.dto.UnreadCounterKey;
+import com.myce.domain.support.RedisTestSupport;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ChatUnreadHashLayoutTest extends RedisTestSupport {
+
+    private static final Long USER_ID = 10L;
+    private static final String ROOM_CODE = "admin-7-10";
+    private static final String OTHER_ROOM_CODE = "admin-8-10";
+    private static final String UNREAD_HASH_KEY = String.format(ChatRoomKey.USER_UNREAD_HASH_KEY_FORMAT, USER_ID);
+
+    private ChatMessageCacheRepositoryImpl cacheRepository;
+
+    @BeforeEach
+    void setUp() {
+        cacheRepository = new ChatMessageCacheRepositoryImpl(redisTemplate, chatMessageRedisTemplate,
+                chatMessageCodec, objectMapper);
+        ReflectionTestUtils.setField(cacheRepository, "unreadLayout", "hash");
+        ReflectionTestUtils.setField(cacheRepository, "adminBadgeShards", 8);
+    }
+
+    @Test
+    void 채팅방_미읽음은_사용자_해시에_모이고_배지는_합계_필드로_읽는다() {
+        cacheRepository.setUnreadCount(ROOM_CODE, USER_ID, 3);
+        cacheRepository.setUnreadCount(OTHER_ROOM_CODE, USER_ID, 2);
+
+        Map<UnreadCounterKey, Long> counts = cacheRepository.getUnreadCounts(List.of(
+                new UnreadCounterKey(ROOM_CODE, USER_ID), new UnreadCounterKey(OTHER_ROOM_CODE, USER_ID)));
+
+        assertThat(counts).containsEntry(new UnreadCounterKey(ROOM_CODE, USER_ID), 3L)
+                .containsEntry(new UnreadCounterKey(OTHER_ROOM_CODE, USER_ID), 2L);
+        assertThat(badge()).isEqualTo(5L);
+        assertThat(redisTemplate.opsForHash().keys(UNREAD_HASH_KEY))
+                .contains(ROOM_CODE, OTHER_ROOM_CODE, ChatRoomKey.USER_UNREAD_TOTAL_FIELD);
+    }
+
+    @Test
+    void 미읽음을_다시_설정하면_합계는_차이만큼만_바뀐다() {
+        cacheRepository.setUnreadCount(ROOM_CODE, USER_ID, 3);
+        cacheRepository.setUnreadCount(OTHER_ROOM_CODE, USER_ID, 2);
+
+        cacheRepository.setUnreadCount(ROOM_CODE, USER_ID, 1);
+
+        assertThat(badge()).isEqualTo(3L);
+    }
+
+    @Test
+    void 읽음_처리는_채팅방_필드와_합계를_함께_리셋한다() {
+        cacheRepository.setUnreadCount(ROOM_CODE, USER_ID, 3);
+        cacheRepository.setUnreadCount(OTHER_ROOM_CODE, USER_ID, 2);
+
+        Long badge = cacheRepository.resetUnreadCountAndRecalculateBadge(ROOM_CODE, USER_ID);
+
+        assertThat(badge).isEqualTo(2L);
+        assertThat(cacheRepository.getUnreadCount(ROOM_CODE, USER_ID)).isZero();
+        assertThat(cacheRepository.getUnreadCount(OTHER_ROOM_CODE, USER_ID)).isEqualTo(2L);
+    }
+
+    @Test
+    void 미읽음이_없는_채팅방은_캐시_미스로_돌려준다() {
+        cacheRepository.setUnreadCount(ROOM_CODE, USER_ID, 3);
+
+        Map<UnreadCounterKey, Long> counts = cacheRepository.getUnreadCounts(List.of(
+                new UnreadCounterKey(OTHER_ROOM_CODE, USER_ID)));
+
+        assertThat(counts).doesNotContainKey(new UnreadCounterKey(OTHER_ROOM_CODE, USER_ID));
+    }
+
+    private long badge() {
+        return Long.parseLong(redisTemplate.opsForHash()
+                .get(UNREAD_HASH_KEY, ChatRoomKey.USER_UNREAD_TOTAL_FIELD).toString());
+    }
+}
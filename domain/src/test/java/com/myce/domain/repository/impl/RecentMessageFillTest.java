@@ -0,0 +1,121 @@
+package com.myce.domain.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.type.MessageSenderType;
+import com.myce.domain.dto.RecentMessageFill;
+import com.myce.domain.support.RedisTestSupport;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RecentMessageFillTest extends RedisTestSupport {
+
+    private static final String ROOM_CODE = "admin-7-10";
+    private static final Duration LEASE_TIME = Duration.ofSeconds(3);
+    private static final String LEASE_KEY = String.format(ChatRoomKey.ROOM_RECENT_FILL_LEASE_KEY_FORMAT, ROOM_CODE);
+
+    private ChatMessageCacheRepositoryImpl cacheRepository;
+
+    @BeforeEach
+    void setUp() {
+        cacheRepository = new ChatMessageCacheRepositoryImpl(redisTemplate, chatMessageRedisTemplate,
+                chatMessageCodec, objectMapper);
+        ReflectionTestUtils.setField(cacheRepository, "commitScriptEnabled", true);
+        ReflectionTestUtils.setField(cacheRepository, "unreadLayout", "key");
+        ReflectionTestUtils.setField(cacheRepository, "adminBadgeShards", 8);
+        ReflectionTestUtils.setField(cacheRepository, "historyEnabled", false);
+    }
+
+    @Test
+    void 임대를_잡은_요청만_채우기를_시작한다() {
+        RecentMessageFill fill = cacheRepository.tryBeginRecentFill(ROOM_CODE, LEASE_TIME);
+
+        assertThat(fill).isNotNull();
+        assertThat(fill.leaseToken()).isNotNull();
+        assertThat(fill.expectedHead()).isNull();
+        assertThat(cacheRepository.tryBeginRecentFill(ROOM_CODE, LEASE_TIME)).isNull();
+    }
+
+    @Test
+    void 채우기를_완료하면_리스트를_교체하고_임대를_푼다() {
+        cacheRepository.cacheRecentMessages(ROOM_CODE, List.of(message(1L, "오래된 캐시")));
+        RecentMessageFill fill = cacheRepository.tryBeginRecentFill(ROOM_CODE, LEASE_TIME);
+
+        boolean filled = cacheRepository.completeRecentFill(fill,
+                List.of(message(3L, "세 번째"), message(2L, "두 번째"), message(1L, "첫 번째")));
+
+        assertThat(filled).isTrue();
+        assertThat(cacheRepository.getCachedRecentMessages(ROOM_CODE, 10))
+                .extracting(ChatMessage::getSeq)
+                .containsExactly(3L, 2L, 1L);
+        assertThat(redisTemplate.hasKey(LEASE_KEY)).isFalse();
+        assertThat(redisTemplate.getExpire(String.format(ChatRoomKey.ROOM_RECENT_KEY_FORMAT, ROOM_CODE)))
+                .isPositive();
+    }
+
+    @Test
+    void 임대_이후_새_메시지가_추가되면_덮어쓰지_않는다() {
+        RecentMessageFill fill = cacheRepository.tryBeginRecentFill(ROOM_CODE, LEASE_TIME);
+        // MongoDB 를 조회하는 사이 새 메시지가 커밋됨
+        cacheRepository.commitMessage(ROOM_CODE, message(4L, "새 메시지"), 5L, 10L);
+
+        boolean filled = cacheRepository.completeRecentFill(fill, List.of(message(3L, "조회한 메시지")));
+
+        assertThat(filled).isFalse();
+        assertThat(cacheRepository.getCachedRecentMessages(ROOM_CODE, 10))
+                .extracting(ChatMessage::getContent)
+                .containsExactly("새 메시지");
+        assertThat(redisTemplate.hasKey(LEASE_KEY)).isFalse();
+    }
+
+    @Test
+    void 취소하면_임대를_풀어_다음_요청이_채울_수_있다() {
+        RecentMessageFill fill = cacheRepository.tryBeginRecentFill(ROOM_CODE, LEASE_TIME);
+
+        cacheRepository.cancelRecentFill(fill);
+
+        assertThat(cacheRepository.tryBeginRecentFill(ROOM_CODE, LEASE_TIME)).isNotNull();
+    }
+
+    @Test
+    void 다른_요청의_임대는_풀지_않는다() {
+        RecentMessageFill expired = cacheRepository.tryBeginRecentFill(ROOM_CODE, LEASE_TIME);
+        // 임대가 만료된 뒤 다른 요청이 새 임대를 잡음
+        redisTemplate.unlink(LEASE_KEY);
+        RecentMessageFill current = cacheRepository.tryBeginRecentFill(ROOM_CODE, LEASE_TIME);
+
+        cacheRepository.cancelRecentFill(expired);
+
+        assertThat(current).isNotNull();
+        assertThat(redisTemplate.hasKey(LEASE_KEY)).isTrue();
+    }
+
+    @Test
+    void 임대를_확인하지_못한_채우기는_캐시를_건드리지_않는다() {
+        cacheRepository.cacheRecentMessages(ROOM_CODE, List.of(message(1L, "기존 캐시")));
+
+        boolean filled = cacheRepository.completeRecentFill(new RecentMessageFill(ROOM_CODE, null, null),
+                List.of(message(2L, "조회한 메시지")));
+
+        assertThat(filled).isFalse();
+        assertThat(cacheRepository.getCachedRecentMessages(ROOM_CODE, 10))
+                .extracting(ChatMessage::getContent)
+                .containsExactly("기존 캐시");
+    }
+
+    private static ChatMessage message(Long seq, String content) {
+        return ChatMessage.builder()
+                .roomCode(ROOM_CODE)
+                .seq(seq)
+                .senderId(5L)
+                .senderType(MessageSenderType.ADMIN)
+                .senderName("관리자")
+                .content(content)
+                .messageType("TEXT")
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.myce.domain.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myce.domain.config.RedisConfig;
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.document.ChatRoom;
+import com.myce.domain.document.type.MessageSenderType;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+class RedisValueCodecTest {
+
+    private static final String ROOM_CODE = "admin-7-10";
+
+    private final RedisValueCodec<ChatMessage> messageCodec = new RedisValueCodec<>(ChatMessage.class);
+    private final RedisValueCodec<ChatRoom> roomCodec = new RedisValueCodec<>(ChatRoom.class);
+    // 이전 형식 값을 쓰던 Redis 공용 ObjectMapper
+    private final ObjectMapper legacyMapper = new RedisConfig().objectMapper();
+
+    @Test
+    void 메시지를_버전_바이트와_Smile_본문으로_저장하고_그대로_읽는다() {
+        ChatMessage message = message("따옴표 \"와\" 이모지 😀");
+
+        byte[] bytes = messageCodec.serialize(message);
+        ChatMessage decoded = messageCodec.deserialize(bytes);
+
+        assertThat(bytes[0]).isEqualTo(RedisValueCodec.SMILE_V1);
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(message);
+    }
+
+    @Test
+    void 채팅방의_읽음_상태도_그대로_읽는다() {
+        ChatRoom room = room();
+        room.updateReadStatus("ADMIN", 20L);
+
+        ChatRoom decoded = roomCodec.deserialize(roomCodec.serialize(room));
+
+        assertThat(decoded.getRoomCode()).isEqualTo(ROOM_CODE);
+        assertThat(decoded.getRoomTitle()).isEqualTo("문의");
+        assertThat(decoded.getReadStatus()).containsEntry("ADMIN", 20L);
+    }
+
+    @Test
+    void 이전_JSON_객체_형식도_읽는다() throws Exception {
+        ChatMessage message = message("이전 형식");
+        byte[] legacy = legacyMapper.writeValueAsBytes(message);
+
+        ChatMessage decoded = messageCodec.deserialize(legacy);
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(message);
+    }
+
+    @Test
+    void JSON_문자열_안에_담긴_이전_채팅방_값도_읽는다() throws Exception {
+        ChatRoom room = room();
+        byte[] legacy = legacyMapper.writeValueAsBytes(legacyMapper.writeValueAsString(room));
+
+        ChatRoom decoded = roomCodec.deserialize(legacy);
+
+        assertThat(decoded.getRoomCode()).isEqualTo(ROOM_CODE);
+        assertThat(decoded.getExpoId()).isEqualTo(7L);
+    }
+
+    @Test
+    void 빈_값은_null_로_읽는다() {
+        assertThat(messageCodec.serialize(null)).isNull();
+        assertThat(messageCodec.deserialize(null)).isNull();
+        assertThat(messageCodec.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    void 알_수_없는_형식은_예외로_알린다() {
+        assertThatThrownBy(() -> messageCodec.deserialize("unknown".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    private static ChatMessage message(String content) {
+        return ChatMessage.builder()
+                .roomCode(ROOM_CODE)
+                .seq(3L)
+                .senderId(10L)
+                .senderType(MessageSenderType.USER)
+                .senderName("사용자")
+                .content(content)
+                .messageType("TEXT")
+                .unreadCount(1)
+                .build();
+    }
+
+    private static ChatRoom room() {
+        return ChatRoom.builder()
+                .roomCode(ROOM_CODE)
+                .memberId(10L)
+                .expoId(7L)
+                .roomTitle("문의")
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.myce.domain.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myce.domain.config.RedisConfig;
+import com.myce.domain.document.ChatMessage;
+import com.myce.domain.repository.impl.RedisValueCodec;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Redis 스크립트/캐시 저장소 테스트 공통 설정
+ * 컨테이너 Redis 에 운영과 같은 템플릿(RedisConfig)을 연결하고, 테스트마다 키 공간을 비운다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class RedisTestSupport {
+
+    @Container
+    protected static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    protected static LettuceConnectionFactory connectionFactory;
+    protected static ObjectMapper objectMapper;
+    protected static RedisValueCodec<ChatMessage> chatMessageCodec;
+    protected static RedisTemplate<String, Object> redisTemplate;
+    protected static RedisTemplate<String, ChatMessage> chatMessageRedisTemplate;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisConfig redisConfig = new RedisConfig();
+        objectMapper = redisConfig.objectMapper();
+        chatMessageCodec = redisConfig.chatMessageCodec();
+        redisTemplate = redisConfig.redisTemplate(connectionFactory, objectMapper);
+        redisTemplate.afterPropertiesSet();
+        chatMessageRedisTemplate = redisConfig.chatMessageRedisTemplate(connectionFactory, chatMessageCodec);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flushRedis() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+}